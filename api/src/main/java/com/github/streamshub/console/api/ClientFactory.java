@@ -1,5 +1,6 @@
 package com.github.streamshub.console.api;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -9,6 +10,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -19,6 +22,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.enterprise.inject.Disposes;
@@ -46,11 +50,14 @@ import org.apache.kafka.common.security.auth.SecurityProtocol;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.streamshub.console.api.security.SaslJaasConfigCredential;
 import com.github.streamshub.console.api.service.MetricsService;
+import com.github.streamshub.console.api.support.AdminPool;
+import com.github.streamshub.console.api.support.ClientConfigFingerprint;
 import com.github.streamshub.console.api.support.Holder;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.TrustAllCertificateManager;
@@ -65,6 +72,8 @@ import io.apicurio.registry.serde.kafka.config.KafkaSerdeConfig;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
@@ -148,11 +157,71 @@ public class ClientFactory {
     @Inject
     Map<String, RegistryClientFacade> registryClients;
 
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    /**
+     * When enabled, the global connection of each cluster is opened when first
+     * used rather than at startup, and closed again after it has been idle for
+     * {@code console.fleet.idle-timeout}. Intended for deployments managing a
+     * large number of clusters, most of which are not in use at any given time.
+     */
+    @Inject
+    @ConfigProperty(name = "console.fleet.enabled", defaultValue = "false")
+    boolean fleetMode;
+
+    @Inject
+    @ConfigProperty(name = "console.fleet.idle-timeout", defaultValue = "PT10M")
+    Duration fleetIdleTimeout;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    /**
+     * When enabled, Admin clients created with the credentials of individual
+     * users are held in a per-cluster {@linkplain AdminPool pool} and reused by
+     * later requests presenting the same credentials.
+     */
+    @Inject
+    @ConfigProperty(name = "console.admin-pool.enabled", defaultValue = "true")
+    boolean adminPoolEnabled;
+
+    @Inject
+    @ConfigProperty(name = "console.admin-pool.max-size", defaultValue = "100")
+    int adminPoolMaxSize;
+
+    @Inject
+    @ConfigProperty(name = "console.admin-pool.max-per-user", defaultValue = "2")
+    int adminPoolMaxPerUser;
+
+    @Inject
+    @ConfigProperty(name = "console.admin-pool.idle-timeout", defaultValue = "PT5M")
+    Duration adminPoolIdleTimeout;
+
+    /**
+     * Length of time before the expiration of a user's OAuth access token at
+     * which pooled clients using the token are no longer leased.
+     */
+    @Inject
+    @ConfigProperty(name = "console.admin-pool.expiry-margin", defaultValue = "PT30S")
+    Duration adminPoolExpiryMargin;
+
+    private volatile ScheduledFuture<?> idleEviction;
+    private Counter contextsBuilt;
+    private Counter contextsUnchanged;
+
     @Produces
     @ApplicationScoped
     KafkaContext.Manager produceKafkaContextManager(Function<Map<String, Object>, Admin> adminBuilder) {
         final KafkaContext.Manager manager = new KafkaContext.Manager();
 
+        contextsBuilt = Counter.builder("console.kafka.contexts.built")
+                .description("Kafka contexts (re)built with new clients due to a new or changed configuration")
+                .register(meterRegistry);
+        contextsUnchanged = Counter.builder("console.kafka.contexts.unchanged")
+                .description("Kafka resource updates or re-syncs that retained the existing context and clients")
+                .register(meterRegistry);
+
         if (kafkaInformer.isPresent()) {
             addKafkaEventHandler(manager, adminBuilder);
         }
@@ -166,9 +235,33 @@ public class ClientFactory {
                         Optional.empty(),
                         adminBuilder));
 
+        if (fleetMode) {
+            long intervalMs = Math.max(fleetIdleTimeout.toMillis() / 2, 1000);
+            idleEviction = scheduler.scheduleWithFixedDelay(() -> closeIdle(manager), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+            log.infof("Fleet mode enabled, closing connections idle for %s", fleetIdleTimeout);
+        }
+
         return manager;
     }
 
+    void closeIdle(KafkaContext.Manager manager) {
+        try {
+            manager.closeIdle(fleetIdleTimeout);
+        } catch (Exception e) {
+            // Do not allow an error to cancel subsequent evictions
+            log.warnf(e, "Failed to close idle KafkaContexts: %s", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        var pending = idleEviction;
+
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
     void addKafkaEventHandler(KafkaContext.Manager manager,
             Function<Map<String, Object>, Admin> adminBuilder) {
 
@@ -231,6 +324,24 @@ public class ClientFactory {
             Optional<Kafka> kafkaResource,
             Function<Map<String, Object>, Admin> adminBuilder) {
 
+        String clusterKey = clusterConfig.clusterKey();
+        String clusterId = KafkaContext.clusterId(clusterConfig, kafkaResource);
+        SchemaRegistryConfig registryConfig = schemaRegistryConfig(clusterConfig);
+        Optional<String> fingerprint = ClientConfigFingerprint.of(clusterConfig, kafkaResource, registryConfig);
+        KafkaContext existing = manager.contexts().get(clusterId);
+
+        if (existing != null && fingerprint.isPresent() && fingerprint.get().equals(existing.fingerprint())) {
+            /*
+             * Periodic re-sync or an update to the resource that does not affect
+             * the client configurations. Keep the current context and its
+             * connection, only the resource is refreshed.
+             */
+            log.tracef("KafkaContext for cluster %s, id=%s unchanged", clusterKey, clusterId);
+            kafkaResource.ifPresent(existing::resource);
+            contextsUnchanged.increment();
+            return;
+        }
+
         var adminConfigs = buildConfig(AdminClientConfig.configNames(),
                 clusterConfig,
                 "admin",
@@ -262,31 +373,31 @@ public class ClientFactory {
         clientConfigs.put(Consumer.class, Collections.unmodifiableMap(consumerConfigs));
         clientConfigs.put(Producer.class, Collections.unmodifiableMap(producerConfigs));
 
-        String clusterKey = clusterConfig.clusterKey();
-        String clusterId = KafkaContext.clusterId(clusterConfig, kafkaResource);
-
         if (validConfigs(kafkaResource, clusterConfig, clientConfigs)) {
             Admin admin = null;
             boolean globalConnection = establishGlobalConnection(adminConfigs);
 
-            if (globalConnection) {
+            if (globalConnection && !fleetMode) {
                 admin = adminBuilder.apply(adminConfigs);
             }
 
             RegistryClientFacade registryClient = null;
-            SchemaRegistryConfig registryConfig = null;
-
-            if (clusterConfig.getSchemaRegistry() != null) {
-                registryConfig = consoleConfig.getSchemaRegistries()
-                        .stream()
-                        .filter(registry -> registry.getName().equals(clusterConfig.getSchemaRegistry()))
-                        .findFirst()
-                        .orElseThrow();
+
+            if (registryConfig != null) {
                 registryClient = registryClients.get(registryConfig.getName());
             }
 
-            KafkaContext ctx = new KafkaContext(clusterConfig, kafkaResource.orElse(null), clientConfigs, admin);
+            KafkaContext ctx;
+
+            if (globalConnection && fleetMode) {
+                ctx = KafkaContext.lazy(clusterConfig, kafkaResource.orElse(null), clientConfigs,
+                        () -> adminBuilder.apply(adminConfigs));
+            } else {
+                ctx = new KafkaContext(clusterConfig, kafkaResource.orElse(null), clientConfigs, admin);
+            }
+
             ctx.schemaRegistryClient(registryClient, registryConfig, mapper);
+            fingerprint.ifPresent(ctx::fingerprint);
 
             if (clusterConfig.hasNamespace()) {
                 ctx.prometheus(metricsService.createClient(consoleConfig, clusterConfig));
@@ -295,7 +406,20 @@ public class ClientFactory {
             }
 
             manager.replace(clusterId, clusterKey, ctx);
+            contextsBuilt.increment();
+        }
+    }
+
+    SchemaRegistryConfig schemaRegistryConfig(KafkaClusterConfig clusterConfig) {
+        if (clusterConfig.getSchemaRegistry() == null) {
+            return null;
         }
+
+        return consoleConfig.getSchemaRegistries()
+                .stream()
+                .filter(registry -> registry.getName().equals(clusterConfig.getSchemaRegistry()))
+                .findFirst()
+                .orElseThrow();
     }
 
     boolean defaultedClusterId(KafkaClusterConfig clusterConfig, Optional<Kafka> kafkaResource) {
@@ -473,7 +597,7 @@ public class ClientFactory {
             throw NO_SUCH_KAFKA.apply(clusterId);
         }
 
-        if (ctx.admin() == null) {
+        if (!ctx.globalConnection()) {
             /*
              * Admin may be null if credentials were not given in the
              * configuration. The user must provide the login secrets
@@ -484,13 +608,46 @@ public class ClientFactory {
              * so here we will only retrieve them (if applicable) and
              * set them in the admin configuration map.
              */
-            var admin = createAdmin(filter, adminBuilder, ctx, identity.getCredential(SaslJaasConfigCredential.class));
-            return new KafkaContext(ctx, admin);
+            var credential = identity.getCredential(SaslJaasConfigCredential.class);
+
+            try {
+                if (credential != null && adminPoolEnabled) {
+                    var lease = adminPool(ctx).acquire(
+                            identity.getPrincipal().getName(),
+                            credential.value(),
+                            credential.expiresAt().orElse(null),
+                            () -> adminBuilder.apply(maybeAuthenticate(credential, ctx, Admin.class)));
+
+                    try {
+                        return new KafkaContext(ctx, filter.apply(lease.admin()), lease);
+                    } catch (RuntimeException e) {
+                        // Return the client to the pool (or close it, if not pooled)
+                        lease.close();
+                        throw e;
+                    }
+                }
+
+                var admin = createAdmin(filter, adminBuilder, ctx, credential);
+                return new KafkaContext(ctx, admin);
+            } catch (RuntimeException e) {
+                // The request-scoped context will not be disposed, release the application context now
+                manager.release(ctx);
+                throw e;
+            }
         }
 
         return ctx;
     }
 
+    AdminPool adminPool(KafkaContext ctx) {
+        return ctx.shared(AdminPool.class, c -> new AdminPool(
+                c.clusterConfig().clusterKey(),
+                adminPoolMaxSize,
+                adminPoolMaxPerUser,
+                adminPoolIdleTimeout,
+                adminPoolExpiryMargin).start(scheduler));
+    }
+
     public void disposeKafkaContext(@Disposes KafkaContext context, KafkaContext.Manager manager) {
         manager.release(context);
     }
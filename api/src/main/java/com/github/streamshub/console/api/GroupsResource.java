@@ -35,6 +35,10 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import com.github.streamshub.console.api.model.Group;
 import com.github.streamshub.console.api.model.GroupFilterParams;
+import com.github.streamshub.console.api.model.GroupMember;
+import com.github.streamshub.console.api.model.GroupMemberFilterParams;
+import com.github.streamshub.console.api.model.GroupOffset;
+import com.github.streamshub.console.api.model.GroupOffsetFilterParams;
 import com.github.streamshub.console.api.model.ListFetchParams;
 import com.github.streamshub.console.api.security.Authorized;
 import com.github.streamshub.console.api.security.ResourcePrivilege;
@@ -172,6 +176,7 @@ public class GroupsResource {
                         Group.Fields.COORDINATOR,
                         Group.Fields.PARTITION_ASSIGNOR,
                         Group.Fields.CONFIGS,
+                        Group.Fields.LAG_TRENDS,
                     },
                     payload = ErrorCategory.InvalidQueryParameter.class)
             @Parameter(
@@ -192,6 +197,7 @@ public class GroupsResource {
                                 Group.Fields.COORDINATOR,
                                 Group.Fields.PARTITION_ASSIGNOR,
                                 Group.Fields.CONFIGS,
+                                Group.Fields.LAG_TRENDS,
                             }))
             List<String> fields) {
 
@@ -203,6 +209,82 @@ public class GroupsResource {
                 .thenApply(Response.ResponseBuilder::build);
     }
 
+    @Path("{groupId}/members")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @APIResponseSchema(GroupMember.DataList.class)
+    @APIResponse(responseCode = "404", ref = "NotFound")
+    @APIResponse(responseCode = "500", ref = "ServerError")
+    @APIResponse(responseCode = "504", ref = "ServerTimeout")
+    // authorization checked by GroupService
+    public CompletionStage<Response> listGroupMembers(
+            @Parameter(description = "Cluster identifier")
+            @PathParam("clusterId")
+            String clusterId,
+
+            @PathParam("groupId")
+            @Parameter(description = "Group identifier")
+            String groupId,
+
+            @BeanParam
+            @Valid
+            ListFetchParams listParams,
+
+            @BeanParam
+            @Valid
+            GroupMemberFilterParams filters) {
+
+        ListRequestContext<GroupMember> listSupport = new ListRequestContext<>(
+                filters,
+                GroupMember.Fields.COMPARATOR_BUILDER,
+                uriInfo.getRequestUri(),
+                listParams,
+                GroupMember::fromCursor);
+
+        return groupService.listGroupMembers(groupId, listSupport)
+                .thenApply(members -> new GroupMember.DataList(members, listSupport))
+                .thenApply(Response::ok)
+                .thenApply(Response.ResponseBuilder::build);
+    }
+
+    @Path("{groupId}/offsets")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @APIResponseSchema(GroupOffset.DataList.class)
+    @APIResponse(responseCode = "404", ref = "NotFound")
+    @APIResponse(responseCode = "500", ref = "ServerError")
+    @APIResponse(responseCode = "504", ref = "ServerTimeout")
+    // authorization checked by GroupService
+    public CompletionStage<Response> listGroupOffsets(
+            @Parameter(description = "Cluster identifier")
+            @PathParam("clusterId")
+            String clusterId,
+
+            @PathParam("groupId")
+            @Parameter(description = "Group identifier")
+            String groupId,
+
+            @BeanParam
+            @Valid
+            ListFetchParams listParams,
+
+            @BeanParam
+            @Valid
+            GroupOffsetFilterParams filters) {
+
+        ListRequestContext<GroupOffset> listSupport = new ListRequestContext<>(
+                filters,
+                GroupOffset.Fields.COMPARATOR_BUILDER,
+                uriInfo.getRequestUri(),
+                listParams,
+                GroupOffset::fromCursor);
+
+        return groupService.listGroupOffsets(groupId, listSupport)
+                .thenApply(offsets -> new GroupOffset.DataList(offsets, listSupport))
+                .thenApply(Response::ok)
+                .thenApply(Response.ResponseBuilder::build);
+    }
+
     @Path("{groupId}")
     @PATCH
     @Consumes(MediaType.APPLICATION_JSON)
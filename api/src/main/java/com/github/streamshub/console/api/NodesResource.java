@@ -31,6 +31,7 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import com.github.streamshub.console.api.model.ConfigEntry;
 import com.github.streamshub.console.api.model.ListFetchParams;
 import com.github.streamshub.console.api.model.Node;
+import com.github.streamshub.console.api.model.NodeConfigs;
 import com.github.streamshub.console.api.model.NodeFilterParams;
 import com.github.streamshub.console.api.model.NodeMetrics;
 import com.github.streamshub.console.api.security.Authorized;
@@ -136,6 +137,29 @@ public class NodesResource {
             .thenApply(ResponseBuilder::build);
     }
 
+    @GET
+    @Path("configs")
+    @Produces(MediaType.APPLICATION_JSON)
+    @APIResponseSchema(NodeConfigs.NodeConfigsResponse.class)
+    @APIResponse(responseCode = "500", ref = "ServerError")
+    @APIResponse(responseCode = "504", ref = "ServerTimeout")
+    @Authorized
+    @ResourcePrivilege(Privilege.LIST)
+    public CompletionStage<Response> describeNodeConfigs(
+            @Parameter(description = "Cluster identifier")
+            @PathParam("clusterId")
+            String clusterId) {
+
+        return nodeService.describeNodeConfigs()
+            .thenApply(attributes -> {
+                var response = new NodeConfigs.NodeConfigsResponse(attributes);
+                response.addMeta("drifted", NodeConfigs.drifted(attributes.configs()));
+                return response;
+            })
+            .thenApply(Response::ok)
+            .thenApply(Response.ResponseBuilder::build);
+    }
+
     @GET
     @Path("{nodeId}/configs")
     @Produces(MediaType.APPLICATION_JSON)
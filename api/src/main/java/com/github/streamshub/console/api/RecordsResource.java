@@ -1,6 +1,7 @@
 package com.github.streamshub.console.api;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import jakarta.inject.Inject;
@@ -72,11 +73,12 @@ public class RecordsResource {
         value = KafkaRecord.KafkaRecordDataList.class,
         responseDescription = "List of records matching the request query parameters.")
     @APIResponse(responseCode = "404", ref = "NotFound")
+    @APIResponse(responseCode = "429", ref = "TooManyRequests")
     @APIResponse(responseCode = "500", ref = "ServerError")
     @APIResponse(responseCode = "504", ref = "ServerTimeout")
     @Authorized
     @ResourcePrivilege(Privilege.LIST)
-    public Response consumeRecords(
+    public CompletionStage<Response> consumeRecords(
             @Parameter(description = "Cluster identifier")
             @PathParam("clusterId")
             String clusterId,
@@ -130,18 +132,18 @@ public class RecordsResource {
 
         requestedFields.accept(fields);
         CacheControl noStore = RuntimeDelegate.getInstance().createHeaderDelegate(CacheControl.class).fromString("no-store");
-        var records = recordService.consumeRecords(
+
+        return recordService.consumeRecords(
                 topicId,
                 params.getPartition(),
                 params.getOffset(),
                 params.getTimestamp(),
                 params.getLimit(),
                 fields,
-                params.getMaxValueLength());
-
-        return Response.ok(new KafkaRecord.KafkaRecordDataList(records))
-                .cacheControl(noStore)
-                .build();
+                params.getMaxValueLength())
+            .thenApply(records -> Response.ok(new KafkaRecord.KafkaRecordDataList(records))
+                    .cacheControl(noStore)
+                    .build());
     }
 
     @POST
@@ -39,13 +39,17 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import com.github.streamshub.console.api.model.Group;
 import com.github.streamshub.console.api.model.ListFetchParams;
 import com.github.streamshub.console.api.model.NewTopic;
+import com.github.streamshub.console.api.model.PartitionHealth;
 import com.github.streamshub.console.api.model.Topic;
+import com.github.streamshub.console.api.model.TopicBatch;
 import com.github.streamshub.console.api.model.TopicFilterParams;
 import com.github.streamshub.console.api.model.TopicMetrics;
 import com.github.streamshub.console.api.model.TopicPatch;
 import com.github.streamshub.console.api.security.Authorized;
 import com.github.streamshub.console.api.security.ResourcePrivilege;
 import com.github.streamshub.console.api.service.GroupService;
+import com.github.streamshub.console.api.service.PartitionHealthService;
+import com.github.streamshub.console.api.service.TopicBatchService;
 import com.github.streamshub.console.api.service.TopicService;
 import com.github.streamshub.console.api.support.ErrorCategory;
 import com.github.streamshub.console.api.support.FieldFilter;
@@ -67,6 +71,12 @@ public class TopicsResource {
     @Inject
     TopicService topicService;
 
+    @Inject
+    TopicBatchService topicBatchService;
+
+    @Inject
+    PartitionHealthService partitionHealthService;
+
     @Inject
     GroupService consumerGroupService;
 
@@ -121,6 +131,64 @@ public class TopicsResource {
                     .build());
     }
 
+    @Path("batch")
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @APIResponse(responseCode = "200",
+        description = "Batch processed, the outcome for each topic is given in the results",
+        content = @Content(schema = @Schema(implementation = TopicBatch.TopicBatchDocument.class)))
+    @APIResponse(responseCode = "500", ref = "ServerError")
+    @APIResponse(responseCode = "504", ref = "ServerTimeout")
+    // authorization checked for each topic by TopicBatchService
+    public CompletionStage<Response> executeTopicBatch(
+            @Parameter(description = "Cluster identifier")
+            @PathParam("clusterId")
+            String clusterId,
+
+            @Valid
+            @RequestBody(content = @Content(
+                    schema = @Schema(implementation = TopicBatch.TopicBatchDocument.class),
+                    examples = {
+                        @ExampleObject(
+                                name = "topicBatch-create",
+                                externalValue = "/openapi/examples/topicBatch-create.json"),
+                        @ExampleObject(
+                                name = "topicBatch-deletePattern",
+                                externalValue = "/openapi/examples/topicBatch-deletePattern.json"),
+                        @ExampleObject(
+                                name = "topicBatch-alterConfigs",
+                                externalValue = "/openapi/examples/topicBatch-alterConfigs.json")
+                    })
+            )
+            TopicBatch.TopicBatchDocument batch) {
+
+        final boolean validateOnly = Boolean.TRUE.equals(batch.meta("validateOnly"));
+
+        return topicBatchService.execute(batch.getData().getAttributes(), validateOnly)
+            .thenApply(TopicBatch.TopicBatchDocument::new)
+            .thenApply(Response::ok)
+            .thenApply(Response.ResponseBuilder::build);
+    }
+
+    @Path("partitionHealth")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @APIResponseSchema(PartitionHealth.PartitionHealthResponse.class)
+    @APIResponse(responseCode = "500", ref = "ServerError")
+    @APIResponse(responseCode = "504", ref = "ServerTimeout")
+    // authorization checked for each topic by PartitionHealthService
+    public CompletionStage<Response> describePartitionHealth(
+            @Parameter(description = "Cluster identifier")
+            @PathParam("clusterId")
+            String clusterId) {
+
+        return partitionHealthService.describePartitionHealth()
+            .thenApply(attributes -> new PartitionHealth.PartitionHealthResponse(clusterId, attributes))
+            .thenApply(Response::ok)
+            .thenApply(Response.ResponseBuilder::build);
+    }
+
     @Path("{topicId}")
     @DELETE
     @APIResponseSchema(responseCode = "204", value = Void.class)
@@ -0,0 +1,24 @@
+package com.github.streamshub.console.api.errors.client;
+
+import java.time.Duration;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.streamshub.console.api.errors.client;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+import com.github.streamshub.console.api.model.jsonapi.JsonApiErrors;
+import com.github.streamshub.console.api.support.ErrorCategory;
+
+@Provider
+@ApplicationScoped
+public class TooManyRequestsExceptionHandler extends AbstractClientExceptionHandler<TooManyRequestsException> {
+
+    public TooManyRequestsExceptionHandler() {
+        super(ErrorCategory.TooManyRequests.class, null, (String) null);
+    }
+
+    @Override
+    public boolean handlesException(Throwable thrown) {
+        return thrown instanceof TooManyRequestsException;
+    }
+
+    @Override
+    public Response toResponse(TooManyRequestsException exception) {
+        long retryAfterSeconds = Math.max(1, (exception.getRetryAfter().toMillis() + 999) / 1000);
+
+        return Response.status(category.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .entity(new JsonApiErrors(buildErrors(exception)))
+                .build();
+    }
+}
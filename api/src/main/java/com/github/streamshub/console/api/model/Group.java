@@ -68,6 +68,7 @@ public class Group extends JsonApiResource<Group.Attributes, None> {
         public static final String OFFSETS = "offsets";
         public static final String SIMPLE_CONSUMER_GROUP = "simpleConsumerGroup";
         public static final String CONFIGS = "configs";
+        public static final String LAG_TRENDS = "lagTrends";
 
         static final Comparator<Group> ID_COMPARATOR =
                 comparing(Group::groupId);
@@ -183,6 +184,14 @@ public class Group extends JsonApiResource<Group.Attributes, None> {
         @JsonProperty
         List<@Valid OffsetAndMetadata> offsets = Collections.emptyList();
 
+        @JsonProperty
+        @Schema(readOnly = true, description = """
+                Estimated rates of production and consumption for each partition
+                with committed offsets, available when the group's offsets are sampled
+                periodically by the console.
+                """)
+        List<LagTrend> lagTrends;
+
         @JsonCreator
         private Attributes(String groupId, boolean simpleConsumerGroup, String state) {
             this.groupId = groupId;
@@ -427,6 +436,14 @@ public class Group extends JsonApiResource<Group.Attributes, None> {
         attributes.offsets = offsets;
     }
 
+    public List<LagTrend> lagTrends() {
+        return attributes.lagTrends;
+    }
+
+    public void lagTrends(List<LagTrend> lagTrends) {
+        attributes.lagTrends = lagTrends;
+    }
+
     public String type() {
         return attributes.type;
     }
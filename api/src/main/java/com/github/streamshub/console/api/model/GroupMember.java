@@ -0,0 +1,174 @@
+package com.github.streamshub.console.api.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiResource;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiRootDataList;
+import com.github.streamshub.console.api.model.jsonapi.None;
+import com.github.streamshub.console.api.support.ComparatorBuilder;
+import com.github.streamshub.console.api.support.ListRequestContext;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
+
+/**
+ * A single member of a group, used to page through the members of a group
+ * independently of the group itself.
+ */
+@Schema(name = "GroupMember")
+public class GroupMember extends JsonApiResource<MemberDescription, None> {
+
+    public static final String API_TYPE = "groupMembers";
+
+    public static final class Fields {
+        public static final String MEMBER_ID = "memberId";
+        public static final String GROUP_INSTANCE_ID = "groupInstanceId";
+        public static final String CLIENT_ID = "clientId";
+        public static final String HOST = "host";
+        public static final String ASSIGNMENTS = "assignments";
+
+        static final Comparator<GroupMember> ID_COMPARATOR =
+                comparing(GroupMember::getId);
+
+        static final Map<String, Map<Boolean, Comparator<GroupMember>>> COMPARATORS = ComparatorBuilder.bidirectional(
+                Map.of("id", ID_COMPARATOR,
+                        MEMBER_ID, ID_COMPARATOR,
+                        GROUP_INSTANCE_ID, ComparatorBuilder.nullable(GroupMember::groupInstanceId),
+                        CLIENT_ID, ComparatorBuilder.nullable(GroupMember::clientId),
+                        HOST, ComparatorBuilder.nullable(GroupMember::host),
+                        ASSIGNMENTS, comparingInt(GroupMember::assignmentCount)));
+
+        public static final ComparatorBuilder<GroupMember> COMPARATOR_BUILDER =
+                new ComparatorBuilder<>(GroupMember.Fields::comparator, GroupMember.Fields.defaultComparator());
+
+        private Fields() {
+            // Prevent instances
+        }
+
+        public static Comparator<GroupMember> defaultComparator() {
+            return ID_COMPARATOR;
+        }
+
+        public static Comparator<GroupMember> comparator(String fieldName, boolean descending) {
+            return COMPARATORS.getOrDefault(fieldName, Collections.emptyMap()).get(descending);
+        }
+    }
+
+    @Schema(name = "GroupMemberDataList")
+    public static final class DataList extends JsonApiRootDataList<GroupMember> {
+        public DataList(List<GroupMember> data, ListRequestContext<GroupMember> listSupport) {
+            super(data.stream()
+                    .map(entry -> {
+                        entry.addMeta("page", listSupport.buildPageMeta(entry::toCursor));
+                        return entry;
+                    })
+                    .toList());
+            addMeta("page", listSupport.buildPageMeta());
+            listSupport.meta().forEach(this::addMeta);
+            listSupport.buildPageLinks(GroupMember::toCursor).forEach(this::addLink);
+        }
+    }
+
+    public GroupMember(MemberDescription member) {
+        super(member.getMemberId(), API_TYPE, member);
+    }
+
+    @JsonIgnore
+    String groupInstanceId() {
+        return attributes.getGroupInstanceId();
+    }
+
+    @JsonIgnore
+    String clientId() {
+        return attributes.getClientId();
+    }
+
+    @JsonIgnore
+    String host() {
+        return attributes.getHost();
+    }
+
+    @JsonIgnore
+    Set<String> assignedTopicNames() {
+        return Optional.ofNullable(attributes.getAssignments())
+                .map(assignments -> assignments.stream()
+                        .map(PartitionId::topicName)
+                        .collect(Collectors.toSet()))
+                .orElseGet(Collections::emptySet);
+    }
+
+    @JsonIgnore
+    int assignmentCount() {
+        return Optional.ofNullable(attributes.getAssignments()).map(List::size).orElse(0);
+    }
+
+    /**
+     * Constructs a "cursor" GroupMember from the encoded string representation of
+     * the subset of fields used to compare entities for pagination/sorting.
+     */
+    public static GroupMember fromCursor(JsonObject cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        JsonObject attr = cursor.getJsonObject("attributes");
+        var member = new MemberDescription(cursor.getString("id"),
+                attr.getString(Fields.GROUP_INSTANCE_ID, null),
+                attr.getString(Fields.CLIENT_ID, null),
+                attr.getString(Fields.HOST, null));
+
+        if (attr.containsKey(Fields.ASSIGNMENTS)) {
+            // Only the number of assignments is significant for comparison
+            member.setAssignments(Collections.nCopies(attr.getInt(Fields.ASSIGNMENTS), null));
+        }
+
+        return new GroupMember(member);
+    }
+
+    public String toCursor(List<String> sortFields) {
+        JsonObjectBuilder cursor = Json.createObjectBuilder()
+                .add("id", id);
+        JsonObjectBuilder attrBuilder = Json.createObjectBuilder();
+
+        if (sortFields.contains(Fields.MEMBER_ID)) {
+            attrBuilder.add(Fields.MEMBER_ID, id);
+        }
+
+        maybeAdd(attrBuilder, sortFields, Fields.GROUP_INSTANCE_ID, groupInstanceId());
+        maybeAdd(attrBuilder, sortFields, Fields.CLIENT_ID, clientId());
+        maybeAdd(attrBuilder, sortFields, Fields.HOST, host());
+
+        if (sortFields.contains(Fields.ASSIGNMENTS)) {
+            attrBuilder.add(Fields.ASSIGNMENTS, assignmentCount());
+        }
+
+        cursor.add("attributes", attrBuilder.build());
+
+        return Base64.getUrlEncoder().encodeToString(cursor.build().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void maybeAdd(JsonObjectBuilder builder, List<String> sortFields, String name, String value) {
+        if (sortFields.contains(name)) {
+            if (value != null) {
+                builder.add(name, value);
+            } else {
+                builder.addNull(name);
+            }
+        }
+    }
+}
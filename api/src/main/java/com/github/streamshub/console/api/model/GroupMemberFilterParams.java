@@ -0,0 +1,78 @@
+package com.github.streamshub.console.api.model;
+
+import jakarta.ws.rs.QueryParam;
+
+import org.eclipse.microprofile.openapi.annotations.enums.Explode;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+
+import com.github.streamshub.console.api.support.ErrorCategory;
+
+import io.xlate.validation.constraints.Expression;
+
+public class GroupMemberFilterParams extends FilterParams {
+
+    @QueryParam("filter[clientId]")
+    @Parameter(
+        description = "Retrieve only members with a client ID matching this parameter",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'eq' || self.operator == 'in' || self.operator == 'like'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'in', 'like' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[clientId]")
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() >= 1",
+        message = "at least 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[clientId]")
+    FetchFilter clientIdFilter;
+
+    @QueryParam("filter[host]")
+    @Parameter(
+        description = "Retrieve only members with a host matching this parameter",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'eq' || self.operator == 'in' || self.operator == 'like'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'in', 'like' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[host]")
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() >= 1",
+        message = "at least 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[host]")
+    FetchFilter hostFilter;
+
+    @QueryParam("filter[topicName]")
+    @Parameter(
+        description = "Retrieve only members assigned at least one partition of the topics named by this parameter",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'in'",
+        message = "unsupported filter operator, supported values: [ 'in' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[topicName]")
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() >= 1",
+        message = "at least 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[topicName]")
+    FetchFilter topicNameFilter;
+
+    @Override
+    protected void buildPredicates() {
+        maybeAddPredicate(clientIdFilter, GroupMember.class, GroupMember::clientId);
+        maybeAddPredicate(hostFilter, GroupMember.class, GroupMember::host);
+        maybeAddPredicate(topicNameFilter, GroupMember.class, GroupMember::assignedTopicNames);
+    }
+}
@@ -0,0 +1,221 @@
+package com.github.streamshub.console.api.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiError;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiMeta;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiResource;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiRootDataList;
+import com.github.streamshub.console.api.model.jsonapi.None;
+import com.github.streamshub.console.api.support.ComparatorBuilder;
+import com.github.streamshub.console.api.support.ListRequestContext;
+import com.github.streamshub.console.support.Identifiers;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
+
+/**
+ * The committed offset of a group for a single topic partition, used to page
+ * through the offsets of a group independently of the group itself. The ID of
+ * the resource is derived from the topic name and partition number.
+ */
+@Schema(name = "GroupOffset")
+public class GroupOffset extends JsonApiResource<OffsetAndMetadata, None> {
+
+    public static final String API_TYPE = "groupOffsets";
+
+    public static final class Fields {
+        public static final String TOPIC_ID = "topicId";
+        public static final String TOPIC_NAME = "topicName";
+        public static final String PARTITION = "partition";
+        public static final String OFFSET = "offset";
+        public static final String LOG_END_OFFSET = "logEndOffset";
+        public static final String LAG = "lag";
+
+        static final Comparator<GroupOffset> ID_COMPARATOR =
+                comparing(GroupOffset::topicName).thenComparing(comparingInt(GroupOffset::partition));
+
+        static final Map<String, Map<Boolean, Comparator<GroupOffset>>> COMPARATORS = ComparatorBuilder.bidirectional(
+                Map.of("id", ID_COMPARATOR,
+                        TOPIC_ID, ComparatorBuilder.nullable(GroupOffset::topicId),
+                        TOPIC_NAME, comparing(GroupOffset::topicName),
+                        PARTITION, comparingInt(GroupOffset::partition),
+                        OFFSET, ComparatorBuilder.nullable(GroupOffset::offset),
+                        LOG_END_OFFSET, ComparatorBuilder.nullable(GroupOffset::logEndOffset),
+                        LAG, ComparatorBuilder.nullable(GroupOffset::lag)));
+
+        public static final ComparatorBuilder<GroupOffset> COMPARATOR_BUILDER =
+                new ComparatorBuilder<>(GroupOffset.Fields::comparator, GroupOffset.Fields.defaultComparator());
+
+        /**
+         * Sort fields that require the log end offset of every partition in the
+         * group to be known, rather than only those on the requested page.
+         */
+        public static final List<String> END_OFFSET_SORTS = List.of(LOG_END_OFFSET, LAG);
+
+        private Fields() {
+            // Prevent instances
+        }
+
+        public static Comparator<GroupOffset> defaultComparator() {
+            return ID_COMPARATOR;
+        }
+
+        public static Comparator<GroupOffset> comparator(String fieldName, boolean descending) {
+            return COMPARATORS.getOrDefault(fieldName, Collections.emptyMap()).get(descending);
+        }
+    }
+
+    @Schema(name = "GroupOffsetDataList")
+    public static final class DataList extends JsonApiRootDataList<GroupOffset> {
+        public DataList(List<GroupOffset> data, ListRequestContext<GroupOffset> listSupport) {
+            super(data.stream()
+                    .map(entry -> {
+                        entry.addMeta("page", listSupport.buildPageMeta(entry::toCursor));
+                        return entry;
+                    })
+                    .toList());
+            addMeta("page", listSupport.buildPageMeta());
+            listSupport.meta().forEach(this::addMeta);
+            listSupport.buildPageLinks(GroupOffset::toCursor).forEach(this::addLink);
+        }
+    }
+
+    public static class Meta extends JsonApiMeta {
+        // When the log end offset of the partition could not be listed
+        @JsonProperty
+        List<JsonApiError> errors;
+    }
+
+    public GroupOffset(OffsetAndMetadata offset) {
+        super(Identifiers.encode(offset.topicName(), String.valueOf(offset.partition())), API_TYPE, offset);
+    }
+
+    @Override
+    public JsonApiMeta metaFactory() {
+        return new Meta();
+    }
+
+    public void addError(JsonApiError error) {
+        var meta = (Meta) getOrCreateMeta();
+
+        if (meta.errors == null) {
+            meta.errors = new ArrayList<>();
+        }
+        meta.errors.add(error);
+    }
+
+    @JsonIgnore
+    public OffsetAndMetadata offsetAndMetadata() {
+        return attributes;
+    }
+
+    @JsonIgnore
+    public PartitionId partitionId() {
+        return new PartitionId(topicId(), topicName(), partition());
+    }
+
+    @JsonIgnore
+    public String topicId() {
+        return attributes.topicId();
+    }
+
+    @JsonIgnore
+    public String topicName() {
+        return attributes.topicName();
+    }
+
+    @JsonIgnore
+    public int partition() {
+        return attributes.partition();
+    }
+
+    @JsonIgnore
+    public Long offset() {
+        return attributes.optionalAbsoluteOffset().orElse(null);
+    }
+
+    @JsonIgnore
+    public Long logEndOffset() {
+        return attributes.logEndOffset();
+    }
+
+    @JsonIgnore
+    public Long lag() {
+        return attributes.lag();
+    }
+
+    /**
+     * Constructs a "cursor" GroupOffset from the encoded string representation of
+     * the subset of fields used to compare entities for pagination/sorting.
+     */
+    public static GroupOffset fromCursor(JsonObject cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        String[] id = Identifiers.decode(cursor.getString("id"));
+        JsonObject attr = cursor.getJsonObject("attributes");
+
+        return new GroupOffset(new OffsetAndMetadata(
+                attr.getString(Fields.TOPIC_ID, null),
+                id[0],
+                Integer.parseInt(id[1]),
+                attr.get(Fields.OFFSET) instanceof JsonNumber offset ? Either.of(offset.longValue()) : null,
+                attr.get(Fields.LOG_END_OFFSET) instanceof JsonNumber endOffset ? endOffset.longValue() : null,
+                attr.get(Fields.LAG) instanceof JsonNumber lag ? lag.longValue() : null,
+                null,
+                null));
+    }
+
+    public String toCursor(List<String> sortFields) {
+        JsonObjectBuilder cursor = Json.createObjectBuilder()
+                .add("id", id);
+        JsonObjectBuilder attrBuilder = Json.createObjectBuilder();
+
+        if (sortFields.contains(Fields.TOPIC_ID)) {
+            attrBuilder.add(Fields.TOPIC_ID, topicId());
+        }
+
+        if (sortFields.contains(Fields.TOPIC_NAME)) {
+            attrBuilder.add(Fields.TOPIC_NAME, topicName());
+        }
+
+        if (sortFields.contains(Fields.PARTITION)) {
+            attrBuilder.add(Fields.PARTITION, partition());
+        }
+
+        maybeAdd(attrBuilder, sortFields, Fields.OFFSET, offset());
+        maybeAdd(attrBuilder, sortFields, Fields.LOG_END_OFFSET, logEndOffset());
+        maybeAdd(attrBuilder, sortFields, Fields.LAG, lag());
+
+        cursor.add("attributes", attrBuilder.build());
+
+        return Base64.getUrlEncoder().encodeToString(cursor.build().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void maybeAdd(JsonObjectBuilder builder, List<String> sortFields, String name, Long value) {
+        if (sortFields.contains(name)) {
+            if (value != null) {
+                builder.add(name, value);
+            } else {
+                builder.addNull(name);
+            }
+        }
+    }
+}
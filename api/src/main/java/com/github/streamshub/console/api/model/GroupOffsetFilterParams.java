@@ -0,0 +1,103 @@
+package com.github.streamshub.console.api.model;
+
+import java.util.Objects;
+
+import jakarta.ws.rs.QueryParam;
+
+import org.eclipse.microprofile.openapi.annotations.enums.Explode;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+
+import com.github.streamshub.console.api.support.ErrorCategory;
+import com.github.streamshub.console.api.support.FetchFilterPredicate;
+
+import io.xlate.validation.constraints.Expression;
+import io.xlate.validation.constraints.Expression.ExceptionalValue;
+
+public class GroupOffsetFilterParams extends FilterParams {
+
+    public static final String FILTER_LAG = "filter[lag]";
+
+    @QueryParam("filter[topicId]")
+    @Parameter(
+        description = "Retrieve only offsets for topics with an ID matching this parameter",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'eq' || self.operator == 'in'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'in' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[topicId]")
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() >= 1",
+        message = "at least 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[topicId]")
+    FetchFilter topicIdFilter;
+
+    @QueryParam("filter[topicName]")
+    @Parameter(
+        description = "Retrieve only offsets for topics with a name matching this parameter",
+        schema = @Schema(implementation = String[].class, minItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'eq' || self.operator == 'in' || self.operator == 'like'",
+        message = "unsupported filter operator, supported values: [ 'eq', 'in', 'like' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[topicName]")
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() >= 1",
+        message = "at least 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = "filter[topicName]")
+    FetchFilter topicNameFilter;
+
+    @QueryParam(FILTER_LAG)
+    @Parameter(
+        description = """
+            Retrieve only offsets with a lag greater than or equal to the filter
+            lag. The format of this parameter's value is `[ <operator>,<operand> ]`
+            where the only supported operator is `gte` and the operand must be a
+            non-negative integer. Offsets with an unknown lag are excluded.
+            """,
+        schema = @Schema(implementation = String[].class, minItems = 2, maxItems = 2),
+        explode = Explode.FALSE)
+    @Expression(
+        when = "self != null",
+        value = "self.operator == 'gte'",
+        message = "unsupported filter operator, supported values: [ 'gte' ]",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = FILTER_LAG)
+    @Expression(
+        when = "self != null",
+        value = "self.operands.size() == 1",
+        message = "exactly 1 operand is required",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = FILTER_LAG)
+    @Expression(
+        when = "self != null && self.operator == 'gte'",
+        value = "Long.parseLong(self.firstOperand) >= 0",
+        exceptionalValue = ExceptionalValue.FALSE,
+        message = "operand must be an integer between 0 and " + Long.MAX_VALUE + ", inclusive",
+        payload = ErrorCategory.InvalidQueryParameter.class,
+        node = FILTER_LAG)
+    FetchFilter lagFilter;
+
+    @Override
+    protected void buildPredicates() {
+        maybeAddPredicate(topicIdFilter, GroupOffset.class, GroupOffset::topicId);
+        maybeAddPredicate(topicNameFilter, GroupOffset.class, GroupOffset::topicName);
+
+        if (lagFilter != null) {
+            // Unknown lag (-1) never satisfies the non-negative operand
+            addPredicate(GroupOffset.class, new FetchFilterPredicate<GroupOffset, Long>(FILTER_LAG,
+                    lagFilter,
+                    Long::valueOf,
+                    offset -> Objects.requireNonNullElse(offset.lag(), -1L)));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.streamshub.console.api.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * Rates of production and consumption for a partition consumed by a group,
+ * estimated from the samples of the partition's offsets retained by the
+ * console.
+ */
+@Schema(name = "LagTrend")
+@JsonInclude(value = Include.NON_NULL)
+public record LagTrend(
+        String topicId,
+
+        String topicName,
+
+        int partition,
+
+        @Schema(description = "Number of offset samples the estimates are based on")
+        int samples,
+
+        @Schema(description = "Length of time, in seconds, between the oldest and newest samples")
+        double windowSeconds,
+
+        @Schema(description = "Lag (in records) as of the newest sample")
+        long lag,
+
+        @Schema(description = "Records produced to the partition per second")
+        double produceRate,
+
+        @Schema(description = "Records consumed from the partition by the group per second")
+        double consumeRate,
+
+        @Schema(description = """
+                Change in lag per second. A negative value indicates the group is
+                catching up, a positive value that it is falling behind.
+                """)
+        double lagTrend,
+
+        @Schema(nullable = true, description = """
+                Estimated number of seconds until the group's lag reaches zero at the
+                current rates, or null when the group is not catching up.
+                """)
+        Long timeToCatchUpSeconds
+) {
+}
@@ -0,0 +1,103 @@
+package com.github.streamshub.console.api.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiError;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiResource;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiRootData;
+import com.github.streamshub.console.api.model.jsonapi.None;
+
+/**
+ * Configurations of all brokers in a cluster, with each configuration's
+ * distinct values and the nodes using them. Configurations with values that
+ * differ between nodes of the same node pool are flagged as drifted.
+ */
+@Schema(name = "NodeConfigs")
+public class NodeConfigs {
+
+    public static class NodeConfigsResponse extends JsonApiRootData<NodeConfigsResource> {
+        public NodeConfigsResponse(Attributes attributes) {
+            super(new NodeConfigsResource(attributes));
+        }
+    }
+
+    @Schema(name = "NodeConfigsResource")
+    public static final class NodeConfigsResource extends JsonApiResource<Attributes, None> {
+        public NodeConfigsResource(Attributes attributes) {
+            super(null, "nodeConfigs", attributes);
+        }
+    }
+
+    /**
+     * Names of the configurations with values that differ between nodes of the
+     * same node pool.
+     */
+    public static List<String> drifted(Map<String, Config> configs) {
+        return configs.entrySet()
+                .stream()
+                .filter(e -> e.getValue().drifted())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Schema(name = "NodeConfigsAttributes")
+    public static record Attributes(
+        @Schema(description = "Time the configurations were described")
+        Instant describedAt,
+
+        @Schema(description = "Nodes described, keyed by node ID")
+        Map<String, NodeStatus> nodes,
+
+        @Schema(description = "Configurations of the nodes, keyed by configuration name")
+        Map<String, Config> configs
+    ) { }
+
+    @Schema(name = "NodeConfigsNode")
+    @JsonInclude(Include.NON_NULL)
+    public static record NodeStatus(
+        @Schema(nullable = true)
+        String nodePool,
+
+        @Schema(nullable = true, description = "Error describing the node's configurations")
+        JsonApiError error
+    ) { }
+
+    @Schema(name = "NodeConfigsConfig")
+    @JsonInclude(Include.NON_NULL)
+    public static record Config(
+        String type,
+
+        boolean sensitive,
+
+        boolean readOnly,
+
+        @Schema(description = """
+                Whether the value differs between nodes of the same node pool, or between
+                nodes that are not members of any node pool.
+                """)
+        boolean drifted,
+
+        @Schema(description = "Node pools in which the value differs between nodes")
+        List<String> driftedNodePools,
+
+        @Schema(description = "Distinct values of the configuration")
+        List<Value> values
+    ) { }
+
+    @Schema(name = "NodeConfigsValue")
+    @JsonInclude(Include.NON_NULL)
+    public static record Value(
+        String value,
+
+        String source,
+
+        @Schema(description = "IDs of the nodes using the value")
+        List<String> nodes
+    ) { }
+}
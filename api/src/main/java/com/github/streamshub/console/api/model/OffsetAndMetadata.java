@@ -78,13 +78,27 @@ public record OffsetAndMetadata(
 
         String metadata,
 
-        Integer leaderEpoch
+        Integer leaderEpoch,
+
+        @Schema(readOnly = true, description = """
+                Time lag in milliseconds: the difference between the timestamp of the latest
+                record in the partition and the timestamp of the record at the committed offset.
+                Zero when the group has consumed all records in the partition. Available only
+                when requested, and may be estimated from the sampled history of the partition's
+                offsets for partitions beyond the limit of records read for a single request.
+                """)
+        Long timeLagMs
 ) implements Comparable<OffsetAndMetadata> {
 
     private static final Comparator<OffsetAndMetadata> COMPARATOR = Comparator
             .comparing(OffsetAndMetadata::topicName)
             .thenComparing(OffsetAndMetadata::partition);
 
+    public OffsetAndMetadata(String topicId, String topicName, Integer partition,
+            Either<Long, String> offset, Long logEndOffset, Long lag, String metadata, Integer leaderEpoch) {
+        this(topicId, topicName, partition, offset, logEndOffset, lag, metadata, leaderEpoch, null);
+    }
+
     public OffsetAndMetadata(String topicId, org.apache.kafka.common.TopicPartition topicPartition) {
         this(topicId, topicPartition.topic(), topicPartition.partition(), null, null, null, null, null);
     }
@@ -113,6 +127,10 @@ public record OffsetAndMetadata(
             kafkaOffset.leaderEpoch().orElse(null));
     }
 
+    public OffsetAndMetadata withTimeLag(Long timeLagMs) {
+        return new OffsetAndMetadata(topicId, topicName, partition, offset, logEndOffset, lag, metadata, leaderEpoch, timeLagMs);
+    }
+
     @JsonIgnore // internal use only
     public boolean isDeleted() {
         return Objects.isNull(offset);
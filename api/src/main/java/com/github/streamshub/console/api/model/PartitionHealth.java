@@ -0,0 +1,159 @@
+package com.github.streamshub.console.api.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiResource;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiRootData;
+import com.github.streamshub.console.api.model.jsonapi.None;
+
+/**
+ * Partitions of a Kafka cluster that are currently unhealthy, with counts for
+ * the cluster and for each broker.
+ */
+@Schema(name = "PartitionHealth")
+public class PartitionHealth {
+
+    /** The partition has no leader */
+    public static final String OFFLINE = "Offline";
+    /** At least one replica is not in the ISR */
+    public static final String UNDER_REPLICATED = "UnderReplicated";
+    /** The ISR is smaller than the topic's {@code min.insync.replicas} */
+    public static final String UNDER_MIN_ISR = "UnderMinIsr";
+    /** The leader is not the first (preferred) replica */
+    public static final String NON_PREFERRED_LEADER = "NonPreferredLeader";
+
+    private PartitionHealth() {
+    }
+
+    public static class PartitionHealthResponse extends JsonApiRootData<PartitionHealthResource> {
+        public PartitionHealthResponse(String clusterId, Attributes attributes) {
+            super(new PartitionHealthResource(clusterId, attributes));
+        }
+    }
+
+    public static final class PartitionHealthResource extends JsonApiResource<Attributes, None> {
+        public PartitionHealthResource(String clusterId, Attributes attributes) {
+            super(clusterId, "partitionHealth", attributes);
+        }
+    }
+
+    @Schema(name = "PartitionHealthAttributes")
+    public static record Attributes(
+        @JsonProperty
+        @Schema(description = "Time at which the partition metadata was last refreshed")
+        Instant refreshedAt,
+
+        @JsonProperty
+        Counts summary,
+
+        @JsonProperty
+        @Schema(description = """
+                Counts for each broker (keyed by node ID) that leads or hosts a
+                replica of at least one unhealthy partition
+                """)
+        Map<String, Counts> brokers,
+
+        @JsonProperty
+        @Schema(description = "Unhealthy partitions, ordered by topic name and partition number")
+        List<Partition> partitions
+    ) { }
+
+    /**
+     * Numbers of unhealthy partitions. For a broker, the {@code offline} and
+     * {@code underReplicated} counts are the partitions for which the broker hosts
+     * an offline or out-of-sync replica, whereas the remaining counts are for
+     * partitions led by the broker.
+     */
+    @Schema(name = "PartitionHealthCounts")
+    @JsonInclude(Include.NON_NULL)
+    public static class Counts {
+        Integer totalPartitions;
+        int offline;
+        int underReplicated;
+        int underMinIsr;
+        int nonPreferredLeader;
+
+        public static Counts cluster(int totalPartitions) {
+            Counts counts = new Counts();
+            counts.totalPartitions = totalPartitions;
+            return counts;
+        }
+
+        public static Counts broker() {
+            return new Counts();
+        }
+
+        public void add(String issue) {
+            switch (issue) {
+                case OFFLINE -> offline++;
+                case UNDER_REPLICATED -> underReplicated++;
+                case UNDER_MIN_ISR -> underMinIsr++;
+                case NON_PREFERRED_LEADER -> nonPreferredLeader++;
+                default -> throw new IllegalArgumentException("Unknown partition issue: " + issue);
+            }
+        }
+
+        @JsonProperty
+        @Schema(description = "Total number of partitions in the cluster, present only in the summary")
+        public Integer totalPartitions() {
+            return totalPartitions;
+        }
+
+        @JsonProperty
+        public int offline() {
+            return offline;
+        }
+
+        @JsonProperty
+        public int underReplicated() {
+            return underReplicated;
+        }
+
+        @JsonProperty
+        public int underMinIsr() {
+            return underMinIsr;
+        }
+
+        @JsonProperty
+        public int nonPreferredLeader() {
+            return nonPreferredLeader;
+        }
+    }
+
+    @Schema(name = "UnhealthyPartition")
+    @JsonInclude(Include.NON_NULL)
+    public static record Partition(
+        @JsonProperty
+        String topicId,
+
+        @JsonProperty
+        String topicName,
+
+        @JsonProperty
+        int partition,
+
+        @JsonProperty
+        Integer leaderId,
+
+        @JsonProperty
+        List<Integer> replicas,
+
+        @JsonProperty
+        List<Integer> isr,
+
+        @JsonProperty
+        @Schema(description = "The topic's `min.insync.replicas`, if known")
+        Integer minInSyncReplicas,
+
+        @JsonProperty
+        @Schema(description = "One or more of `Offline`, `UnderReplicated`, `UnderMinIsr`, and `NonPreferredLeader`")
+        List<String> issues
+    ) { }
+}
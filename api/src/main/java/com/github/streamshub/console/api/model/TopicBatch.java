@@ -0,0 +1,213 @@
+package com.github.streamshub.console.api.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiError;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiResource;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiRootData;
+import com.github.streamshub.console.api.model.jsonapi.None;
+import com.github.streamshub.console.api.support.ErrorCategory;
+
+import io.xlate.validation.constraints.Expression;
+
+/**
+ * A single operation applied to many topics. Topics are either given in full
+ * ({@code create}) or selected from the existing topics by a list of names or
+ * by a name pattern (all other operations). The outcome of the operation for
+ * each topic is given in the {@code results} of the response.
+ */
+@Schema(name = "TopicBatchAttributes")
+@JsonInclude(Include.NON_NULL)
+@Expression(
+    when = "self.operation == 'CREATE'",
+    value = "self.topics != null",
+    message = "topics are required for operation `create`",
+    node = "topics",
+    payload = ErrorCategory.InvalidResource.class
+)
+@Expression(
+    when = "self.operation != null && self.operation != 'CREATE'",
+    value = "self.names != null ? self.pattern == null : self.pattern != null",
+    message = "exactly one of names or pattern is required",
+    node = "names",
+    payload = ErrorCategory.InvalidResource.class
+)
+@Expression(
+    when = "self.operation == 'CREATE_PARTITIONS'",
+    value = "self.numPartitions != null",
+    message = "numPartitions is required for operation `createPartitions`",
+    node = "numPartitions",
+    payload = ErrorCategory.InvalidResource.class
+)
+@Expression(
+    when = "self.operation == 'ALTER_CONFIGS'",
+    value = "self.configs != null && !self.configs.isEmpty()",
+    message = "configs are required for operation `alterConfigs`",
+    node = "configs",
+    payload = ErrorCategory.InvalidResource.class
+)
+public record TopicBatch(
+        @JsonProperty
+        @NotNull(payload = ErrorCategory.InvalidResource.class)
+        Operation operation,
+
+        @JsonProperty
+        @Schema(description = "Topics to be created, used only with operation `create`")
+        @Size(min = 1, message = "must contain at least one entry", payload = ErrorCategory.InvalidResource.class)
+        List<@Valid @NotNull(payload = ErrorCategory.InvalidResource.class) NewTopic> topics,
+
+        @JsonProperty
+        @Schema(description = "Names of the existing topics to which the operation applies")
+        @Size(min = 1, message = "must contain at least one entry", payload = ErrorCategory.InvalidResource.class)
+        List<@NotBlank(payload = ErrorCategory.InvalidResource.class) String> names,
+
+        @JsonProperty
+        @Schema(description = """
+                Pattern matching the names of the existing topics to which the operation applies. \
+                The wildcards `*` and `?` match any sequence of characters and any single character, \
+                respectively. Internal topics are never matched by a pattern.
+                """)
+        @NotBlank(payload = ErrorCategory.InvalidResource.class)
+        String pattern,
+
+        @JsonProperty
+        @Schema(description = "New total number of partitions, used only with operation `createPartitions`")
+        @Positive(payload = ErrorCategory.InvalidResource.class)
+        Integer numPartitions,
+
+        @JsonProperty
+        @Schema(description = "Configurations to set or (when null) delete, used only with operation `alterConfigs`")
+        Map<String, ConfigEntry> configs,
+
+        @JsonProperty
+        @Schema(readOnly = true, description = "Outcome of the operation for each topic, ordered by topic name")
+        List<Result> results
+) {
+
+    public enum Operation {
+        CREATE("create"),
+        DELETE("delete"),
+        ALTER_CONFIGS("alterConfigs"),
+        CREATE_PARTITIONS("createPartitions");
+
+        private final String value;
+
+        private Operation(String value) {
+            this.value = value;
+        }
+
+        @JsonValue
+        public String value() {
+            return value;
+        }
+    }
+
+    /**
+     * Outcome of a batch operation for a single topic.
+     *
+     * @param name    name of the topic
+     * @param topicId ID of the topic, when known
+     * @param status  either {@code succeeded} or {@code failed}
+     * @param error   reason for the failure, present only when the status is
+     *                {@code failed}
+     */
+    @Schema(name = "TopicBatchResult")
+    @JsonInclude(Include.NON_NULL)
+    public record Result(
+            String name,
+            String topicId,
+            String status,
+            JsonApiError error) {
+
+        public static final String SUCCEEDED = "succeeded";
+        public static final String FAILED = "failed";
+
+        public static Result of(String name, String topicId, Throwable error) {
+            if (error instanceof CompletionException ce && ce.getCause() != null) {
+                error = ce.getCause();
+            }
+            if (error != null) {
+                return new Result(name, topicId, FAILED, JsonApiError.forThrowable(error, "Topic operation failed"));
+            }
+            return new Result(name, topicId, SUCCEEDED, null);
+        }
+    }
+
+    @Schema(name = "TopicBatchDocument")
+    public static final class TopicBatchDocument extends JsonApiRootData<TopicBatchResource> {
+        @JsonCreator
+        public TopicBatchDocument(@JsonProperty("data") TopicBatchResource data) {
+            super(data);
+        }
+
+        public TopicBatchDocument(TopicBatch data) {
+            this(new TopicBatchResource(data));
+        }
+    }
+
+    @Schema(name = "TopicBatch")
+    @Expression(
+        when = "self.type != null",
+        value = "self.type == 'topicBatches'",
+        message = "resource type conflicts with operation",
+        node = "type",
+        payload = ErrorCategory.ResourceConflict.class
+    )
+    public static final class TopicBatchResource extends JsonApiResource<TopicBatch, None> {
+        @JsonCreator
+        public TopicBatchResource(String type, TopicBatch attributes) {
+            super(null, type, attributes);
+        }
+
+        public TopicBatchResource(TopicBatch attributes) {
+            super(null, "topicBatches", attributes);
+        }
+    }
+
+    /**
+     * Response to a batch, giving only the operation and the per-topic results.
+     */
+    public static TopicBatch completed(Operation operation, List<Result> results) {
+        return new TopicBatch(operation, null, null, null, null, null, results);
+    }
+
+    // EL does not (yet) support record properties
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public List<NewTopic> getTopics() {
+        return topics;
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public Integer getNumPartitions() {
+        return numPartitions;
+    }
+
+    public Map<String, ConfigEntry> getConfigs() {
+        return configs;
+    }
+}
@@ -84,6 +84,11 @@
                                               ]
                                             }
                                             """))),
+                    @APIResponse(name = "TooManyRequests",
+                            description = "The request was not processed due to the number of concurrent requests. The request may be retried after the number of seconds given by the `Retry-After` header.",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON,
+                                    schema = @Schema(implementation = JsonApiErrors.class))),
                     @APIResponse(name = "ServerError",
                             description = "Internal server error",
                             content = @Content(
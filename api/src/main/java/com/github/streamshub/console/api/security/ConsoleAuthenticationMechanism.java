@@ -123,7 +123,7 @@ public class ConsoleAuthenticationMechanism implements HttpAuthenticationMechani
         try {
             String saslMechanism = ctx.saslMechanism(Admin.class);
 
-            if (ctx.admin() != null || saslMechanism.isEmpty()) {
+            if (ctx.globalConnection() || saslMechanism.isEmpty()) {
                 // Admin credentials already given or there is no SASL authentication needed
                 return Uni.createFrom().item(identities.createAnonymousIdentity(ctx));
             }
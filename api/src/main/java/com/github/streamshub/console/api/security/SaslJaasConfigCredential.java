@@ -1,5 +1,15 @@
 package com.github.streamshub.console.api.security;
 
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import jakarta.json.Json;
+import jakarta.json.JsonNumber;
+
 import org.apache.kafka.common.security.oauthbearer.OAuthBearerLoginModule;
 import org.apache.kafka.common.security.plain.PlainLoginModule;
 import org.apache.kafka.common.security.scram.ScramLoginModule;
@@ -12,6 +22,8 @@ public class SaslJaasConfigCredential implements Credential {
             + " required"
             + " oauth.access.token=\"%s\" ;";
 
+    private static final Pattern OAUTH_ACCESS_TOKEN = Pattern.compile("oauth\\.access\\.token=\"([^\"]+)\"");
+
     private static final String BASIC_TEMPLATE = "%s required username=\"%%s\" password=\"%%s\" ;";
     private static final String SASL_PLAIN_CONFIG_TEMPLATE = BASIC_TEMPLATE
             .formatted(PlainLoginModule.class.getName());
@@ -43,4 +55,32 @@ public class SaslJaasConfigCredential implements Credential {
     public String value() {
         return value;
     }
+
+    /**
+     * Expiration time of the credential, known only for an OAuth access token in
+     * JWT format with an {@code exp} claim. Other credentials do not expire.
+     */
+    public Optional<Instant> expiresAt() {
+        var matcher = OAUTH_ACCESS_TOKEN.matcher(value);
+
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+
+        String[] parts = matcher.group(1).split("\\.");
+
+        if (parts.length != 3) {
+            // Opaque token
+            return Optional.empty();
+        }
+
+        try (var reader = Json.createReader(new StringReader(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)))) {
+            return Optional.ofNullable(reader.readObject().getJsonNumber("exp"))
+                    .map(JsonNumber::longValue)
+                    .map(Instant::ofEpochSecond);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
 }
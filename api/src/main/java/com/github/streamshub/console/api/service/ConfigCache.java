@@ -0,0 +1,179 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.config.ConfigResource;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.ConfigEntry;
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.support.AdminFanout;
+import com.github.streamshub.console.api.support.PeriodicRefresh;
+import com.github.streamshub.console.api.support.PeriodicSnapshot;
+
+/**
+ * Configurations of the resources (topics, brokers, groups) of a single Kafka
+ * cluster, keyed by {@link ConfigResource}. The cache is shared by all requests
+ * for a cluster accessed with a global (application-scoped) admin client.
+ *
+ * <p>A read of cached resources makes no request to the cluster; only missing
+ * resources are described. Changes made through the console are written
+ * through by {@linkplain #invalidate(Collection) invalidating} the altered
+ * resources, and changes made outside the console are picked up by a
+ * background reconciliation that re-describes every cached resource once per
+ * interval. Failures to describe a resource are never cached. Resources are
+ * described in chunks via the cache's own {@linkplain AdminFanout}, so a cold
+ * cache or a reconciliation of many resources does not result in a single
+ * large request.
+ */
+class ConfigCache implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfigCache.class);
+
+    private sealed interface Slot permits Cached, Invalidated {
+    }
+
+    private record Cached(Map<String, ConfigEntry> configs) implements Slot {
+    }
+
+    /**
+     * Marker for a resource invalidated at the given sequence. Loads that began
+     * before the invalidation must not replace the marker with their (possibly
+     * stale) result.
+     */
+    private record Invalidated(long sequence) implements Slot {
+    }
+
+    private final Admin admin;
+    private final AdminFanout fanout;
+    private final ConfigService configService;
+    private final Duration interval;
+    private final double jitter;
+    private final int maxEntries;
+    private final PeriodicRefresh<Void> reconciliation;
+
+    private final Map<ConfigResource, Slot> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long lastReconcileSequence = 0;
+
+    ConfigCache(Admin admin, AdminFanout fanout, ConfigService configService, ScheduledExecutorService scheduler,
+            Duration interval, double jitter, int maxEntries) {
+        this.admin = admin;
+        this.fanout = fanout;
+        this.configService = configService;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.maxEntries = maxEntries;
+        this.reconciliation = new PeriodicRefresh<>("cached configurations", this::reconcile, scheduler, interval, jitter);
+    }
+
+    /**
+     * Begin background reconciliation of cached resources.
+     */
+    ConfigCache start() {
+        reconciliation.start(PeriodicSnapshot.jittered(interval, jitter));
+        return this;
+    }
+
+    /**
+     * Obtain the configurations of the given resources, describing only those
+     * resources not present in the cache.
+     */
+    CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>> describeConfigs(List<ConfigResource> keys) {
+        Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>> result = new HashMap<>(keys.size());
+        List<ConfigResource> missing = new ArrayList<>();
+
+        for (ConfigResource key : keys) {
+            if (entries.get(key) instanceof Cached cached) {
+                result.put(key, Either.of(cached.configs()));
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedStage(result);
+        }
+
+        return load(missing).thenApply(loaded -> {
+            result.putAll(loaded);
+            return result;
+        });
+    }
+
+    /**
+     * Remove the given resources from the cache, e.g. following a change to their
+     * configurations made via the console. Loads of the resources already in
+     * progress will not be cached.
+     */
+    void invalidate(Collection<ConfigResource> keys) {
+        long invalidatedAt = sequence.incrementAndGet();
+        keys.forEach(key -> entries.put(key, new Invalidated(invalidatedAt)));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void close() {
+        reconciliation.close();
+        entries.clear();
+    }
+
+    private CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>> load(List<ConfigResource> keys) {
+        long loadSequence = sequence.get();
+
+        return configService.fetchConfigs(admin, fanout, keys).thenApply(loaded -> {
+            loaded.forEach((key, configs) -> {
+                if (configs.isPrimaryPresent()) {
+                    entries.compute(key, (k, current) -> cacheable(current, loadSequence)
+                            ? new Cached(configs.getPrimary())
+                            : current);
+                } else {
+                    // Do not retain a previous value for a resource that can no longer be described
+                    entries.computeIfPresent(key, (k, current) -> current instanceof Cached ? null : current);
+                }
+            });
+
+            return loaded;
+        });
+    }
+
+    private boolean cacheable(Slot current, long loadSequence) {
+        if (current instanceof Invalidated invalidated) {
+            return invalidated.sequence() <= loadSequence;
+        }
+        return current != null || entries.size() < maxEntries;
+    }
+
+    private CompletionStage<Void> reconcile() {
+        long reconcileSequence = sequence.get();
+        long purgeBefore = lastReconcileSequence;
+        List<ConfigResource> keys = new ArrayList<>(entries.size());
+
+        entries.forEach((key, slot) -> {
+            if (slot instanceof Cached) {
+                keys.add(key);
+            } else if (slot instanceof Invalidated invalidated && invalidated.sequence() <= purgeBefore) {
+                // Any load that could have been affected by the invalidation has completed
+                entries.remove(key, slot);
+            }
+        });
+
+        lastReconcileSequence = reconcileSequence;
+
+        return load(keys).thenRun(() -> LOGGER.debugf("Reconciled %d cached configurations", keys.size()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.streamshub.console.api.service;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -9,6 +10,10 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -18,10 +23,14 @@ import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigOp.OpType;
 import org.apache.kafka.clients.admin.AlterConfigsOptions;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.config.ConfigResource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import com.github.streamshub.console.api.model.ConfigEntry;
 import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.support.AdminFanout;
+import com.github.streamshub.console.api.support.AdminFanoutProvider;
 import com.github.streamshub.console.api.support.KafkaContext;
 
 @ApplicationScoped
@@ -30,6 +39,32 @@ public class ConfigService {
     @Inject
     KafkaContext kafkaContext;
 
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    @Inject
+    AdminFanoutProvider adminFanout;
+
+    @Inject
+    @ConfigProperty(name = "console.configs.cache.enabled", defaultValue = "true")
+    boolean cacheEnabled;
+
+    /**
+     * Interval at which all cached configurations are described again to pick up
+     * changes made outside of the console.
+     */
+    @Inject
+    @ConfigProperty(name = "console.configs.cache.reconcile-interval", defaultValue = "PT5M")
+    Duration cacheReconcileInterval;
+
+    @Inject
+    @ConfigProperty(name = "console.configs.cache.reconcile-jitter", defaultValue = "0.2")
+    double cacheReconcileJitter;
+
+    @Inject
+    @ConfigProperty(name = "console.configs.cache.max-entries", defaultValue = "100000")
+    int cacheMaxEntries;
+
     public CompletionStage<Map<String, ConfigEntry>> describeConfigs(ConfigResource.Type type, String name) {
         ConfigResource nodeKey = new ConfigResource(type, name);
 
@@ -52,26 +87,140 @@ public class ConfigService {
      *         complete
      */
     public CompletionStage<Void> alterConfigs(ConfigResource.Type type, String name, Map<String, ConfigEntry> alteredConfigs, boolean validateOnly) {
-        Admin adminClient = kafkaContext.admin();
         var resourceKey = new ConfigResource(type, name);
 
-        return adminClient.incrementalAlterConfigs(Map.of(resourceKey, fromMap(alteredConfigs)), new AlterConfigsOptions()
-                .validateOnly(validateOnly))
-            .values()
+        return alterConfigs(kafkaContext.admin(), Map.of(resourceKey, alteredConfigs), validateOnly)
             .get(resourceKey)
             .toCompletionStage();
     }
 
+    /**
+     * Alter the configurations of multiple resources with a single request to
+     * {@linkplain Admin#incrementalAlterConfigs(Map)}.
+     *
+     * @return map of futures, one per resource, completed when the resource's
+     *         configurations are altered
+     */
+    Map<ConfigResource, KafkaFuture<Void>> alterConfigs(Admin adminClient,
+            Map<ConfigResource, Map<String, ConfigEntry>> alteredConfigs,
+            boolean validateOnly) {
+
+        Map<ConfigResource, Collection<AlterConfigOp>> request = alteredConfigs.entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> fromMap(e.getValue())));
+
+        var result = adminClient.incrementalAlterConfigs(request, new AlterConfigsOptions().validateOnly(validateOnly))
+            .values();
+
+        if (!validateOnly) {
+            configCache(adminClient).ifPresent(cache ->
+                // Invalidate once the alteration is complete, whether successful or not
+                result.forEach((resource, pending) -> pending.whenComplete((nothing, error) ->
+                    cache.invalidate(List.of(resource)))));
+        }
+
+        return result;
+    }
+
+    /**
+     * Obtain an action that removes the configurations of named resources from the
+     * cluster's config cache (if any). Used following changes made to the resources
+     * via the console other than by {@code alterConfigs}, e.g. creation, deletion, or
+     * modification of topics through Strimzi. The cache is resolved for the current
+     * request, so the action may be run on any thread once the change is complete.
+     */
+    Consumer<Collection<String>> configInvalidator(ConfigResource.Type type) {
+        Optional<ConfigCache> configCache = configCache(kafkaContext.admin());
+
+        return names -> configCache.ifPresent(cache -> cache.invalidate(names.stream()
+                .map(name -> new ConfigResource(type, name))
+                .toList()));
+    }
+
+    /**
+     * The configuration cache for the current Kafka cluster. The cache is only used
+     * for clusters accessed with a global admin client, i.e. the configurations
+     * described are not specific to the credentials of a particular user.
+     */
+    private Optional<ConfigCache> configCache(Admin adminClient) {
+        if (!cacheEnabled || !kafkaContext.applicationScoped() || adminClient != kafkaContext.admin()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(kafkaContext.shared(ConfigCache.class, ctx -> new ConfigCache(
+                ctx.admin(),
+                adminFanout.create(),
+                this,
+                scheduler,
+                cacheReconcileInterval,
+                cacheReconcileJitter,
+                cacheMaxEntries).start()));
+    }
+
+    /**
+     * Describe the configurations of the given resources, keyed by resource name,
+     * in the order of the given keys. Configurations present in the cluster's
+     * config cache are not requested from the cluster.
+     */
     CompletionStage<Map<String, Either<Map<String, ConfigEntry>, Throwable>>> describeConfigs(Admin adminClient, List<ConfigResource> keys) {
-        Map<String, Either<Map<String, ConfigEntry>, Throwable>> result = LinkedHashMap.newLinkedHashMap(keys.size());
+        return configCache(adminClient)
+            .map(cache -> cache.describeConfigs(keys))
+            .orElseGet(() -> fetchConfigs(adminClient, keys))
+            .thenApply(configs -> {
+                Map<String, Either<Map<String, ConfigEntry>, Throwable>> result = LinkedHashMap.newLinkedHashMap(keys.size());
+                keys.forEach(key -> result.put(key.name(), configs.get(key)));
+                return result;
+            });
+    }
+
+    /**
+     * Obtain a function describing configurations with the given admin client
+     * (using the config cache when applicable) that may be used outside of the
+     * current request, e.g. by a component running in the background.
+     */
+    Function<List<ConfigResource>, CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>>> configDescriber(Admin adminClient) {
+        Optional<ConfigCache> configCache = configCache(adminClient);
+        AdminFanout fanout = adminFanout.current();
+
+        return keys -> configCache
+            .map(cache -> cache.describeConfigs(keys))
+            .orElseGet(() -> fetchConfigs(adminClient, fanout, keys));
+    }
+
+    /**
+     * Obtain a function describing configurations with the given admin client,
+     * always bypassing the config cache, that may be used outside of the current
+     * request. Used by components refreshed in the background more often than
+     * the config cache is reconciled.
+     */
+    Function<List<ConfigResource>, CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>>> configFetcher(Admin adminClient) {
+        AdminFanout fanout = adminFanout.create();
+        return keys -> fetchConfigs(adminClient, fanout, keys);
+    }
+
+    /**
+     * Describe the configurations of the given resources using the admin client,
+     * bypassing the config cache.
+     */
+    CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>> fetchConfigs(Admin adminClient, List<ConfigResource> keys) {
+        return fetchConfigs(adminClient, adminFanout.current(), keys);
+    }
+
+    /**
+     * Describe the configurations of the given resources using the admin client,
+     * bypassing the config cache. Resources are described in chunks via the
+     * given fan-out.
+     */
+    CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>> fetchConfigs(Admin adminClient,
+            AdminFanout fanout, List<ConfigResource> keys) {
+        Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>> result = new ConcurrentHashMap<>(keys.size());
 
-        var pendingDescribes = adminClient.describeConfigs(keys)
-            .values()
+        var pendingDescribes = fanout.submit(keys, chunk -> adminClient.describeConfigs(chunk).values())
             .entrySet()
             .stream()
             .map(entry ->
-                entry.getValue().toCompletionStage().<Void>handle((description, error) -> {
-                    result.put(entry.getKey().name(), Either.of(description, error, conf -> toMap(conf.entries())));
+                entry.getValue().<Void>handle((description, error) -> {
+                    result.put(entry.getKey(), Either.of(description, error, conf -> toMap(conf.entries())));
                     return null;
                 }))
             .map(CompletionStage::toCompletableFuture)
@@ -0,0 +1,313 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.OffsetAndMetadata;
+import com.github.streamshub.console.api.model.PartitionId;
+import com.github.streamshub.console.api.support.KafkaContext;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Publishes the lag of consumer groups as gauges in the application's meter
+ * registry, allowing alerts on lag to be defined using the metrics already
+ * scraped from the console. Disabled by default.
+ *
+ * <p>Lag is read from the {@linkplain GroupOffsetSnapshot group offsets
+ * snapshot} of each Kafka cluster accessed with a global (application-scoped)
+ * admin client, i.e. the offsets fetched for the group views are shared and no
+ * additional admin clients or requests are used. Clusters accessed with
+ * per-user credentials are not exported. Nothing is exported when the offsets
+ * snapshot is disabled ({@code console.groups.offsets-snapshot.enabled=false}).
+ *
+ * <p>The following gauges are published, each tagged with the cluster ID and
+ * group ID:
+ * <ul>
+ * <li>{@code console.group.lag} - total lag of the group
+ * <li>{@code console.group.lag.max} - maximum lag of any partition in the group
+ * <li>{@code console.group.partition.lag} - lag of each partition, additionally
+ * tagged with the topic name and partition number
+ * </ul>
+ *
+ * <p>The total number of series is limited by {@code max-series}. Groups are
+ * considered in order of cluster and group ID, and once a group's series would
+ * exceed the limit, neither that group nor any later group is published until
+ * the next update. A group is never published with only some of its series.
+ */
+@ApplicationScoped
+public class GroupLagExporter {
+
+    private static final Logger LOGGER = Logger.getLogger(GroupLagExporter.class);
+
+    static final String GROUP_LAG = "console.group.lag";
+    static final String GROUP_MAX_LAG = "console.group.lag.max";
+    static final String PARTITION_LAG = "console.group.partition.lag";
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Map<String, KafkaContext> contexts;
+
+    @Inject
+    GroupService groupService;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-metrics.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.offsets-snapshot.enabled", defaultValue = "true")
+    boolean offsetsSnapshotEnabled;
+
+    /**
+     * Interval at which the gauges are updated from the most recent offsets
+     * snapshot. The offsets themselves are sampled at the interval given by
+     * {@code console.groups.offsets-snapshot.refresh-interval}.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-metrics.interval", defaultValue = "PT30S")
+    Duration interval;
+
+    /**
+     * Regular expressions matching the IDs of groups to export. When not set, all
+     * groups are exported (subject to {@code exclude}).
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-metrics.include")
+    Optional<List<String>> include;
+
+    /**
+     * Regular expressions matching the IDs of groups not to export.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-metrics.exclude")
+    Optional<List<String>> exclude;
+
+    /**
+     * Whether the lag of each partition is exported, in addition to the total and
+     * maximum lag of each group.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-metrics.partitions", defaultValue = "true")
+    boolean exportPartitions;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-metrics.max-series", defaultValue = "10000")
+    int maxSeries;
+
+    private final Map<List<String>, Series> series = new HashMap<>();
+    Predicate<String> groupFilter;
+    private volatile ScheduledFuture<?> updates;
+
+    /**
+     * Published gauge and the value it reports.
+     */
+    record Series(Gauge gauge, AtomicLong value) {
+    }
+
+    void onStartup(@Observes Startup event) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!offsetsSnapshotEnabled) {
+            LOGGER.warn("Consumer group lag metrics are not exported because console.groups.offsets-snapshot.enabled is false");
+            return;
+        }
+
+        groupFilter = groupFilter(include, exclude);
+        long intervalMs = interval.toMillis();
+        updates = scheduler.scheduleWithFixedDelay(this::update, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        LOGGER.infof("Exporting consumer group lag metrics every %s", interval);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        var pending = updates;
+
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+    static Predicate<String> groupFilter(Optional<List<String>> include, Optional<List<String>> exclude) {
+        List<Pattern> included = include.orElse(List.of()).stream().map(Pattern::compile).toList();
+        List<Pattern> excluded = exclude.orElse(List.of()).stream().map(Pattern::compile).toList();
+
+        return groupId -> (included.isEmpty() || included.stream().anyMatch(p -> p.matcher(groupId).matches()))
+                && excluded.stream().noneMatch(p -> p.matcher(groupId).matches());
+    }
+
+    synchronized void update() {
+        try {
+            Map<List<String>, Long> values = new HashMap<>();
+
+            var clusters = contexts.values()
+                .stream()
+                .filter(KafkaContext::applicationScoped)
+                .sorted(Comparator.comparing(KafkaContext::clusterId))
+                .toList();
+
+            for (KafkaContext ctx : clusters) {
+                if (!collect(ctx, values)) {
+                    LOGGER.debugf("Consumer group lag metrics limited to %d series", maxSeries);
+                    break;
+                }
+            }
+
+            publish(values);
+        } catch (Exception e) {
+            // Do not allow an error to cancel subsequent updates
+            LOGGER.warnf(e, "Failed to update consumer group lag metrics: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Collect the series of the given cluster's groups.
+     *
+     * @return false when the series limit was reached, otherwise true
+     */
+    private boolean collect(KafkaContext ctx, Map<List<String>, Long> values) {
+        String clusterId = ctx.clusterId();
+        var offsetSnapshot = groupService.connectedOffsetSnapshot(ctx);
+
+        if (offsetSnapshot.isEmpty()) {
+            // Clusters disconnected while idle (fleet mode) are not exported until used again
+            return true;
+        }
+
+        var snapshot = offsetSnapshot.get().latest();
+
+        if (snapshot.isEmpty()) {
+            // First snapshot not yet taken, retain any values previously published
+            series.forEach((key, s) -> {
+                if (key.get(1).equals(clusterId)) {
+                    values.put(key, s.value().get());
+                }
+            });
+            return true;
+        }
+
+        return collect(clusterId, snapshot.get(), values);
+    }
+
+    /**
+     * Collect the series of the groups in the offsets snapshot of a cluster. The
+     * series of a group are only collected when all of them fit within the limit.
+     *
+     * @return false when the series limit was reached, otherwise true
+     */
+    boolean collect(String clusterId, GroupOffsetSnapshot.Offsets offsets, Map<List<String>, Long> values) {
+        Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> groups = new TreeMap<>(offsets.groupOffsets());
+
+        for (var entry : groups.entrySet()) {
+            String groupId = entry.getKey();
+
+            if (!groupFilter.test(groupId) || entry.getValue().isPrimaryEmpty()) {
+                continue;
+            }
+
+            Map<PartitionId, Long> partitionLag = new TreeMap<>(Comparator
+                    .comparing(PartitionId::topicName)
+                    .thenComparingInt(PartitionId::partition));
+
+            entry.getValue().getPrimary().forEach((partition, offset) ->
+                lag(offset, offsets.endOffsets().get(partition.toKafkaModel()))
+                    .ifPresent(lag -> partitionLag.put(partition, lag)));
+
+            if (partitionLag.isEmpty()) {
+                continue;
+            }
+
+            int groupSeries = 2 + (exportPartitions ? partitionLag.size() : 0);
+
+            if (values.size() + groupSeries > maxSeries) {
+                return false;
+            }
+
+            values.put(List.of(GROUP_LAG, clusterId, groupId),
+                    partitionLag.values().stream().mapToLong(Long::longValue).sum());
+            values.put(List.of(GROUP_MAX_LAG, clusterId, groupId),
+                    partitionLag.values().stream().mapToLong(Long::longValue).max().orElse(0));
+
+            if (exportPartitions) {
+                partitionLag.forEach((partition, lag) ->
+                    values.put(List.of(PARTITION_LAG, clusterId, groupId, partition.topicName(),
+                            String.valueOf(partition.partition())), lag));
+            }
+        }
+
+        return true;
+    }
+
+    static Optional<Long> lag(OffsetAndMetadata offset, Either<ListOffsetsResultInfo, Throwable> endOffset) {
+        if (offset.lag() != null) {
+            return Optional.of(offset.lag());
+        }
+
+        var committed = Optional.ofNullable(offset.offset()).flatMap(Either::getOptionalPrimary);
+        var end = Optional.ofNullable(endOffset)
+                .flatMap(Either::getOptionalPrimary)
+                .map(ListOffsetsResultInfo::offset);
+
+        return committed.flatMap(c -> end.map(e -> Math.max(0, e - c)));
+    }
+
+    private void publish(Map<List<String>, Long> values) {
+        series.entrySet().removeIf(entry -> {
+            if (!values.containsKey(entry.getKey())) {
+                registry.remove(entry.getValue().gauge());
+                return true;
+            }
+            return false;
+        });
+
+        values.forEach((key, value) ->
+            series.computeIfAbsent(key, this::register).value().set(value));
+    }
+
+    private Series register(List<String> key) {
+        AtomicLong value = new AtomicLong();
+        Tags tags = Tags.of("cluster", key.get(1), "group", key.get(2));
+
+        if (key.size() > 3) {
+            tags = tags.and("topic", key.get(3), "partition", key.get(4));
+        }
+
+        Gauge gauge = Gauge.builder(key.get(0), value, AtomicLong::get)
+                .tags(tags)
+                .baseUnit("records")
+                .register(registry);
+
+        return new Series(gauge, value);
+    }
+}
@@ -0,0 +1,265 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.LagTrend;
+import com.github.streamshub.console.api.model.OffsetAndMetadata;
+import com.github.streamshub.console.api.model.PartitionId;
+
+/**
+ * Recent history of the committed and log end offsets of each partition
+ * consumed by a group, recorded from the periodic {@linkplain GroupOffsetSnapshot
+ * group offsets snapshot}. The samples of each partition are held in a
+ * fixed-size ring buffer of primitive arrays, and at most {@code maxGroups}
+ * groups of at most {@code maxPartitions} partitions each are tracked, so the
+ * memory used is bounded by {@code maxGroups * maxPartitions * maxSamples}.
+ *
+ * <p>Groups removed from the cluster are dropped from the history. When the
+ * limit on the number of groups is reached, new groups are not tracked until
+ * others are removed. Likewise, when the limit on the number of partitions of
+ * a group is reached, its other partitions are not tracked until some of the
+ * tracked partitions are no longer consumed by the group. The history of a
+ * partition is restarted when its committed or log end offset moves backwards,
+ * e.g. following an offset reset or the re-creation of the topic.
+ */
+class GroupLagHistory {
+
+    private static final Logger LOGGER = Logger.getLogger(GroupLagHistory.class);
+
+    private final int maxGroups;
+    private final int maxPartitions;
+    private final int maxSamples;
+    private final Map<String, Map<PartitionId, Samples>> groups = new ConcurrentHashMap<>();
+
+    GroupLagHistory(int maxGroups, int maxPartitions, int maxSamples) {
+        this.maxGroups = maxGroups;
+        this.maxPartitions = maxPartitions;
+        this.maxSamples = Math.max(2, maxSamples);
+    }
+
+    /**
+     * Ring buffer of (timestamp, committed offset, end offset) samples for a
+     * single partition.
+     */
+    static final class Samples {
+        final long[] timestamps;
+        final long[] committed;
+        final long[] endOffsets;
+        int head = 0;
+        int count = 0;
+
+        Samples(int capacity) {
+            timestamps = new long[capacity];
+            committed = new long[capacity];
+            endOffsets = new long[capacity];
+        }
+
+        synchronized void add(long timestamp, long committedOffset, long endOffset) {
+            if (count > 0) {
+                int last = index(count - 1);
+
+                if (timestamp <= timestamps[last]) {
+                    return;
+                }
+                if (committedOffset < committed[last] || endOffset < endOffsets[last]) {
+                    count = 0;
+                }
+            }
+
+            int next = (head + count) % timestamps.length;
+            timestamps[next] = timestamp;
+            committed[next] = committedOffset;
+            endOffsets[next] = endOffset;
+
+            if (count < timestamps.length) {
+                count++;
+            } else {
+                head = (head + 1) % timestamps.length;
+            }
+        }
+
+        synchronized Optional<LagTrend> trend(PartitionId partition) {
+            if (count < 2) {
+                return Optional.empty();
+            }
+
+            int first = index(0);
+            int last = index(count - 1);
+            double seconds = (timestamps[last] - timestamps[first]) / 1000d;
+
+            double produceRate = (endOffsets[last] - endOffsets[first]) / seconds;
+            double consumeRate = (committed[last] - committed[first]) / seconds;
+            long lag = Math.max(0, endOffsets[last] - committed[last]);
+            Long timeToCatchUp;
+
+            if (lag == 0) {
+                timeToCatchUp = 0L;
+            } else if (consumeRate > produceRate) {
+                timeToCatchUp = (long) Math.ceil(lag / (consumeRate - produceRate));
+            } else {
+                timeToCatchUp = null;
+            }
+
+            return Optional.of(new LagTrend(
+                    partition.topicId(),
+                    partition.topicName(),
+                    partition.partition(),
+                    count,
+                    seconds,
+                    lag,
+                    produceRate,
+                    consumeRate,
+                    produceRate - consumeRate,
+                    timeToCatchUp));
+        }
+
+        /**
+         * Estimate the time at which the record at the given offset was produced,
+         * interpolated between the two consecutive samples whose end offsets
+         * bracket it. Empty when the offset is outside of the sampled range.
+         */
+        synchronized OptionalLong producedAt(long offset) {
+            for (int i = 0; i + 1 < count; i++) {
+                int before = index(i);
+                int after = index(i + 1);
+
+                if (endOffsets[before] <= offset && offset < endOffsets[after]) {
+                    double fraction = (double) (offset - endOffsets[before]) / (endOffsets[after] - endOffsets[before]);
+                    long elapsed = timestamps[after] - timestamps[before];
+                    return OptionalLong.of(timestamps[before] + Math.round(fraction * elapsed));
+                }
+            }
+
+            return OptionalLong.empty();
+        }
+
+        private int index(int offset) {
+            return (head + offset) % timestamps.length;
+        }
+    }
+
+    /**
+     * Add a sample for each partition with both a committed offset and a log end
+     * offset in the snapshot.
+     */
+    void record(GroupOffsetSnapshot.Offsets snapshot) {
+        long timestamp = snapshot.takenAt().toEpochMilli();
+
+        groups.keySet().retainAll(snapshot.groupOffsets().keySet());
+
+        snapshot.groupOffsets().forEach((groupId, offsets) -> {
+            if (offsets.isPrimaryEmpty()) {
+                // Retain the existing history, the group will be sampled again later
+                return;
+            }
+
+            Map<PartitionId, Samples> partitions = groups.get(groupId);
+
+            if (partitions == null) {
+                if (groups.size() >= maxGroups) {
+                    LOGGER.debugf("Lag history limit of %d groups reached, group %s not tracked", maxGroups, groupId);
+                    return;
+                }
+                partitions = groups.computeIfAbsent(groupId, k -> new ConcurrentHashMap<>());
+            }
+
+            record(groupId, partitions, offsets.getPrimary(), snapshot.endOffsets(), timestamp);
+        });
+    }
+
+    private void record(String groupId,
+            Map<PartitionId, Samples> partitions,
+            Map<PartitionId, OffsetAndMetadata> offsets,
+            Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> endOffsets,
+            long timestamp) {
+
+        partitions.keySet().retainAll(offsets.keySet());
+        int untracked = 0;
+
+        for (var entry : offsets.entrySet()) {
+            PartitionId partition = entry.getKey();
+            OffsetAndMetadata offset = entry.getValue();
+            Long committed = Optional.ofNullable(offset.offset())
+                    .flatMap(Either::getOptionalPrimary)
+                    .orElse(null);
+            Long endOffset = Optional.ofNullable(endOffsets.get(partition.toKafkaModel()))
+                    .flatMap(Either::getOptionalPrimary)
+                    .map(ListOffsetsResultInfo::offset)
+                    .orElse(null);
+
+            if (committed == null || endOffset == null) {
+                continue;
+            }
+
+            Samples samples = partitions.get(partition);
+
+            if (samples == null) {
+                if (partitions.size() >= maxPartitions) {
+                    untracked++;
+                    continue;
+                }
+                samples = partitions.computeIfAbsent(partition, k -> new Samples(maxSamples));
+            }
+
+            samples.add(timestamp, committed, endOffset);
+        }
+
+        if (untracked > 0) {
+            LOGGER.debugf("Lag history limit of %d partitions reached, %d partitions of group %s not tracked",
+                    maxPartitions, untracked, groupId);
+        }
+    }
+
+    /**
+     * Estimated rates for each partition of the group with at least two samples,
+     * limited to the topics present in the given map of topic names to IDs.
+     */
+    List<LagTrend> trends(String groupId, Map<String, String> topicIds) {
+        Map<PartitionId, Samples> partitions = groups.get(groupId);
+
+        if (partitions == null) {
+            return Collections.emptyList();
+        }
+
+        List<LagTrend> trends = new ArrayList<>();
+
+        partitions.forEach((partition, samples) -> {
+            if (Objects.equals(topicIds.get(partition.topicName()), partition.topicId())) {
+                samples.trend(partition).ifPresent(trends::add);
+            }
+        });
+
+        trends.sort(Comparator.comparing(LagTrend::topicName).thenComparingInt(LagTrend::partition));
+
+        return trends;
+    }
+
+    /**
+     * Estimated time at which the record at the given offset of a partition
+     * consumed by the group was produced, based on the log end offsets sampled
+     * for the group.
+     */
+    OptionalLong producedAt(String groupId, PartitionId partition, long offset) {
+        return Optional.ofNullable(groups.get(groupId))
+                .map(partitions -> partitions.get(partition))
+                .map(samples -> samples.producedAt(offset))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    int groupCount() {
+        return groups.size();
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListGroupsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.GroupType;
+import org.apache.kafka.common.TopicPartition;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.Group;
+import com.github.streamshub.console.api.model.OffsetAndMetadata;
+import com.github.streamshub.console.api.model.PartitionId;
+import com.github.streamshub.console.api.support.AdminFanout;
+import com.github.streamshub.console.api.support.PeriodicRefresh;
+
+/**
+ * Committed offsets, log end offsets, and lag of all groups in a Kafka cluster,
+ * fetched periodically in the background for a Kafka cluster with a global
+ * (application-scoped) admin client and shared by all requests for that
+ * cluster.
+ *
+ * <p>Each refresh lists the committed offsets of every group (chunked via
+ * {@linkplain AdminFanout}) and then the latest offset of each partition with a
+ * committed offset using a single listing for all groups, regardless of the
+ * number of groups consuming the partition. Requests for group offsets are
+ * served from the most recent snapshot rather than from the group coordinators.
+ * Each snapshot is also recorded in a {@linkplain GroupLagHistory lag history}
+ * used to estimate the rates of production and consumption.
+ *
+ * <p>Groups whose offsets are changed or that are deleted by a request are
+ * {@linkplain #evict(String) evicted}: they are omitted from every snapshot
+ * started before the change, so that requests fetch their offsets directly
+ * until the next snapshot is taken.
+ */
+class GroupOffsetSnapshot implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(GroupOffsetSnapshot.class);
+    private static final OffsetSpec LATEST_TOPIC_OFFSETS = OffsetSpec.latest();
+
+    private final Admin admin;
+    private final AdminFanout fanout;
+    private final GroupService groupService;
+    private final GroupLagHistory history;
+    private final PeriodicRefresh<Offsets> refresh;
+    private final Map<String, Instant> evictions = new ConcurrentHashMap<>();
+
+    /**
+     * Offsets of all groups at a point in time.
+     *
+     * @param takenAt      time at which the snapshot was started
+     * @param groupOffsets committed offsets (or the error fetching them) keyed by
+     *                     group ID
+     * @param endOffsets   latest offset (or the error fetching it) of each
+     *                     partition with a committed offset in any group
+     */
+    record Offsets(
+            Instant takenAt,
+            Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> groupOffsets,
+            Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> endOffsets) {
+
+        Duration age() {
+            return Duration.between(takenAt, Instant.now());
+        }
+    }
+
+    GroupOffsetSnapshot(Admin admin, AdminFanout fanout, GroupService groupService, ScheduledExecutorService scheduler,
+            Duration interval, double jitter, GroupLagHistory history) {
+        this.admin = admin;
+        this.fanout = fanout;
+        this.groupService = groupService;
+        this.history = history;
+        this.refresh = new PeriodicRefresh<>("group offsets snapshot", () -> takeSnapshot().thenApply(offsets -> {
+            history.record(offsets);
+            return offsets;
+        }), scheduler, interval, jitter);
+    }
+
+    /**
+     * Begin taking snapshots in the background.
+     */
+    GroupOffsetSnapshot start() {
+        refresh.start();
+        return this;
+    }
+
+    /**
+     * Obtain the most recent snapshot. The returned stage completes once the first
+     * snapshot has been taken, or exceptionally if no snapshot has been taken yet
+     * and the most recent attempt failed.
+     */
+    CompletionStage<Offsets> offsets() {
+        return refresh.ready().thenApply(nothing -> withoutEvicted(refresh.latest().orElseThrow()));
+    }
+
+    /**
+     * The most recent snapshot, if any has been taken, without waiting.
+     */
+    Optional<Offsets> latest() {
+        return refresh.latest().map(this::withoutEvicted);
+    }
+
+    /**
+     * Omit the group from the snapshots started before now, e.g. after its
+     * offsets have been altered or the group has been deleted.
+     */
+    void evict(String groupId) {
+        evictions.put(groupId, Instant.now());
+    }
+
+    private Offsets withoutEvicted(Offsets offsets) {
+        if (evictions.isEmpty()) {
+            return offsets;
+        }
+
+        // Evictions before the snapshot was started are reflected in the snapshot
+        evictions.values().removeIf(evictedAt -> evictedAt.isBefore(offsets.takenAt()));
+
+        Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> groupOffsets = new HashMap<>(offsets.groupOffsets());
+
+        if (!groupOffsets.keySet().removeAll(evictions.keySet())) {
+            return offsets;
+        }
+
+        return new Offsets(offsets.takenAt(), groupOffsets, offsets.endOffsets());
+    }
+
+    /**
+     * History of the offsets recorded from each snapshot taken.
+     */
+    GroupLagHistory history() {
+        return history;
+    }
+
+    @Override
+    public void close() {
+        refresh.close();
+    }
+
+    CompletionStage<Offsets> takeSnapshot() {
+        Instant takenAt = Instant.now();
+        var pendingGroups = admin.listGroups(new ListGroupsOptions().inGroupStates(GroupTopicIndex.INDEXED_STATES))
+                .valid()
+                .toCompletionStage();
+        var pendingTopics = admin.listTopics(new ListTopicsOptions().listInternal(true))
+                .listings()
+                .toCompletionStage();
+
+        return pendingGroups.thenCombine(pendingTopics, (groupListings, topicListings) -> {
+            Map<String, String> topicIds = topicListings.stream()
+                    .collect(Collectors.toMap(TopicListing::name, l -> l.topicId().toString()));
+            Map<String, Group> groups = groupListings.stream()
+                    .map(listing -> {
+                        Group group = Group.fromKafkaModel(listing);
+                        group.type(listing.type().orElse(GroupType.CLASSIC).toString());
+                        return group;
+                    })
+                    .collect(Collectors.toMap(Group::groupId, Function.identity(), (g1, g2) -> g1));
+
+            return Map.entry(groups, topicIds);
+        }).thenCompose(request -> fetchOffsets(takenAt, request.getKey(), request.getValue()));
+    }
+
+    private CompletionStage<Offsets> fetchOffsets(Instant takenAt, Map<String, Group> groups, Map<String, String> topicIds) {
+        Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> groupOffsets = new ConcurrentHashMap<>(groups.size());
+
+        var pendingGroupOps = groups.values()
+                .stream()
+                .collect(Collectors.groupingBy(Group::type))
+                .entrySet()
+                .stream()
+                .map(group -> groupService.listGroupOffsets(admin, fanout, group.getKey(), group.getValue(), topicIds, groupOffsets))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pendingGroupOps)
+            .thenCompose(nothing -> {
+                List<TopicPartition> partitions = groupOffsets.values()
+                        .stream()
+                        .map(Either::getOptionalPrimary)
+                        .flatMap(Optional::stream)
+                        .flatMap(offsets -> offsets.keySet().stream())
+                        .map(PartitionId::toKafkaModel)
+                        .distinct()
+                        .toList();
+
+                return AdminFanout.settled(fanout.submit(partitions, chunk -> {
+                    var result = admin.listOffsets(chunk.stream()
+                            .collect(Collectors.toMap(Function.identity(), partition -> LATEST_TOPIC_OFFSETS)));
+                    return chunk.stream()
+                            .collect(Collectors.toMap(Function.identity(), result::partitionResult));
+                }));
+            })
+            .thenApply(endOffsets -> {
+                LOGGER.debugf("Refreshed offsets of %d groups, %d partitions", groupOffsets.size(), endOffsets.size());
+                return new Offsets(takenAt, Map.copyOf(groupOffsets), Map.copyOf(endOffsets));
+            });
+    }
+}
@@ -1,21 +1,25 @@
 package com.github.streamshub.console.api.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -41,9 +45,10 @@ import org.apache.kafka.clients.admin.ListShareGroupOffsetsSpec;
 import org.apache.kafka.clients.admin.ListStreamsGroupOffsetsSpec;
 import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.GroupState;
 import org.apache.kafka.common.GroupType;
-import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.TopicCollection;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.Uuid;
@@ -51,9 +56,15 @@ import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.GroupIdNotFoundException;
 import org.apache.kafka.common.errors.GroupNotEmptyException;
 import org.apache.kafka.common.errors.UnknownMemberIdException;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import com.github.streamshub.console.api.model.Either;
 import com.github.streamshub.console.api.model.Group;
+import com.github.streamshub.console.api.model.GroupMember;
+import com.github.streamshub.console.api.model.GroupOffset;
+import com.github.streamshub.console.api.model.GroupOffsetFilterParams;
 import com.github.streamshub.console.api.model.MemberDescription;
 import com.github.streamshub.console.api.model.OffsetAndMetadata;
 import com.github.streamshub.console.api.model.PartitionId;
@@ -61,6 +72,8 @@ import com.github.streamshub.console.api.model.PartitionInfo;
 import com.github.streamshub.console.api.model.Topic;
 import com.github.streamshub.console.api.model.jsonapi.JsonApiError;
 import com.github.streamshub.console.api.security.PermissionService;
+import com.github.streamshub.console.api.support.AdminFanout;
+import com.github.streamshub.console.api.support.AdminFanoutProvider;
 import com.github.streamshub.console.api.support.ContextualExecutorProvider;
 import com.github.streamshub.console.api.support.FetchFilterPredicate;
 import com.github.streamshub.console.api.support.GroupValidation;
@@ -77,6 +90,16 @@ import com.github.streamshub.console.config.security.ResourceTypes;
 public class GroupService {
 
     private static final OffsetSpec LATEST_TOPIC_OFFSETS = OffsetSpec.latest();
+    private static final OffsetSpec MAX_TIMESTAMP_OFFSETS = OffsetSpec.maxTimestamp();
+    /**
+     * Order in which the group types are tried when looking up a single group of
+     * unknown type.
+     */
+    private static final List<GroupType> GROUP_LOOKUP_ORDER = List.of(
+            GroupType.CONSUMER,
+            GroupType.SHARE,
+            GroupType.STREAMS,
+            GroupType.CLASSIC);
     private static final Set<String> REQUIRE_DESCRIBE = Set.of(
             Group.Fields.AUTHORIZED_OPERATIONS,
             Group.Fields.COORDINATOR,
@@ -100,6 +123,9 @@ public class GroupService {
     @Inject
     KafkaContext kafkaContext;
 
+    @Inject
+    AdminFanoutProvider adminFanout;
+
     @Inject
     PermissionService permissionService;
 
@@ -112,6 +138,107 @@ public class GroupService {
     @Inject
     ValidationProxy validationService;
 
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.topic-index.refresh-interval", defaultValue = "PT30S")
+    Duration topicIndexRefreshInterval;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.topic-index.refresh-jitter", defaultValue = "0.2")
+    double topicIndexRefreshJitter;
+
+    /**
+     * Maximum number of groups with unchanged state re-described by each refresh
+     * of the group/topic index.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.topic-index.resync-limit", defaultValue = "100")
+    int topicIndexResyncLimit;
+
+    /**
+     * When enabled, group offsets and lag for clusters accessed with a global
+     * admin client are served from a snapshot refreshed in the background rather
+     * than fetched for each request.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.offsets-snapshot.enabled", defaultValue = "true")
+    boolean offsetsSnapshotEnabled;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.offsets-snapshot.refresh-interval", defaultValue = "PT15S")
+    Duration offsetsSnapshotRefreshInterval;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.offsets-snapshot.refresh-jitter", defaultValue = "0.2")
+    double offsetsSnapshotRefreshJitter;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.type-cache.max-entries", defaultValue = "100000")
+    int groupTypeCacheMaxEntries;
+
+    /**
+     * Maximum number of groups for which the history of offsets sampled by the
+     * offsets snapshot is retained.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-history.max-groups", defaultValue = "1000")
+    int lagHistoryMaxGroups;
+
+    /**
+     * Maximum number of partitions of each group for which the history of
+     * offsets sampled by the offsets snapshot is retained.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-history.max-partitions", defaultValue = "200")
+    int lagHistoryMaxPartitions;
+
+    /**
+     * Number of offset samples retained for each partition consumed by a group.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.lag-history.max-samples", defaultValue = "60")
+    int lagHistoryMaxSamples;
+
+    /**
+     * When enabled, the offsets of groups listed for a single group include the
+     * time lag of each partition, computed from the timestamps of the records
+     * at the committed and log end offsets. Only available for clusters
+     * accessed with a global admin client.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.time-lag.enabled", defaultValue = "true")
+    boolean timeLagEnabled;
+
+    /**
+     * Maximum number of partitions (those with the greatest offset lag) for which
+     * records are read to compute the time lag for a single request. The time lag
+     * of other partitions is estimated from the lag history when available.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.time-lag.max-partitions", defaultValue = "20")
+    int timeLagMaxPartitions;
+
+    /**
+     * Number of record timestamps retained per Kafka cluster, keyed by partition
+     * and offset.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.time-lag.cache-size", defaultValue = "10000")
+    int timeLagCacheSize;
+
+    /**
+     * Number of consumers per Kafka cluster used to read record timestamps.
+     */
+    @Inject
+    @ConfigProperty(name = "console.groups.time-lag.consumers", defaultValue = "2")
+    int timeLagConsumers;
+
+    @Inject
+    @ConfigProperty(name = "console.groups.time-lag.read-timeout", defaultValue = "PT5S")
+    Duration timeLagReadTimeout;
+
     public CompletionStage<List<Group>> listGroups(List<String> fields, ListRequestContext<Group> listSupport) {
         return listGroups(Collections.emptyList(), fields, listSupport);
     }
@@ -150,6 +277,8 @@ public class GroupService {
         Set<String> protocols = extractFilter(listSupport, "filter[protocol]", String::valueOf);
         Set<GroupState> states = extractFilter(listSupport, "filter[state]", GroupState::parse);
         permissionService.addPrivileges(listSupport.meta(), ResourceTypes.Kafka.GROUPS, null);
+        GroupTypeCache typeCache = groupTypeCache();
+        Executor pipeline = threadContext.pipelineExecutor();
 
         return adminClient.listGroups(listGroupOptions()
                 .withTypes(types)
@@ -157,11 +286,15 @@ public class GroupService {
                 .inGroupStates(states))
             .valid()
             .toCompletionStage()
+            .thenApply(groups -> {
+                groups.forEach(group -> typeCache.put(group.groupId(), group.type().orElse(null)));
+                return groups;
+            })
             .thenApplyAsync(groups -> groups.stream()
                     .filter(group -> groupIds.isEmpty() || groupIds.contains(group.groupId()))
                     .filter(permissionService.permitted(ResourceTypes.Kafka.GROUPS, Privilege.LIST, GroupListing::groupId))
                     .map(Group::fromKafkaModel),
-                    threadContext.currentContextExecutor())
+                    pipeline)
             .thenApplyAsync(groups -> groups
                     .filter(listSupport.filter(Group.class))
                     .map(listSupport::tally)
@@ -171,10 +304,8 @@ public class GroupService {
                     .takeWhile(listSupport::pageCapacityAvailable)
                     .map(permissionService.addPrivileges(ResourceTypes.Kafka.GROUPS, Group::groupId))
                     .toList(),
-                    threadContext.currentContextExecutor())
-            .thenComposeAsync(
-                    groups -> augmentList(adminClient, groups, fields),
-                    threadContext.currentContextExecutor());
+                    pipeline)
+            .thenComposeAsync(groups -> augmentList(adminClient, groups, fields), pipeline);
     }
 
     private <E> Set<E> extractFilter(ListRequestContext<Group> listSupport,
@@ -199,30 +330,352 @@ public class GroupService {
     public CompletionStage<Group> describeGroup(String requestGroupId, List<String> includes) {
         Admin adminClient = kafkaContext.admin();
         String groupId = Group.decodeGroupId(requestGroupId);
+        Executor pipeline = threadContext.pipelineExecutor();
 
         return findGroup(adminClient, groupId)
             .thenComposeAsync(
                     group -> describeGroups(adminClient, List.of(group), includes),
-                    threadContext.currentContextExecutor())
+                    pipeline)
             .thenApply(groups -> groups.get(groupId))
             .thenApply(result -> result.getOrThrow(CompletionException::new))
             .thenApplyAsync(
                     permissionService.addPrivileges(ResourceTypes.Kafka.GROUPS, Group::groupId),
-                    threadContext.currentContextExecutor());
+                    pipeline);
+    }
+
+    /**
+     * List a page of the members of a group. The group is described in full, but
+     * only the requested page of members is returned.
+     */
+    public CompletionStage<List<GroupMember>> listGroupMembers(String requestGroupId,
+            ListRequestContext<GroupMember> listSupport) {
+
+        return describeGroup(requestGroupId, List.of(Group.Fields.MEMBERS))
+            .thenApply(group -> group.members()
+                    .stream()
+                    .map(GroupMember::new)
+                    .filter(listSupport.filter(GroupMember.class))
+                    .map(listSupport::tally)
+                    .filter(listSupport::betweenCursors)
+                    .sorted(listSupport.getSortComparator())
+                    .dropWhile(listSupport::beforePageBegin)
+                    .takeWhile(listSupport::pageCapacityAvailable)
+                    .toList());
+    }
+
+    /**
+     * List a page of the committed offsets of a group. Log end offsets (and the
+     * lag derived from them) are only fetched for the partitions on the requested
+     * page, unless the request sorts or filters by a field that requires the end
+     * offsets of all partitions. When the offsets of the group are available from
+     * the cluster's {@linkplain GroupOffsetSnapshot offsets snapshot}, no requests
+     * are made to fetch offsets.
+     */
+    public CompletionStage<List<GroupOffset>> listGroupOffsets(String requestGroupId,
+            ListRequestContext<GroupOffset> listSupport) {
+
+        Admin adminClient = kafkaContext.admin();
+        AdminFanout fanout = adminFanout.current();
+        String groupId = Group.decodeGroupId(requestGroupId);
+        Optional<GroupOffsetSnapshot> snapshot = offsetSnapshot(adminClient);
+        Optional<RecordTimestampSampler> sampler = timestampSampler(adminClient);
+        Executor asyncExec = threadContext.currentContextExecutor();
+        boolean pageEndOffsetsOnly = listSupport.getSortNames()
+                .stream()
+                .noneMatch(GroupOffset.Fields.END_OFFSET_SORTS::contains)
+            && listSupport.filters(GroupOffset.class)
+                .stream()
+                .filter(FetchFilterPredicate.class::isInstance)
+                .map(FetchFilterPredicate.class::cast)
+                .noneMatch(filter -> GroupOffsetFilterParams.FILTER_LAG.equals(filter.name()));
+
+        return findGroup(adminClient, groupId)
+            .thenCombine(fetchTopicIdMap(), (group, topicIds) -> Map.entry(group, topicIds))
+            .thenComposeAsync(
+                    groupTopics -> committedOffsets(adminClient, fanout, snapshot, groupTopics.getKey(), groupTopics.getValue()),
+                    asyncExec)
+            .thenCompose(committed -> {
+                if (committed.takenAt() != null) {
+                    listSupport.meta().put("offsetsTimestamp", committed.takenAt());
+                    listSupport.meta().put("offsetsAgeMs", Duration.between(committed.takenAt(), Instant.now()).toMillis());
+                    return CompletableFuture.completedStage(pageOffsets(listSupport, committed.offsets(), committed.endOffsets()));
+                }
+
+                if (pageEndOffsetsOnly) {
+                    var page = pageOffsets(listSupport, committed.offsets(), Collections.emptyMap());
+                    var partitions = page.stream()
+                            .map(offset -> offset.partitionId().toKafkaModel())
+                            .toList();
+
+                    return fetchEndOffsets(adminClient, fanout, partitions)
+                        .thenApply(endOffsets -> page.stream()
+                                .map(offset -> groupOffset(offset.partitionId(), offset.offsetAndMetadata(), endOffsets))
+                                .toList());
+                }
+
+                var partitions = committed.offsets()
+                        .keySet()
+                        .stream()
+                        .map(PartitionId::toKafkaModel)
+                        .toList();
+
+                return fetchEndOffsets(adminClient, fanout, partitions)
+                    .thenApply(endOffsets -> pageOffsets(listSupport, committed.offsets(), endOffsets));
+            })
+            .thenComposeAsync(page -> sampler
+                    .map(s -> withTimeLag(adminClient, fanout, groupId, page, s, snapshot.map(GroupOffsetSnapshot::history)))
+                    .orElseGet(() -> CompletableFuture.completedStage(page)),
+                    asyncExec);
+    }
+
+    /**
+     * Add the time lag to each offset on the page. Timestamps are obtained for
+     * at most {@code timeLagMaxPartitions} partitions, those with the greatest
+     * offset lag: the timestamp of the latest record of each partition is
+     * listed with {@linkplain OffsetSpec#maxTimestamp()}, and the record at the
+     * committed offset is read by the sampler. The time lag of the remaining
+     * partitions (and those where no timestamp could be obtained) is estimated
+     * from the group's lag history, if any.
+     */
+    private CompletionStage<List<GroupOffset>> withTimeLag(Admin adminClient,
+            AdminFanout fanout,
+            String groupId,
+            List<GroupOffset> page,
+            RecordTimestampSampler sampler,
+            Optional<GroupLagHistory> history) {
+
+        List<GroupOffset> sampled = page.stream()
+                .filter(offset -> offset.offset() != null && offset.logEndOffset() != null)
+                .filter(offset -> offset.offset() < offset.logEndOffset())
+                .sorted(Comparator.comparing(GroupOffset::lag, Comparator.nullsFirst(Comparator.naturalOrder())).reversed())
+                .limit(timeLagMaxPartitions)
+                .toList();
+
+        if (sampled.isEmpty()) {
+            return CompletableFuture.completedStage(withTimeLag(groupId, page, Collections.emptyMap(), history));
+        }
+
+        List<TopicPartition> partitions = sampled.stream()
+                .map(offset -> offset.partitionId().toKafkaModel())
+                .toList();
+
+        return fetchOffsets(adminClient, fanout, partitions, MAX_TIMESTAMP_OFFSETS)
+            .thenApplyAsync(latest -> {
+                Map<RecordTimestampSampler.OffsetKey, Long> committed = new HashMap<>();
+                sampled.forEach(offset -> committed.put(
+                        new RecordTimestampSampler.OffsetKey(offset.partitionId().toKafkaModel(), offset.offset()),
+                        offset.logEndOffset()));
+
+                Map<RecordTimestampSampler.OffsetKey, Long> timestamps = new HashMap<>(sampler.timestamps(committed));
+
+                sampled.forEach(offset -> {
+                    TopicPartition partition = offset.partitionId().toKafkaModel();
+                    Optional.ofNullable(latest.get(partition))
+                        .flatMap(Either::getOptionalPrimary)
+                        .map(ListOffsetsResultInfo::timestamp)
+                        .filter(timestamp -> timestamp >= 0)
+                        // Keyed as the last record of the log, the position used for the history estimate
+                        .ifPresent(timestamp -> timestamps.put(
+                                new RecordTimestampSampler.OffsetKey(partition, offset.logEndOffset() - 1),
+                                timestamp));
+                });
+
+                return withTimeLag(groupId, page, timestamps, history);
+            }, threadContext.currentContextExecutor());
+    }
+
+    private static List<GroupOffset> withTimeLag(String groupId,
+            List<GroupOffset> page,
+            Map<RecordTimestampSampler.OffsetKey, Long> timestamps,
+            Optional<GroupLagHistory> history) {
+
+        return page.stream()
+                .map(offset -> {
+                    Long timeLag = timeLag(groupId, offset, timestamps, history);
+
+                    if (timeLag == null) {
+                        return offset;
+                    }
+
+                    var result = new GroupOffset(offset.offsetAndMetadata().withTimeLag(timeLag));
+                    result.meta(offset.meta());
+                    return result;
+                })
+                .toList();
+    }
+
+    private static Long timeLag(String groupId,
+            GroupOffset offset,
+            Map<RecordTimestampSampler.OffsetKey, Long> timestamps,
+            Optional<GroupLagHistory> history) {
+
+        if (offset.offset() == null || offset.logEndOffset() == null) {
+            return null;
+        }
+        if (offset.offset() >= offset.logEndOffset()) {
+            return 0L;
+        }
+
+        OptionalLong next = recordTimestamp(groupId, offset, offset.offset(), timestamps, history);
+        OptionalLong latest = recordTimestamp(groupId, offset, offset.logEndOffset() - 1, timestamps, history);
+
+        if (next.isEmpty() || latest.isEmpty()) {
+            return null;
+        }
+
+        return Math.max(0, latest.getAsLong() - next.getAsLong());
+    }
+
+    private static OptionalLong recordTimestamp(String groupId,
+            GroupOffset offset,
+            long position,
+            Map<RecordTimestampSampler.OffsetKey, Long> timestamps,
+            Optional<GroupLagHistory> history) {
+
+        Long timestamp = timestamps.get(new RecordTimestampSampler.OffsetKey(offset.partitionId().toKafkaModel(), position));
+
+        if (timestamp != null) {
+            return OptionalLong.of(timestamp);
+        }
+
+        return history
+                .map(h -> h.producedAt(groupId, offset.partitionId(), position))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * The record timestamp sampler for the current Kafka cluster, used to compute
+     * the time lag of groups. As with the offsets snapshot, the sampler is only
+     * used for clusters accessed with a global admin client.
+     */
+    private Optional<RecordTimestampSampler> timestampSampler(Admin adminClient) {
+        if (!timeLagEnabled || !kafkaContext.applicationScoped() || adminClient != kafkaContext.admin()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(kafkaContext.shared(RecordTimestampSampler.class, ctx -> {
+            Map<String, Object> configs = new HashMap<>(ctx.configs(org.apache.kafka.clients.consumer.Consumer.class));
+            configs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+            // An offset below the log start is read from the first record of the log
+            configs.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+            configs.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
+            // Only the first record of each partition is used
+            configs.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, 1024);
+            configs.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, 64 * 1024);
+
+            return new RecordTimestampSampler(
+                    () -> new KafkaConsumer<>(configs, new ByteArrayDeserializer(), new ByteArrayDeserializer()),
+                    timeLagConsumers,
+                    timeLagCacheSize,
+                    timeLagReadTimeout);
+        }));
+    }
+
+    /**
+     * Committed offsets of a single group, with the log end offsets and the time
+     * of the snapshot when taken from the offsets snapshot.
+     */
+    private record CommittedOffsets(
+            Map<PartitionId, OffsetAndMetadata> offsets,
+            Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> endOffsets,
+            Instant takenAt) {
+    }
+
+    private CompletionStage<CommittedOffsets> committedOffsets(Admin adminClient,
+            AdminFanout fanout,
+            Optional<GroupOffsetSnapshot> snapshot,
+            Group group,
+            Map<String, String> topicIds) {
+
+        CompletionStage<GroupOffsetSnapshot.Offsets> pendingSnapshot = snapshot
+                .map(GroupOffsetSnapshot::offsets)
+                // Fetch offsets directly when the snapshot is not available
+                .map(pending -> pending.handle((offsets, error) -> offsets))
+                .orElseGet(() -> CompletableFuture.completedStage(null));
+
+        return pendingSnapshot.thenCompose(offsets -> {
+            var grpOffsets = offsets != null ? offsets.groupOffsets().get(group.groupId()) : null;
+
+            if (grpOffsets != null && grpOffsets.isPrimaryPresent()) {
+                return CompletableFuture.completedStage(new CommittedOffsets(
+                        visibleOffsets(grpOffsets.getPrimary(), topicIds),
+                        offsets.endOffsets(),
+                        offsets.takenAt()));
+            }
+
+            Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> result = new ConcurrentHashMap<>();
+
+            return listGroupOffsets(adminClient, fanout, group.type(), List.of(group), topicIds, result)
+                .thenApply(nothing -> new CommittedOffsets(
+                        result.get(group.groupId()).getOrThrow(CompletionException::new),
+                        Collections.emptyMap(),
+                        null));
+        });
+    }
+
+    private static List<GroupOffset> pageOffsets(ListRequestContext<GroupOffset> listSupport,
+            Map<PartitionId, OffsetAndMetadata> offsets,
+            Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> endOffsets) {
+
+        return offsets.entrySet()
+                .stream()
+                .map(e -> groupOffset(e.getKey(), e.getValue(), endOffsets))
+                .filter(listSupport.filter(GroupOffset.class))
+                .map(listSupport::tally)
+                .filter(listSupport::betweenCursors)
+                .sorted(listSupport.getSortComparator())
+                .dropWhile(listSupport::beforePageBegin)
+                .takeWhile(listSupport::pageCapacityAvailable)
+                .toList();
+    }
+
+    private static GroupOffset groupOffset(PartitionId partition, OffsetAndMetadata offset,
+            Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> endOffsets) {
+
+        List<JsonApiError> errors = new ArrayList<>(1);
+        var result = new GroupOffset(withEndOffset(partition, offset, endOffsets, errors::add));
+        errors.forEach(result::addError);
+        return result;
     }
 
+    /**
+     * Find the IDs of the groups consuming each of the given topics, limited to
+     * the groups the user may list. When the cluster is accessed with a global
+     * admin client, the result is served from the cluster's
+     * {@linkplain GroupTopicIndex group/topic index}. Otherwise (or when the index
+     * can not be built), all groups are described to find their topics.
+     */
     public CompletionStage<Map<String, List<String>>> listGroupMembership(Collection<String> topicIds) {
+        if (!kafkaContext.applicationScoped()) {
+            return scanGroupMembership(topicIds);
+        }
+
+        var index = kafkaContext.shared(GroupTopicIndex.class, ctx -> new GroupTopicIndex(
+                ctx.admin(),
+                adminFanout.create(),
+                this,
+                scheduler,
+                topicIndexRefreshInterval,
+                topicIndexRefreshJitter,
+                topicIndexResyncLimit).start());
+        var permitted = permissionService.permitted(ResourceTypes.Kafka.GROUPS, Privilege.LIST, Function.<String>identity());
+
+        return index.groupsForTopics(topicIds)
+            .thenApplyAsync(topicGroups -> topicGroups.entrySet()
+                    .stream()
+                    .map(e -> Map.entry(e.getKey(), e.getValue().stream().filter(permitted).toList()))
+                    .filter(e -> !e.getValue().isEmpty())
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)),
+                    threadContext.currentContextExecutor())
+            .exceptionallyComposeAsync(error -> scanGroupMembership(topicIds),
+                    threadContext.currentContextExecutor());
+    }
+
+    private CompletionStage<Map<String, List<String>>> scanGroupMembership(Collection<String> topicIds) {
         Admin adminClient = kafkaContext.admin();
 
         return adminClient.listGroups(listGroupOptions()
-                .inGroupStates(Set.of(
-                        GroupState.STABLE,
-                        GroupState.PREPARING_REBALANCE,
-                        GroupState.COMPLETING_REBALANCE,
-                        GroupState.ASSIGNING,
-                        GroupState.RECONCILING,
-                        GroupState.NOT_READY,
-                        GroupState.EMPTY)))
+                .inGroupStates(GroupTopicIndex.INDEXED_STATES))
             .valid()
             .toCompletionStage()
             .thenApplyAsync(groups -> groups.stream()
@@ -282,17 +735,119 @@ public class GroupService {
                 threadContext.currentContextExecutor());
     }
 
+    /**
+     * Find a single group by ID, using the describe operation for the group's
+     * type. The type of the group is taken from the cluster's
+     * {@linkplain GroupTypeCache group type cache} when known, otherwise each
+     * type is tried in turn until the group is found.
+     */
     CompletionStage<Group> findGroup(Admin adminClient, String groupId) {
-        return adminClient.listGroups(listGroupOptions())
-            .all()
-            .toCompletionStage()
-            .thenApplyAsync(listings -> listings.stream()
-                    .filter(permissionService.permitted(ResourceTypes.Kafka.GROUPS, Privilege.GET, GroupListing::groupId))
-                    .filter(listing -> listing.groupId().equals(groupId))
-                    .findFirst()
-                    .map(Group::fromKafkaModel)
-                    .orElseThrow(() -> new GroupIdNotFoundException("No such consumer group: " + groupId)),
-                threadContext.currentContextExecutor());
+        if (!permissionService.permitted(ResourceTypes.Kafka.GROUPS, Privilege.GET, groupId)) {
+            return CompletableFuture.failedStage(new GroupIdNotFoundException("No such consumer group: " + groupId));
+        }
+
+        GroupTypeCache typeCache = groupTypeCache();
+        List<GroupType> lookupOrder = typeCache.get(groupId)
+                .map(type -> Stream.concat(Stream.of(type), GROUP_LOOKUP_ORDER.stream().filter(t -> t != type)).toList())
+                .orElse(GROUP_LOOKUP_ORDER);
+
+        return findGroup(adminClient, groupId, lookupOrder, 0, typeCache)
+            .thenApply(Group::fromKafkaModel);
+    }
+
+    private CompletionStage<GroupListing> findGroup(Admin adminClient, String groupId,
+            List<GroupType> lookupOrder, int attempt, GroupTypeCache typeCache) {
+
+        if (attempt >= lookupOrder.size()) {
+            typeCache.remove(groupId);
+            return CompletableFuture.failedStage(new GroupIdNotFoundException("No such consumer group: " + groupId));
+        }
+
+        return lookupGroup(adminClient, groupId, lookupOrder.get(attempt))
+            .thenApply(listing -> {
+                typeCache.put(groupId, listing.type().orElse(null));
+                return listing;
+            })
+            .exceptionallyCompose(error -> {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+
+                if (cause instanceof GroupIdNotFoundException
+                        || cause instanceof UnsupportedVersionException
+                        || cause instanceof IllegalArgumentException) {
+                    // Group does not exist as this type, or the type is not supported by the cluster
+                    return findGroup(adminClient, groupId, lookupOrder, attempt + 1, typeCache);
+                }
+
+                return CompletableFuture.failedStage(cause);
+            });
+    }
+
+    /**
+     * Describe a single group of the given type, providing the result in the form
+     * of a group listing. {@link GroupType#CONSUMER} finds both classic and
+     * consumer protocol groups using the consumer protocol.
+     */
+    private static CompletionStage<GroupListing> lookupGroup(Admin adminClient, String groupId, GroupType type) {
+        Supplier<GroupIdNotFoundException> notFound = () -> new GroupIdNotFoundException("No such consumer group: " + groupId);
+
+        return switch (type) {
+            case CONSUMER -> adminClient.describeConsumerGroups(List.of(groupId))
+                    .describedGroups()
+                    .get(groupId)
+                    .toCompletionStage()
+                    .thenApply(description -> {
+                        if (description.groupState() == GroupState.DEAD) {
+                            // Classic group lookup result for a non-existent group
+                            throw notFound.get();
+                        }
+                        return new GroupListing(groupId,
+                                Optional.ofNullable(description.type()),
+                                description.isSimpleConsumerGroup() ? "" : "consumer",
+                                Optional.ofNullable(description.groupState()));
+                    });
+            case SHARE -> adminClient.describeShareGroups(List.of(groupId))
+                    .describedGroups()
+                    .get(groupId)
+                    .toCompletionStage()
+                    .thenApply(description -> new GroupListing(groupId,
+                            Optional.of(GroupType.SHARE),
+                            "share",
+                            Optional.ofNullable(description.groupState())));
+            case STREAMS -> adminClient.describeStreamsGroups(List.of(groupId))
+                    .describedGroups()
+                    .get(groupId)
+                    .toCompletionStage()
+                    .thenApply(description -> new GroupListing(groupId,
+                            Optional.of(GroupType.STREAMS),
+                            "streams",
+                            Optional.ofNullable(description.groupState())));
+            case CLASSIC -> adminClient.describeClassicGroups(List.of(groupId))
+                    .describedGroups()
+                    .get(groupId)
+                    .toCompletionStage()
+                    .thenApply(description -> {
+                        Optional<GroupState> state = Optional.ofNullable(description.state())
+                                .map(Enum::name)
+                                .map(GroupState::valueOf);
+
+                        if (state.filter(GroupState.DEAD::equals).isPresent()) {
+                            throw notFound.get();
+                        }
+
+                        return new GroupListing(groupId,
+                                Optional.of(GroupType.CLASSIC),
+                                Objects.requireNonNullElse(description.protocol(), ""),
+                                state);
+                    });
+            default -> CompletableFuture.failedStage(notFound.get());
+        };
+    }
+
+    /**
+     * The group type cache for the current Kafka cluster.
+     */
+    private GroupTypeCache groupTypeCache() {
+        return kafkaContext.shared(GroupTypeCache.class, ctx -> new GroupTypeCache(groupTypeCacheMaxEntries));
     }
 
     private ListGroupsOptions listGroupOptions() {
@@ -460,6 +1015,7 @@ public class GroupService {
                 .map(Map.Entry::getKey)
                 .collect(Collectors.toSet());
 
+        var snapshot = runningOffsetSnapshot();
         var alterResults = adminClient.alterConsumerGroupOffsets(group.groupId(), alteredPartitions);
         var deleteResults = adminClient.deleteConsumerGroupOffsets(group.groupId(), deletedPartitions);
 
@@ -485,7 +1041,9 @@ public class GroupService {
                     .toCompletableFuture());
         }
 
-        return Promises.allOf(results);
+        // Some partitions may have been altered even when others failed
+        return Promises.allOf(results)
+                .whenComplete((nothing, error) -> snapshot.ifPresent(s -> s.evict(group.groupId())));
     }
 
     private Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> getListOffsetsResults(
@@ -505,10 +1063,19 @@ public class GroupService {
         Admin adminClient = kafkaContext.admin();
         String groupId = Group.decodeGroupId(requestGroupId);
 
+        GroupTypeCache typeCache = groupTypeCache();
+        var snapshot = runningOffsetSnapshot();
+
         return adminClient.deleteConsumerGroups(List.of(groupId))
                 .deletedGroups()
                 .get(groupId)
-                .toCompletionStage();
+                .toCompletionStage()
+                .whenComplete((nothing, error) -> {
+                    if (error == null) {
+                        typeCache.remove(groupId);
+                        snapshot.ifPresent(s -> s.evict(groupId));
+                    }
+                });
     }
 
     private CompletionStage<List<Group>> augmentList(Admin adminClient, List<Group> list, List<String> fields) {
@@ -554,20 +1121,21 @@ public class GroupService {
             List<String> fields) {
 
         Map<String, Either<Group, Throwable>> result = new ConcurrentHashMap<>(groups.size());
+        AdminFanout fanout = adminFanout.current();
 
         var pendingTopicsIds = fetchTopicIdMap();
         var pendingDescribes = groups.stream()
                 .collect(Collectors.groupingBy(Group::type))
                 .entrySet()
                 .stream()
-                .<Map.Entry<String, KafkaFuture<?>>>mapMulti((group, next) -> describeGroups(adminClient,
+                .<Map.Entry<String, CompletableFuture<?>>>mapMulti((group, next) -> describeGroups(adminClient,
+                        fanout,
                         group.getKey(),
-                        group.getValue(),
+                        group.getValue().stream().map(Group::groupId).toList(),
                         fields.contains(Group.Fields.AUTHORIZED_OPERATIONS),
                         next))
                 .map(entry ->
                     entry.getValue()
-                        .toCompletionStage()
                         .thenCombineAsync(pendingTopicsIds, (description, topicIds) -> {
                             permissionService.assertPermitted(ResourceTypes.Kafka.GROUPS, Privilege.GET, groupId(description));
                             return Group.fromKafkaModel(description, topicIds);
@@ -593,7 +1161,8 @@ public class GroupService {
         return CompletableFuture.allOf(pendingDescribes)
                 .thenCompose(nothing -> pendingTopicsIds)
                 .thenCompose(topicIds -> CompletableFuture.allOf(
-                        maybeFetchOffsets(adminClient, availableGroups.get(), topicIds, fields),
+                        maybeFetchOffsets(adminClient, fanout, availableGroups.get(), topicIds, fields),
+                        maybeAddLagTrends(adminClient, availableGroups.get(), topicIds, fields),
                         maybeDescribeConfigs(adminClient, availableGroups.get(), fields)))
                 .thenApply(nothing -> result);
     }
@@ -604,42 +1173,42 @@ public class GroupService {
                 .collect(Collectors.toMap(TopicListing::name, l -> l.topicId().toString())));
     }
 
-    private void describeGroups(Admin adminClient,
+    static void describeGroups(Admin adminClient,
+            AdminFanout fanout,
             String type,
-            List<Group> groups,
+            List<String> groupIds,
             boolean includeAuthorizations,
-            Consumer<Map.Entry<String, KafkaFuture<?>>> next) {
+            Consumer<Map.Entry<String, CompletableFuture<?>>> next) {
 
-        var groupIds = groups.stream().map(Group::groupId).toList();
         GroupType groupType = GroupType.parse(type);
 
         switch (groupType) {
             case CLASSIC:
-                adminClient.describeClassicGroups(groupIds,
+                fanout.submit(groupIds, chunk -> adminClient.describeClassicGroups(chunk,
                         new DescribeClassicGroupsOptions()
                             .includeAuthorizedOperations(includeAuthorizations))
-                        .describedGroups()
+                        .describedGroups())
                         .forEach((groupId, promise) -> next.accept(Map.entry(groupId, promise)));
                 break;
             case CONSUMER:
-                adminClient.describeConsumerGroups(groupIds,
+                fanout.submit(groupIds, chunk -> adminClient.describeConsumerGroups(chunk,
                         new DescribeConsumerGroupsOptions()
                             .includeAuthorizedOperations(includeAuthorizations))
-                        .describedGroups()
+                        .describedGroups())
                         .forEach((groupId, promise) -> next.accept(Map.entry(groupId, promise)));
                 break;
             case SHARE:
-                adminClient.describeShareGroups(groupIds,
+                fanout.submit(groupIds, chunk -> adminClient.describeShareGroups(chunk,
                         new DescribeShareGroupsOptions()
                             .includeAuthorizedOperations(includeAuthorizations))
-                        .describedGroups()
+                        .describedGroups())
                         .forEach((groupId, promise) -> next.accept(Map.entry(groupId, promise)));
                 break;
             case STREAMS:
-                adminClient.describeStreamsGroups(groupIds,
+                fanout.submit(groupIds, chunk -> adminClient.describeStreamsGroups(chunk,
                         new DescribeStreamsGroupsOptions()
                             .includeAuthorizedOperations(includeAuthorizations))
-                        .describedGroups()
+                        .describedGroups())
                         .forEach((groupId, promise) -> next.accept(Map.entry(groupId, promise)));
                 break;
             default:
@@ -664,6 +1233,7 @@ public class GroupService {
 
     private CompletableFuture<Void> maybeFetchOffsets(
             Admin adminClient,
+            AdminFanout fanout,
             Map<String, Group> groups, Map<String, String> topicIds,
             List<String> fields) {
 
@@ -671,8 +1241,144 @@ public class GroupService {
             return CompletableFuture.completedFuture(null);
         }
 
+        Optional<GroupOffsetSnapshot> snapshot = offsetSnapshot(adminClient);
+
+        if (snapshot.isEmpty()) {
+            return fetchOffsets(adminClient, fanout, groups, topicIds);
+        }
+
+        return snapshot.get()
+            .offsets()
+            // Fetch offsets directly when the snapshot is not available
+            .handle((offsets, error) -> offsets)
+            .thenCompose(offsets -> {
+                if (offsets == null) {
+                    return fetchOffsets(adminClient, fanout, groups, topicIds);
+                }
+
+                Map<String, Group> missing = new HashMap<>();
+
+                groups.forEach((groupId, group) -> {
+                    var grpOffsets = offsets.groupOffsets().get(groupId);
+
+                    if (grpOffsets == null) {
+                        // Group created since the snapshot was taken
+                        missing.put(groupId, group);
+                    } else {
+                        addOffsets(group,
+                                offsets.endOffsets(),
+                                grpOffsets.getOptionalPrimary().map(o -> visibleOffsets(o, topicIds)).orElse(null),
+                                grpOffsets.getAlternate());
+                        group.addMeta("offsetsTimestamp", offsets.takenAt());
+                        group.addMeta("offsetsAgeMs", offsets.age().toMillis());
+                    }
+                });
+
+                return fetchOffsets(adminClient, fanout, missing, topicIds);
+            })
+            .toCompletableFuture();
+    }
+
+    /**
+     * The background offsets snapshot for the current Kafka cluster. The snapshot
+     * is only used for clusters accessed with a global admin client, i.e. the
+     * groups and topics visible are not specific to the credentials of a
+     * particular user.
+     */
+    private Optional<GroupOffsetSnapshot> offsetSnapshot(Admin adminClient) {
+        if (!offsetsSnapshotEnabled || !kafkaContext.applicationScoped() || adminClient != kafkaContext.admin()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(offsetSnapshot(kafkaContext));
+    }
+
+    /**
+     * The background offsets snapshot for the given Kafka context, started if
+     * not already running. The context must be application-scoped.
+     */
+    GroupOffsetSnapshot offsetSnapshot(KafkaContext context) {
+        return context.shared(GroupOffsetSnapshot.class, this::newOffsetSnapshot);
+    }
+
+    /**
+     * The background offsets snapshot for the given Kafka context, started if
+     * not already running, only while the context is connected. Unlike
+     * {@linkplain #offsetSnapshot(KafkaContext)}, a context disconnected while
+     * idle is not connected again, and obtaining the snapshot does not keep the
+     * context from being disconnected. The context must be application-scoped.
+     */
+    Optional<GroupOffsetSnapshot> connectedOffsetSnapshot(KafkaContext context) {
+        return context.sharedIfConnected(GroupOffsetSnapshot.class, this::newOffsetSnapshot);
+    }
+
+    private GroupOffsetSnapshot newOffsetSnapshot(KafkaContext ctx) {
+        return new GroupOffsetSnapshot(
+                ctx.admin(),
+                adminFanout.create(),
+                this,
+                scheduler,
+                offsetsSnapshotRefreshInterval,
+                offsetsSnapshotRefreshJitter,
+                new GroupLagHistory(lagHistoryMaxGroups, lagHistoryMaxPartitions, lagHistoryMaxSamples)).start();
+    }
+
+    /**
+     * The offsets snapshot of the current Kafka cluster only if already running,
+     * used to {@linkplain GroupOffsetSnapshot#evict(String) evict} groups changed
+     * by a request.
+     */
+    private Optional<GroupOffsetSnapshot> runningOffsetSnapshot() {
+        if (!kafkaContext.applicationScoped()) {
+            return Optional.empty();
+        }
+
+        return kafkaContext.sharedIfPresent(GroupOffsetSnapshot.class);
+    }
+
+    private CompletableFuture<Void> maybeAddLagTrends(
+            Admin adminClient,
+            Map<String, Group> groups, Map<String, String> topicIds,
+            List<String> fields) {
+
+        if (!fields.contains(Group.Fields.LAG_TRENDS)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return offsetSnapshot(adminClient)
+            .map(snapshot -> snapshot.offsets()
+                    // History (if any) is available whether or not the latest snapshot succeeded
+                    .<Void>handle((offsets, error) -> {
+                        groups.forEach((groupId, group) ->
+                            group.lagTrends(snapshot.history().trends(groupId, topicIds)));
+                        return null;
+                    })
+                    .toCompletableFuture())
+            .orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Limit offsets from the snapshot to the topics the user may list, as
+     * identified in the request's map of topic names to IDs.
+     */
+    private static Map<PartitionId, OffsetAndMetadata> visibleOffsets(Map<PartitionId, OffsetAndMetadata> offsets,
+            Map<String, String> topicIds) {
+        return offsets.entrySet()
+                .stream()
+                .filter(e -> Objects.equals(topicIds.get(e.getKey().topicName()), e.getKey().topicId()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private CompletableFuture<Void> fetchOffsets(
+            Admin adminClient,
+            AdminFanout fanout,
+            Map<String, Group> groups, Map<String, String> topicIds) {
+
+        if (groups.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
         Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> groupOffsets = new LinkedHashMap<>();
-        Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> topicOffsets = new LinkedHashMap<>();
 
         var pendingGroupOps = groups.values()
             .stream()
@@ -680,6 +1386,7 @@ public class GroupService {
             .entrySet()
             .stream()
             .map(group -> listGroupOffsets(adminClient,
+                    fanout,
                     group.getKey(),
                     group.getValue(),
                     topicIds,
@@ -687,38 +1394,53 @@ public class GroupService {
             .toArray(CompletableFuture[]::new);
 
         return CompletableFuture.allOf(pendingGroupOps)
-            .thenApply(nothing -> {
-                var topicOffsetsRequest = groupOffsets.values()
-                        .stream()
-                        .filter(Either::isPrimaryPresent)
-                        .map(Either::getPrimary)
-                        .map(Map::keySet)
-                        .flatMap(Collection::stream)
-                        .distinct()
-                        .filter(topicPartition -> topicIds.containsKey(topicPartition.topicName()))
-                        .collect(Collectors.toMap(e -> e.toKafkaModel(), e -> LATEST_TOPIC_OFFSETS));
-                var topicOffsetsResult = adminClient.listOffsets(topicOffsetsRequest);
-
-                return topicOffsetsRequest.keySet()
+            .thenCompose(nothing -> fetchEndOffsets(adminClient, fanout, groupOffsets.values()
                     .stream()
-                    .map(partition -> topicOffsetsResult
-                        .partitionResult(partition)
-                        .toCompletionStage()
-                        .toCompletableFuture()
-                        .<Void>handle((offset, error) -> {
-                            topicOffsets.put(partition, Either.of(Optional.ofNullable(offset), error));
-                            return null;
-                        }))
-                    .toArray(CompletableFuture[]::new);
-            })
-            .thenCompose(CompletableFuture::allOf)
-            .thenRun(() -> groups.forEach((groupId, group) -> {
+                    .filter(Either::isPrimaryPresent)
+                    .map(Either::getPrimary)
+                    .map(Map::keySet)
+                    .flatMap(Collection::stream)
+                    .distinct()
+                    .filter(topicPartition -> topicIds.containsKey(topicPartition.topicName()))
+                    .map(PartitionId::toKafkaModel)
+                    .toList()))
+            .thenAccept(topicOffsets -> groups.forEach((groupId, group) -> {
                 var grpOffsets = groupOffsets.get(groupId);
                 addOffsets(group, topicOffsets, grpOffsets.getOptionalPrimary().orElse(null), grpOffsets.getAlternate());
             }));
     }
 
-    private CompletableFuture<Void> listGroupOffsets(Admin adminClient,
+    /**
+     * Fetch the latest offset of each of the given partitions.
+     */
+    private static CompletableFuture<Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>>> fetchEndOffsets(
+            Admin adminClient,
+            AdminFanout fanout,
+            List<TopicPartition> partitions) {
+
+        return fetchOffsets(adminClient, fanout, partitions, LATEST_TOPIC_OFFSETS);
+    }
+
+    private static CompletableFuture<Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>>> fetchOffsets(
+            Admin adminClient,
+            AdminFanout fanout,
+            List<TopicPartition> partitions,
+            OffsetSpec offsetSpec) {
+
+        if (partitions.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        return AdminFanout.settled(fanout.submit(partitions, chunk -> {
+            var result = adminClient.listOffsets(chunk.stream()
+                    .collect(Collectors.toMap(Function.identity(), partition -> offsetSpec)));
+            return chunk.stream()
+                    .collect(Collectors.toMap(Function.identity(), result::partitionResult));
+        })).toCompletableFuture();
+    }
+
+    CompletableFuture<Void> listGroupOffsets(Admin adminClient,
+            AdminFanout fanout,
             String type,
             List<Group> groups,
             Map<String, String> topicIds,
@@ -728,32 +1450,32 @@ public class GroupService {
 
         switch (groupType) {
             case CLASSIC, CONSUMER:
-                return listConsumerGroupOffsets(adminClient, groups, topicIds, groupOffsets);
+                return listConsumerGroupOffsets(adminClient, fanout, groups, topicIds, groupOffsets);
             case SHARE:
-                return listShareGroupOffsets(adminClient, groups, topicIds, groupOffsets);
+                return listShareGroupOffsets(adminClient, fanout, groups, topicIds, groupOffsets);
             case STREAMS:
-                return listStreamsGroupOffsets(adminClient, groups, topicIds, groupOffsets);
+                return listStreamsGroupOffsets(adminClient, fanout, groups, topicIds, groupOffsets);
             default:
                 throw new IllegalArgumentException("Unknown group type: " + groupType);
         }
     }
 
     private CompletableFuture<Void> listConsumerGroupOffsets(Admin adminClient,
+            AdminFanout fanout,
             List<Group> groups,
             Map<String, String> topicIds,
             Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> allGroupOffsets) {
 
         var groupIds = groups.stream().map(Group::groupId).toList();
-        var request = groupIds
-                .stream()
-                .collect(Collectors.toMap(Function.identity(), key -> new ListConsumerGroupOffsetsSpec()));
-
-        var result = adminClient.listConsumerGroupOffsets(request);
+        var result = fanout.submit(groupIds, chunk -> {
+            var chunkResult = adminClient.listConsumerGroupOffsets(chunk.stream()
+                    .collect(Collectors.toMap(Function.identity(), key -> new ListConsumerGroupOffsetsSpec())));
+            return chunk.stream()
+                    .collect(Collectors.toMap(Function.identity(), chunkResult::partitionsToOffsetAndMetadata));
+        });
 
         var promises = groupIds.stream()
-            .map(groupId -> result.partitionsToOffsetAndMetadata(groupId)
-                    .toCompletionStage()
-                    .toCompletableFuture()
+            .map(groupId -> result.get(groupId)
                     .<Void>handle((offsets, thrown) -> {
                         if (offsets != null) {
                             var groupOffsets = offsets.entrySet()
@@ -783,21 +1505,21 @@ public class GroupService {
     }
 
     private CompletableFuture<Void> listShareGroupOffsets(Admin adminClient,
+            AdminFanout fanout,
             List<Group> groups,
             Map<String, String> topicIds,
             Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> allGroupOffsets) {
 
         var groupIds = groups.stream().map(Group::groupId).toList();
-        var request = groupIds
-                .stream()
-                .collect(Collectors.toMap(Function.identity(), key -> new ListShareGroupOffsetsSpec()));
-
-        var result = adminClient.listShareGroupOffsets(request);
+        var result = fanout.submit(groupIds, chunk -> {
+            var chunkResult = adminClient.listShareGroupOffsets(chunk.stream()
+                    .collect(Collectors.toMap(Function.identity(), key -> new ListShareGroupOffsetsSpec())));
+            return chunk.stream()
+                    .collect(Collectors.toMap(Function.identity(), chunkResult::partitionsToOffsetInfo));
+        });
 
         var promises = groupIds.stream()
-            .map(groupId -> result.partitionsToOffsetInfo(groupId)
-                    .toCompletionStage()
-                    .toCompletableFuture()
+            .map(groupId -> result.get(groupId)
                     .<Void>handle((offsets, thrown) -> {
                         if (offsets != null) {
                             var groupOffsets = offsets.entrySet()
@@ -827,21 +1549,21 @@ public class GroupService {
     }
 
     private CompletableFuture<Void> listStreamsGroupOffsets(Admin adminClient,
+            AdminFanout fanout,
             List<Group> groups,
             Map<String, String> topicIds,
             Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> allGroupOffsets) {
 
         var groupIds = groups.stream().map(Group::groupId).toList();
-        var request = groupIds
-                .stream()
-                .collect(Collectors.toMap(Function.identity(), key -> new ListStreamsGroupOffsetsSpec()));
-
-        var result = adminClient.listStreamsGroupOffsets(request);
+        var result = fanout.submit(groupIds, chunk -> {
+            var chunkResult = adminClient.listStreamsGroupOffsets(chunk.stream()
+                    .collect(Collectors.toMap(Function.identity(), key -> new ListStreamsGroupOffsetsSpec())));
+            return chunk.stream()
+                    .collect(Collectors.toMap(Function.identity(), chunkResult::partitionsToOffsetAndMetadata));
+        });
 
         var promises = groupIds.stream()
-                .map(groupId -> result.partitionsToOffsetAndMetadata(groupId)
-                        .toCompletionStage()
-                        .toCompletableFuture()
+                .map(groupId -> result.get(groupId)
                         .<Void>handle((offsets, thrown) -> {
                             if (offsets != null) {
                                 var groupOffsets = offsets.entrySet()
@@ -880,41 +1602,53 @@ public class GroupService {
         } else {
             List<OffsetAndMetadata> offsets = new ArrayList<>();
 
-            groupOffsets.forEach((topicPartition, offsetsAndMetadata) -> {
-                long offset = offsetsAndMetadata.offset().getPrimary();
-                var endOffset = Optional.ofNullable(topicOffsets.get(topicPartition.toKafkaModel()))
-                        .map(offsetOrError -> {
-                            if (offsetOrError.isPrimaryPresent()) {
-                                return offsetOrError.getPrimary().offset();
-                            }
-
-                            Throwable listOffsetsError = offsetOrError.getAlternate();
-                            String msg = "Unable to list offsets for topic/partition %s-%d"
-                                    .formatted(topicPartition.topicName(), topicPartition.partition());
-                            group.addError(new JsonApiError(msg, listOffsetsError.getMessage(), listOffsetsError));
-                            return null;
-                        });
-
-                Long lag = Optional.ofNullable(offsetsAndMetadata.lag())
-                        .or(() -> endOffset.map(end -> end - offset))
-                        .orElse(null);
-
-                offsets.add(new OffsetAndMetadata(
-                        topicPartition.topicId(),
-                        topicPartition.topicName(),
-                        topicPartition.partition(),
-                        offsetsAndMetadata.offset(),
-                        endOffset.orElse(null), // log end offset
-                        lag,
-                        offsetsAndMetadata.metadata(),
-                        offsetsAndMetadata.leaderEpoch()));
-            });
+            groupOffsets.forEach((topicPartition, offsetsAndMetadata) ->
+                offsets.add(withEndOffset(topicPartition, offsetsAndMetadata, topicOffsets, group::addError)));
 
             Collections.sort(offsets);
             group.offsets(offsets);
         }
     }
 
+    /**
+     * Combine a committed offset with the log end offset of its partition (when
+     * available) to give the lag. An error listing the end offset is passed to
+     * the given error consumer.
+     */
+    private static OffsetAndMetadata withEndOffset(PartitionId topicPartition,
+            OffsetAndMetadata offsetsAndMetadata,
+            Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> topicOffsets,
+            Consumer<JsonApiError> errors) {
+
+        long offset = offsetsAndMetadata.offset().getPrimary();
+        var endOffset = Optional.ofNullable(topicOffsets.get(topicPartition.toKafkaModel()))
+                .map(offsetOrError -> {
+                    if (offsetOrError.isPrimaryPresent()) {
+                        return offsetOrError.getPrimary().offset();
+                    }
+
+                    Throwable listOffsetsError = offsetOrError.getAlternate();
+                    String msg = "Unable to list offsets for topic/partition %s-%d"
+                            .formatted(topicPartition.topicName(), topicPartition.partition());
+                    errors.accept(new JsonApiError(msg, listOffsetsError.getMessage(), listOffsetsError));
+                    return null;
+                });
+
+        Long lag = Optional.ofNullable(offsetsAndMetadata.lag())
+                .or(() -> endOffset.map(end -> end - offset))
+                .orElse(null);
+
+        return new OffsetAndMetadata(
+                topicPartition.topicId(),
+                topicPartition.topicName(),
+                topicPartition.partition(),
+                offsetsAndMetadata.offset(),
+                endOffset.orElse(null), // log end offset
+                lag,
+                offsetsAndMetadata.metadata(),
+                offsetsAndMetadata.leaderEpoch());
+    }
+
     CompletableFuture<Void> maybeDescribeConfigs(Admin adminClient, Map<String, Group> groups, List<String> fields) {
         if (!fields.contains(Group.Fields.CONFIGS)) {
             return CompletableFuture.completedFuture(null);
@@ -0,0 +1,310 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.GroupListing;
+import org.apache.kafka.clients.admin.ListGroupsOptions;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.GroupState;
+import org.apache.kafka.common.GroupType;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.Group;
+import com.github.streamshub.console.api.model.MemberDescription;
+import com.github.streamshub.console.api.model.OffsetAndMetadata;
+import com.github.streamshub.console.api.model.PartitionId;
+import com.github.streamshub.console.api.support.AdminFanout;
+import com.github.streamshub.console.api.support.PeriodicRefresh;
+
+/**
+ * Reverse index of topic IDs to the IDs of the groups that consume them, either
+ * via a member's assignment or a committed offset. The index is maintained in
+ * the background for a Kafka cluster with a global (application-scoped) admin
+ * client and is shared by all requests for that cluster.
+ *
+ * <p>Each refresh lists the groups in the cluster and describes only the groups
+ * that are new or whose state changed since the previous refresh, plus a limited
+ * number of the least recently described groups to catch rebalances completed
+ * between two refreshes. Committed offsets are only fetched for groups where
+ * the description shows a change in membership or assignments (i.e. a new
+ * generation).
+ */
+class GroupTopicIndex implements AutoCloseable {
+
+    static final Set<GroupState> INDEXED_STATES = Set.of(
+            GroupState.STABLE,
+            GroupState.PREPARING_REBALANCE,
+            GroupState.COMPLETING_REBALANCE,
+            GroupState.ASSIGNING,
+            GroupState.RECONCILING,
+            GroupState.NOT_READY,
+            GroupState.EMPTY);
+
+    private static final Logger LOGGER = Logger.getLogger(GroupTopicIndex.class);
+
+    private final Admin admin;
+    private final AdminFanout fanout;
+    private final GroupService groupService;
+    private final int resyncLimit;
+    private final PeriodicRefresh<Void> refresh;
+
+    private final Map<String, Entry> groups = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> topicGroups = new ConcurrentHashMap<>();
+
+    /**
+     * Indexed state of a single group.
+     *
+     * @param state       group state from the most recent listing
+     * @param generation  hash of the group's members and their assignments at
+     *                    the time the group was last described
+     * @param topicIds    IDs of topics consumed by the group
+     * @param describedAt time (nanos) when the group was last described
+     */
+    record Entry(String state, int generation, Set<String> topicIds, long describedAt) {
+        Entry described(long now) {
+            return new Entry(state, generation, topicIds, now);
+        }
+    }
+
+    GroupTopicIndex(Admin admin, AdminFanout fanout, GroupService groupService, ScheduledExecutorService scheduler,
+            Duration interval, double jitter, int resyncLimit) {
+        this.admin = admin;
+        this.fanout = fanout;
+        this.groupService = groupService;
+        this.resyncLimit = resyncLimit;
+        this.refresh = new PeriodicRefresh<>("group/topic index", this::refreshIndex, scheduler, interval, jitter);
+    }
+
+    /**
+     * Begin building the index in the background.
+     */
+    GroupTopicIndex start() {
+        refresh.start();
+        return this;
+    }
+
+    /**
+     * Find the IDs of the groups consuming each of the given topics. The result
+     * includes only topics consumed by at least one group. The returned stage
+     * completes once the index has been built for the first time, or exceptionally
+     * if the index has not yet been built and the most recent attempt failed.
+     */
+    CompletionStage<Map<String, List<String>>> groupsForTopics(Collection<String> topicIds) {
+        return refresh.ready().thenApply(nothing -> {
+            Map<String, List<String>> result = new HashMap<>();
+
+            for (String topicId : topicIds) {
+                var groupIds = List.copyOf(topicGroups.getOrDefault(topicId, Set.of()));
+
+                if (!groupIds.isEmpty()) {
+                    result.put(topicId, groupIds);
+                }
+            }
+
+            return result;
+        });
+    }
+
+    @Override
+    public void close() {
+        refresh.close();
+    }
+
+    CompletionStage<Void> refreshIndex() {
+        var pendingGroups = admin.listGroups(new ListGroupsOptions().inGroupStates(INDEXED_STATES))
+                .valid()
+                .toCompletionStage();
+        var pendingTopics = admin.listTopics(new ListTopicsOptions().listInternal(true))
+                .listings()
+                .toCompletionStage();
+
+        return pendingGroups.thenCombine(pendingTopics, (groupListings, topicListings) -> {
+            Map<String, String> topicIds = topicListings.stream()
+                    .collect(Collectors.toMap(TopicListing::name, l -> l.topicId().toString()));
+            Map<String, GroupListing> listed = groupListings.stream()
+                    .collect(Collectors.toMap(GroupListing::groupId, Function.identity(), (l1, l2) -> l1));
+
+            groups.keySet()
+                .stream()
+                .filter(groupId -> !listed.containsKey(groupId))
+                .toList()
+                .forEach(this::remove);
+
+            List<GroupListing> describe = new ArrayList<>();
+            List<GroupListing> unchanged = new ArrayList<>();
+
+            listed.values().forEach(listing -> {
+                Entry entry = groups.get(listing.groupId());
+
+                if (entry == null || !Objects.equals(entry.state(), state(listing))) {
+                    describe.add(listing);
+                } else {
+                    unchanged.add(listing);
+                }
+            });
+
+            unchanged.stream()
+                .sorted(Comparator.comparingLong(listing -> groups.get(listing.groupId()).describedAt()))
+                .limit(resyncLimit)
+                .forEach(describe::add);
+
+            return Map.entry(describe, topicIds);
+        }).thenCompose(request -> describe(request.getKey(), request.getValue()));
+    }
+
+    private CompletionStage<Void> describe(List<GroupListing> listings, Map<String, String> topicIds) {
+        if (listings.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
+
+        Map<String, String> states = listings.stream()
+                .collect(Collectors.toMap(GroupListing::groupId, GroupTopicIndex::state, (s1, s2) -> s1));
+        Map<String, Group> described = new ConcurrentHashMap<>();
+
+        var pendingDescribes = listings.stream()
+                .collect(Collectors.groupingBy(GroupTopicIndex::type))
+                .entrySet()
+                .stream()
+                .<Map.Entry<String, CompletableFuture<?>>>mapMulti((group, next) -> GroupService.describeGroups(admin,
+                        fanout,
+                        group.getKey(),
+                        group.getValue().stream().map(GroupListing::groupId).toList(),
+                        false,
+                        next))
+                .map(entry -> entry.getValue()
+                        .<Void>handle((description, error) -> {
+                            if (error == null) {
+                                described.put(entry.getKey(), Group.fromKafkaModel(description, topicIds));
+                            } else {
+                                // Previous entry (if any) is retained and the group will be described again later
+                                LOGGER.debugf("Failed to describe group %s: %s", entry.getKey(), error.getMessage());
+                            }
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pendingDescribes)
+                .thenCompose(nothing -> fetchOffsets(described, states, topicIds));
+    }
+
+    private CompletionStage<Void> fetchOffsets(Map<String, Group> described, Map<String, String> states, Map<String, String> topicIds) {
+        long now = System.nanoTime();
+        Map<String, Group> changed = new HashMap<>();
+
+        described.forEach((groupId, group) -> {
+            Entry previous = groups.get(groupId);
+            String state = states.get(groupId);
+
+            if (previous != null && previous.generation() == generation(group) && Objects.equals(previous.state(), state)) {
+                groups.put(groupId, previous.described(now));
+            } else {
+                changed.put(groupId, group);
+            }
+        });
+
+        if (changed.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
+
+        Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> offsets = new ConcurrentHashMap<>();
+
+        var pendingOffsets = changed.values()
+                .stream()
+                .collect(Collectors.groupingBy(Group::type))
+                .entrySet()
+                .stream()
+                .map(group -> groupService.listGroupOffsets(admin, fanout, group.getKey(), group.getValue(), topicIds, offsets))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pendingOffsets).thenRun(() -> changed.forEach((groupId, group) -> {
+            Set<String> groupTopics = new HashSet<>();
+
+            group.members()
+                .stream()
+                .map(MemberDescription::getAssignments)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .map(PartitionId::topicId)
+                .filter(Objects::nonNull)
+                .forEach(groupTopics::add);
+
+            var groupOffsets = offsets.get(groupId);
+
+            if (groupOffsets != null && groupOffsets.isPrimaryPresent()) {
+                groupOffsets.getPrimary().keySet().stream().map(PartitionId::topicId).forEach(groupTopics::add);
+            } else if (groups.containsKey(groupId)) {
+                // Offsets unavailable, keep the topics known previously
+                groupTopics.addAll(groups.get(groupId).topicIds());
+            }
+
+            put(groupId, new Entry(states.get(groupId), generation(group), Set.copyOf(groupTopics), now));
+        }));
+    }
+
+    private void put(String groupId, Entry entry) {
+        Entry previous = groups.put(groupId, entry);
+        Set<String> previousTopics = previous != null ? previous.topicIds() : Set.of();
+
+        previousTopics.stream()
+            .filter(topicId -> !entry.topicIds().contains(topicId))
+            .forEach(topicId -> removeTopicGroup(topicId, groupId));
+
+        entry.topicIds()
+            .stream()
+            .filter(topicId -> !previousTopics.contains(topicId))
+            .forEach(topicId -> topicGroups.computeIfAbsent(topicId, k -> ConcurrentHashMap.newKeySet()).add(groupId));
+    }
+
+    private void remove(String groupId) {
+        Entry previous = groups.remove(groupId);
+
+        if (previous != null) {
+            previous.topicIds().forEach(topicId -> removeTopicGroup(topicId, groupId));
+        }
+    }
+
+    private void removeTopicGroup(String topicId, String groupId) {
+        topicGroups.computeIfPresent(topicId, (k, groupIds) -> {
+            groupIds.remove(groupId);
+            return groupIds.isEmpty() ? null : groupIds;
+        });
+    }
+
+    private static String state(GroupListing listing) {
+        return listing.groupState().map(Enum::name).orElse(null);
+    }
+
+    private static String type(GroupListing listing) {
+        return listing.type().orElse(GroupType.CLASSIC).toString();
+    }
+
+    /**
+     * Hash of the group's members and their assignments. A change indicates the
+     * group has rebalanced since it was last described.
+     */
+    private static int generation(Group group) {
+        return Objects.hash(group.state(), group.members()
+                .stream()
+                .map(member -> Map.entry(member.getMemberId(),
+                        Set.copyOf(Objects.requireNonNullElse(member.getAssignments(), List.<PartitionId>of()))))
+                .collect(Collectors.toSet()));
+    }
+}
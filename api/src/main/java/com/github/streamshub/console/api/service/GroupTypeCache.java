@@ -0,0 +1,48 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.common.GroupType;
+
+/**
+ * Known types of the groups in a Kafka cluster, keyed by group ID. Used to
+ * select the describe operation for a single group without listing all groups
+ * in the cluster. Entries are learned from group listings and single-group
+ * lookups, and removed when a group is deleted or no longer found.
+ *
+ * <p>The number of entries is bounded by {@code maxEntries}. When the limit is
+ * reached, the cache is cleared and repopulated as groups are accessed.
+ */
+class GroupTypeCache {
+
+    private final int maxEntries;
+    private final Map<String, GroupType> types = new ConcurrentHashMap<>();
+
+    GroupTypeCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    Optional<GroupType> get(String groupId) {
+        return Optional.ofNullable(types.get(groupId));
+    }
+
+    void put(String groupId, GroupType type) {
+        if (type == null || type == GroupType.UNKNOWN) {
+            return;
+        }
+        if (types.size() >= maxEntries && !types.containsKey(groupId)) {
+            types.clear();
+        }
+        types.put(groupId, type);
+    }
+
+    void remove(String groupId) {
+        types.remove(groupId);
+    }
+
+    int size() {
+        return types.size();
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -23,12 +24,11 @@ import jakarta.ws.rs.BadRequestException;
 
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DescribeClusterOptions;
-import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.DescribeFeaturesOptions;
 import org.apache.kafka.clients.admin.DescribeFeaturesResult;
 import org.apache.kafka.clients.admin.FeatureMetadata;
 import org.apache.kafka.clients.admin.FinalizedVersionRange;
-import org.apache.kafka.clients.admin.QuorumInfo;
+import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.server.common.MetadataVersion;
 import org.jboss.logging.Logger;
 
@@ -38,11 +38,11 @@ import com.github.streamshub.console.api.model.KafkaCluster;
 import com.github.streamshub.console.api.model.KafkaListener;
 import com.github.streamshub.console.api.model.jsonapi.Identifier;
 import com.github.streamshub.console.api.security.PermissionService;
+import com.github.streamshub.console.api.support.ClusterSnapshot;
 import com.github.streamshub.console.api.support.ContextualExecutorProvider;
 import com.github.streamshub.console.api.support.Holder;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.ListRequestContext;
-import com.github.streamshub.console.api.support.MetadataQuorumSupport;
 import com.github.streamshub.console.config.ConsoleConfig;
 import com.github.streamshub.console.config.security.Privilege;
 import com.github.streamshub.console.config.security.ResourceTypes;
@@ -124,11 +124,11 @@ public class KafkaClusterService {
     Predicate<KafkaCluster> includeAll = k -> listUnconfigured;
 
     public List<KafkaCluster> listClusters(ListRequestContext<KafkaCluster> listSupport) {
-        List<KafkaCluster> kafkaResources = kafkaResources()
+        Map<String, KafkaCluster> kafkaResources = kafkaResources()
                 .map(this::toKafkaCluster)
                 // Hide unconfigured clusters for now.
                 .filter(includeAll.or(KafkaCluster::isConfigured))
-                .toList();
+                .collect(Collectors.toMap(k -> Cache.namespaceKeyFunc(k.namespace(), k.name()), Function.identity()));
 
         Map<String, KafkaCluster> configuredClusters = kafkaContexts
                 .entrySet()
@@ -136,17 +136,20 @@ public class KafkaClusterService {
                 .map(ctx -> {
                     String id = ctx.getKey();
                     var config = ctx.getValue().clusterConfig();
-
-                    return kafkaResources.stream()
-                        .filter(k -> Objects.equals(k.name(), config.getName()))
-                        .filter(k -> Objects.equals(k.namespace(), config.getNamespace()))
-                        .map(k -> addKafkaContextData(k, ctx.getValue()))
-                        .findFirst()
-                        .orElseGet(() -> addKafkaContextData(KafkaCluster.fromId(id), ctx.getValue()));
+                    var kafka = kafkaResources.get(Cache.namespaceKeyFunc(config.getNamespace(), config.getName()));
+                    /*
+                     * Use the admin client only when already connected, listing
+                     * the clusters must not open a connection to each of them.
+                     */
+                    var admin = ctx.getValue().connectedAdmin();
+
+                    return kafka != null
+                        ? addKafkaContextData(kafka, ctx.getValue(), admin)
+                        : addKafkaContextData(KafkaCluster.fromId(id), ctx.getValue(), admin);
                 })
                 .collect(Collectors.toMap(KafkaCluster::getId, Function.identity()));
 
-        List<KafkaCluster> otherClusters = kafkaResources.stream()
+        List<KafkaCluster> otherClusters = kafkaResources.values().stream()
                 .filter(k -> !configuredClusters.containsKey(k.getId()))
                 .toList();
 
@@ -166,21 +169,16 @@ public class KafkaClusterService {
     }
 
     public CompletionStage<KafkaCluster> describeCluster(List<String> fields, Integer durationMinutes) {
-        Admin adminClient = kafkaContext.admin();
-        DescribeClusterOptions options = new DescribeClusterOptions()
-                .includeAuthorizedOperations(fields.contains(KafkaCluster.Fields.AUTHORIZED_OPERATIONS));
-        var clusterResult = adminClient.describeCluster(options);
-        var quorumResult = MetadataQuorumSupport.quorumInfo(adminClient.describeMetadataQuorum());
+        var snapshot = nodeService.clusterSnapshot();
+        var clusterSnapshot = snapshot.get().toCompletableFuture();
+        var authorizedOperations = authorizedOperations(fields, snapshot).toCompletableFuture();
 
-        return CompletableFuture.allOf(
-                clusterResult.authorizedOperations().toCompletionStage().toCompletableFuture(),
-                clusterResult.clusterId().toCompletionStage().toCompletableFuture(),
-                quorumResult)
+        return CompletableFuture.allOf(clusterSnapshot, authorizedOperations)
             .thenApplyAsync(
-                    nothing -> new KafkaCluster(kafkaContext.clusterId(), enumNames(get(clusterResult::authorizedOperations))),
+                    nothing -> new KafkaCluster(kafkaContext.clusterId(), enumNames(authorizedOperations.join())),
                     executorProvider.currentContextExecutor())
             .thenComposeAsync(
-                    cluster -> addNodes(cluster, clusterResult, quorumResult),
+                    cluster -> addNodes(cluster, clusterSnapshot.join()),
                     executorProvider.currentContextExecutor())
             .thenApplyAsync(this::addKafkaContextData, executorProvider.currentContextExecutor())
             .thenApply(this::addKafkaResourceData)
@@ -191,8 +189,25 @@ public class KafkaClusterService {
                     executorProvider.currentContextExecutor());
     }
 
-    private CompletionStage<KafkaCluster> addNodes(KafkaCluster cluster, DescribeClusterResult clusterResult, CompletableFuture<QuorumInfo> quorumResult) {
-        return nodeService.getNodes(clusterResult, quorumResult)
+    /**
+     * The operations authorized for the cluster depend on the principal of the
+     * Admin client and are not part of the shared cluster snapshot, so they are
+     * only described when requested.
+     */
+    private CompletionStage<Set<AclOperation>> authorizedOperations(List<String> fields, ClusterSnapshot.Periodic snapshot) {
+        if (!fields.contains(KafkaCluster.Fields.AUTHORIZED_OPERATIONS)) {
+            return CompletableFuture.completedStage(null);
+        }
+
+        return kafkaContext.admin()
+            .describeCluster(new DescribeClusterOptions().includeAuthorizedOperations(true))
+            .authorizedOperations()
+            .toCompletionStage()
+            .whenComplete((operations, error) -> snapshot.invalidateOn(error));
+    }
+
+    private CompletionStage<KafkaCluster> addNodes(KafkaCluster cluster, ClusterSnapshot snapshot) {
+        return nodeService.getNodes(snapshot)
             .thenAccept(nodes -> {
                 var identifiers = nodes.stream().map(n -> new Identifier("nodes", n.getId())).toList();
                 var nodesRelationship = cluster.nodes();
@@ -248,7 +263,7 @@ public class KafkaClusterService {
         return cluster;
     }
 
-    KafkaCluster addKafkaContextData(KafkaCluster cluster, KafkaContext kafkaContext) {
+    KafkaCluster addKafkaContextData(KafkaCluster cluster, KafkaContext kafkaContext, Optional<Admin> adminClient) {
         var config = kafkaContext.clusterConfig();
         cluster.setConfigured(true);
         cluster.name(config.getName());
@@ -275,10 +290,10 @@ public class KafkaClusterService {
              * If the Kafka cluster isn't associated with a Strimzi resource,
              * check the Kafka metadata feature version to figure out the version.
              *
-             * The Admin client may be null here when OIDC is not being used for
+             * The Admin client may be absent here when OIDC is not being used for
              * application-wide authentication.
              */
-            Optional.ofNullable(kafkaContext.admin())
+            adminClient
                     .map(admin -> admin.describeFeatures(FEATURES_OPTS))
                     .map(DescribeFeaturesResult::featureMetadata)
                     .map(metadata -> {
@@ -312,7 +327,7 @@ public class KafkaClusterService {
     }
 
     KafkaCluster addKafkaContextData(KafkaCluster cluster) {
-        return addKafkaContextData(cluster, kafkaContext);
+        return addKafkaContextData(cluster, kafkaContext, Optional.ofNullable(kafkaContext.admin()));
     }
 
     void addAuthenticationMethod(KafkaCluster cluster, KafkaContext kafkaContext) {
@@ -464,9 +479,8 @@ public class KafkaClusterService {
     }
 
     private Optional<Kafka> findCluster(String clusterKey) {
-        return kafkaResources()
-                .filter(k -> Objects.equals(clusterKey, Cache.metaNamespaceKeyFunc(k)))
-                .findFirst();
+        return kafkaInformer.map(informer -> informer.getStore().getByKey(clusterKey))
+                .filter(Predicate.not(k -> annotatedKafka(k, Annotations.CONSOLE_HIDDEN)));
     }
 
     private Stream<Kafka> kafkaResources() {
@@ -68,7 +68,7 @@ public class KafkaConnectService {
     /**
      * All Kafka contexts known to the application
      */
-    Map<String, KafkaContext> kafkaContexts;
+    KafkaContext.Manager kafkaContexts;
 
     @Inject
     KafkaConnectAPI.Client connectClient;
@@ -166,13 +166,10 @@ public class KafkaConnectService {
                 .map(consoleConfig.getKafka()::getCluster)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
-                .map(kafkaConfig -> kafkaContexts.values()
-                        .stream()
-                        .filter(ctx -> ctx.clusterConfig().clusterKey().equals(kafkaConfig.clusterKey()))
-                        .findFirst()
-                        .orElse(null))
-                .filter(Objects::nonNull)
-                .map(ctx -> ctx.clusterId())
+                .map(kafkaConfig -> kafkaContexts.findByClusterKey(kafkaConfig.clusterKey()))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .map(KafkaContext::clusterId)
                 .toList();
     }
 
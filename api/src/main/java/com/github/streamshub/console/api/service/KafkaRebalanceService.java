@@ -54,6 +54,9 @@ public class KafkaRebalanceService {
     @Inject
     PermissionService permissionService;
 
+    @Inject
+    StrimziResourceService strimziService;
+
     public List<KafkaRebalance> listRebalances(ListRequestContext<KafkaRebalance> listSupport) {
         final Map<String, Integer> statuses = new HashMap<>();
         listSupport.meta().put("summary", Map.of("statuses", statuses));
@@ -78,14 +81,15 @@ public class KafkaRebalanceService {
     }
 
     public KafkaRebalance getRebalance(String id) {
-        return findRebalance(id)
+        return findRebalance(id, false)
             .map(this::toKafkaRebalance)
             .map(permissionService.addPrivileges(ResourceTypes.Kafka.REBALANCES, KafkaRebalance::name))
             .orElseThrow(() -> new NotFoundException("No such Kafka rebalance resource"));
     }
 
     public KafkaRebalance patchRebalance(String id, KafkaRebalance rebalance) {
-        return findRebalance(id)
+        // Read the current state of the resource rather than the informer's copy
+        return findRebalance(id, true)
             .map(resource -> {
                 var annotations = resource.getMetadata().getAnnotations();
                 String action = rebalance.action();
@@ -159,7 +163,14 @@ public class KafkaRebalanceService {
         return rebalance;
     }
 
-    private Optional<io.strimzi.api.kafka.model.rebalance.KafkaRebalance> findRebalance(String id) {
+    /**
+     * Find the rebalance with the given ID belonging to the current Kafka cluster.
+     *
+     * @param id   encoded namespace and name of the rebalance
+     * @param live when true, the resource is read from the Kubernetes API server,
+     *             otherwise from the rebalance informer
+     */
+    private Optional<io.strimzi.api.kafka.model.rebalance.KafkaRebalance> findRebalance(String id, boolean live) {
         String decodedId = new String(Base64.getUrlDecoder().decode(id));
         String[] idElements = decodedId.split("/");
 
@@ -173,6 +184,12 @@ public class KafkaRebalanceService {
             return Optional.empty();
         }
 
+        String clusterName = owner.getMetadata().getName();
+
+        if (!live) {
+            return strimziService.getKafkaRebalance(idElements[0], idElements[1], clusterName);
+        }
+
         var resource = client.resources(io.strimzi.api.kafka.model.rebalance.KafkaRebalance.class)
             .inNamespace(idElements[0])
             .withName(idElements[1])
@@ -184,7 +201,7 @@ public class KafkaRebalanceService {
 
         String ownedByCluster = resource.getMetadata().getLabels().get(ResourceLabels.STRIMZI_CLUSTER_LABEL);
 
-        if (Objects.equals(ownedByCluster, owner.getMetadata().getName())) {
+        if (Objects.equals(ownedByCluster, clusterName)) {
             return Optional.of(resource);
         }
 
@@ -198,11 +215,7 @@ public class KafkaRebalanceService {
             return Stream.empty();
         }
 
-        return client.resources(io.strimzi.api.kafka.model.rebalance.KafkaRebalance.class)
-                .inNamespace(owner.getMetadata().getNamespace())
-                .withLabel(ResourceLabels.STRIMZI_CLUSTER_LABEL, owner.getMetadata().getName())
-                .list()
-                .getItems()
+        return strimziService.getKafkaRebalances(owner.getMetadata().getNamespace(), owner.getMetadata().getName())
                 .stream()
                 .filter(Predicate.not(this::isTemplate));
     }
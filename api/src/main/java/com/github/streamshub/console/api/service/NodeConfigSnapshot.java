@@ -0,0 +1,257 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.kafka.common.config.ConfigResource;
+
+import com.github.streamshub.console.api.model.ConfigEntry;
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.NodeConfigs;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiError;
+import com.github.streamshub.console.api.support.ClusterSnapshot;
+import com.github.streamshub.console.api.support.PeriodicSnapshot;
+
+/**
+ * Point-in-time view of the configurations of all brokers in a Kafka cluster,
+ * described with a single request for all brokers. A single snapshot is shared
+ * by all requests for a cluster.
+ *
+ * <p>The configurations of the brokers in a cluster are mostly identical, so
+ * they are held as one array of entries per node, aligned with a single sorted
+ * array of configuration names, and entries with equal attributes are interned
+ * so that each distinct entry is retained once regardless of the number of
+ * nodes using it.
+ */
+class NodeConfigSnapshot {
+
+    /**
+     * Configurations expected to differ between the nodes of a cluster, never
+     * considered to be drifted.
+     */
+    static final Set<String> NODE_SPECIFIC = Set.of(
+            "advertised.listeners",
+            "broker.id",
+            "broker.rack",
+            "node.id");
+
+    private record EntryKey(String name, String value, String source, boolean sensitive, boolean readOnly, String type) {
+        static EntryKey of(String name, ConfigEntry entry) {
+            return new EntryKey(name,
+                    entry.getValue(),
+                    entry.getSource(),
+                    entry.isSensitive(),
+                    entry.isReadOnly(),
+                    entry.getType());
+        }
+    }
+
+    private final Instant describedAt;
+    private final String[] names;
+    private final Map<Integer, ConfigEntry[]> nodes;
+    private final Map<Integer, Throwable> errors;
+    private final int distinctEntries;
+
+    private NodeConfigSnapshot(Instant describedAt,
+            String[] names,
+            Map<Integer, ConfigEntry[]> nodes,
+            Map<Integer, Throwable> errors,
+            int distinctEntries) {
+        this.describedAt = describedAt;
+        this.names = names;
+        this.nodes = nodes;
+        this.errors = errors;
+        this.distinctEntries = distinctEntries;
+    }
+
+    /**
+     * {@linkplain PeriodicSnapshot} that loads a new {@linkplain NodeConfigSnapshot}
+     * for the brokers present in the cluster snapshot using the given describer
+     * (see {@linkplain ConfigService#configFetcher(org.apache.kafka.clients.admin.Admin)}).
+     */
+    static class Periodic extends PeriodicSnapshot<NodeConfigSnapshot> {
+        Periodic(ClusterSnapshot.Periodic cluster,
+                Function<List<ConfigResource>, CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>>> describer,
+                Duration interval,
+                double jitter) {
+            super(() -> cluster.get().thenCompose(snapshot -> load(snapshot, describer)), interval, jitter);
+        }
+    }
+
+    static CompletionStage<NodeConfigSnapshot> load(ClusterSnapshot cluster,
+            Function<List<ConfigResource>, CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>>> describer) {
+
+        var keys = cluster.nodes()
+                .stream()
+                .map(node -> new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(node.id())))
+                .toList();
+
+        return describer.apply(keys).thenApply(configs -> {
+            Map<Integer, Either<Map<String, ConfigEntry>, Throwable>> nodeConfigs = HashMap.newHashMap(configs.size());
+            configs.forEach((key, value) -> nodeConfigs.put(Integer.valueOf(key.name()), value));
+            return of(Instant.now(), nodeConfigs);
+        });
+    }
+
+    static NodeConfigSnapshot of(Instant describedAt, Map<Integer, Either<Map<String, ConfigEntry>, Throwable>> configs) {
+        Map<Integer, Throwable> errors = new TreeMap<>();
+        Set<String> allNames = new TreeSet<>();
+
+        configs.forEach((nodeId, nodeConfigs) -> {
+            if (nodeConfigs.getAlternate() != null) {
+                errors.put(nodeId, nodeConfigs.getAlternate());
+            } else {
+                allNames.addAll(nodeConfigs.getPrimary().keySet());
+            }
+        });
+
+        String[] names = allNames.toArray(String[]::new);
+        Map<EntryKey, ConfigEntry> interned = new HashMap<>();
+        Map<Integer, ConfigEntry[]> nodes = new TreeMap<>();
+
+        configs.forEach((nodeId, nodeConfigs) -> {
+            if (nodeConfigs.getAlternate() != null) {
+                return;
+            }
+
+            ConfigEntry[] entries = new ConfigEntry[names.length];
+
+            nodeConfigs.getPrimary().forEach((name, entry) -> {
+                int index = Arrays.binarySearch(names, name);
+                entries[index] = interned.computeIfAbsent(EntryKey.of(name, entry), k -> entry);
+            });
+
+            nodes.put(nodeId, entries);
+        });
+
+        return new NodeConfigSnapshot(describedAt, names, nodes, errors, interned.size());
+    }
+
+    Instant describedAt() {
+        return describedAt;
+    }
+
+    /**
+     * IDs of the nodes for which the snapshot contains a result (possibly an error)
+     */
+    Set<Integer> nodeIds() {
+        Set<Integer> nodeIds = new TreeSet<>(nodes.keySet());
+        nodeIds.addAll(errors.keySet());
+        return nodeIds;
+    }
+
+    /**
+     * Whether the snapshot contains a result (possibly an error) for the node
+     */
+    boolean includesNode(int nodeId) {
+        return nodes.containsKey(nodeId) || errors.containsKey(nodeId);
+    }
+
+    /**
+     * Number of distinct configuration entries retained for all nodes
+     */
+    int distinctEntries() {
+        return distinctEntries;
+    }
+
+    /**
+     * The included nodes in the snapshot, keyed by node ID, with the given node
+     * pool names and any error describing each node's configurations.
+     */
+    Map<String, NodeConfigs.NodeStatus> nodeStatuses(Map<Integer, String> nodePools, Predicate<Integer> include) {
+        Map<String, NodeConfigs.NodeStatus> result = new LinkedHashMap<>();
+        Set<Integer> nodeIds = nodeIds();
+        nodeIds.removeIf(Predicate.not(include));
+
+        for (int nodeId : nodeIds) {
+            JsonApiError error = errors.containsKey(nodeId)
+                    ? JsonApiError.forThrowable(errors.get(nodeId), "Unable to describe node configs")
+                    : null;
+            result.put(String.valueOf(nodeId), new NodeConfigs.NodeStatus(nodePools.get(nodeId), error));
+        }
+
+        return result;
+    }
+
+    /**
+     * Summarize each configuration as the distinct values used by the included
+     * nodes, flagging configurations with values that differ between nodes of
+     * the same node pool. Nodes absent from {@code nodePools} are compared with
+     * one another as a single group.
+     *
+     * @param nodePools node pool names keyed by node ID
+     * @param include   predicate selecting the nodes to summarize
+     */
+    Map<String, NodeConfigs.Config> summarize(Map<Integer, String> nodePools, Predicate<Integer> include) {
+        Map<String, NodeConfigs.Config> result = LinkedHashMap.newLinkedHashMap(names.length);
+
+        for (int i = 0; i < names.length; i++) {
+            ConfigEntry first = null;
+            Map<ConfigEntry, List<String>> values = new LinkedHashMap<>();
+            Map<String, Set<String>> poolValues = new HashMap<>();
+
+            for (var node : nodes.entrySet()) {
+                ConfigEntry entry = node.getValue()[i];
+
+                if (entry == null || !include.test(node.getKey())) {
+                    continue;
+                }
+                if (first == null) {
+                    first = entry;
+                }
+
+                // Entries are interned, identity is sufficient to group equal values
+                values.computeIfAbsent(entry, k -> new ArrayList<>()).add(String.valueOf(node.getKey()));
+                poolValues.computeIfAbsent(nodePools.get(node.getKey()), k -> new HashSet<>()).add(entry.getValue());
+            }
+
+            if (first == null) {
+                continue;
+            }
+
+            List<String> driftedPools = new ArrayList<>();
+            boolean drifted = false;
+
+            if (!NODE_SPECIFIC.contains(names[i])) {
+                for (var pool : poolValues.entrySet()) {
+                    if (pool.getValue().size() > 1) {
+                        drifted = true;
+
+                        if (pool.getKey() != null) {
+                            driftedPools.add(pool.getKey());
+                        }
+                    }
+                }
+            }
+
+            Collections.sort(driftedPools);
+
+            result.put(names[i], new NodeConfigs.Config(
+                    first.getType(),
+                    first.isSensitive(),
+                    first.isReadOnly(),
+                    drifted,
+                    driftedPools,
+                    values.entrySet()
+                        .stream()
+                        .map(e -> new NodeConfigs.Value(e.getKey().getValue(), e.getKey().getSource(), e.getValue()))
+                        .toList()));
+        }
+
+        return result;
+    }
+}
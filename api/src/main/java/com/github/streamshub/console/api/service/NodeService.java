@@ -3,10 +3,12 @@ package com.github.streamshub.console.api.service;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,51 +27,44 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.ws.rs.NotFoundException;
 
-import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.QuorumInfo;
 import org.apache.kafka.common.config.ConfigResource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 import com.github.streamshub.console.api.model.ConfigEntry;
 import com.github.streamshub.console.api.model.Metrics;
 import com.github.streamshub.console.api.model.Metrics.ValueMetric;
 import com.github.streamshub.console.api.model.Node;
+import com.github.streamshub.console.api.model.NodeConfigs;
 import com.github.streamshub.console.api.model.Node.BrokerStatus;
 import com.github.streamshub.console.api.model.Node.ControllerStatus;
 import com.github.streamshub.console.api.model.Node.MetadataStatus;
 import com.github.streamshub.console.api.model.NodeSummary;
 import com.github.streamshub.console.api.security.PermissionService;
+import com.github.streamshub.console.api.support.ClusterSnapshot;
 import com.github.streamshub.console.api.support.ContextualExecutorProvider;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.ListRequestContext;
-import com.github.streamshub.console.api.support.MetadataQuorumSupport;
 import com.github.streamshub.console.config.ConsoleConfig;
 import com.github.streamshub.console.config.security.Privilege;
 import com.github.streamshub.console.config.security.ResourceTypes;
 
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.strimzi.api.ResourceAnnotations;
-import io.strimzi.api.ResourceLabels;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
 import io.strimzi.api.kafka.model.kafka.KafkaSpec;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
 
-import static com.github.streamshub.console.api.BlockingSupplier.get;
-
 @ApplicationScoped
 public class NodeService {
 
     @Inject
     Logger logger;
 
-    @Inject
-    KubernetesClient k8s;
-
     @Inject
     ConfigService configService;
 
@@ -92,11 +87,38 @@ public class NodeService {
     @Inject
     ContextualExecutorProvider threadContext;
 
+    /**
+     * Length of time the nodes and metadata quorum of a cluster are cached
+     * before being described again.
+     */
+    @Inject
+    @ConfigProperty(name = "console.nodes.refresh-interval", defaultValue = "PT30S")
+    Duration snapshotRefreshInterval;
+
+    @Inject
+    @ConfigProperty(name = "console.nodes.refresh-jitter", defaultValue = "0.2")
+    double snapshotRefreshJitter;
+
+    /**
+     * Length of time the configurations of all brokers are cached before being
+     * described again for the cluster-wide configuration view. Brokers are
+     * described directly, so changes are observed within this interval
+     * regardless of the reconcile interval of the config cache.
+     */
+    @Inject
+    @ConfigProperty(name = "console.nodes.configs.refresh-interval", defaultValue = "PT1M")
+    Duration configsRefreshInterval;
+
     @Inject
     @Named("KafkaNodePools")
     // Keys: namespace -> cluster name -> pool name
     Map<String, Map<String, Map<String, KafkaNodePool>>> nodePools;
 
+    @Inject
+    @Named("KafkaPods")
+    // Keys: namespace -> cluster name -> node ID
+    Map<String, Map<String, Map<String, Pod>>> kafkaPods;
+
     /**
      * Used to model the roles assigned to each pool in
      * {@linkplain KafkaClusterService#nodePools nodePools}.
@@ -125,26 +147,73 @@ public class NodeService {
     }
 
     CompletionStage<List<Node>> listNodes() {
-        Admin adminClient = kafkaContext.admin();
-        var clusterResult = adminClient.describeCluster();
-        var quorumResult = MetadataQuorumSupport.quorumInfo(adminClient.describeMetadataQuorum());
-
-        return CompletableFuture.allOf(clusterResult.nodes().toCompletionStage().toCompletableFuture(), quorumResult)
-            .thenComposeAsync(nothing -> getNodes(clusterResult, quorumResult), threadContext.currentContextExecutor());
+        return clusterSnapshot().get()
+            .thenComposeAsync(this::getNodes, threadContext.currentContextExecutor());
     }
 
     public CompletionStage<Map<String, ConfigEntry>> describeConfigs(String nodeId) {
-        return kafkaContext.admin().describeCluster().nodes()
-            .thenApply(nodes -> {
-                if (nodes.stream().map(n -> String.valueOf(n.id())).noneMatch(nodeId::equals)) {
+        var snapshot = clusterSnapshot();
+
+        return snapshot.get()
+            .thenApply(cluster -> {
+                if (cluster.nodes().stream().map(n -> String.valueOf(n.id())).noneMatch(nodeId::equals)) {
                     throw new NotFoundException("No such node: " + nodeId);
                 }
                 return null;
             })
-            .toCompletionStage()
             .thenComposeAsync(
                     nothing -> configService.describeConfigs(ConfigResource.Type.BROKER, nodeId),
-                    threadContext.currentContextExecutor());
+                    threadContext.currentContextExecutor())
+            .whenComplete((configs, error) -> snapshot.invalidateOn(error));
+    }
+
+    /**
+     * Describe the configurations of all brokers in the cluster, flagging those
+     * with values that differ between nodes of the same node pool. Results are
+     * served from a snapshot shared by all requests for the cluster, refreshed
+     * periodically or when a broker has joined the cluster since it was loaded.
+     */
+    public CompletionStage<NodeConfigs.Attributes> describeNodeConfigs() {
+        var cluster = clusterSnapshot();
+        // Described directly rather than via the config cache, which is reconciled less often than the snapshot is refreshed
+        var configs = kafkaContext.shared(NodeConfigSnapshot.Periodic.class, ctx ->
+                new NodeConfigSnapshot.Periodic(cluster, configService.configFetcher(ctx.admin()),
+                        configsRefreshInterval, snapshotRefreshJitter));
+        Map<Integer, String> nodePools = new HashMap<>();
+        nodePoolRoles().forEach((nodeId, poolRoles) -> nodePools.put(nodeId, poolRoles.poolName()));
+
+        return cluster.get()
+            .thenCompose(clusterSnapshot -> configs.get().thenCompose(snapshot -> {
+                if (clusterSnapshot.nodes().stream().allMatch(node -> snapshot.includesNode(node.id()))) {
+                    return CompletableFuture.completedStage(snapshot);
+                }
+                return configs.refresh();
+            }))
+            .thenApplyAsync(snapshot -> {
+                Set<Integer> permitted = snapshot.nodeIds()
+                        .stream()
+                        .filter(permissionService.permitted(ResourceTypes.Kafka.NODE_CONFIGS, Privilege.GET, Object::toString))
+                        .collect(Collectors.toSet());
+
+                return new NodeConfigs.Attributes(
+                        snapshot.describedAt(),
+                        snapshot.nodeStatuses(nodePools, permitted::contains),
+                        snapshot.summarize(nodePools, permitted::contains));
+            }, threadContext.currentContextExecutor())
+            .whenComplete((result, error) -> cluster.invalidateOn(error));
+    }
+
+    /**
+     * Obtain the snapshot of the nodes, controller, and metadata quorum shared by
+     * all requests using the current Kafka context. Callers making other Admin
+     * requests should pass any failure to
+     * {@linkplain ClusterSnapshot.Periodic#invalidateOn(Throwable) invalidateOn}
+     * so that a node leaving the cluster is observed without waiting for the
+     * snapshot to expire.
+     */
+    ClusterSnapshot.Periodic clusterSnapshot() {
+        return kafkaContext.shared(ClusterSnapshot.Periodic.class, ctx ->
+                new ClusterSnapshot.Periodic(ctx.admin(), snapshotRefreshInterval, snapshotRefreshJitter));
     }
 
     NodeSummary summarize(List<Node> nodes) {
@@ -191,14 +260,14 @@ public class NodeService {
         return node;
     }
 
-    CompletionStage<List<Node>> getNodes(DescribeClusterResult clusterResult, CompletableFuture<QuorumInfo> quorumResult) {
-        Map<Integer, Node.MetadataState> metadataStates = getMetadataStates(quorumResult.join());
+    CompletionStage<List<Node>> getNodes(ClusterSnapshot snapshot) {
+        Map<Integer, Node.MetadataState> metadataStates = getMetadataStates(snapshot.quorum());
         var valueMetrics = getClusterValueMetrics();
         var podPromise = getClusterPods();
         Map<Integer, PoolRoles> nodePoolRoles = nodePoolRoles();
         Map<Integer, Node> nodes = new TreeMap<>();
 
-        for (var node : get(clusterResult::nodes)) {
+        for (var node : snapshot.nodes()) {
             /*
              * The nodes array from the describe cluster operation gives a list of broker nodes. If
              * no Strimzi KafkaNodePool is present for this node, we can at least determine that
@@ -332,28 +401,20 @@ public class NodeService {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
+    /**
+     * Pods of the current Kafka cluster's nodes, keyed by node ID, as seen by the
+     * Kafka pod informer. No request is made to the Kubernetes API server.
+     */
     CompletionStage<Map<String, Pod>> getClusterPods() {
-        return Optional.ofNullable(kafkaContext.resource()).map(Kafka::getMetadata).map(kafkaMeta -> {
-            String namespace = kafkaMeta.getNamespace();
-            String name = kafkaMeta.getName();
-
-            return CompletableFuture.supplyAsync(() -> k8s.resources(Pod.class)
-                    .inNamespace(namespace)
-                    .withLabels(Map.of(
-                            ResourceLabels.STRIMZI_CLUSTER_LABEL, name,
-                            ResourceLabels.STRIMZI_COMPONENT_TYPE_LABEL, "kafka"
-                    ))
-                    .list()
-                    .getItems())
-                .thenApply(pods -> pods.stream()
-                        .collect(Collectors.toMap(
-                                pod -> {
-                                    String podName = pod.getMetadata().getName();
-                                    int index = podName.lastIndexOf("-");
-                                    return podName.substring(index + 1);
-                                },
-                                Function.identity())));
-        }).orElseGet(() -> CompletableFuture.completedFuture(Collections.<String, Pod>emptyMap()));
+        Map<String, Pod> pods = Optional.ofNullable(kafkaContext.resource())
+                .map(Kafka::getMetadata)
+                .map(kafkaMeta -> Optional.ofNullable(kafkaPods.get(kafkaMeta.getNamespace()))
+                        .map(clusterPods -> clusterPods.get(kafkaMeta.getName()))
+                        .<Map<String, Pod>>map(Map::copyOf)
+                        .orElseGet(Collections::emptyMap))
+                .orElseGet(Collections::emptyMap);
+
+        return CompletableFuture.completedStage(pods);
     }
 
     CompletionStage<Map<String, List<ValueMetric>>> getClusterValueMetrics() {
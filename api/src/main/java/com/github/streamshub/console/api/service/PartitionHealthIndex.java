@@ -0,0 +1,269 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.config.TopicConfig;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.ConfigEntry;
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.PartitionHealth;
+import com.github.streamshub.console.api.support.AdminFanout;
+import com.github.streamshub.console.api.support.PeriodicRefresh;
+
+/**
+ * Index of the unhealthy partitions of a Kafka cluster: partitions that are
+ * offline, under-replicated, under their topic's {@code min.insync.replicas},
+ * or led by a replica other than the preferred leader. The index is maintained
+ * in the background for a Kafka cluster with a global (application-scoped)
+ * admin client and is shared by all requests for that cluster.
+ *
+ * <p>Each refresh takes a snapshot of the cluster's topic metadata (chunked via
+ * {@linkplain AdminFanout}) and replaces the entries of only those topics whose
+ * health changed since the previous refresh. Topic configurations are obtained
+ * through the cluster's config cache, so {@code min.insync.replicas} is not
+ * requested from the brokers on each refresh.
+ */
+class PartitionHealthIndex implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(PartitionHealthIndex.class);
+
+    private final Admin admin;
+    private final AdminFanout fanout;
+    private final Function<List<ConfigResource>, CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>>> configs;
+    private final PeriodicRefresh<Void> refresh;
+
+    private final Map<String, TopicHealth> topics = new ConcurrentHashMap<>();
+    private volatile Instant refreshedAt;
+
+    /**
+     * Indexed health of a single topic.
+     *
+     * @param topicId        ID of the topic
+     * @param partitionCount number of partitions in the topic
+     * @param unhealthy      partitions of the topic with at least one issue
+     */
+    record TopicHealth(String topicId, int partitionCount, List<PartitionHealth.Partition> unhealthy) {
+    }
+
+    PartitionHealthIndex(Admin admin, AdminFanout fanout,
+            Function<List<ConfigResource>, CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>>> configs,
+            ScheduledExecutorService scheduler, Duration interval, double jitter) {
+        this.admin = admin;
+        this.fanout = fanout;
+        this.configs = configs;
+        this.refresh = new PeriodicRefresh<>("partition health index", this::refreshIndex, scheduler, interval, jitter);
+    }
+
+    /**
+     * Begin building the index in the background.
+     */
+    PartitionHealthIndex start() {
+        refresh.start();
+        return this;
+    }
+
+    /**
+     * Stage that completes once the index has been built for the first time, or
+     * exceptionally if the index has not yet been built and the most recent
+     * attempt failed.
+     */
+    CompletionStage<Void> ready() {
+        return refresh.ready();
+    }
+
+    /**
+     * Summarize the health of the partitions of the topics accepted by the
+     * filter, as of the most recent refresh of the index.
+     */
+    PartitionHealth.Attributes summarize(Predicate<String> topicFilter) {
+        Map<String, TopicHealth> visible = new TreeMap<>();
+
+        topics.forEach((name, topic) -> {
+            if (topicFilter.test(name)) {
+                visible.put(name, topic);
+            }
+        });
+
+        int totalPartitions = visible.values().stream().mapToInt(TopicHealth::partitionCount).sum();
+        PartitionHealth.Counts summary = PartitionHealth.Counts.cluster(totalPartitions);
+        Map<String, PartitionHealth.Counts> brokers = new TreeMap<>(Comparator.comparingInt(Integer::parseInt));
+        List<PartitionHealth.Partition> partitions = new ArrayList<>();
+
+        visible.values().forEach(topic -> topic.unhealthy().forEach(partition -> {
+            partitions.add(partition);
+            partition.issues().forEach(issue -> {
+                summary.add(issue);
+                brokersAffected(partition, issue).forEach(nodeId ->
+                    brokers.computeIfAbsent(String.valueOf(nodeId), k -> PartitionHealth.Counts.broker()).add(issue));
+            });
+        }));
+
+        return new PartitionHealth.Attributes(refreshedAt, summary, brokers, partitions);
+    }
+
+    @Override
+    public void close() {
+        refresh.close();
+    }
+
+    CompletionStage<Void> refreshIndex() {
+        return refreshIndex(name -> true, Runnable::run);
+    }
+
+    /**
+     * Build the index for only those topics accepted by the filter, e.g. the
+     * topics visible to a particular user. Topics that are not accepted are
+     * neither described nor have their configurations requested.
+     *
+     * @param topicFilter    filter applied to the names of the listed topics
+     * @param filterExecutor executor used to apply the filter, e.g. one with
+     *                       access to the request's context
+     */
+    CompletionStage<Void> refreshIndex(Predicate<String> topicFilter, Executor filterExecutor) {
+        Instant snapshotTime = Instant.now();
+
+        return admin.listTopics(new ListTopicsOptions().listInternal(true))
+            .listings()
+            .toCompletionStage()
+            .thenApplyAsync(listings -> listings.stream()
+                    .filter(listing -> topicFilter.test(listing.name()))
+                    .toList(), filterExecutor)
+            .thenCompose(listings -> {
+                Map<Uuid, String> names = new ConcurrentHashMap<>(listings.size());
+                listings.forEach(listing -> names.put(listing.topicId(), listing.name()));
+
+                var pendingDescriptions = AdminFanout.settled(fanout.submit(names.keySet(), chunk -> admin
+                        .describeTopics(TopicCollection.ofTopicIds(chunk))
+                        .topicIdValues()));
+                var pendingConfigs = configs.apply(listings.stream()
+                        .map(TopicListing::name)
+                        .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                        .toList());
+
+                return pendingDescriptions.thenCombine(pendingConfigs, (descriptions, topicConfigs) -> {
+                    update(names, descriptions, topicConfigs);
+                    refreshedAt = snapshotTime;
+                    return null;
+                });
+            });
+    }
+
+    private void update(Map<Uuid, String> names,
+            Map<Uuid, Either<TopicDescription, Throwable>> descriptions,
+            Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>> topicConfigs) {
+
+        AtomicInteger changed = new AtomicInteger();
+
+        Set<String> listed = new HashSet<>(names.values());
+        topics.keySet().retainAll(listed);
+
+        descriptions.forEach((topicId, description) -> {
+            String name = names.get(topicId);
+
+            if (description.isPrimaryEmpty()) {
+                // Retain the previous entry (if any), e.g. the topic was deleted after being listed
+                LOGGER.debugf("Failed to describe topic %s: %s", name, description.getAlternate().getMessage());
+                return;
+            }
+
+            Integer minIsr = Optional.ofNullable(topicConfigs.get(new ConfigResource(ConfigResource.Type.TOPIC, name)))
+                    .flatMap(Either::getOptionalPrimary)
+                    .map(entries -> entries.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG))
+                    .map(ConfigEntry::getValue)
+                    .map(Integer::valueOf)
+                    .orElse(null);
+
+            TopicHealth health = health(topicId.toString(), description.getPrimary(), minIsr);
+
+            if (!Objects.equals(topics.put(name, health), health)) {
+                changed.incrementAndGet();
+            }
+        });
+
+        LOGGER.debugf("Refreshed partition health of %d topics, %d changed", descriptions.size(), changed.get());
+    }
+
+    static TopicHealth health(String topicId, TopicDescription description, Integer minIsr) {
+        List<PartitionHealth.Partition> unhealthy = description.partitions()
+                .stream()
+                .map(partition -> partition(topicId, description.name(), partition, minIsr))
+                .filter(partition -> !partition.issues().isEmpty())
+                .toList();
+
+        return new TopicHealth(topicId, description.partitions().size(), unhealthy);
+    }
+
+    static PartitionHealth.Partition partition(String topicId, String topicName, TopicPartitionInfo info, Integer minIsr) {
+        Node leader = info.leader();
+        boolean online = leader != null && !leader.isEmpty();
+        List<Integer> replicas = info.replicas().stream().map(Node::id).toList();
+        List<Integer> isr = info.isr().stream().map(Node::id).toList();
+        List<String> issues = new ArrayList<>(4);
+
+        if (!online) {
+            issues.add(PartitionHealth.OFFLINE);
+        }
+        if (isr.size() < replicas.size()) {
+            issues.add(PartitionHealth.UNDER_REPLICATED);
+        }
+        if (minIsr != null && isr.size() < minIsr) {
+            issues.add(PartitionHealth.UNDER_MIN_ISR);
+        }
+        if (online && !replicas.isEmpty() && replicas.get(0) != leader.id()) {
+            issues.add(PartitionHealth.NON_PREFERRED_LEADER);
+        }
+
+        return new PartitionHealth.Partition(
+                topicId,
+                topicName,
+                info.partition(),
+                online ? leader.id() : null,
+                replicas,
+                isr,
+                minIsr,
+                List.copyOf(issues));
+    }
+
+    /**
+     * The brokers to which an issue with a partition is attributed: the hosts of
+     * the affected replicas for offline and under-replicated partitions, otherwise
+     * the partition leader.
+     */
+    static List<Integer> brokersAffected(PartitionHealth.Partition partition, String issue) {
+        return switch (issue) {
+            case PartitionHealth.OFFLINE -> partition.replicas();
+            case PartitionHealth.UNDER_REPLICATED -> partition.replicas()
+                    .stream()
+                    .filter(nodeId -> !partition.isr().contains(nodeId))
+                    .toList();
+            default -> Optional.ofNullable(partition.leaderId()).map(List::of).orElseGet(List::of);
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.github.streamshub.console.api.model.PartitionHealth;
+import com.github.streamshub.console.api.security.PermissionService;
+import com.github.streamshub.console.api.support.AdminFanout;
+import com.github.streamshub.console.api.support.AdminFanoutProvider;
+import com.github.streamshub.console.api.support.ContextualExecutorProvider;
+import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.config.security.Privilege;
+import com.github.streamshub.console.config.security.ResourceTypes;
+
+@ApplicationScoped
+public class PartitionHealthService {
+
+    /**
+     * ThreadContext of the request thread. This is used to execute asynchronous
+     * tasks to allow access to request-scoped beans such as the user's
+     * permissions.
+     */
+    @Inject
+    ContextualExecutorProvider threadContext;
+
+    @Inject
+    KafkaContext kafkaContext;
+
+    @Inject
+    AdminFanoutProvider adminFanout;
+
+    @Inject
+    PermissionService permissionService;
+
+    @Inject
+    ConfigService configService;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    @Inject
+    @ConfigProperty(name = "console.topics.partition-health.refresh-interval", defaultValue = "PT30S")
+    Duration refreshInterval;
+
+    @Inject
+    @ConfigProperty(name = "console.topics.partition-health.refresh-jitter", defaultValue = "0.2")
+    double refreshJitter;
+
+    /**
+     * Summarize the health of the partitions of the current Kafka cluster, limited
+     * to the topics the user may get. When the cluster is accessed with a global
+     * admin client, the result is served from the cluster's
+     * {@linkplain PartitionHealthIndex partition health index}. Otherwise, only
+     * the topics the user may get are described, for this request only.
+     */
+    public CompletionStage<PartitionHealth.Attributes> describePartitionHealth() {
+        Predicate<String> permitted = name -> permissionService.permitted(ResourceTypes.Kafka.TOPICS, Privilege.GET, name);
+        PartitionHealthIndex index;
+        CompletionStage<Void> pending;
+
+        if (kafkaContext.applicationScoped()) {
+            var describer = configService.configDescriber(kafkaContext.admin());
+            index = kafkaContext.shared(PartitionHealthIndex.class, ctx -> new PartitionHealthIndex(
+                    ctx.admin(),
+                    adminFanout.create(),
+                    describer,
+                    scheduler,
+                    refreshInterval,
+                    refreshJitter).start());
+            pending = index.ready();
+        } else {
+            // Topics and configurations are described with the user's own admin client and fan-out
+            Admin adminClient = kafkaContext.admin();
+            AdminFanout fanout = adminFanout.current();
+            index = new PartitionHealthIndex(
+                    adminClient,
+                    fanout,
+                    keys -> configService.fetchConfigs(adminClient, fanout, keys),
+                    scheduler,
+                    refreshInterval,
+                    refreshJitter);
+            pending = index.refreshIndex(permitted, threadContext.currentContextExecutor());
+        }
+
+        return pending.thenApplyAsync(nothing -> index.summarize(permitted), threadContext.currentContextExecutor());
+    }
+}
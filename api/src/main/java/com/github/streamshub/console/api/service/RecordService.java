@@ -6,25 +6,35 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
@@ -32,6 +42,7 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.errors.InvalidPartitionsException;
 import org.apache.kafka.common.errors.UnknownTopicIdException;
 import org.apache.kafka.common.header.Header;
@@ -39,14 +50,22 @@ import org.apache.kafka.common.header.Headers;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import com.github.streamshub.console.api.errors.client.TooManyRequestsException;
 import com.github.streamshub.console.api.model.KafkaRecord;
 import com.github.streamshub.console.api.model.jsonapi.Identifier;
 import com.github.streamshub.console.api.model.jsonapi.JsonApiRelationshipToOne;
 import com.github.streamshub.console.api.support.ContextualExecutorProvider;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.SizeLimitedSortedSet;
+import com.github.streamshub.console.api.support.WeightedAdmission;
 import com.github.streamshub.console.api.support.serdes.RecordData;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.security.identity.SecurityIdentity;
+
 import static java.util.Objects.requireNonNullElse;
 
 @ApplicationScoped
@@ -74,7 +93,113 @@ public class RecordService {
     @Inject
     TopicDescribeService topicService;
 
-    public List<KafkaRecord> consumeRecords(String topicId,
+    @Inject
+    SecurityIdentity identity;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    /**
+     * When enabled, reads of records (each using a consumer assigned to the
+     * requested partitions) are admitted only while the partitions being read
+     * and the bytes they may buffer are within the limits below. Requests
+     * beyond the limits wait, in order of arrival, and are rejected with a 429
+     * response when the queue is full or they wait longer than the queue
+     * timeout.
+     */
+    @Inject
+    @ConfigProperty(name = "console.topics.records.admission.enabled", defaultValue = "true")
+    boolean admissionEnabled;
+
+    /**
+     * Maximum number of partitions read concurrently by all requests
+     */
+    @Inject
+    @ConfigProperty(name = "console.topics.records.admission.max-partitions", defaultValue = "1000")
+    int admissionMaxPartitions;
+
+    /**
+     * Maximum number of bytes that may be buffered concurrently by all requests,
+     * estimated from the consumer fetch sizes and the number of records requested
+     */
+    @Inject
+    @ConfigProperty(name = "console.topics.records.admission.max-bytes", defaultValue = "268435456")
+    long admissionMaxBytes;
+
+    /**
+     * Maximum number of concurrent reads by a single authenticated user. Reads
+     * by anonymous users are limited only by the global limits.
+     */
+    @Inject
+    @ConfigProperty(name = "console.topics.records.admission.max-per-user", defaultValue = "2")
+    int admissionMaxPerUser;
+
+    @Inject
+    @ConfigProperty(name = "console.topics.records.admission.max-queued", defaultValue = "100")
+    int admissionMaxQueued;
+
+    @Inject
+    @ConfigProperty(name = "console.topics.records.admission.queue-timeout", defaultValue = "PT10S")
+    Duration admissionQueueTimeout;
+
+    /**
+     * Estimated size of a record when the request does not limit the length of
+     * record values with the {@code maxValueLength} parameter
+     */
+    @Inject
+    @ConfigProperty(name = "console.topics.records.admission.record-bytes", defaultValue = "65536")
+    int admissionRecordBytes;
+
+    WeightedAdmission admission;
+    Timer admissionWait;
+    Map<WeightedAdmission.Rejection, Counter> admissionRejections;
+
+    @PostConstruct
+    void initialize() {
+        if (!admissionEnabled) {
+            return;
+        }
+
+        admission = new WeightedAdmission(
+                admissionMaxPartitions,
+                admissionMaxBytes,
+                admissionMaxPerUser,
+                admissionMaxQueued,
+                admissionQueueTimeout,
+                scheduler);
+
+        Gauge.builder("console.records.admission.queued", admission, WeightedAdmission::queued)
+                .description("Record reads waiting to be admitted")
+                .register(meterRegistry);
+        Gauge.builder("console.records.admission.active", admission, WeightedAdmission::active)
+                .description("Record reads in progress")
+                .register(meterRegistry);
+        Gauge.builder("console.records.admission.partitions", admission, WeightedAdmission::partitions)
+                .description("Partitions being read by the record reads in progress")
+                .register(meterRegistry);
+        Gauge.builder("console.records.admission.bytes", admission, WeightedAdmission::bytes)
+                .description("Estimated bytes buffered by the record reads in progress")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        admissionWait = Timer.builder("console.records.admission.wait")
+                .description("Time record reads waited to be admitted or rejected")
+                .register(meterRegistry);
+
+        admissionRejections = new EnumMap<>(WeightedAdmission.Rejection.class);
+
+        for (var reason : WeightedAdmission.Rejection.values()) {
+            admissionRejections.put(reason, Counter.builder("console.records.admission.rejected")
+                    .description("Record reads rejected by admission control")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public CompletionStage<List<KafkaRecord>> consumeRecords(String topicId,
             Integer partition,
             Long offset,
             Instant timestamp,
@@ -82,17 +207,88 @@ public class RecordService {
             List<String> include,
             Integer maxValueLength) {
 
-        String topicName = topicNameForId(topicId);
-        List<PartitionInfo> partitions = consumer.partitionsFor(topicName);
-        List<TopicPartition> assignments = partitions.stream()
-                .filter(p -> partition == null || partition.equals(p.partition()))
-                .map(p -> new TopicPartition(p.topic(), p.partition()))
-                .collect(Collectors.toCollection(ArrayList::new));
+        Admin adminClient = kafkaContext.admin();
+        Executor asyncExec = threadContext.currentContextExecutor();
 
-        if (assignments.isEmpty()) {
-            return Collections.emptyList();
+        return topicService.topicNameForId(topicId)
+            .thenApply(topic -> topic.orElseThrow(() -> noSuchTopic(topicId)))
+            .thenCompose(topicName -> partitionsFor(adminClient, topicName)
+                    .thenApply(partitions -> partitions.stream()
+                            .filter(p -> partition == null || partition.equals(p.partition()))
+                            .map(p -> new TopicPartition(topicName, p.partition()))
+                            .collect(Collectors.toCollection(ArrayList::new))))
+            .thenComposeAsync(assignments -> {
+                if (assignments.isEmpty()) {
+                    return CompletableFuture.completedStage(Collections.<KafkaRecord>emptyList());
+                }
+
+                // The request's consumer is created on first use, only once the read is admitted
+                return admitRead(assignments.size(), limit, maxValueLength)
+                    .thenApplyAsync(ticket -> {
+                        try (ticket) {
+                            return readRecords(topicId, assignments, offset, timestamp, limit, include, maxValueLength);
+                        }
+                    }, asyncExec);
+            }, asyncExec);
+    }
+
+    /**
+     * Request the admission of a read of the given number of partitions. The
+     * weight of the read in bytes is the consumer's fetch buffer for the
+     * partitions plus the records retained for the response. No thread is held
+     * while the read waits to be admitted.
+     *
+     * @return stage completed with the admission ticket (null when admission
+     *         control is disabled), or completed exceptionally with a
+     *         {@link TooManyRequestsException} when the read is not admitted
+     */
+    CompletionStage<WeightedAdmission.Ticket> admitRead(int partitionCount, Integer limit, Integer maxValueLength) {
+        if (admission == null) {
+            return CompletableFuture.completedStage(null);
         }
 
+        var consumerConfigs = kafkaContext.configs(Consumer.class);
+        long partitionFetchBytes = configValue(consumerConfigs, ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG,
+                ConsumerConfig.DEFAULT_MAX_PARTITION_FETCH_BYTES);
+        long fetchBytes = configValue(consumerConfigs, ConsumerConfig.FETCH_MAX_BYTES_CONFIG,
+                ConsumerConfig.DEFAULT_FETCH_MAX_BYTES);
+        long recordBytes = requireNonNullElse(maxValueLength, admissionRecordBytes);
+        long bytes = Math.min(partitionCount * partitionFetchBytes, fetchBytes) + limit * recordBytes;
+        // Anonymous requests are indistinguishable, only the global budgets apply to them
+        String user = identity.isAnonymous() ? null : identity.getPrincipal().getName();
+
+        Timer.Sample wait = Timer.start(meterRegistry);
+
+        return admission.acquire(user, new WeightedAdmission.Weight(partitionCount, bytes))
+            .whenComplete((ticket, error) -> wait.stop(admissionWait))
+            .exceptionally(error -> {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+
+                if (cause instanceof WeightedAdmission.RejectedException e) {
+                    admissionRejections.get(e.reason()).increment();
+                    throw new TooManyRequestsException(e.getMessage(), admissionQueueTimeout);
+                }
+
+                throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+            });
+    }
+
+    static long configValue(Map<String, Object> configs, String name, long defaultValue) {
+        return Optional.ofNullable(configs)
+                .map(c -> c.get(name))
+                .map(String::valueOf)
+                .map(Long::parseLong)
+                .orElse(defaultValue);
+    }
+
+    private List<KafkaRecord> readRecords(String topicId,
+            List<TopicPartition> assignments,
+            Long offset,
+            Instant timestamp,
+            Integer limit,
+            List<String> include,
+            Integer maxValueLength) {
+
         var beginningOffsets = consumer.beginningOffsets(assignments);
         var endOffsets = consumer.endOffsets(assignments);
         // End offset of zero means the partition has not been written to - don't bother reading them
@@ -138,7 +334,8 @@ public class RecordService {
                 .collect(Collectors.toCollection(() -> limitSet))
                 .stream()
                 .map(rec -> getItems(rec, topicId, include, maxValueLength))
-                .toList();    }
+                .toList();
+    }
 
     public KafkaRecord produceRecord(String topicId, KafkaRecord input) {
         String topicName = topicNameForId(topicId);
@@ -238,6 +435,20 @@ public class RecordService {
                 });
     }
 
+    /**
+     * Partitions of the topic, described with the admin client rather than the
+     * request's consumer so that reads waiting for admission do not hold a
+     * consumer and its connections.
+     */
+    CompletionStage<List<TopicPartitionInfo>> partitionsFor(Admin adminClient, String topicName) {
+        return adminClient
+            .describeTopics(List.of(topicName))
+            .topicNameValues()
+            .get(topicName)
+            .toCompletionStage()
+            .thenApply(TopicDescription::partitions);
+    }
+
     String topicNameForId(String topicId) {
         return topicService.topicNameForId(topicId)
             .thenApply(topic -> topic.orElseThrow(() -> noSuchTopic(topicId)))
@@ -0,0 +1,272 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.jboss.logging.Logger;
+
+/**
+ * Reads the timestamps of records at given offsets using a small pool of
+ * consumers shared by all requests for a Kafka cluster. Used to compute the
+ * time lag of groups, i.e. the age of the next record to be consumed relative
+ * to the latest record in the partition.
+ *
+ * <p>The timestamp of an offset is that of the first record at or after the
+ * offset, and does not change once read. Timestamps are retained in a
+ * least-recently-used cache of at most {@code cacheSize} entries, so repeated
+ * views of the same offsets do not read from the cluster again.
+ *
+ * <p>An offset may have no record at or after it even though it is below the
+ * log end offset, e.g. when only transaction markers follow it. Such a miss is
+ * detected once the consumer's position reaches the log end offset and is
+ * cached for as long as the log end offset of the partition is unchanged.
+ *
+ * <p>At most {@code poolSize} consumers are open at once. The time spent
+ * waiting for a consumer and reading records is bounded by the read timeout,
+ * after which the timestamps read so far are returned.
+ */
+class RecordTimestampSampler implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(RecordTimestampSampler.class);
+    private static final Duration MAX_POLL_TIMEOUT = Duration.ofMillis(500);
+
+    /**
+     * An offset of a single topic partition.
+     */
+    record OffsetKey(TopicPartition partition, long offset) {
+    }
+
+    private final Supplier<Consumer<byte[], byte[]>> consumerFactory;
+    private final Semaphore permits;
+    private final Deque<Consumer<byte[], byte[]>> idle = new ConcurrentLinkedDeque<>();
+    private final Map<OffsetKey, Long> cache;
+    /**
+     * Offsets with no record at or after them, with the log end offset of the
+     * partition at the time they were read.
+     */
+    private final Map<OffsetKey, Long> misses;
+    private final Duration readTimeout;
+    private volatile boolean closed = false;
+
+    RecordTimestampSampler(Supplier<Consumer<byte[], byte[]>> consumerFactory,
+            int poolSize,
+            int cacheSize,
+            Duration readTimeout) {
+
+        this.consumerFactory = consumerFactory;
+        this.permits = new Semaphore(Math.max(1, poolSize));
+        this.readTimeout = readTimeout;
+        this.cache = lruMap(cacheSize);
+        this.misses = lruMap(cacheSize);
+    }
+
+    private static <K, V> Map<K, V> lruMap(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Timestamps of the records at the given offsets, each given with the
+     * current log end offset of its partition. At most one offset of each
+     * partition is read. Offsets for which no record could be read are absent
+     * from the result. This method blocks while records are read and must not
+     * be called from an I/O thread.
+     */
+    Map<OffsetKey, Long> timestamps(Map<OffsetKey, Long> offsets) {
+        Map<OffsetKey, Long> result = new HashMap<>();
+        Map<TopicPartition, OffsetKey> uncached = new HashMap<>();
+
+        offsets.forEach((key, endOffset) -> {
+            Long timestamp = cache.get(key);
+
+            if (timestamp != null) {
+                result.put(key, timestamp);
+            } else if (!endOffset.equals(misses.get(key))) {
+                uncached.putIfAbsent(key.partition(), key);
+            }
+        });
+
+        if (uncached.isEmpty() || closed) {
+            return result;
+        }
+
+        long deadline = System.nanoTime() + readTimeout.toNanos();
+        Consumer<byte[], byte[]> consumer = borrow(deadline);
+
+        if (consumer == null) {
+            LOGGER.debugf("No consumer available to read %d record timestamps", uncached.size());
+            return result;
+        }
+
+        boolean healthy = false;
+
+        try {
+            read(consumer, uncached, offsets, deadline, result);
+            healthy = true;
+        } catch (KafkaException e) {
+            LOGGER.debugf(e, "Failed to read record timestamps: %s", e.getMessage());
+        } finally {
+            release(consumer, healthy);
+        }
+
+        return result;
+    }
+
+    private void read(Consumer<byte[], byte[]> consumer,
+            Map<TopicPartition, OffsetKey> keys,
+            Map<OffsetKey, Long> endOffsets,
+            long deadline,
+            Map<OffsetKey, Long> result) {
+
+        consumer.assign(keys.keySet());
+        keys.forEach((partition, key) -> consumer.seek(partition, key.offset()));
+
+        Set<TopicPartition> pending = new HashSet<>(keys.keySet());
+
+        while (!pending.isEmpty()) {
+            long waitNanos = deadline - System.nanoTime();
+
+            if (waitNanos <= 0) {
+                break;
+            }
+
+            var records = consumer.poll(Duration.ofNanos(Math.min(waitNanos, MAX_POLL_TIMEOUT.toNanos())));
+
+            for (TopicPartition partition : records.partitions()) {
+                OffsetKey key = keys.get(partition);
+
+                if (key == null || !pending.contains(partition)) {
+                    continue;
+                }
+
+                records.records(partition)
+                    .stream()
+                    .filter(rec -> rec.offset() >= key.offset())
+                    .findFirst()
+                    .map(ConsumerRecord::timestamp)
+                    .ifPresent(timestamp -> {
+                        cache.put(key, timestamp);
+                        result.put(key, timestamp);
+                        pending.remove(partition);
+                        consumer.pause(List.of(partition));
+                    });
+            }
+
+            /*
+             * The position moves past control records (transaction markers)
+             * without returning them. Once it reaches the log end offset, there
+             * is no record at or after the offset.
+             */
+            pending.removeIf(partition -> {
+                OffsetKey key = keys.get(partition);
+                Long endOffset = endOffsets.get(key);
+
+                if (reachedEnd(consumer, partition, endOffset)) {
+                    misses.put(key, endOffset);
+                    consumer.pause(List.of(partition));
+                    return true;
+                }
+
+                return false;
+            });
+        }
+
+        consumer.resume(consumer.paused());
+        consumer.assign(Collections.emptyList());
+    }
+
+    private static boolean reachedEnd(Consumer<byte[], byte[]> consumer, TopicPartition partition, long endOffset) {
+        try {
+            // Known without a request unless the position is being reset
+            return consumer.position(partition, Duration.ZERO) >= endOffset;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private Consumer<byte[], byte[]> borrow(long deadline) {
+        try {
+            if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        Consumer<byte[], byte[]> consumer = idle.poll();
+
+        if (consumer == null) {
+            try {
+                consumer = consumerFactory.get();
+            } catch (KafkaException e) {
+                permits.release();
+                LOGGER.warnf(e, "Failed to create consumer for reading record timestamps: %s", e.getMessage());
+                return null;
+            }
+        }
+
+        return consumer;
+    }
+
+    private void release(Consumer<byte[], byte[]> consumer, boolean healthy) {
+        try {
+            if (healthy && !closed) {
+                idle.push(consumer);
+            } else {
+                consumer.close();
+            }
+        } finally {
+            permits.release();
+        }
+
+        if (closed) {
+            // Closed while the consumer was in use
+            closeIdle();
+        }
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeIdle();
+    }
+
+    private void closeIdle() {
+        Consumer<byte[], byte[]> consumer;
+
+        while ((consumer = idle.poll()) != null) {
+            try {
+                consumer.close();
+            } catch (Exception e) {
+                LOGGER.debugf(e, "Failed to close consumer: %s", e.getMessage());
+            }
+        }
+    }
+}
@@ -2,48 +2,64 @@ package com.github.streamshub.console.api.service;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.function.Predicate;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 
-import org.jboss.logging.Logger;
-
+import com.github.streamshub.console.api.support.Holder;
 import com.github.streamshub.console.config.ConsoleConfig;
-import com.github.streamshub.console.support.RootCause;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.LabelSelector;
-import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
-import io.quarkus.cache.CacheResult;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.strimzi.api.ResourceLabels;
 import io.strimzi.api.kafka.model.connect.KafkaConnect;
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 
 @ApplicationScoped
 public class StrimziResourceService {
 
-    @Inject
-    Logger logger;
-
     @Inject
     KubernetesClient k8s;
 
     @Inject
     ConsoleConfig consoleConfig;
 
+    @Inject
+    @Named("KafkaRebalances")
+    // Keys: namespace -> cluster name -> rebalance name
+    Map<String, Map<String, Map<String, KafkaRebalance>>> rebalances;
+
+    @Inject
+    @Named("KafkaUsers")
+    // Keys: namespace -> cluster name -> user name
+    Map<String, Map<String, Map<String, KafkaUser>>> users;
+
+    @Inject
+    @Named("KafkaConnectInformer")
+    Holder<SharedIndexInformer<KafkaConnect>> kafkaConnectInformer;
+
+    @Inject
+    @Named("KafkaConnectorInformer")
+    Holder<SharedIndexInformer<KafkaConnector>> kafkaConnectorInformer;
+
+    @Inject
+    @Named("KafkaMirrorMaker2Informer")
+    Holder<SharedIndexInformer<KafkaMirrorMaker2>> kafkaMirrorMaker2Informer;
+
     public SharedIndexInformer<Kafka> informKafkas() {
         return k8s.resources(Kafka.class).inAnyNamespace().inform();
     }
@@ -52,6 +68,37 @@ public class StrimziResourceService {
         return k8s.resources(KafkaNodePool.class).inAnyNamespace().inform();
     }
 
+    /**
+     * Inform the pods of Kafka nodes managed by Strimzi in any namespace. Only
+     * pods labeled with the Kafka component type are watched.
+     */
+    public SharedIndexInformer<Pod> informKafkaPods() {
+        return k8s.resources(Pod.class)
+                .inAnyNamespace()
+                .withLabel(ResourceLabels.STRIMZI_COMPONENT_TYPE_LABEL, "kafka")
+                .inform();
+    }
+
+    public SharedIndexInformer<KafkaRebalance> informKafkaRebalances() {
+        return k8s.resources(KafkaRebalance.class).inAnyNamespace().inform();
+    }
+
+    public SharedIndexInformer<KafkaUser> informKafkaUsers() {
+        return k8s.resources(KafkaUser.class).inAnyNamespace().inform();
+    }
+
+    public SharedIndexInformer<KafkaConnect> informKafkaConnects() {
+        return k8s.resources(KafkaConnect.class).inAnyNamespace().inform();
+    }
+
+    public SharedIndexInformer<KafkaConnector> informKafkaConnectors() {
+        return k8s.resources(KafkaConnector.class).inAnyNamespace().inform();
+    }
+
+    public SharedIndexInformer<KafkaMirrorMaker2> informKafkaMirrorMaker2s() {
+        return k8s.resources(KafkaMirrorMaker2.class).inAnyNamespace().inform();
+    }
+
     @SuppressWarnings("unchecked")
     public <R extends KafkaTopic> SharedIndexInformer<R> informKafkaTopics() {
         return (SharedIndexInformer<R>) k8s.resources(KafkaTopic.class).inAnyNamespace().inform();
@@ -69,99 +116,84 @@ public class StrimziResourceService {
         k8s.resource(topic).delete();
     }
 
-    @CacheResult(cacheName = "strimzi-connect-custom-resource")
+    /**
+     * Create multiple KafkaTopic resources with a single list operation.
+     */
+    public List<KafkaTopic> createTopics(List<KafkaTopic> topics) {
+        return k8s.resourceList(topics)
+                .create()
+                .stream()
+                .map(KafkaTopic.class::cast)
+                .toList();
+    }
+
+    /**
+     * Delete multiple KafkaTopic resources with a single list operation.
+     */
+    public void deleteTopics(List<KafkaTopic> topics) {
+        k8s.resourceList(topics).delete();
+    }
+
     public CompletionStage<Optional<KafkaConnect>> getKafkaConnect(String namespace, String name) {
-        return getResource(KafkaConnect.class, namespace, name);
+        return CompletableFuture.completedStage(getResource(kafkaConnectInformer, namespace, name));
     }
 
-    @CacheResult(cacheName = "strimzi-connector-custom-resource")
     public CompletionStage<Optional<KafkaConnector>> getKafkaConnector(String namespace, String name) {
-        return getResource(KafkaConnector.class, namespace, name);
+        return CompletableFuture.completedStage(getResource(kafkaConnectorInformer, namespace, name));
     }
 
-    @CacheResult(cacheName = "strimzi-mm2-custom-resource")
     public CompletionStage<Optional<KafkaMirrorMaker2>> getKafkaMirrorMaker2(String namespace, String name) {
-        return getResource(KafkaMirrorMaker2.class, namespace, name);
+        return CompletableFuture.completedStage(getResource(kafkaMirrorMaker2Informer, namespace, name));
     }
 
-    @CacheResult(cacheName = "strimzi-user-custom-resources")
     public CompletionStage<List<KafkaUser>> getKafkaUsers(String namespace, String kafkaCluster) {
-        return getResources(KafkaUser.class, namespace, ResourceLabels.STRIMZI_CLUSTER_LABEL, kafkaCluster)
-                .thenApply(users -> users.stream()
-                        .map(KafkaUser.class::cast)
-                        .toList());
+        return CompletableFuture.completedStage(clusterResources(users, namespace, kafkaCluster)
+                .map(clusterUsers -> List.copyOf(clusterUsers.values()))
+                .orElseGet(Collections::emptyList));
     }
 
-    @CacheResult(cacheName = "strimzi-user-custom-resource")
     public CompletionStage<Optional<KafkaUser>> getKafkaUser(String namespace, String name, String kafkaCluster) {
-        return getResource(KafkaUser.class, namespace, name)
-                .thenApply(user -> user
-                        .filter(byKafkaCluster(kafkaCluster))
-                        .map(KafkaUser.class::cast));
+        return CompletableFuture.completedStage(clusterResources(users, namespace, kafkaCluster)
+                .map(clusterUsers -> clusterUsers.get(name)));
     }
 
-    private <C extends HasMetadata> CompletionStage<Optional<C>> getResource(Class<C> type, String namespace, String name) {
-        if (!consoleConfig.getKubernetes().isEnabled() || namespace == null) {
-            return CompletableFuture.completedStage(Optional.empty());
-        }
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                C resource = k8s.resources(type)
-                        .inNamespace(namespace)
-                        .withName(name)
-                        .get();
-
-                return Optional.ofNullable(resource);
-            } catch (KubernetesClientException e) {
-                logger.warnf("Failed to fetch Strimzi %s resource %s/%s: %s",
-                        type.getSimpleName(),
-                        namespace,
-                        name,
-                        RootCause.of(e).orElse(e).getMessage());
-            }
+    /**
+     * KafkaRebalances belonging to the named Kafka cluster, as seen by the
+     * rebalance informer.
+     */
+    public List<KafkaRebalance> getKafkaRebalances(String namespace, String kafkaCluster) {
+        return clusterResources(rebalances, namespace, kafkaCluster)
+                .map(clusterRebalances -> List.copyOf(clusterRebalances.values()))
+                .orElseGet(Collections::emptyList);
+    }
 
-            return Optional.empty();
-        });
+    /**
+     * The named KafkaRebalance belonging to the named Kafka cluster, as seen by
+     * the rebalance informer.
+     */
+    public Optional<KafkaRebalance> getKafkaRebalance(String namespace, String name, String kafkaCluster) {
+        return clusterResources(rebalances, namespace, kafkaCluster)
+                .map(clusterRebalances -> clusterRebalances.get(name));
     }
 
-    private <C extends HasMetadata> CompletionStage<List<C>> getResources(Class<C> type, String namespace, String... labels) {
+    private <C extends HasMetadata> Optional<C> getResource(Holder<SharedIndexInformer<C>> informer, String namespace, String name) {
         if (!consoleConfig.getKubernetes().isEnabled() || namespace == null) {
-            return CompletableFuture.completedStage(Collections.emptyList());
-        }
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return k8s.resources(type)
-                        .inNamespace(namespace)
-                        .withLabelSelector(fromLabels(labels))
-                        .list()
-                        .getItems();
-            } catch (KubernetesClientException e) {
-                logger.warnf("Failed to fetch Strimzi %s resources in namespace %s: %s",
-                        type.getSimpleName(),
-                        namespace,
-                        RootCause.of(e).orElse(e).getMessage());
-            }
-
-            return Collections.emptyList();
-        });
-    }
-
-    private LabelSelector fromLabels(String... labels) {
-        var builder = new LabelSelectorBuilder();
-
-        for (int i = 0; i < labels.length; i += 2) {
-            builder.addToMatchLabels(labels[i], labels[i + 1]);
+            return Optional.empty();
         }
 
-        return builder.build();
+        return informer.map(i -> i.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name)));
     }
 
-    private <T extends HasMetadata> Predicate<T> byKafkaCluster(String kafkaCluster) {
-        return resource -> {
-            String ownedByCluster = resource.getMetadata().getLabels().get(ResourceLabels.STRIMZI_CLUSTER_LABEL);
-            return Objects.equals(ownedByCluster, kafkaCluster);
-        };
+    private <C extends HasMetadata> Optional<Map<String, C>> clusterResources(
+            Map<String, Map<String, Map<String, C>>> resources,
+            String namespace,
+            String kafkaCluster) {
+
+        if (!consoleConfig.getKubernetes().isEnabled() || namespace == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(resources.get(namespace))
+                .map(clusters -> clusters.get(kafkaCluster));
     }
 }
@@ -0,0 +1,572 @@
+package com.github.streamshub.console.api.service;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolationException;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreatePartitionsOptions;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.InvalidRequestException;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.ConfigEntry;
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.FetchFilter;
+import com.github.streamshub.console.api.model.NewTopic;
+import com.github.streamshub.console.api.model.Node;
+import com.github.streamshub.console.api.model.Topic;
+import com.github.streamshub.console.api.model.TopicBatch;
+import com.github.streamshub.console.api.model.TopicBatch.Result;
+import com.github.streamshub.console.api.model.TopicPatch;
+import com.github.streamshub.console.api.security.PermissionService;
+import com.github.streamshub.console.api.support.ContextualExecutorProvider;
+import com.github.streamshub.console.api.support.FetchFilterPredicate;
+import com.github.streamshub.console.api.support.KafkaContext;
+import com.github.streamshub.console.api.support.KafkaOffsetSpec;
+import com.github.streamshub.console.api.support.TopicValidation;
+import com.github.streamshub.console.api.support.ValidationProxy;
+import com.github.streamshub.console.config.security.Privilege;
+import com.github.streamshub.console.config.security.ResourceTypes;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+
+import static org.apache.kafka.clients.admin.NewPartitions.increaseTo;
+
+/**
+ * Applies a single operation to many topics. Inputs are validated once for the
+ * whole batch (e.g. against a single listing of the cluster's nodes) and the
+ * topics are then processed in chunks, each chunk using a single Admin request
+ * (or a single Kubernetes list operation for Strimzi-managed topics). At most
+ * {@code console.topics.batch.concurrency} chunks are in progress at once.
+ *
+ * <p>A failure for one topic does not prevent the operation from being applied
+ * to the other topics in the batch. The outcome for each topic is reported in
+ * the batch results.
+ */
+@ApplicationScoped
+public class TopicBatchService {
+
+    @Inject
+    Logger logger;
+
+    @Inject
+    ContextualExecutorProvider threadContext;
+
+    @Inject
+    ValidationProxy validationService;
+
+    @Inject
+    KafkaContext kafkaContext;
+
+    @Inject
+    StrimziResourceService strimziService;
+
+    @Inject
+    PermissionService permissionService;
+
+    @Inject
+    ConfigService configService;
+
+    @Inject
+    TopicService topicService;
+
+    @Inject
+    TopicDescribeService topicDescribe;
+
+    @Inject
+    NodeService nodeService;
+
+    @Inject
+    @ConfigProperty(name = "console.topics.batch.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    @Inject
+    @ConfigProperty(name = "console.topics.batch.concurrency", defaultValue = "4")
+    int concurrency;
+
+    public CompletionStage<TopicBatch> execute(TopicBatch batch, boolean validateOnly) {
+        Map<String, Result> results = new ConcurrentSkipListMap<>();
+        Executor asyncExec = threadContext.currentContextExecutor();
+
+        CompletionStage<Void> pending = switch (batch.operation()) {
+            case CREATE -> createTopics(batch.topics(), validateOnly, results);
+            case DELETE -> selectTopics(batch, Privilege.DELETE, results)
+                    .thenComposeAsync(selected -> deleteTopics(selected, validateOnly, results), asyncExec);
+            case ALTER_CONFIGS, CREATE_PARTITIONS -> selectTopics(batch, Privilege.UPDATE, results)
+                    .thenComposeAsync(selected -> patchTopics(selected, patch(batch), validateOnly, results), asyncExec);
+        };
+
+        if (!validateOnly) {
+            /*
+             * Altered configurations are invalidated by the config service; topics
+             * created, deleted, or modified via Strimzi are invalidated here.
+             */
+            var invalidator = configService.configInvalidator(ConfigResource.Type.TOPIC);
+            pending = pending.whenComplete((nothing, error) -> invalidator.accept(results.keySet()));
+        }
+
+        return pending.thenApply(nothing -> TopicBatch.completed(batch.operation(), List.copyOf(results.values())));
+    }
+
+    private static TopicPatch patch(TopicBatch batch) {
+        if (batch.operation() == TopicBatch.Operation.CREATE_PARTITIONS) {
+            return new TopicPatch(null, batch.numPartitions(), null, null);
+        }
+        return new TopicPatch(null, null, null, batch.configs());
+    }
+
+    private CompletionStage<Void> createTopics(List<NewTopic> topics, boolean validateOnly, Map<String, Result> results) {
+        Set<String> duplicates = topics.stream()
+                .collect(Collectors.groupingBy(NewTopic::name, Collectors.counting()))
+                .entrySet()
+                .stream()
+                .filter(e -> e.getValue() > 1)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        duplicates.forEach(name -> results.put(name, Result.of(name, null,
+                new InvalidRequestException("Topic named more than once in the batch"))));
+
+        return nodeService.listNodes().thenComposeAsync(nodes -> {
+            List<NewTopic> accepted = topics.stream()
+                    .filter(topic -> !duplicates.contains(topic.name()))
+                    .filter(topic -> validNewTopic(topic, nodes, results))
+                    .toList();
+
+            Optional<Kafka> kafka = topicService.topicOperatorCluster();
+
+            if (kafka.isPresent() && !validateOnly) {
+                return inChunks(accepted, chunk -> createManagedTopics(kafka.get(), chunk, results),
+                        (topic, error) -> failed(results, topic.name(), null, error));
+            }
+
+            Admin adminClient = kafkaContext.admin();
+            return inChunks(accepted, chunk -> createTopics(adminClient, chunk, validateOnly, results),
+                    (topic, error) -> failed(results, topic.name(), null, error));
+        }, threadContext.currentContextExecutor());
+    }
+
+    private boolean validNewTopic(NewTopic topic, List<Node> nodes, Map<String, Result> results) {
+        String name = topic.name();
+
+        if (!permissionService.permitted(ResourceTypes.Kafka.TOPICS, Privilege.CREATE, name)) {
+            results.put(name, Result.of(name, null, permissionService.forbidden(ResourceTypes.Kafka.TOPICS, Privilege.CREATE, name)));
+            return false;
+        }
+
+        try {
+            validationService.validate(new TopicValidation.NewTopicInputs(nodes, Collections.emptyMap(), topic));
+            return true;
+        } catch (ConstraintViolationException e) {
+            results.put(name, Result.of(name, null, e));
+            return false;
+        }
+    }
+
+    private CompletionStage<Void> createTopics(Admin adminClient, List<NewTopic> chunk, boolean validateOnly, Map<String, Result> results) {
+        CreateTopicsResult result = adminClient.createTopics(
+                chunk.stream().map(TopicService::toKafkaModel).toList(),
+                new CreateTopicsOptions().validateOnly(validateOnly));
+
+        return allOf(chunk.stream().map(NewTopic::name).map(name -> result.topicId(name)
+                .toCompletionStage()
+                .<Void>handle((topicId, error) -> {
+                    // No ID is assigned when only validating
+                    String id = topicId == null || Uuid.ZERO_UUID.equals(topicId) ? null : topicId.toString();
+                    results.put(name, Result.of(name, id, error));
+                    return null;
+                })));
+    }
+
+    private CompletionStage<Void> createManagedTopics(Kafka kafka, List<NewTopic> chunk, Map<String, Result> results) {
+        Map<String, KafkaTopic> resources = new LinkedHashMap<>();
+
+        chunk.forEach(topic -> {
+            String name = topic.name();
+
+            if (topicDescribe.getTopicResource(name).isPresent()) {
+                results.put(name, Result.of(name, null, new TopicExistsException("Topic '" + name + "' already exists.")));
+            } else {
+                resources.put(name, TopicService.toKafkaTopic(kafka, TopicService.toKafkaModel(topic), TopicService.replicationFactor(topic)));
+            }
+        });
+
+        if (resources.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
+
+        var created = CompletableFuture.runAsync(() -> strimziService.createTopics(List.copyOf(resources.values())));
+
+        return allOf(resources.entrySet().stream().map(entry -> created
+            .exceptionallyCompose(error -> {
+                /*
+                 * The list operation stops at the first resource that could not be
+                 * created. Create each resource individually to learn the outcome
+                 * for each topic, those already created by the list operation are
+                 * left as they are.
+                 */
+                logger.debugf("Failed to create KafkaTopic resources, creating individually: %s", error.getMessage());
+                return CompletableFuture.runAsync(() -> createTopicResource(entry.getValue()));
+            })
+            .thenCompose(nothing -> topicService.awaitTopic(kafka, entry.getKey(), TopicService::isReady))
+            .<Void>handle((managedTopic, error) -> {
+                String name = entry.getKey();
+                String id = managedTopic != null ? managedTopic.getStatus().getTopicId() : null;
+                results.put(name, Result.of(name, id, error));
+                return null;
+            })));
+    }
+
+    private void createTopicResource(KafkaTopic resource) {
+        try {
+            strimziService.createTopic(resource);
+        } catch (KubernetesClientException e) {
+            // Topics already present were excluded before the list operation
+            if (e.getCode() != HttpURLConnection.HTTP_CONFLICT) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Select the existing topics named in the batch or matching the batch's
+     * pattern. Topics requested by name that do not exist or that the user may
+     * not modify are given a failed result and are not selected.
+     */
+    private CompletionStage<List<TopicListing>> selectTopics(TopicBatch batch, Privilege privilege, Map<String, Result> results) {
+        return topicDescribe.listTopics(true, true).thenApplyAsync(listings -> {
+            Map<String, TopicListing> byName = listings.stream()
+                    .collect(Collectors.toMap(TopicListing::name, Function.identity()));
+            Stream<String> names;
+
+            if (batch.names() != null) {
+                names = batch.names().stream().distinct();
+            } else {
+                var pattern = new FetchFilterPredicate<String, String>(
+                        FetchFilter.valueOf(FetchFilterPredicate.Operator.LIKE_PATTERN.value() + "," + batch.pattern()),
+                        name -> name);
+
+                names = listings.stream()
+                        .map(Topic::fromTopicListing)
+                        .filter(topic -> "external".equals(topic.visibility()))
+                        .map(Topic::name)
+                        .filter(pattern);
+            }
+
+            List<TopicListing> selected = new ArrayList<>();
+
+            names.forEach(name -> {
+                TopicListing listing = byName.get(name);
+
+                if (listing == null) {
+                    results.put(name, Result.of(name, null, new UnknownTopicOrPartitionException("No such topic: " + name)));
+                } else if (!permissionService.permitted(ResourceTypes.Kafka.TOPICS, privilege, name)) {
+                    results.put(name, Result.of(name, listing.topicId().toString(),
+                            permissionService.forbidden(ResourceTypes.Kafka.TOPICS, privilege, name)));
+                } else {
+                    selected.add(listing);
+                }
+            });
+
+            return selected;
+        }, threadContext.currentContextExecutor());
+    }
+
+    private CompletionStage<Void> deleteTopics(List<TopicListing> topics, boolean validateOnly, Map<String, Result> results) {
+        if (validateOnly) {
+            // Nothing further to verify, the topics exist and may be deleted by the user
+            topics.forEach(topic -> results.put(topic.name(), Result.of(topic.name(), topic.topicId().toString(), null)));
+            return CompletableFuture.completedStage(null);
+        }
+
+        List<KafkaTopic> managed = new ArrayList<>();
+        List<TopicListing> unmanaged = new ArrayList<>();
+
+        topics.forEach(topic -> topicDescribe.getManagedTopic(topic.name())
+                .ifPresentOrElse(managed::add, () -> unmanaged.add(topic)));
+
+        Admin adminClient = kafkaContext.admin();
+        Map<String, String> topicIds = topics.stream()
+                .collect(Collectors.toMap(TopicListing::name, topic -> topic.topicId().toString()));
+
+        return CompletableFuture.allOf(
+                inChunks(managed, chunk -> deleteManagedTopics(chunk, topicIds, results),
+                        (topic, error) -> failed(results, topicName(topic), topicIds.get(topicName(topic)), error))
+                    .toCompletableFuture(),
+                inChunks(unmanaged, chunk -> deleteTopics(adminClient, chunk, results),
+                        (topic, error) -> failed(results, topic.name(), topic.topicId().toString(), error))
+                    .toCompletableFuture());
+    }
+
+    private CompletionStage<Void> deleteTopics(Admin adminClient, List<TopicListing> chunk, Map<String, Result> results) {
+        Map<Uuid, String> names = chunk.stream().collect(Collectors.toMap(TopicListing::topicId, TopicListing::name));
+
+        return allOf(adminClient.deleteTopics(TopicCollection.ofTopicIds(names.keySet()))
+                .topicIdValues()
+                .entrySet()
+                .stream()
+                .map(entry -> entry.getValue()
+                        .toCompletionStage()
+                        .<Void>handle((nothing, error) -> {
+                            String name = names.get(entry.getKey());
+                            results.put(name, Result.of(name, entry.getKey().toString(), error));
+                            return null;
+                        })));
+    }
+
+    private CompletionStage<Void> deleteManagedTopics(List<KafkaTopic> chunk, Map<String, String> topicIds, Map<String, Result> results) {
+        return CompletableFuture.runAsync(() -> strimziService.deleteTopics(chunk))
+            .handle((nothing, error) -> {
+                if (error != null) {
+                    logger.warnf("Failed to delete KafkaTopic resources: %s", error.getMessage());
+                }
+                chunk.stream().map(TopicBatchService::topicName).forEach(name ->
+                    results.put(name, Result.of(name, topicIds.get(name), error)));
+                return null;
+            });
+    }
+
+    /**
+     * Apply the patch to each of the topics. The current partitions (and
+     * configurations, when altered) of each chunk of topics are described
+     * first to validate the patch.
+     */
+    private CompletionStage<Void> patchTopics(List<TopicListing> topics, TopicPatch patch, boolean validateOnly, Map<String, Result> results) {
+        Admin adminClient = kafkaContext.admin();
+
+        return nodeService.listNodes().thenComposeAsync(
+                nodes -> inChunks(topics, chunk -> describeForPatch(adminClient, chunk, patch, results)
+                    .thenComposeAsync(described -> {
+                        List<Topic> valid = described.stream()
+                                .filter(topic -> validPatch(topic, patch, nodes, results))
+                                .toList();
+
+                        if (validateOnly) {
+                            return patchTopics(adminClient, valid, patch, true, results);
+                        }
+
+                        List<Topic> unmanaged = new ArrayList<>();
+                        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+                        valid.forEach(topic -> topicDescribe.getManagedTopic(topic.name())
+                                .ifPresentOrElse(
+                                        resource -> pending.add(patchManagedTopic(topic, resource, patch, results)),
+                                        () -> unmanaged.add(topic)));
+
+                        pending.add(patchTopics(adminClient, unmanaged, patch, false, results).toCompletableFuture());
+                        return CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new));
+                    }, threadContext.currentContextExecutor()),
+                    (topic, error) -> failed(results, topic.name(), topic.topicId().toString(), error)),
+                threadContext.currentContextExecutor());
+    }
+
+    private CompletionStage<List<Topic>> describeForPatch(Admin adminClient, List<TopicListing> chunk, TopicPatch patch, Map<String, Result> results) {
+        List<Uuid> topicIds = chunk.stream().map(TopicListing::topicId).toList();
+        var pendingDescribe = topicDescribe.describeTopics(adminClient, topicIds, List.of(Topic.Fields.NUM_PARTITIONS), KafkaOffsetSpec.LATEST)
+                .toCompletableFuture();
+        CompletableFuture<Map<String, Either<Map<String, ConfigEntry>, Throwable>>> pendingConfigs;
+
+        if (patch.configs() != null) {
+            pendingConfigs = configService.describeConfigs(adminClient, chunk.stream()
+                    .map(topic -> new ConfigResource(ConfigResource.Type.TOPIC, topic.name()))
+                    .toList())
+                .toCompletableFuture();
+        } else {
+            pendingConfigs = CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        return pendingDescribe.thenCombine(pendingConfigs, (descriptions, configs) -> {
+            List<Topic> described = new ArrayList<>(chunk.size());
+
+            chunk.forEach(listing -> {
+                var description = descriptions.get(listing.topicId());
+
+                if (description == null || description.isPrimaryEmpty()) {
+                    Throwable error = description != null ? description.getAlternate()
+                            : new UnknownTopicOrPartitionException("No such topic: " + listing.name());
+                    results.put(listing.name(), Result.of(listing.name(), listing.topicId().toString(), error));
+                    return;
+                }
+
+                Topic topic = description.getPrimary();
+                var topicConfigs = configs.get(listing.name());
+
+                if (topicConfigs != null) {
+                    topic.addConfigs(topicConfigs);
+                }
+
+                described.add(topic);
+            });
+
+            return described;
+        });
+    }
+
+    private boolean validPatch(Topic topic, TopicPatch patch, List<Node> nodes, Map<String, Result> results) {
+        try {
+            validationService.validate(new TopicValidation.TopicPatchInputs(nodes, topic, patch));
+            return true;
+        } catch (ConstraintViolationException e) {
+            results.put(topic.name(), Result.of(topic.name(), topic.getId(), e));
+            return false;
+        }
+    }
+
+    private CompletionStage<Void> patchTopics(Admin adminClient, List<Topic> topics, TopicPatch patch, boolean validateOnly, Map<String, Result> results) {
+        if (topics.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
+
+        Map<String, String> topicIds = topics.stream().collect(Collectors.toMap(Topic::name, Topic::getId));
+        Map<String, KafkaFuture<Void>> pending = new HashMap<>();
+
+        if (patch.numPartitions() != null) {
+            var increases = topics.stream()
+                    .filter(topic -> topic.partitions().getPrimary().size() < patch.numPartitions())
+                    .collect(Collectors.toMap(Topic::name, topic -> increaseTo(patch.numPartitions())));
+
+            if (!increases.isEmpty()) {
+                pending.putAll(adminClient.createPartitions(increases, new CreatePartitionsOptions().validateOnly(validateOnly))
+                        .values());
+            }
+        } else {
+            var alterations = topics.stream()
+                    .collect(Collectors.toMap(
+                            topic -> new ConfigResource(ConfigResource.Type.TOPIC, topic.name()),
+                            topic -> patch.configs()));
+
+            configService.alterConfigs(adminClient, alterations, validateOnly)
+                .forEach((resource, future) -> pending.put(resource.name(), future));
+        }
+
+        return allOf(topics.stream().map(Topic::name).map(name -> Optional.ofNullable(pending.get(name))
+                // No partitions to add
+                .map(KafkaFuture::toCompletionStage)
+                .orElseGet(() -> CompletableFuture.completedStage(null))
+                .<Void>handle((nothing, error) -> {
+                    results.put(name, Result.of(name, topicIds.get(name), error));
+                    return null;
+                })));
+    }
+
+    private CompletableFuture<Void> patchManagedTopic(Topic topic, KafkaTopic resource, TopicPatch patch, Map<String, Result> results) {
+        KafkaTopicBuilder builder = new KafkaTopicBuilder(resource);
+
+        if (patch.numPartitions() != null) {
+            builder.editSpec().withPartitions(patch.numPartitions()).endSpec();
+        } else {
+            builder.editSpec().withConfig(TopicService.getModifiedTopicConfig(resource, patch)).endSpec();
+        }
+
+        Kafka kafka = kafkaContext.resource();
+        KafkaTopic modifiedTopic = builder.build();
+
+        return CompletableFuture
+            .supplyAsync(() -> strimziService.patchTopic(modifiedTopic))
+            .thenCompose(patchedTopic -> {
+                long patchedGeneration = TopicService.generation(patchedTopic);
+
+                return topicService.awaitTopic(kafka, topic.name(), managedTopic -> {
+                    long generation = TopicService.generation(managedTopic);
+                    return generation >= patchedGeneration && TopicService.observedGeneration(managedTopic) == generation;
+                });
+            })
+            .handle((managedTopic, error) -> {
+                results.put(topic.name(), Result.of(topic.name(), topic.getId(), error));
+                return null;
+            });
+    }
+
+    /**
+     * Apply the operation to the items in chunks of at most {@code chunkSize},
+     * with no more than {@code concurrency} chunks in progress at once. Each
+     * operation is expected to record the outcome of each of its items; when an
+     * operation fails as a whole, the failure is given to {@code failed} for each
+     * item of the chunk. The returned stage completes when all chunks have been
+     * processed.
+     */
+    private <T> CompletionStage<Void> inChunks(List<T> items, Function<List<T>, CompletionStage<Void>> operation,
+            BiConsumer<T, Throwable> failed) {
+        Queue<List<T>> chunks = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < items.size(); i += chunkSize) {
+            chunks.add(items.subList(i, Math.min(i + chunkSize, items.size())));
+        }
+
+        Executor asyncExec = threadContext.currentContextExecutor();
+
+        return CompletableFuture.allOf(IntStream.range(0, Math.min(Math.max(concurrency, 1), chunks.size()))
+                .mapToObj(lane -> nextChunk(chunks, operation, failed, asyncExec))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private <T> CompletableFuture<Void> nextChunk(Queue<List<T>> chunks, Function<List<T>, CompletionStage<Void>> operation,
+            BiConsumer<T, Throwable> failed, Executor asyncExec) {
+        List<T> chunk = chunks.poll();
+
+        if (chunk == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture.supplyAsync(() -> operation.apply(chunk), asyncExec)
+            .thenCompose(Function.identity())
+            .exceptionally(error -> {
+                logger.warnf("Batch topic operation failed: %s", error.getMessage());
+                chunk.forEach(item -> failed.accept(item, error));
+                return null;
+            })
+            .thenCompose(nothing -> nextChunk(chunks, operation, failed, asyncExec));
+    }
+
+    /**
+     * Record the failure of a topic, unless an outcome was already recorded for
+     * it before its chunk failed.
+     */
+    private static void failed(Map<String, Result> results, String name, String topicId, Throwable error) {
+        results.putIfAbsent(name, Result.of(name, topicId, error));
+    }
+
+    private static CompletionStage<Void> allOf(Stream<CompletionStage<Void>> pending) {
+        return CompletableFuture.allOf(pending.map(CompletionStage::toCompletableFuture).toArray(CompletableFuture[]::new));
+    }
+
+    private static String topicName(KafkaTopic topic) {
+        return topic.getSpec().getTopicName() != null
+                ? topic.getSpec().getTopicName()
+                : topic.getMetadata().getName();
+    }
+}
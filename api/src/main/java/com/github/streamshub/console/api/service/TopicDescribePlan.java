@@ -0,0 +1,117 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.apache.kafka.clients.admin.OffsetSpec;
+
+import com.github.streamshub.console.api.model.Topic;
+import com.github.streamshub.console.api.support.KafkaOffsetSpec;
+
+/**
+ * The Admin operations required to provide a set of requested topic fields
+ * (including fields used only for sorting). Each operation in the plan is
+ * executed once for all topics in a request, and operations that contribute
+ * nothing to the requested fields are skipped entirely.
+ *
+ * <ul>
+ * <li>{@code describeTopics} - partitions, numPartitions, status, authorizedOperations, totalLeaderLogBytes
+ * <li>{@code listOffsets} - partitions only, once per offset spec
+ * <li>{@code describeLogDirs} (via the shared snapshot) - partitions, totalLeaderLogBytes
+ * <li>{@code describeConfigs} - configs, or sorting by a configuration value
+ * <li>group membership - groups
+ * </ul>
+ */
+record TopicDescribePlan(
+        boolean describeTopics,
+        boolean includePartitions,
+        boolean includeAuthorizedOperations,
+        List<OffsetSpec> offsetSpecs,
+        boolean describeLogDirs,
+        boolean describeConfigs,
+        boolean fetchGroups) {
+
+    private static final List<OffsetSpec> DEFAULT_OFFSET_SPECS =
+            List.of(OffsetSpec.earliest(), OffsetSpec.latest(), OffsetSpec.maxTimestamp());
+    private static final Predicate<String> CONFIG_SORT =
+            Pattern.compile("^-?configs\\..+$").asMatchPredicate();
+    private static final Set<String> REQUIRE_DESCRIBE = Set.of(
+            Topic.Fields.PARTITIONS,
+            Topic.Fields.NUM_PARTITIONS,
+            Topic.Fields.AUTHORIZED_OPERATIONS,
+            Topic.Fields.TOTAL_LEADER_LOG_BYTES,
+            Topic.Fields.STATUS);
+    private static final Set<String> REQUIRE_PARTITIONS = Set.of(
+            Topic.Fields.PARTITIONS,
+            Topic.Fields.NUM_PARTITIONS,
+            Topic.Fields.TOTAL_LEADER_LOG_BYTES,
+            Topic.Fields.STATUS);
+    private static final Set<String> REQUIRE_LOG_DIRS = Set.of(
+            Topic.Fields.PARTITIONS,
+            Topic.Fields.TOTAL_LEADER_LOG_BYTES);
+
+    /**
+     * Build the plan for the requested fields.
+     *
+     * @param fields     fields requested via {@code fields[topics]}
+     * @param sortFields names of the fields used to sort the results
+     * @param offsetSpec requested offset spec for partition offsets, one of the
+     *                   {@linkplain KafkaOffsetSpec} constants or a timestamp
+     */
+    static TopicDescribePlan of(Collection<String> fields, List<String> sortFields, String offsetSpec) {
+        Set<String> required = new LinkedHashSet<>(fields);
+
+        if (sortFields.stream().anyMatch(CONFIG_SORT)) {
+            required.add(Topic.Fields.CONFIGS);
+        }
+        sortFields.stream()
+            .filter(Predicate.not(CONFIG_SORT))
+            .forEach(required::add);
+
+        boolean describeTopics = REQUIRE_DESCRIBE.stream().anyMatch(required::contains);
+        boolean includePartitions = REQUIRE_PARTITIONS.stream().anyMatch(required::contains);
+        List<OffsetSpec> offsetSpecs;
+
+        if (required.contains(Topic.Fields.PARTITIONS)) {
+            offsetSpecs = offsetSpecs(offsetSpec);
+        } else {
+            // Offsets are only present in the response as part of the partitions
+            offsetSpecs = Collections.emptyList();
+        }
+
+        return new TopicDescribePlan(
+                describeTopics,
+                includePartitions,
+                required.contains(Topic.Fields.AUTHORIZED_OPERATIONS),
+                offsetSpecs,
+                REQUIRE_LOG_DIRS.stream().anyMatch(required::contains),
+                required.contains(Topic.Fields.CONFIGS),
+                required.contains(Topic.Fields.GROUPS));
+    }
+
+    static TopicDescribePlan of(Collection<String> fields, String offsetSpec) {
+        return of(fields, Collections.emptyList(), offsetSpec);
+    }
+
+    private static List<OffsetSpec> offsetSpecs(String offsetSpec) {
+        List<OffsetSpec> specs = new ArrayList<>(DEFAULT_OFFSET_SPECS);
+
+        // Never null, defaults to latest
+        switch (offsetSpec) { // NOSONAR
+            case KafkaOffsetSpec.EARLIEST, KafkaOffsetSpec.LATEST, KafkaOffsetSpec.MAX_TIMESTAMP:
+                break;
+            default:
+                specs.add(OffsetSpec.forTimestamp(Instant.parse(offsetSpec).toEpochMilli()));
+                break;
+        }
+
+        return specs;
+    }
+}
@@ -1,11 +1,10 @@
 package com.github.streamshub.console.api.service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,10 +14,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -27,7 +26,6 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.clients.admin.DescribeLogDirsOptions;
 import org.apache.kafka.clients.admin.DescribeTopicsOptions;
 import org.apache.kafka.clients.admin.ListOffsetsOptions;
 import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
@@ -37,20 +35,23 @@ import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.TopicCollection;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigResource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 import com.github.streamshub.console.api.model.Either;
 import com.github.streamshub.console.api.model.OffsetInfo;
 import com.github.streamshub.console.api.model.PartitionId;
 import com.github.streamshub.console.api.model.PartitionInfo;
-import com.github.streamshub.console.api.model.ReplicaLocalStorage;
 import com.github.streamshub.console.api.model.Topic;
 import com.github.streamshub.console.api.model.jsonapi.Identifier;
 import com.github.streamshub.console.api.security.PermissionService;
+import com.github.streamshub.console.api.support.AdminFanout;
+import com.github.streamshub.console.api.support.AdminFanoutProvider;
 import com.github.streamshub.console.api.support.ContextualExecutorProvider;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.KafkaOffsetSpec;
 import com.github.streamshub.console.api.support.ListRequestContext;
+import com.github.streamshub.console.api.support.LogDirSnapshot;
 import com.github.streamshub.console.api.support.UnknownTopicIdPatch;
 import com.github.streamshub.console.config.security.Privilege;
 import com.github.streamshub.console.config.security.ResourceTypes;
@@ -63,22 +64,6 @@ import io.strimzi.api.kafka.model.topic.KafkaTopic;
 @ApplicationScoped
 public class TopicDescribeService {
 
-    private static final List<OffsetSpec> DEFAULT_OFFSET_SPECS =
-            List.of(OffsetSpec.earliest(), OffsetSpec.latest(), OffsetSpec.maxTimestamp());
-    private static final Predicate<String> CONFIG_SORT =
-            Pattern.compile("^-?configs\\..+$").asMatchPredicate();
-    private static final Set<String> REQUIRE_DESCRIBE = Set.of(
-            Topic.Fields.PARTITIONS,
-            Topic.Fields.NUM_PARTITIONS,
-            Topic.Fields.AUTHORIZED_OPERATIONS,
-            Topic.Fields.TOTAL_LEADER_LOG_BYTES,
-            Topic.Fields.STATUS);
-    private static final Set<String> REQUIRE_PARTITIONS = Set.of(
-            Topic.Fields.PARTITIONS,
-            Topic.Fields.NUM_PARTITIONS,
-            Topic.Fields.TOTAL_LEADER_LOG_BYTES,
-            Topic.Fields.STATUS);
-
     @Inject
     Logger logger;
 
@@ -93,6 +78,17 @@ public class TopicDescribeService {
     @Inject
     KafkaContext kafkaContext;
 
+    @Inject
+    AdminFanoutProvider adminFanout;
+
+    @Inject
+    @ConfigProperty(name = "console.topics.log-dirs.refresh-interval", defaultValue = "PT30S")
+    Duration logDirsRefreshInterval;
+
+    @Inject
+    @ConfigProperty(name = "console.topics.log-dirs.refresh-jitter", defaultValue = "0.2")
+    double logDirsRefreshJitter;
+
     /**
      * @see com.github.streamshub.console.api.support.InformerFactory#topics InformerFactory topics field
      */
@@ -110,14 +106,7 @@ public class TopicDescribeService {
     GroupService groupService;
 
     public CompletionStage<List<Topic>> listTopics(List<String> fields, String offsetSpec, ListRequestContext<Topic> listSupport) {
-        Set<String> fetchList = new LinkedHashSet<>(fields);
-        List<String> sortFields = listSupport.getSortNames();
-
-        if (sortFields.stream().anyMatch(CONFIG_SORT)) {
-            fetchList.add(Topic.Fields.CONFIGS);
-        }
-        sortFields.stream().filter(Predicate.not(CONFIG_SORT)).forEach(fetchList::add);
-
+        TopicDescribePlan plan = TopicDescribePlan.of(fields, listSupport.getSortNames(), offsetSpec);
         Admin adminClient = kafkaContext.admin();
         final Map<String, Integer> statuses = new HashMap<>();
         final AtomicInteger partitionCount = new AtomicInteger(0);
@@ -128,11 +117,11 @@ public class TopicDescribeService {
                 "statuses", statuses,
                 "totalPartitions", partitionCount));
 
-        return listTopics(true, true)
+        Executor pipeline = threadContext.pipelineExecutor();
+
+        return listTopics(true, true, pipeline)
             .thenApply(list -> list.stream().map(Topic::fromTopicListing).toList())
-            .thenComposeAsync(
-                    list -> augmentList(adminClient, list, new ArrayList<>(fetchList), offsetSpec),
-                    threadContext.currentContextExecutor())
+            .thenComposeAsync(list -> augmentList(adminClient, list, plan), pipeline)
             .thenApply(list -> list.stream()
                     .filter(listSupport.filter(Topic.class))
                     .map(topic -> tallySummary(statuses, partitionCount, topic))
@@ -146,7 +135,7 @@ public class TopicDescribeService {
                         .map(this::setManaged)
                         .map(permissionService.addPrivileges(ResourceTypes.Kafka.TOPICS, Topic::name))
                         .toList(),
-                    threadContext.currentContextExecutor());
+                    pipeline);
     }
 
     private Topic tallySummary(Map<String, Integer> statuses, AtomicInteger partitionCount, Topic topic) {
@@ -162,6 +151,10 @@ public class TopicDescribeService {
     }
 
     CompletableFuture<List<TopicListing>> listTopics(boolean listInternal, boolean checkAuthorization) {
+        return listTopics(listInternal, checkAuthorization, threadContext.currentContextExecutor());
+    }
+
+    private CompletableFuture<List<TopicListing>> listTopics(boolean listInternal, boolean checkAuthorization, Executor executor) {
         Admin adminClient = kafkaContext.admin();
         Predicate<TopicListing> authorizationFilter;
 
@@ -177,7 +170,7 @@ public class TopicDescribeService {
             .toCompletionStage()
             .thenApplyAsync(topics -> topics.stream()
                     .filter(authorizationFilter)
-                    .toList(), threadContext.currentContextExecutor())
+                    .toList(), executor)
             .toCompletableFuture();
     }
 
@@ -194,24 +187,26 @@ public class TopicDescribeService {
     public CompletionStage<Topic> describeTopic(String topicId, List<String> fields, String offsetSpec) {
         Admin adminClient = kafkaContext.admin();
         Uuid id = Uuid.fromString(topicId);
+        TopicDescribePlan plan = TopicDescribePlan.of(fields, offsetSpec);
+        Executor pipeline = threadContext.pipelineExecutor();
 
-        CompletableFuture<Topic> describePromise = describeTopics(adminClient, List.of(id), fields, offsetSpec)
+        CompletableFuture<Topic> describePromise = describeTopics(adminClient, List.of(id), plan)
             .thenApply(result -> result.get(id))
             .thenApply(result -> result.getOrThrow(CompletionException::new))
-            .thenApplyAsync(this::setManaged, threadContext.currentContextExecutor())
+            .thenApplyAsync(this::setManaged, pipeline)
             .thenApplyAsync(
                     permissionService.addPrivileges(ResourceTypes.Kafka.TOPICS, Topic::name),
-                    threadContext.currentContextExecutor())
+                    pipeline)
             .toCompletableFuture();
 
         return describePromise.thenComposeAsync(topic -> {
             var topics = Map.of(id, topic);
 
             return CompletableFuture.allOf(
-                    maybeDescribeConfigs(adminClient, topics, fields),
-                    maybeFetchConsumerGroups(topics, fields))
+                    maybeDescribeConfigs(adminClient, topics, plan),
+                    maybeFetchConsumerGroups(topics, plan))
                 .thenApply(nothing -> topic);
-        }, threadContext.currentContextExecutor());
+        }, pipeline);
     }
 
     Topic setManaged(Topic topic) {
@@ -222,14 +217,22 @@ public class TopicDescribeService {
     }
 
     Optional<KafkaTopic> getManagedTopic(String topicName) {
+        return getTopicResource(topicName)
+            // Do not consider topics without a status set by Strimzi as managed
+            .filter(topic -> Objects.nonNull(topic.getStatus()))
+            .filter(this::isManaged);
+    }
+
+    /**
+     * The KafkaTopic resource (as seen by the topic informer) for the named
+     * topic in the current cluster, regardless of its status.
+     */
+    Optional<KafkaTopic> getTopicResource(String topicName) {
         return Optional.ofNullable(kafkaContext.resource())
             .map(Kafka::getMetadata)
             .flatMap(kafkaMeta -> Optional.ofNullable(managedTopics.get(kafkaMeta.getNamespace()))
                     .map(clustersInNamespace -> clustersInNamespace.get(kafkaMeta.getName()))
-                    .map(topicsInCluster -> topicsInCluster.get(topicName))
-                    // Do not consider topics without a status set by Strimzi as managed
-                    .filter(topic -> Objects.nonNull(topic.getStatus()))
-                    .filter(this::isManaged));
+                    .map(topicsInCluster -> topicsInCluster.get(topicName)));
     }
 
     boolean isManaged(KafkaTopic topic) {
@@ -241,18 +244,18 @@ public class TopicDescribeService {
             .orElse(true);
     }
 
-    CompletionStage<List<Topic>> augmentList(Admin adminClient, List<Topic> list, List<String> fields, String offsetSpec) {
+    CompletionStage<List<Topic>> augmentList(Admin adminClient, List<Topic> list, TopicDescribePlan plan) {
         Map<Uuid, Topic> topics = list.stream().collect(Collectors.toMap(t -> Uuid.fromString(t.getId()), Function.identity()));
-        CompletableFuture<Void> configPromise = maybeDescribeConfigs(adminClient, topics, fields);
-        CompletableFuture<Void> describePromise = maybeDescribeTopics(adminClient, topics, fields, offsetSpec);
-        CompletableFuture<Void> consumerGroupPromise = maybeFetchConsumerGroups(topics, fields);
+        CompletableFuture<Void> configPromise = maybeDescribeConfigs(adminClient, topics, plan);
+        CompletableFuture<Void> describePromise = maybeDescribeTopics(adminClient, topics, plan);
+        CompletableFuture<Void> consumerGroupPromise = maybeFetchConsumerGroups(topics, plan);
 
         return CompletableFuture.allOf(configPromise, describePromise, consumerGroupPromise)
                 .thenApply(nothing -> list);
     }
 
-    CompletableFuture<Void> maybeDescribeConfigs(Admin adminClient, Map<Uuid, Topic> topics, List<String> fields) {
-        if (fields.contains(Topic.Fields.CONFIGS)) {
+    CompletableFuture<Void> maybeDescribeConfigs(Admin adminClient, Map<Uuid, Topic> topics, TopicDescribePlan plan) {
+        if (plan.describeConfigs()) {
             Map<String, Uuid> topicIds = new HashMap<>();
             List<ConfigResource> keys = topics.values().stream()
                     .filter(e -> permissionService.permitted(ResourceTypes.Kafka.TOPICS, Privilege.GET, e.name()))
@@ -272,20 +275,20 @@ public class TopicDescribeService {
         return CompletableFuture.completedFuture(null);
     }
 
-    private CompletableFuture<Void> maybeDescribeTopics(Admin adminClient, Map<Uuid, Topic> topics, List<String> fields, String offsetSpec) {
-        if (REQUIRE_DESCRIBE.stream().anyMatch(fields::contains)) {
+    private CompletableFuture<Void> maybeDescribeTopics(Admin adminClient, Map<Uuid, Topic> topics, TopicDescribePlan plan) {
+        if (plan.describeTopics()) {
             Collection<Uuid> topicIds = topics.entrySet().stream()
                     .filter(e -> permissionService.permitted(ResourceTypes.Kafka.TOPICS, Privilege.GET, e.getValue().name()))
                     .map(Map.Entry::getKey)
                     .toList();
 
-            return describeTopics(adminClient, topicIds, fields, offsetSpec)
+            return describeTopics(adminClient, topicIds, plan)
                 .<Void>thenApply(descriptions -> {
                     descriptions.forEach((id, either) -> {
-                        if (REQUIRE_PARTITIONS.stream().anyMatch(fields::contains)) {
+                        if (plan.includePartitions()) {
                             topics.get(id).addPartitions(either);
                         }
-                        if (fields.contains(Topic.Fields.AUTHORIZED_OPERATIONS)) {
+                        if (plan.includeAuthorizedOperations()) {
                             topics.get(id).addAuthorizedOperations(either);
                         }
                     });
@@ -298,8 +301,8 @@ public class TopicDescribeService {
         return CompletableFuture.completedFuture(null);
     }
 
-    private CompletableFuture<Void> maybeFetchConsumerGroups(Map<Uuid, Topic> topics, List<String> fields) {
-        if (!fields.contains(Topic.Fields.GROUPS)) {
+    private CompletableFuture<Void> maybeFetchConsumerGroups(Map<Uuid, Topic> topics, TopicDescribePlan plan) {
+        if (!plan.fetchGroups()) {
             return CompletableFuture.completedFuture(null);
         }
 
@@ -335,20 +338,27 @@ public class TopicDescribeService {
             Collection<Uuid> topicIds,
             List<String> fields,
             String offsetSpec) {
+        return describeTopics(adminClient, topicIds, TopicDescribePlan.of(fields, offsetSpec));
+    }
+
+    private CompletionStage<Map<Uuid, Either<Topic, Throwable>>> describeTopics(
+            Admin adminClient,
+            Collection<Uuid> topicIds,
+            TopicDescribePlan plan) {
 
         Map<Uuid, Either<Topic, Throwable>> result = new ConcurrentHashMap<>(topicIds.size());
-        TopicCollection request = TopicCollection.ofTopicIds(topicIds);
         DescribeTopicsOptions options = new DescribeTopicsOptions()
-                .includeAuthorizedOperations(fields.contains(Topic.Fields.AUTHORIZED_OPERATIONS));
+                .includeAuthorizedOperations(plan.includeAuthorizedOperations());
         var contextualExecutor = threadContext.currentContextExecutor();
+        var fanout = adminFanout.current();
 
-        var pendingDescribes = adminClient.describeTopics(request, options)
-                .topicIdValues()
+        var pendingDescribes = fanout.submit(topicIds, chunk -> adminClient
+                    .describeTopics(TopicCollection.ofTopicIds(chunk), options)
+                    .topicIdValues())
                 .entrySet()
                 .stream()
                 .map(entry ->
                     entry.getValue()
-                        .toCompletionStage()
                         .<Void>handleAsync((description, error) -> {
                             if (error == null && !permissionService.permitted(ResourceTypes.Kafka.TOPICS, Privilege.GET, description.name())) {
                                 error = permissionService.forbidden(ResourceTypes.Kafka.TOPICS, Privilege.GET, description.name());
@@ -365,13 +375,17 @@ public class TopicDescribeService {
 
         return CompletableFuture.allOf(pendingDescribes)
                 .thenCompose(nothing -> CompletableFuture.allOf(
-                        listOffsets(adminClient, result, offsetSpec).toCompletableFuture(),
-                        describeLogDirs(adminClient, result).toCompletableFuture()
+                        listOffsets(adminClient, fanout, result, plan.offsetSpecs()).toCompletableFuture(),
+                        describeLogDirs(adminClient, result, plan).toCompletableFuture()
                 ))
                 .thenApply(nothing -> result);
     }
 
-    private CompletionStage<Void> listOffsets(Admin adminClient, Map<Uuid, Either<Topic, Throwable>> topics, String offsetSpec) {
+    private CompletionStage<Void> listOffsets(Admin adminClient, AdminFanout fanout, Map<Uuid, Either<Topic, Throwable>> topics, List<OffsetSpec> offsetSpecs) {
+        if (offsetSpecs.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
+
         Map<String, Uuid> topicIds = HashMap.newHashMap(topics.size());
         var onlineTopics = topics.entrySet()
                 .stream()
@@ -380,35 +394,25 @@ public class TopicDescribeService {
                         .map(Topic::partitionsOnline)
                         .orElse(false))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        var partitions = topicPartitionLeaders(onlineTopics, topicIds).keySet();
+
+        if (partitions.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
 
-        var pendingOffsets = getRequestOffsetSpecs(offsetSpec)
+        // One listOffsets operation per offset spec (and chunk of partitions), each covering all partitions in the request
+        var pendingOffsets = offsetSpecs
             .stream()
-            .map(reqOffsetSpec -> topicPartitionLeaders(onlineTopics, topicIds)
-                .keySet()
+            .map(reqOffsetSpec -> partitions
                 .stream()
                 .collect(Collectors.toMap(Function.identity(), ignored -> reqOffsetSpec)))
-            .flatMap(request -> listOffsets(adminClient, onlineTopics, topicIds, request))
+            .flatMap(request -> listOffsets(adminClient, fanout, onlineTopics, topicIds, request))
             .map(CompletionStage::toCompletableFuture)
             .toArray(CompletableFuture[]::new);
 
         return CompletableFuture.allOf(pendingOffsets);
     }
 
-    private List<OffsetSpec> getRequestOffsetSpecs(String offsetSpec) {
-        List<OffsetSpec> specs = new ArrayList<>(DEFAULT_OFFSET_SPECS);
-
-        // Never null, defaults to latest
-        switch (offsetSpec) { // NOSONAR
-            case KafkaOffsetSpec.EARLIEST, KafkaOffsetSpec.LATEST, KafkaOffsetSpec.MAX_TIMESTAMP:
-                break;
-            default:
-                specs.add(OffsetSpec.forTimestamp(Instant.parse(offsetSpec).toEpochMilli()));
-                break;
-        }
-
-        return specs;
-    }
-
     /**
      * Build of map of {@linkplain PartitionId}s to the partition leader node ID.
      * Concurrently, a map of topic names to topic identifiers is constructed to
@@ -457,6 +461,7 @@ public class TopicDescribeService {
 
     private Stream<CompletionStage<Void>> listOffsets(
             Admin adminClient,
+            AdminFanout fanout,
             Map<Uuid, Either<Topic, Throwable>> topics,
             Map<String, Uuid> topicIds,
             Map<PartitionId, OffsetSpec> request) {
@@ -465,13 +470,15 @@ public class TopicDescribeService {
                 .stream()
                 .map(e -> Map.entry(e.getKey().toKafkaModel(), e.getValue()))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        var result = adminClient.listOffsets(kafkaRequest, new ListOffsetsOptions()
-                .timeoutMs(5000));
+        var result = fanout.submit(kafkaRequest.keySet(), chunk -> {
+            var chunkRequest = chunk.stream().collect(Collectors.toMap(Function.identity(), kafkaRequest::get));
+            var chunkResult = adminClient.listOffsets(chunkRequest, new ListOffsetsOptions().timeoutMs(5000));
+            return chunk.stream().collect(Collectors.toMap(Function.identity(), chunkResult::partitionResult));
+        });
 
         return kafkaRequest.entrySet()
                 .stream()
-                .map(entry -> result.partitionResult(entry.getKey())
-                        .toCompletionStage()
+                .map(entry -> result.get(entry.getKey())
                         .<Void>handle((offsetResult, error) -> {
                             addOffset(topics.get(topicIds.get(entry.getKey().topic())).getPrimary(),
                                         entry.getKey().partition(),
@@ -501,49 +508,87 @@ public class TopicDescribeService {
         return Either.of(result, error, transformer);
     }
 
-    private CompletionStage<Void> describeLogDirs(Admin adminClient, Map<Uuid, Either<Topic, Throwable>> topics) {
-        Map<String, Uuid> topicIds = HashMap.newHashMap(topics.size());
+    private CompletionStage<Void> describeLogDirs(Admin adminClient, Map<Uuid, Either<Topic, Throwable>> topics, TopicDescribePlan plan) {
+        if (!plan.describeLogDirs()) {
+            return CompletableFuture.completedStage(null);
+        }
 
+        Map<String, Uuid> topicIds = HashMap.newHashMap(topics.size());
         var topicPartitionReplicas = topicPartitionLeaders(topics, topicIds);
-        var nodeIds = topicPartitionReplicas.values().stream().distinct().toList();
-        var logDirs = adminClient.describeLogDirs(nodeIds, new DescribeLogDirsOptions()
-                .timeoutMs(5000))
-                .descriptions();
 
-        var pendingInfo = topicPartitionReplicas.entrySet()
-            .stream()
-            .map(e -> {
-                var topicPartition = e.getKey().toKafkaModel();
-                int nodeId = e.getValue();
-                var partitionInfo = topics.get(topicIds.get(topicPartition.topic()))
-                        .getPrimary()
-                        .partitions()
-                        .getPrimary()
-                        .stream()
-                        .filter(p -> p.getPartition() == topicPartition.partition())
-                        .findFirst();
+        if (topicPartitionReplicas.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
+
+        return logDirs(adminClient, topicPartitionReplicas)
+            .<Void>handle((snapshot, failure) -> {
+                Throwable error = failure instanceof CompletionException ce ? ce.getCause() : failure;
+
+                topicPartitionReplicas.forEach((partitionId, nodeId) -> {
+                    var topicPartition = partitionId.toKafkaModel();
+                    var partitionInfo = topics.get(topicIds.get(topicPartition.topic()))
+                            .getPrimary()
+                            .partitions()
+                            .getPrimary()
+                            .stream()
+                            .filter(p -> p.getPartition() == topicPartition.partition())
+                            .findFirst();
 
-                return logDirs.get(nodeId).toCompletionStage().<Void>handle((nodeLogDirs, error) -> {
                     if (error != null) {
                         partitionInfo.ifPresent(p -> p.setReplicaLocalStorage(nodeId, Either.ofAlternate(error)));
                     } else {
-                        nodeLogDirs.values()
-                            .stream()
-                            .map(dir -> dir.replicaInfos())
-                            .map(replicas -> replicas.get(topicPartition))
-                            .filter(Objects::nonNull)
-                            .map(org.apache.kafka.clients.admin.ReplicaInfo.class::cast)
-                            .map(ReplicaLocalStorage::fromKafkaModel)
-                            .forEach(replicaInfo -> partitionInfo.ifPresent(p -> p.setReplicaLocalStorage(nodeId, Either.of(replicaInfo))));
+                        snapshot.replica(nodeId, topicPartition)
+                            .ifPresent(storage -> partitionInfo.ifPresent(p -> p.setReplicaLocalStorage(nodeId, storage)));
                     }
-
-                    return null;
                 });
-            })
-            .map(CompletionStage::toCompletableFuture)
-            .toArray(CompletableFuture[]::new);
 
-        return CompletableFuture.allOf(pendingInfo);
+                return null;
+            });
+    }
+
+    /**
+     * Log dirs of the leaders of the given partitions. For an
+     * application-scoped context, these are taken from the snapshot shared by
+     * all requests for the cluster. Contexts using the credentials of a single
+     * user do not outlive the request, so only the leaders are described rather
+     * than loading a snapshot of every broker.
+     */
+    private CompletionStage<LogDirSnapshot> logDirs(Admin adminClient, Map<PartitionId, Integer> leaders) {
+        var nodeIds = Set.copyOf(leaders.values());
+
+        if (!kafkaContext.applicationScoped()) {
+            return LogDirSnapshot.describe(adminClient, nodeIds);
+        }
+
+        var logDirs = kafkaContext.shared(LogDirSnapshot.Periodic.class, ctx ->
+                new LogDirSnapshot.Periodic(ctx.admin(), logDirsRefreshInterval, logDirsRefreshJitter));
+
+        return logDirs.get()
+            .thenCompose(snapshot -> {
+                if (nodeIds.stream().allMatch(snapshot::includesNode)) {
+                    return CompletableFuture.completedStage(snapshot);
+                }
+                // A leader is not known to the snapshot, e.g. a broker was added since it was taken
+                return logDirs.refresh();
+            })
+            .thenCompose(snapshot -> {
+                var staleNodeIds = leaders.entrySet()
+                        .stream()
+                        .filter(e -> snapshot.replica(e.getValue(), e.getKey().toKafkaModel()).isEmpty())
+                        .map(Map.Entry::getValue)
+                        .collect(Collectors.toSet());
+
+                if (staleNodeIds.isEmpty()) {
+                    return CompletableFuture.completedStage(snapshot);
+                }
+
+                /*
+                 * A partition is not known to the snapshot, e.g. the topic was created or
+                 * reassigned since it was taken. Describe only the leaders of those partitions
+                 * rather than refreshing the snapshot for every broker.
+                 */
+                return LogDirSnapshot.describe(adminClient, staleNodeIds).thenApply(snapshot::with);
+            });
     }
 
 }
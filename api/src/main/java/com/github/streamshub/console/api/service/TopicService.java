@@ -3,7 +3,6 @@ package com.github.streamshub.console.api.service;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -13,8 +12,10 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -38,10 +39,13 @@ import org.jboss.logging.Logger;
 import com.github.streamshub.console.api.model.ConfigEntry;
 import com.github.streamshub.console.api.model.Metrics;
 import com.github.streamshub.console.api.model.NewTopic;
+import com.github.streamshub.console.api.model.Node;
 import com.github.streamshub.console.api.model.Topic;
 import com.github.streamshub.console.api.model.TopicPatch;
 import com.github.streamshub.console.api.security.PermissionService;
+import com.github.streamshub.console.api.support.ClusterSnapshot;
 import com.github.streamshub.console.api.support.ContextualExecutorProvider;
+import com.github.streamshub.console.api.support.InformerFactory;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.KafkaOffsetSpec;
 import com.github.streamshub.console.api.support.ListRequestContext;
@@ -65,13 +69,12 @@ import static org.apache.kafka.clients.admin.NewPartitions.increaseTo;
 public class TopicService {
 
     public static final int TOPIC_OPERATION_LIMIT = 20;
+    private static final int TOPIC_DESCRIBE_ATTEMPTS = 5;
+    private static final long TOPIC_DESCRIBE_RETRY_MS = 100;
 
     @Inject
     Logger logger;
 
-    @Inject
-    ScheduledExecutorService scheduler;
-
     /**
      * ThreadContext of the request thread. This is used to execute asynchronous
      * tasks to allow access to request-scoped beans such as an injected
@@ -89,6 +92,9 @@ public class TopicService {
     @Inject
     StrimziResourceService strimziService;
 
+    @Inject
+    InformerFactory informerFactory;
+
     @Inject
     PermissionService permissionService;
 
@@ -108,10 +114,18 @@ public class TopicService {
     public CompletionStage<NewTopic> createTopic(NewTopic topic, boolean validateOnly) {
         permissionService.assertPermitted(ResourceTypes.Kafka.TOPICS, Privilege.CREATE, topic.name());
 
-        return validate(topic).thenComposeAsync(
-                nothing -> createTopicValidated(topic, validateOnly),
+        var invalidator = configService.configInvalidator(ConfigResource.Type.TOPIC);
+        var cluster = nodeService.clusterSnapshot();
+
+        return validate(cluster, topic).thenComposeAsync(
+                nothing -> createTopicValidated(cluster, topic, validateOnly),
                 threadContext.currentContextExecutor()
-        );
+        ).whenComplete((created, error) -> {
+            if (!validateOnly) {
+                // Configurations of a topic previously known by the same name are no longer valid
+                invalidator.accept(List.of(topic.name()));
+            }
+        });
     }
 
     public CompletionStage<List<Topic>> listTopics(List<String> fields, String offsetSpec, ListRequestContext<Topic> listSupport) {
@@ -134,13 +148,15 @@ public class TopicService {
      * </ul>
      */
     public CompletionStage<Void> patchTopic(String topicId, TopicPatch patch, boolean validateOnly) {
+        var cluster = nodeService.clusterSnapshot();
+
         return describeTopic(topicId, List.of(Topic.Fields.CONFIGS), KafkaOffsetSpec.LATEST)
             .thenComposeAsync(
-                    topic -> validate(topic, patch),
+                    topic -> validate(cluster, topic, patch),
                     threadContext.currentContextExecutor()
             )
             .thenComposeAsync(
-                    topic -> patchTopicValidated(topic, patch, validateOnly),
+                    topic -> patchTopicValidated(cluster, topic, patch, validateOnly),
                     threadContext.currentContextExecutor()
             );
     }
@@ -148,6 +164,7 @@ public class TopicService {
     public CompletionStage<Void> deleteTopic(String topicId) {
         Admin adminClient = kafkaContext.admin();
         Uuid id = Uuid.fromString(topicId);
+        var invalidator = configService.configInvalidator(ConfigResource.Type.TOPIC);
 
         return topicDescribe.topicNameForId(topicId)
                 .thenApply(topicName -> {
@@ -162,12 +179,22 @@ public class TopicService {
                                 .topicIdValues()
                                 .get(id)
                                 .toCompletionStage()
-                                .toCompletableFuture()),
+                                .toCompletableFuture())
+                        .whenComplete((nothing, error) -> invalidator.accept(List.of(topicName))),
                     threadContext.currentContextExecutor());
     }
 
-    private CompletionStage<Void> validate(NewTopic topic) {
-        return nodeService.listNodes()
+    /**
+     * Nodes of the cluster used to validate replica assignments and the
+     * replication factor, taken from the shared cluster snapshot.
+     */
+    private CompletionStage<List<Node>> nodes(ClusterSnapshot.Periodic cluster) {
+        return cluster.get()
+                .thenComposeAsync(nodeService::getNodes, threadContext.currentContextExecutor());
+    }
+
+    private CompletionStage<Void> validate(ClusterSnapshot.Periodic cluster, NewTopic topic) {
+        return nodes(cluster)
                 .thenAccept(nodes -> validationService.validate(new TopicValidation.NewTopicInputs(
                         nodes,
                         Collections.emptyMap(),
@@ -175,30 +202,54 @@ public class TopicService {
                 )));
     }
 
-    private CompletionStage<NewTopic> createTopicValidated(NewTopic topic, boolean validateOnly) {
+    private CompletionStage<NewTopic> createTopicValidated(ClusterSnapshot.Periodic cluster, NewTopic topic, boolean validateOnly) {
         String topicName = topic.name();
+        org.apache.kafka.clients.admin.NewTopic newTopic = toKafkaModel(topic);
+        Optional<Short> replicationFactor = replicationFactor(topic);
+        Optional<Kafka> kafka = topicOperatorCluster();
+
+        if (kafka.isPresent() && !validateOnly) {
+            return createManagedTopic(kafka.get(), newTopic, replicationFactor);
+        } else {
+            Admin adminClient = kafkaContext.admin();
+            CreateTopicsResult result = adminClient
+                    .createTopics(List.of(newTopic), new CreateTopicsOptions().validateOnly(validateOnly));
+
+            return result.all()
+                    .thenApply(nothing -> NewTopic.fromKafkaModel(topicName, result))
+                    .toCompletionStage()
+                    .whenComplete((created, error) -> cluster.invalidateOn(error));
+        }
+    }
+
+    /**
+     * The Strimzi Kafka resource for the current cluster, when topics in the
+     * cluster are managed by the Strimzi topic operator.
+     */
+    Optional<Kafka> topicOperatorCluster() {
+        return Optional.ofNullable(kafkaContext.resource())
+                .filter(kafka -> Optional.of(kafka)
+                        .map(Kafka::getSpec)
+                        .map(KafkaSpec::getEntityOperator)
+                        .map(EntityOperatorSpec::getTopicOperator)
+                        .isPresent());
+    }
+
+    static org.apache.kafka.clients.admin.NewTopic toKafkaModel(NewTopic topic) {
         org.apache.kafka.clients.admin.NewTopic newTopic;
-        Optional<Short> replicationFactor;
 
         if (topic.replicasAssignments() != null) {
-            replicationFactor = topic.replicasAssignments()
-                    .values()
-                    .stream()
-                    .findFirst()
-                    .map(List::size)
-                    .map(Integer::shortValue);
             newTopic = new org.apache.kafka.clients.admin.NewTopic(
-                    topicName,
+                    topic.name(),
                     topic.replicasAssignments()
                         .entrySet()
                         .stream()
                         .collect(Collectors.toMap(e -> Integer.valueOf(e.getKey()), Map.Entry::getValue)));
         } else {
-            replicationFactor = Optional.ofNullable(topic.replicationFactor());
             newTopic = new org.apache.kafka.clients.admin.NewTopic(
-                    topicName,
+                    topic.name(),
                     Optional.ofNullable(topic.numPartitions()),
-                    replicationFactor);
+                    Optional.ofNullable(topic.replicationFactor()));
         }
 
         if (topic.configs() != null) {
@@ -208,28 +259,23 @@ public class TopicService {
                     .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getValue())));
         }
 
-        Optional<Kafka> kafka = Optional.ofNullable(kafkaContext.resource());
-        boolean managedTopics = kafka
-                .map(Kafka::getSpec)
-                .map(KafkaSpec::getEntityOperator)
-                .map(EntityOperatorSpec::getTopicOperator)
-                .isPresent();
-
-        if (managedTopics && !validateOnly) {
-            // Ignore Sonar warning - kafka is present when managedTopics == true
-            return createManagedTopic(kafka.get(), newTopic, replicationFactor); // NOSONAR
-        } else {
-            Admin adminClient = kafkaContext.admin();
-            CreateTopicsResult result = adminClient
-                    .createTopics(List.of(newTopic), new CreateTopicsOptions().validateOnly(validateOnly));
+        return newTopic;
+    }
 
-            return result.all()
-                    .thenApply(nothing -> NewTopic.fromKafkaModel(topicName, result))
-                    .toCompletionStage();
+    static Optional<Short> replicationFactor(NewTopic topic) {
+        if (topic.replicasAssignments() != null) {
+            return topic.replicasAssignments()
+                    .values()
+                    .stream()
+                    .findFirst()
+                    .map(List::size)
+                    .map(Integer::shortValue);
         }
+
+        return Optional.ofNullable(topic.replicationFactor());
     }
 
-    private CompletionStage<NewTopic> createManagedTopic(
+    static KafkaTopic toKafkaTopic(
             Kafka kafka,
             org.apache.kafka.clients.admin.NewTopic newTopic,
             Optional<Short> replicationFactor) {
@@ -238,7 +284,7 @@ public class TopicService {
                 .<Map<String, Object>>map(LinkedHashMap::new)
                 .orElse(null);
 
-        KafkaTopic topicResource = new KafkaTopicBuilder()
+        return new KafkaTopicBuilder()
                 .withNewMetadata()
                     .withNamespace(kafka.getMetadata().getNamespace())
                     .withName(newTopic.name())
@@ -251,82 +297,107 @@ public class TopicService {
                     .withConfig(newConfigs)
                 .endSpec()
                 .build();
+    }
 
-        class TopicCreationCheck extends TopicCheck<NewTopic> {
-            TopicCreationCheck() {
-                super(threadContext, scheduler);
-            }
+    private CompletionStage<NewTopic> createManagedTopic(
+            Kafka kafka,
+            org.apache.kafka.clients.admin.NewTopic newTopic,
+            Optional<Short> replicationFactor) {
 
-            @Override
-            void pollTopic() {
-                Optional<KafkaTopic> managedTopic = topicDescribe.getManagedTopic(newTopic.name());
-                boolean ready = managedTopic
-                    .map(KafkaTopic::getStatus)
-                    .map(KafkaTopicStatus::getConditions)
-                    .map(List::stream)
-                    .orElseGet(Stream::empty)
-                    .filter(c -> "Ready".equals(c.getType()))
-                    .anyMatch(c -> "True".equals(c.getStatus()));
-
-                if (managedTopic.isEmpty() || !ready) {
-                    schedule(100);
-                    return;
-                }
+        KafkaTopic topicResource = toKafkaTopic(kafka, newTopic, replicationFactor);
 
-                topicDescribe.describeTopic(
-                        managedTopic.get().getStatus().getTopicId(),
-                        List.of(Topic.Fields.CONFIGS, Topic.Fields.PARTITIONS),
-                        KafkaOffsetSpec.LATEST)
-                    .thenAccept(createdTopic -> {
-                        if (createdTopic.partitions().isPrimaryEmpty()
-                                || createdTopic.configs().isPrimaryEmpty()) {
-                            // Topic hasn't fully been created, check again
-                            schedule(100);
-                        } else {
-                            NewTopic response = new NewTopic(
-                                newTopic.name(),
-                                createdTopic.getId(),
-                                createdTopic.partitions().getPrimary().size(),
-                                replicationFactor.orElse(null),
-                                Collections.emptyMap(),
-                                createdTopic.configs().getPrimary()
-                            );
-                            logger.debugf(
-                                    "Managed topic %s created. Resource: %s",
-                                    newTopic.name(),
-                                    managedTopic.get()
-                            );
-                            promise.complete(response);
-                        }
-                    })
-                    .exceptionally(e -> {
-                        if (e.getCause() instanceof UnknownTopicIdException) {
-                            // Topic hasn't fully been created, check again
-                            schedule(100);
-                        } else {
-                            promise.completeExceptionally(e);
-                        }
-                        return null;
-                    });
-            }
-        }
+        return CompletableFuture
+            .supplyAsync(() -> strimziService.createTopic(topicResource))
+            .thenCompose(created -> awaitTopic(kafka, newTopic.name(), TopicService::isReady))
+            .thenComposeAsync(
+                    managedTopic -> describeCreatedTopic(managedTopic, TOPIC_DESCRIBE_ATTEMPTS),
+                    threadContext.currentContextExecutor())
+            .thenApply(createdTopic -> new NewTopic(
+                    newTopic.name(),
+                    createdTopic.getId(),
+                    createdTopic.partitions().getPrimary().size(),
+                    replicationFactor.orElse(null),
+                    Collections.emptyMap(),
+                    createdTopic.configs().getPrimary()));
+    }
+
+    /**
+     * Describe a topic created via a KafkaTopic resource once the resource is
+     * ready. The topic metadata may not yet be available from the broker used by
+     * the admin client, in which case the describe is retried a limited number of
+     * times.
+     */
+    private CompletionStage<Topic> describeCreatedTopic(KafkaTopic managedTopic, int attempts) {
+        String topicName = managedTopic.getSpec().getTopicName() != null
+                ? managedTopic.getSpec().getTopicName()
+                : managedTopic.getMetadata().getName();
+        Executor asyncExec = threadContext.currentContextExecutor();
+
+        return topicDescribe.describeTopic(
+                managedTopic.getStatus().getTopicId(),
+                List.of(Topic.Fields.CONFIGS, Topic.Fields.PARTITIONS),
+                KafkaOffsetSpec.LATEST)
+            .thenApply(createdTopic -> {
+                if (createdTopic.partitions().isPrimaryEmpty() || createdTopic.configs().isPrimaryEmpty()) {
+                    throw new UnknownTopicIdException("Topic not fully created: " + topicName);
+                }
+                logger.debugf("Managed topic %s created. Resource: %s", topicName, managedTopic);
+                return createdTopic;
+            })
+            .exceptionallyCompose(error -> {
+                Throwable cause = error instanceof CompletionException ce ? ce.getCause() : error;
+
+                if (cause instanceof UnknownTopicIdException && attempts > 1) {
+                    return CompletableFuture.supplyAsync(
+                            () -> describeCreatedTopic(managedTopic, attempts - 1),
+                            CompletableFuture.delayedExecutor(TOPIC_DESCRIBE_RETRY_MS, TimeUnit.MILLISECONDS, asyncExec))
+                        .thenCompose(Function.identity());
+                }
 
-        final TopicCreationCheck topicCheck = new TopicCreationCheck();
-        final CompletableFuture<NewTopic> promise = topicCheck.promise();
+                return CompletableFuture.failedStage(cause);
+            });
+    }
 
-        CompletableFuture
-            .runAsync(() -> strimziService.createTopic(topicResource))
-            .thenRunAsync(() -> topicCheck.schedule(0), threadContext.currentContextExecutor())
-            .exceptionally(e -> {
-                promise.completeExceptionally(e);
-                return null;
+    /**
+     * Wait for the topic informer to observe the KafkaTopic for the named topic in
+     * a state satisfying the condition, for at most {@link #TOPIC_OPERATION_LIMIT}
+     * seconds.
+     */
+    CompletableFuture<KafkaTopic> awaitTopic(Kafka kafka, String topicName, Predicate<KafkaTopic> condition) {
+        return informerFactory.awaitTopic(
+                kafka.getMetadata().getNamespace(),
+                kafka.getMetadata().getName(),
+                topicName,
+                condition)
+            .orTimeout(TOPIC_OPERATION_LIMIT, TimeUnit.SECONDS)
+            .exceptionally(error -> {
+                if (error instanceof TimeoutException) {
+                    throw new IllegalStateException("Operation timed out waiting for Strimzi to act on KafkaTopic");
+                }
+                throw error instanceof CompletionException ce ? ce : new CompletionException(error);
             });
+    }
+
+    static boolean isReady(KafkaTopic topic) {
+        return Optional.ofNullable(topic.getStatus())
+            .filter(status -> status.getTopicId() != null)
+            .map(KafkaTopicStatus::getConditions)
+            .map(List::stream)
+            .orElseGet(Stream::empty)
+            .filter(c -> "Ready".equals(c.getType()))
+            .anyMatch(c -> "True".equals(c.getStatus()));
+    }
+
+    static long generation(KafkaTopic topic) {
+        return Optional.ofNullable(topic.getMetadata()).map(ObjectMeta::getGeneration).orElse(-1L);
+    }
 
-        return promise;
+    static long observedGeneration(KafkaTopic topic) {
+        return Optional.ofNullable(topic.getStatus()).map(Status::getObservedGeneration).orElse(-1L);
     }
 
-    private CompletionStage<Topic> validate(Topic topic, TopicPatch patch) {
-        return nodeService.listNodes()
+    private CompletionStage<Topic> validate(ClusterSnapshot.Periodic cluster, Topic topic, TopicPatch patch) {
+        return nodes(cluster)
                 .thenApply(nodes -> validationService.validate(new TopicValidation.TopicPatchInputs(
                         nodes,
                         topic,
@@ -335,10 +406,10 @@ public class TopicService {
                 .thenApply(TopicValidation.TopicPatchInputs::topic);
     }
 
-    private CompletionStage<Void> patchTopicValidated(Topic topic, TopicPatch patch, boolean validateOnly) {
+    private CompletionStage<Void> patchTopicValidated(ClusterSnapshot.Periodic cluster, Topic topic, TopicPatch patch, boolean validateOnly) {
         return topicDescribe.getManagedTopic(topic.name())
                 .map(kafkaTopic -> patchManagedTopic(topic, patch, validateOnly, kafkaTopic))
-                .orElseGet(() -> patchUnmanagedTopic(topic, patch, validateOnly));
+                .orElseGet(() -> patchUnmanagedTopic(cluster, topic, patch, validateOnly));
     }
 
     private CompletionStage<Void> patchManagedTopic(Topic topic, TopicPatch patch, boolean validateOnly, KafkaTopic topicResource) {
@@ -354,40 +425,24 @@ public class TopicService {
             .endSpec()
             .build();
 
-        class TopicPatchCheck extends TopicCheck<Void> {
-            TopicPatchCheck() {
-                super(threadContext, scheduler);
-            }
-
-            @Override
-            void pollTopic() {
-                Optional<KafkaTopic> managedTopic = topicDescribe.getManagedTopic(topic.name());
-                long generation = managedTopic.map(KafkaTopic::getMetadata).map(ObjectMeta::getGeneration).orElse(-1L);
-                long observedGeneration = managedTopic.map(KafkaTopic::getStatus).map(Status::getObservedGeneration).orElse(-1L);
-
-                if (observedGeneration == generation) {
-                    promise.complete(null);
-                } else {
-                    schedule(100);
-                }
-            }
-        }
-
-        final TopicPatchCheck topicCheck = new TopicPatchCheck();
-        final CompletableFuture<Void> promise = topicCheck.promise();
+        Kafka kafka = kafkaContext.resource();
+        var invalidator = configService.configInvalidator(ConfigResource.Type.TOPIC);
 
-        CompletableFuture
-            .runAsync(() -> strimziService.patchTopic(modifiedTopic))
-            .thenRunAsync(() -> topicCheck.schedule(0), threadContext.currentContextExecutor())
-            .exceptionally(e -> {
-                promise.completeExceptionally(e);
-                return null;
-            });
+        return CompletableFuture
+            .supplyAsync(() -> strimziService.patchTopic(modifiedTopic))
+            .thenCompose(patchedTopic -> {
+                long patchedGeneration = generation(patchedTopic);
 
-        return promise;
+                return awaitTopic(kafka, topic.name(), managedTopic -> {
+                    long generation = generation(managedTopic);
+                    return generation >= patchedGeneration && observedGeneration(managedTopic) == generation;
+                });
+            })
+            .whenComplete((managedTopic, error) -> invalidator.accept(List.of(topic.name())))
+            .<Void>thenApply(managedTopic -> null);
     }
 
-    private static Map<String, Object> getModifiedTopicConfig(KafkaTopic topicResource, TopicPatch patch) {
+    static Map<String, Object> getModifiedTopicConfig(KafkaTopic topicResource, TopicPatch patch) {
         Map<String, Object> topicConfig = Optional
                 .ofNullable(topicResource.getSpec().getConfig())
                 .orElseGet(Collections::emptyMap);
@@ -430,7 +485,7 @@ public class TopicService {
         return entry != null ? entry.getValue() : null;
     }
 
-    private CompletionStage<Void> patchUnmanagedTopic(Topic topic, TopicPatch patch, boolean validateOnly) {
+    private CompletionStage<Void> patchUnmanagedTopic(ClusterSnapshot.Periodic cluster, Topic topic, TopicPatch patch, boolean validateOnly) {
         List<CompletableFuture<Void>> pending = new ArrayList<>();
 
         pending.add(maybeCreatePartitions(topic, patch, validateOnly));
@@ -444,6 +499,7 @@ public class TopicService {
         return CompletableFuture.allOf(pending.stream().toArray(CompletableFuture[]::new))
             .whenComplete((nothing, error) -> {
                 if (error != null) {
+                    cluster.invalidateOn(error);
                     pending.stream()
                         .filter(CompletableFuture::isCompletedExceptionally)
                         .forEach(fut -> fut.exceptionally(ex -> {
@@ -573,43 +629,6 @@ public class TopicService {
             .orElseGet(() -> CompletableFuture.completedFuture(null));
     }
 
-    abstract static class TopicCheck<T> implements Runnable {
-        private final ScheduledExecutorService scheduler;
-        private final Runnable task;
-        private final Instant limit = Instant.now().plusSeconds(TOPIC_OPERATION_LIMIT);
-        protected final CompletableFuture<T> promise = new CompletableFuture<>();
-
-        TopicCheck(ContextualExecutorProvider threadContext, ScheduledExecutorService scheduler) {
-            this.scheduler = scheduler;
-            this.task = threadContext.contextualRunnable(this);
-        }
-
-        @Override
-        public void run() {
-            try {
-                pollTopic();
-            } catch (Exception e) {
-                promise.completeExceptionally(e);
-            }
-        }
-
-        void schedule(long delayMs) {
-            if (Instant.now().isAfter(limit)) {
-                promise.completeExceptionally(new IllegalStateException(
-                    "Operation timed out waiting for Strimzi to act on KafkaTopic"
-                ));
-            } else {
-                scheduler.schedule(task, delayMs, TimeUnit.MILLISECONDS);
-            }
-        }
-
-        CompletableFuture<T> promise() {
-            return promise;
-        }
-
-        abstract void pollTopic();
-    }
-
     private String calculatePromInterval(int durationMinutes) {
         if (durationMinutes >= 10080) {
             return "2h";
@@ -0,0 +1,317 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.RetriableException;
+import org.jboss.logging.Logger;
+
+import com.github.streamshub.console.api.model.Either;
+
+/**
+ * Splits {@linkplain Admin} operations covering a large number of resources
+ * (topics, partitions, groups) into chunks of at most {@code chunkSize}
+ * resources and runs them with no more than {@code maxInFlight} chunks in
+ * progress at once. Each resource's result is available as soon as the chunk
+ * containing it completes, so a failure or timeout of one chunk does not fail
+ * the results of the others.
+ *
+ * <p>Resources that fail with a {@linkplain RetriableException retriable error}
+ * (e.g. a request timeout) are sent again in a new chunk, up to
+ * {@code maxAttempts} times in total, after waiting for {@code retryBackoff}.
+ *
+ * <p>A single instance is shared by all requests for a cluster (see
+ * {@linkplain AdminFanoutProvider#current()}), such that the in-flight limit
+ * applies to the cluster rather than to each request. Chunks are queued
+ * separately for each principal (see {@linkplain #forPrincipal(String)}) and
+ * queued chunks are started in turn for each principal, so a large operation
+ * of one user does not hold back the operations of other users.
+ */
+public class AdminFanout {
+
+    private static final Logger LOGGER = Logger.getLogger(AdminFanout.class);
+
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final Executor retryExecutor;
+
+    private final String principal;
+    private final Lanes queue;
+    private final AtomicInteger inFlight;
+    private final AtomicInteger drainRequests;
+
+    /**
+     * Chunks waiting to be started, queued separately for each principal. The
+     * principals with queued chunks take turns, in the order in which they
+     * (most recently) began waiting.
+     */
+    private static final class Lanes {
+        private final Map<String, Queue<Supplier<CompletionStage<Void>>>> lanes = new HashMap<>();
+        private final Deque<String> turns = new ArrayDeque<>();
+        private int size = 0;
+
+        synchronized void add(String principal, Supplier<CompletionStage<Void>> chunk) {
+            lanes.computeIfAbsent(principal, k -> {
+                turns.addLast(k);
+                return new ArrayDeque<>();
+            }).add(chunk);
+            size++;
+        }
+
+        synchronized Supplier<CompletionStage<Void>> poll() {
+            String next = turns.pollFirst();
+
+            if (next == null) {
+                return null;
+            }
+
+            Queue<Supplier<CompletionStage<Void>>> lane = lanes.get(next);
+            var chunk = lane.poll();
+            size--;
+
+            if (lane.isEmpty()) {
+                lanes.remove(next);
+            } else {
+                turns.addLast(next);
+            }
+
+            return chunk;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+
+    public AdminFanout(int chunkSize, int maxInFlight, int maxAttempts, Duration retryBackoff) {
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryExecutor = CompletableFuture.delayedExecutor(retryBackoff.toMillis(), TimeUnit.MILLISECONDS);
+        this.principal = "";
+        this.queue = new Lanes();
+        this.inFlight = new AtomicInteger();
+        this.drainRequests = new AtomicInteger();
+    }
+
+    private AdminFanout(AdminFanout shared, String principal) {
+        this.chunkSize = shared.chunkSize;
+        this.maxInFlight = shared.maxInFlight;
+        this.maxAttempts = shared.maxAttempts;
+        this.retryExecutor = shared.retryExecutor;
+        this.principal = principal;
+        this.queue = shared.queue;
+        this.inFlight = shared.inFlight;
+        this.drainRequests = shared.drainRequests;
+    }
+
+    /**
+     * Obtain a view of this fan-out that queues the chunks of submitted
+     * operations for the given principal. The view shares the in-flight limit
+     * of this fan-out.
+     */
+    public AdminFanout forPrincipal(String principal) {
+        return this.principal.equals(principal) ? this : new AdminFanout(this, principal);
+    }
+
+    /**
+     * Submit an operation for the given keys. The request function is called once
+     * per chunk (and once per retry) with a subset of the keys, and must return
+     * the future result for each key in the subset, e.g.
+     *
+     * <pre>
+     * fanout.submit(topicIds, chunk -&gt; admin.describeTopics(TopicCollection.ofTopicIds(chunk)).topicIdValues());
+     * </pre>
+     *
+     * @param keys    resources covered by the operation, duplicates are ignored
+     * @param request function issuing the Admin request for a chunk of keys
+     * @return map of futures, one per distinct key in the order given, each
+     *         completed with the result for the key or the error from the final
+     *         attempt to obtain it
+     */
+    public <K, V> Map<K, CompletableFuture<V>> submit(Collection<K> keys,
+            Function<Collection<K>, Map<K, KafkaFuture<V>>> request) {
+
+        Map<K, CompletableFuture<V>> results = LinkedHashMap.newLinkedHashMap(keys.size());
+        keys.forEach(key -> results.putIfAbsent(key, new CompletableFuture<>()));
+        List<K> distinctKeys = List.copyOf(results.keySet());
+
+        for (int offset = 0; offset < distinctKeys.size(); offset += chunkSize) {
+            var chunk = distinctKeys.subList(offset, Math.min(offset + chunkSize, distinctKeys.size()));
+            queue.add(principal, () -> execute(chunk, 1, request, results));
+        }
+
+        drain();
+
+        return Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * Convenience for callers that need all results at once. The returned stage
+     * completes normally when every future has completed, with each key's
+     * result or error.
+     */
+    public static <K, V> CompletionStage<Map<K, Either<V, Throwable>>> settled(Map<K, CompletableFuture<V>> pending) {
+        return CompletableFuture.allOf(pending.values()
+                    .stream()
+                    .map(result -> result.handle((value, error) -> null))
+                    .toArray(CompletableFuture[]::new))
+                .thenApply(nothing -> {
+                    Map<K, Either<V, Throwable>> result = LinkedHashMap.newLinkedHashMap(pending.size());
+                    pending.forEach((key, future) -> result.put(key, future
+                            .handle((value, error) -> Either.of(Optional.ofNullable(value), error))
+                            .join()));
+                    return result;
+                });
+    }
+
+    /**
+     * Number of chunks currently in progress
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Number of chunks waiting to be started
+     */
+    public int queued() {
+        return queue.size();
+    }
+
+    private <K, V> CompletionStage<Void> execute(List<K> chunk, int attempt,
+            Function<Collection<K>, Map<K, KafkaFuture<V>>> request,
+            Map<K, CompletableFuture<V>> results) {
+
+        Map<K, KafkaFuture<V>> responses;
+
+        try {
+            responses = request.apply(chunk);
+        } catch (RuntimeException e) {
+            chunk.forEach(key -> results.get(key).completeExceptionally(e));
+            return CompletableFuture.completedStage(null);
+        }
+
+        Queue<K> retries = new ConcurrentLinkedQueue<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        var settled = chunk.stream()
+            .map(key -> {
+                KafkaFuture<V> response = responses.get(key);
+
+                if (response == null) {
+                    results.get(key).completeExceptionally(new IllegalStateException("No result returned for " + key));
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+
+                return response.toCompletionStage()
+                    .<Void>handle((value, error) -> {
+                        if (error == null) {
+                            results.get(key).complete(value);
+                        } else if (attempt < maxAttempts && retriable(error)) {
+                            retries.add(key);
+                        } else {
+                            failures.incrementAndGet();
+                            results.get(key).completeExceptionally(unwrap(error));
+                        }
+                        return null;
+                    })
+                    .toCompletableFuture();
+            })
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(settled).thenRun(() -> {
+            if (failures.get() > 0) {
+                LOGGER.debugf("Chunk of %d resources completed with %d failures after %d attempt(s)",
+                        chunk.size(), failures.get(), attempt);
+            }
+
+            if (!retries.isEmpty()) {
+                List<K> retryChunk = new ArrayList<>(retries);
+                LOGGER.debugf("Retrying %d of %d resources, attempt %d of %d",
+                        retryChunk.size(), chunk.size(), attempt + 1, maxAttempts);
+                retryExecutor.execute(() -> {
+                    queue.add(principal, () -> execute(retryChunk, attempt + 1, request, results));
+                    drain();
+                });
+            }
+        });
+    }
+
+    /**
+     * Start queued chunks while fewer than {@code maxInFlight} are in progress.
+     * Only one thread drains the queue at a time; calls made while another thread
+     * is draining (including those from chunks completing synchronously) cause
+     * that thread to check the queue again rather than recursing.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        do {
+            while (inFlight.get() < maxInFlight) {
+                var chunk = queue.poll();
+
+                if (chunk == null) {
+                    break;
+                }
+
+                inFlight.incrementAndGet();
+                start(chunk);
+            }
+
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void start(Supplier<CompletionStage<Void>> chunk) {
+        CompletionStage<Void> pending;
+
+        try {
+            pending = chunk.get();
+        } catch (RuntimeException e) {
+            pending = CompletableFuture.failedStage(e);
+        }
+
+        pending.whenComplete((nothing, error) -> {
+            if (error != null) {
+                LOGGER.warnf("Unexpected error processing Admin request chunk: %s", error.getMessage());
+            }
+            inFlight.decrementAndGet();
+            drain();
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    static boolean retriable(Throwable error) {
+        return unwrap(error) instanceof RetriableException;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+@ApplicationScoped
+public class AdminFanoutProvider {
+
+    @Inject
+    KafkaContext kafkaContext;
+
+    @Inject
+    SecurityIdentity identity;
+
+    /**
+     * Maximum number of resources (topics, partitions, or groups) included in a
+     * single Admin request.
+     */
+    @Inject
+    @ConfigProperty(name = "console.admin.fanout.chunk-size", defaultValue = "1000")
+    int chunkSize;
+
+    /**
+     * Maximum number of Admin requests in progress at once for a cluster.
+     */
+    @Inject
+    @ConfigProperty(name = "console.admin.fanout.max-in-flight", defaultValue = "4")
+    int maxInFlight;
+
+    @Inject
+    @ConfigProperty(name = "console.admin.fanout.max-attempts", defaultValue = "2")
+    int maxAttempts;
+
+    @Inject
+    @ConfigProperty(name = "console.admin.fanout.retry-backoff", defaultValue = "PT0.5S")
+    Duration retryBackoff;
+
+    /**
+     * Obtain the fan-out shared by all requests for the current Kafka cluster,
+     * queueing chunks for the current user.
+     */
+    public AdminFanout current() {
+        String principal = identity.isAnonymous() ? "" : identity.getPrincipal().getName();
+        return kafkaContext.shared(AdminFanout.class, ctx -> create()).forPrincipal(principal);
+    }
+
+    /**
+     * Create a fan-out not shared with requests, e.g. for a component that
+     * refreshes cluster metadata in the background.
+     */
+    public AdminFanout create() {
+        return new AdminFanout(chunkSize, maxInFlight, maxAttempts, retryBackoff);
+    }
+}
@@ -0,0 +1,342 @@
+package com.github.streamshub.console.api.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.jboss.logging.Logger;
+
+/**
+ * Admin clients of a single Kafka cluster created with the credentials of
+ * individual users, i.e. when the cluster's configuration does not provide
+ * credentials for a connection shared by all requests. Clients are keyed by a
+ * digest of the user's credential, so that a client is only ever used by
+ * requests presenting the same credential, and are reused by subsequent
+ * requests rather than connecting, authenticating, and bootstrapping metadata
+ * for each request.
+ *
+ * <p>A client is closed once it has not been leased for the idle timeout, or
+ * when the credential it was created with expires (for OAuth access tokens
+ * with a known expiration). The pool holds at most {@code maxSize} clients and
+ * at most {@code maxPerUser} clients for any one user. When a limit is reached
+ * and no idle client can be evicted to make room, the lease is given an
+ * unpooled client that is closed when the lease is released.
+ */
+public class AdminPool implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AdminPool.class);
+
+    private final String clusterKey;
+    private final int maxSize;
+    private final int maxPerUser;
+    private final Duration idleTimeout;
+    private final Duration expiryMargin;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private ScheduledFuture<?> sweeper;
+    private boolean closed = false;
+
+    private final class Entry {
+        final String key;
+        final String user;
+        final Admin admin;
+        final Instant expiresAt;
+        int leases = 0;
+        Instant lastUsed;
+        boolean retired = false;
+
+        Entry(String key, String user, Admin admin, Instant expiresAt) {
+            this.key = key;
+            this.user = user;
+            this.admin = admin;
+            this.expiresAt = expiresAt;
+            this.lastUsed = clock.instant();
+        }
+
+        boolean expired(Instant now) {
+            return expiresAt != null && !now.isBefore(expiresAt.minus(expiryMargin));
+        }
+
+        boolean idle(Instant now) {
+            return leases == 0 && !now.isBefore(lastUsed.plus(idleTimeout));
+        }
+    }
+
+    /**
+     * Use of a client obtained from the pool by a single request. The client must
+     * not be closed directly, the lease is closed instead.
+     */
+    public final class Lease implements AutoCloseable {
+        private final Entry entry;
+        private final Admin unpooled;
+        private boolean released = false;
+
+        private Lease(Entry entry, Admin unpooled) {
+            this.entry = entry;
+            this.unpooled = unpooled;
+        }
+
+        public Admin admin() {
+            return entry != null ? entry.admin : unpooled;
+        }
+
+        /**
+         * Whether the client is held by the pool for reuse by later requests.
+         */
+        public boolean pooled() {
+            return entry != null;
+        }
+
+        @Override
+        public void close() {
+            if (entry != null) {
+                release(this);
+            } else if (!released) {
+                released = true;
+                unpooled.close();
+            }
+        }
+    }
+
+    public AdminPool(String clusterKey, int maxSize, int maxPerUser, Duration idleTimeout, Duration expiryMargin) {
+        this(clusterKey, maxSize, maxPerUser, idleTimeout, expiryMargin, Clock.systemUTC());
+    }
+
+    AdminPool(String clusterKey, int maxSize, int maxPerUser, Duration idleTimeout, Duration expiryMargin, Clock clock) {
+        this.clusterKey = clusterKey;
+        this.maxSize = maxSize;
+        this.maxPerUser = maxPerUser;
+        this.idleTimeout = idleTimeout;
+        this.expiryMargin = expiryMargin;
+        this.clock = clock;
+    }
+
+    /**
+     * Begin closing idle and expired clients in the background, at an interval
+     * of half the idle timeout.
+     */
+    public synchronized AdminPool start(ScheduledExecutorService scheduler) {
+        long intervalMs = Math.max(idleTimeout.toMillis() / 2, 1000);
+        sweeper = scheduler.scheduleWithFixedDelay(this::sweep, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Lease a client for the given credential, creating one when the pool does
+     * not hold a usable client for the credential.
+     *
+     * @param user       name of the user presenting the credential, used to limit
+     *                   the number of clients held for a single user
+     * @param credential the credential (i.e. the SASL JAAS configuration) used to
+     *                   create the client
+     * @param expiresAt  time at which the credential expires, or null if not known
+     * @param factory    creates a new client for the credential
+     */
+    public Lease acquire(String user, String credential, Instant expiresAt, Supplier<Admin> factory) {
+        String key = digest(credential);
+        Entry entry;
+
+        synchronized (this) {
+            entry = lease(key);
+
+            if (entry != null) {
+                return new Lease(entry, null);
+            }
+        }
+
+        // Create the client outside of the lock, Admin creation may block for DNS lookups
+        Admin admin = factory.get();
+        Admin duplicate = null;
+        Lease lease;
+
+        synchronized (this) {
+            entry = lease(key);
+
+            if (entry != null) {
+                // Created concurrently by another request with the same credential
+                duplicate = admin;
+                lease = new Lease(entry, null);
+            } else if (!closed && !expired(expiresAt) && reserve(user)) {
+                entry = new Entry(key, user, admin, expiresAt);
+                entry.leases++;
+                entries.put(key, entry);
+                lease = new Lease(entry, null);
+            } else {
+                lease = new Lease(null, admin);
+            }
+        }
+
+        if (duplicate != null) {
+            closeAll(List.of(duplicate));
+        }
+
+        return lease;
+    }
+
+    /**
+     * Number of clients currently held by the pool
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Close the clients that are idle or whose credentials have expired. Expired
+     * clients that are leased are closed once released.
+     */
+    public void sweep() {
+        List<Admin> closing = new ArrayList<>();
+
+        synchronized (this) {
+            Instant now = clock.instant();
+
+            entries.values().removeIf(entry -> {
+                if (entry.idle(now) || entry.expired(now)) {
+                    retire(entry, closing);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        closeAll(closing);
+    }
+
+    @Override
+    public void close() {
+        List<Admin> closing = new ArrayList<>();
+
+        synchronized (this) {
+            closed = true;
+
+            if (sweeper != null) {
+                sweeper.cancel(false);
+            }
+
+            entries.values().forEach(entry -> retire(entry, closing));
+            entries.clear();
+        }
+
+        closeAll(closing);
+    }
+
+    private Entry lease(String key) {
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expired(clock.instant())) {
+            List<Admin> closing = new ArrayList<>(1);
+            entries.remove(key);
+            retire(entry, closing);
+            closeAll(closing);
+            return null;
+        }
+
+        entry.leases++;
+        return entry;
+    }
+
+    private void release(Lease lease) {
+        List<Admin> closing = new ArrayList<>(1);
+
+        synchronized (this) {
+            if (lease.released) {
+                return;
+            }
+
+            lease.released = true;
+            Entry entry = lease.entry;
+            entry.leases--;
+            entry.lastUsed = clock.instant();
+
+            if (entry.retired && entry.leases == 0) {
+                closing.add(entry.admin);
+            }
+        }
+
+        closeAll(closing);
+    }
+
+    /**
+     * Make room for a new client for the user, evicting the least recently used
+     * idle clients of the user and then of any user when the limits have been
+     * reached.
+     *
+     * @return true if the new client may be added to the pool
+     */
+    private boolean reserve(String user) {
+        List<Admin> closing = new ArrayList<>();
+        long userCount = entries.values().stream().filter(e -> e.user.equals(user)).count();
+
+        if (userCount >= maxPerUser && !evictIdle(user, closing)) {
+            return false;
+        }
+
+        boolean reserved = entries.size() < maxSize || evictIdle(null, closing);
+        closeAll(closing);
+        return reserved;
+    }
+
+    private boolean evictIdle(String user, List<Admin> closing) {
+        var candidate = entries.values()
+                .stream()
+                .filter(e -> e.leases == 0)
+                .filter(e -> user == null || e.user.equals(user))
+                .min(Comparator.comparing(e -> e.lastUsed));
+
+        candidate.ifPresent(entry -> {
+            entries.remove(entry.key);
+            retire(entry, closing);
+        });
+
+        return candidate.isPresent();
+    }
+
+    private void retire(Entry entry, List<Admin> closing) {
+        entry.retired = true;
+
+        if (entry.leases == 0) {
+            closing.add(entry.admin);
+        }
+    }
+
+    private boolean expired(Instant expiresAt) {
+        return expiresAt != null && !clock.instant().isBefore(expiresAt.minus(expiryMargin));
+    }
+
+    private void closeAll(List<Admin> closing) {
+        for (Admin admin : closing) {
+            try {
+                admin.close(Duration.ZERO);
+            } catch (Exception e) {
+                LOGGER.debugf("Exception closing pooled admin client for cluster %s: %s", clusterKey, e.getMessage());
+            }
+        }
+    }
+
+    static String digest(String credential) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(credential.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
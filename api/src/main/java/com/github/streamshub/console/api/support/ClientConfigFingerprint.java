@@ -0,0 +1,104 @@
+package com.github.streamshub.console.api.support;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.streamshub.console.config.KafkaClusterConfig;
+import com.github.streamshub.console.config.SchemaRegistryConfig;
+
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
+import io.strimzi.api.kafka.model.kafka.KafkaSpec;
+import io.strimzi.api.kafka.model.kafka.KafkaStatus;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.kafka.listener.ListenerStatus;
+
+/**
+ * Digest of the inputs from which the client configurations of a
+ * {@linkplain KafkaContext} are derived: the cluster's console configuration
+ * (including credentials and client properties), the cluster ID, the spec and
+ * status of the configured listener of the Strimzi {@linkplain Kafka} resource
+ * (bootstrap servers and trusted certificates), and the schema registry
+ * configuration.
+ *
+ * <p>Changes to other parts of the Kafka resource, such as conditions or the
+ * status of node pools, do not change the fingerprint, allowing the existing
+ * context and its connections to be kept when the resource is updated or
+ * periodically re-synced.
+ */
+public class ClientConfigFingerprint {
+
+    private static final ObjectWriter WRITER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build()
+            .writer();
+
+    private ClientConfigFingerprint() {
+    }
+
+    /**
+     * Inputs to the client configurations, serialized to obtain the digest.
+     */
+    record Inputs(
+            KafkaClusterConfig cluster,
+            String clusterId,
+            GenericKafkaListener listenerSpec,
+            ListenerStatus listenerStatus,
+            SchemaRegistryConfig schemaRegistry) {
+    }
+
+    /**
+     * Compute the fingerprint of the client configuration inputs.
+     *
+     * @return hex-encoded SHA-256 digest of the inputs, or an empty Optional
+     *         when the inputs could not be serialized, in which case the
+     *         context should always be rebuilt.
+     */
+    public static Optional<String> of(KafkaClusterConfig clusterConfig,
+            Optional<Kafka> kafkaResource,
+            SchemaRegistryConfig registryConfig) {
+
+        String listenerName = clusterConfig.getListener();
+
+        var listenerSpec = kafkaResource.map(Kafka::getSpec)
+                .map(KafkaSpec::getKafka)
+                .map(KafkaClusterSpec::getListeners)
+                .map(Collection::stream)
+                .orElseGet(Stream::empty)
+                .filter(listener -> listener.getName().equals(listenerName))
+                .findFirst()
+                .orElse(null);
+
+        var listenerStatus = kafkaResource.map(Kafka::getStatus)
+                .map(KafkaStatus::getListeners)
+                .map(Collection::stream)
+                .orElseGet(Stream::empty)
+                .filter(listener -> listener.getName().equals(listenerName))
+                .findFirst()
+                .orElse(null);
+
+        var inputs = new Inputs(clusterConfig,
+                KafkaContext.clusterId(clusterConfig, kafkaResource),
+                listenerSpec,
+                listenerStatus,
+                registryConfig);
+
+        try {
+            byte[] serialized = WRITER.writeValueAsBytes(inputs);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(serialized);
+            return Optional.of(HexFormat.of().formatHex(digest));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Limits the requests being processed for a single Kafka cluster, so that a
+ * cluster that is slow or unreachable does not hold the server's threads and
+ * connections at the expense of requests to other clusters.
+ *
+ * <p>At most {@code maxConcurrent} requests hold a {@linkplain Permit permit}
+ * at any time. Further requests wait in a queue of at most {@code maxQueued}
+ * requests for up to {@code queueTimeout}, and are rejected when the queue is
+ * full or the timeout elapses.
+ *
+ * <p>The bulkhead also acts as a circuit breaker. After
+ * {@code failureThreshold} consecutive requests fail with an error indicating
+ * the cluster is unhealthy (e.g. a timeout), the circuit opens and all requests,
+ * including those waiting in the queue, are rejected immediately. Once
+ * {@code openDuration} has elapsed, a single trial request is permitted. The
+ * circuit closes when the trial succeeds and opens again when it fails.
+ * Requests with an {@linkplain Outcome#UNRELATED unrelated} outcome (e.g. a
+ * request rejected as invalid) neither count as failures nor reset the count.
+ *
+ * <p>Once closed, the bulkhead rejects all further requests.
+ */
+public class ClusterBulkhead implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ClusterBulkhead.class);
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    public enum Rejection {
+        /**
+         * The limit of concurrent and queued requests was reached
+         */
+        FULL,
+        /**
+         * The request waited in the queue for longer than the queue timeout
+         */
+        TIMEOUT,
+        /**
+         * The circuit is open following repeated failures
+         */
+        OPEN,
+        /**
+         * The bulkhead was closed, e.g. the cluster is no longer configured
+         */
+        CLOSED
+    }
+
+    /**
+     * Outcome of a request, given when its permit is released.
+     */
+    public enum Outcome {
+        /**
+         * The cluster processed the request
+         */
+        SUCCEEDED,
+        /**
+         * The request failed due to the cluster being unhealthy
+         */
+        FAILED,
+        /**
+         * The request's outcome says nothing about the health of the cluster
+         */
+        UNRELATED
+    }
+
+    public static class RejectedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Rejection reason;
+        private final transient Duration retryAfter;
+
+        RejectedException(String clusterKey, Rejection reason, Duration retryAfter) {
+            super(switch (reason) {
+                case FULL -> "Too many concurrent requests for Kafka cluster " + clusterKey;
+                case TIMEOUT -> "Timed out waiting to process request for Kafka cluster " + clusterKey;
+                case OPEN -> "Kafka cluster " + clusterKey + " is unavailable following repeated failures";
+                case CLOSED -> "Kafka cluster " + clusterKey + " is no longer available";
+            });
+            this.reason = reason;
+            this.retryAfter = retryAfter;
+        }
+
+        public Rejection reason() {
+            return reason;
+        }
+
+        public Duration retryAfter() {
+            return retryAfter;
+        }
+    }
+
+    /**
+     * Permission for a single request to proceed. The permit must be released
+     * once the request completes, with the outcome of the request.
+     */
+    public final class Permit {
+        private final boolean trial;
+        private boolean released = false;
+
+        private Permit(boolean trial) {
+            this.trial = trial;
+        }
+
+        /**
+         * @param failed true if the request failed due to the cluster being
+         *               unhealthy
+         */
+        public void release(boolean failed) {
+            release(failed ? Outcome.FAILED : Outcome.SUCCEEDED);
+        }
+
+        public void release(Outcome outcome) {
+            ClusterBulkhead.this.release(this, outcome);
+        }
+    }
+
+    /**
+     * Listener notified of rejected requests and changes to the state of the
+     * circuit, used to record metrics.
+     */
+    public interface Listener {
+        void rejected(Rejection reason);
+
+        default void stateChanged(State state) {
+        }
+    }
+
+    private final String clusterKey;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Duration queueTimeout;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final ScheduledExecutorService scheduler;
+    private final Listener listener;
+    private final Clock clock;
+
+    private final Deque<CompletableFuture<Permit>> queue = new ArrayDeque<>();
+    private int active = 0;
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private volatile Instant openedAt;
+    private boolean trialPending = false;
+    private boolean closed = false;
+
+    @SuppressWarnings("java:S107") // Ignore Sonar warning for too many parameters
+    public ClusterBulkhead(String clusterKey,
+            int maxConcurrent,
+            int maxQueued,
+            Duration queueTimeout,
+            int failureThreshold,
+            Duration openDuration,
+            ScheduledExecutorService scheduler,
+            Listener listener) {
+        this(clusterKey, maxConcurrent, maxQueued, queueTimeout, failureThreshold, openDuration, scheduler, listener, Clock.systemUTC());
+    }
+
+    @SuppressWarnings("java:S107") // Ignore Sonar warning for too many parameters
+    ClusterBulkhead(String clusterKey,
+            int maxConcurrent,
+            int maxQueued,
+            Duration queueTimeout,
+            int failureThreshold,
+            Duration openDuration,
+            ScheduledExecutorService scheduler,
+            Listener listener,
+            Clock clock) {
+        this.clusterKey = clusterKey;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.queueTimeout = queueTimeout;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.scheduler = scheduler;
+        this.listener = listener;
+        this.clock = clock;
+    }
+
+    /**
+     * Obtain a permit for a request. The returned stage is already complete when
+     * the request may proceed immediately, completes later when the request was
+     * queued, and completes exceptionally with a {@link RejectedException} when
+     * the request is rejected.
+     */
+    public CompletionStage<Permit> acquire() {
+        CompletableFuture<Permit> waiter;
+
+        synchronized (this) {
+            boolean trial = false;
+
+            if (closed) {
+                return reject(Rejection.CLOSED);
+            }
+
+            if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+                transition(State.HALF_OPEN);
+            }
+
+            if (state == State.HALF_OPEN && !trialPending) {
+                trialPending = true;
+                trial = true;
+            } else if (state != State.CLOSED) {
+                return reject(Rejection.OPEN);
+            }
+
+            // The trial request proceeds even when over the limit, rather than wait behind requests from before the circuit opened
+            if (trial || (active < maxConcurrent && queue.isEmpty())) {
+                active++;
+                return CompletableFuture.completedFuture(new Permit(trial));
+            }
+
+            if (queue.size() >= maxQueued) {
+                return reject(Rejection.FULL);
+            }
+
+            waiter = new CompletableFuture<>();
+            queue.add(waiter);
+        }
+
+        scheduler.schedule(() -> expire(waiter), queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        return waiter;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized int active() {
+        return active;
+    }
+
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    public synchronized boolean idle() {
+        return active == 0 && queue.isEmpty();
+    }
+
+    /**
+     * Allow any queued requests to proceed and reject further requests. Permits
+     * released afterward are ignored.
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<Permit>> waiters;
+
+        synchronized (this) {
+            closed = true;
+            waiters = new ArrayList<>(queue);
+            queue.clear();
+        }
+
+        waiters.forEach(waiter -> grant(waiter, new Permit(false)));
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        List<CompletableFuture<Permit>> rejected = new ArrayList<>();
+
+        synchronized (this) {
+            if (permit.released || closed) {
+                return;
+            }
+
+            permit.released = true;
+            active--;
+            recordOutcome(permit, outcome);
+
+            if (state == State.OPEN) {
+                rejected.addAll(queue);
+                queue.clear();
+            } else {
+                while (active < maxConcurrent && !queue.isEmpty()) {
+                    active++;
+                    granted.add(queue.poll());
+                }
+            }
+        }
+
+        granted.forEach(waiter -> grant(waiter, new Permit(false)));
+        rejected.forEach(waiter -> waiter.completeExceptionally(rejection(Rejection.OPEN)));
+    }
+
+    private void recordOutcome(Permit permit, Outcome outcome) {
+        if (outcome == Outcome.UNRELATED) {
+            if (permit.trial) {
+                // No verdict on the cluster's health, the next request is the trial
+                trialPending = false;
+            }
+        } else if (outcome == Outcome.FAILED) {
+            consecutiveFailures++;
+
+            if (permit.trial || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                LOGGER.warnf("Opening circuit for Kafka cluster %s following %d consecutive failures",
+                        clusterKey, consecutiveFailures);
+                openedAt = clock.instant();
+                trialPending = false;
+                transition(State.OPEN);
+            }
+        } else {
+            consecutiveFailures = 0;
+
+            if (permit.trial) {
+                LOGGER.infof("Closing circuit for Kafka cluster %s", clusterKey);
+                trialPending = false;
+                transition(State.CLOSED);
+            }
+        }
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            state = next;
+            listener.stateChanged(next);
+        }
+    }
+
+    private void grant(CompletableFuture<Permit> waiter, Permit permit) {
+        if (!waiter.complete(permit)) {
+            // Cancelled by the caller, e.g. the client disconnected
+            permit.release(Outcome.UNRELATED);
+        }
+    }
+
+    private void expire(CompletableFuture<Permit> waiter) {
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+        }
+
+        waiter.completeExceptionally(rejection(Rejection.TIMEOUT));
+    }
+
+    private CompletionStage<Permit> reject(Rejection reason) {
+        return CompletableFuture.failedFuture(rejection(reason));
+    }
+
+    private RejectedException rejection(Rejection reason) {
+        listener.rejected(reason);
+        Duration retryAfter;
+
+        if (reason == Rejection.OPEN && openedAt != null) {
+            retryAfter = Duration.between(clock.instant(), openedAt.plus(openDuration));
+            retryAfter = retryAfter.isNegative() ? Duration.ZERO : retryAfter;
+        } else {
+            retryAfter = Duration.ofSeconds(1);
+        }
+
+        return new RejectedException(clusterKey, reason, retryAfter);
+    }
+}
@@ -0,0 +1,227 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+
+import com.github.streamshub.console.api.model.jsonapi.JsonApiError;
+import com.github.streamshub.console.api.model.jsonapi.JsonApiErrors;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Admits requests addressed to a Kafka cluster (i.e. with a {@code clusterId}
+ * path parameter) through the cluster's {@linkplain ClusterBulkhead bulkhead},
+ * so that a degraded cluster only affects the requests made to that cluster.
+ * Requests that are rejected by the bulkhead receive a 503 response with a
+ * {@code Retry-After} header. The permit is released when the response ends.
+ * Responses with status 502 or 504 count as failures toward opening the
+ * cluster's circuit and successful responses reset the count of failures. Other
+ * responses (e.g. a 404 for an unknown resource) leave the count unchanged.
+ */
+@ApplicationScoped
+public class ClusterBulkheadFilter {
+
+    private static final Logger LOGGER = Logger.getLogger(ClusterBulkheadFilter.class);
+    private static final ErrorCategory CATEGORY = ErrorCategory.get(ErrorCategory.BackendUnavailable.class);
+
+    @Inject
+    @ConfigProperty(name = "console.bulkhead.enabled", defaultValue = "true")
+    boolean enabled;
+
+    /**
+     * Maximum number of requests to a single cluster processed concurrently
+     */
+    @Inject
+    @ConfigProperty(name = "console.bulkhead.max-concurrent", defaultValue = "20")
+    int maxConcurrent;
+
+    /**
+     * Maximum number of requests to a single cluster waiting to be processed
+     */
+    @Inject
+    @ConfigProperty(name = "console.bulkhead.max-queued", defaultValue = "50")
+    int maxQueued;
+
+    @Inject
+    @ConfigProperty(name = "console.bulkhead.queue-timeout", defaultValue = "PT10S")
+    Duration queueTimeout;
+
+    /**
+     * Number of consecutive failed requests to a single cluster after which
+     * further requests are rejected for {@code console.bulkhead.open-duration}
+     */
+    @Inject
+    @ConfigProperty(name = "console.bulkhead.failure-threshold", defaultValue = "5")
+    int failureThreshold;
+
+    @Inject
+    @ConfigProperty(name = "console.bulkhead.open-duration", defaultValue = "PT30S")
+    Duration openDuration;
+
+    @Inject
+    Map<String, KafkaContext> contexts;
+
+    @Inject
+    KafkaContext.Manager contextManager;
+
+    @Inject
+    ScheduledExecutorService scheduler;
+
+    @Inject
+    MeterRegistry registry;
+
+    record Bulkhead(ClusterBulkhead bulkhead, List<Meter> meters) {
+    }
+
+    Clock clock = Clock.systemUTC();
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> cleanup;
+
+    @PostConstruct
+    void initialize() {
+        cleanup = scheduler.scheduleWithFixedDelay(this::removeUnused, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cleanup.cancel(false);
+        bulkheads.values().forEach(b -> b.bulkhead().close());
+    }
+
+    @ServerRequestFilter
+    public Uni<Response> acquirePermit(ContainerRequestContext requestContext, RoutingContext routingContext) {
+        String clusterId = requestContext.getUriInfo().getPathParameters().getFirst("clusterId");
+        KafkaContext ctx = clusterId != null ? contexts.get(clusterId) : null;
+
+        if (!enabled || ctx == null) {
+            // Unknown clusters are rejected with a 404 when the request's context is produced
+            return Uni.createFrom().nullItem();
+        }
+
+        ClusterBulkhead bulkhead = bulkheads.computeIfAbsent(ctx.clusterConfig().clusterKey(), this::create).bulkhead();
+
+        return Uni.createFrom().completionStage(bulkhead::acquire)
+            .map(permit -> {
+                routingContext.addEndHandler(result -> permit.release(outcome(routingContext.response().getStatusCode())));
+                return (Response) null;
+            })
+            .onFailure(ClusterBulkhead.RejectedException.class)
+            .recoverWithItem(error -> rejectRequest((ClusterBulkhead.RejectedException) error));
+    }
+
+    static ClusterBulkhead.Outcome outcome(int status) {
+        if (status == Status.BAD_GATEWAY.getStatusCode() || status == Status.GATEWAY_TIMEOUT.getStatusCode()) {
+            return ClusterBulkhead.Outcome.FAILED;
+        }
+        if (Status.Family.familyOf(status) == Status.Family.SUCCESSFUL) {
+            return ClusterBulkhead.Outcome.SUCCEEDED;
+        }
+        return ClusterBulkhead.Outcome.UNRELATED;
+    }
+
+    Response rejectRequest(ClusterBulkhead.RejectedException rejection) {
+        JsonApiError error = CATEGORY.createError(rejection.getMessage(), null, null);
+        LOGGER.debugf("error=%s", error);
+        long retryAfter = Math.max(1, (rejection.retryAfter().toMillis() + 999) / 1000);
+
+        return Response.status(CATEGORY.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, retryAfter)
+                .entity(new JsonApiErrors(List.of(error)))
+                .build();
+    }
+
+    private Bulkhead create(String clusterKey) {
+        Tags tags = Tags.of("cluster", clusterKey);
+        Map<ClusterBulkhead.Rejection, Counter> rejections = new EnumMap<>(ClusterBulkhead.Rejection.class);
+
+        for (var reason : ClusterBulkhead.Rejection.values()) {
+            rejections.put(reason, Counter.builder("console.kafka.bulkhead.rejected")
+                    .description("Requests rejected by the cluster's bulkhead")
+                    .tags(tags.and("reason", reason.name().toLowerCase(Locale.ROOT)))
+                    .register(registry));
+        }
+
+        Counter opened = Counter.builder("console.kafka.circuit.opened")
+                .description("Times the cluster's circuit was opened following repeated failures")
+                .tags(tags)
+                .register(registry);
+
+        var bulkhead = new ClusterBulkhead(clusterKey, maxConcurrent, maxQueued, queueTimeout,
+                failureThreshold, openDuration, scheduler, new ClusterBulkhead.Listener() {
+                    @Override
+                    public void rejected(ClusterBulkhead.Rejection reason) {
+                        rejections.get(reason).increment();
+                    }
+
+                    @Override
+                    public void stateChanged(ClusterBulkhead.State state) {
+                        if (state == ClusterBulkhead.State.OPEN) {
+                            opened.increment();
+                        }
+                    }
+                }, clock);
+
+        List<Meter> meters = new ArrayList<>(rejections.values());
+        meters.add(opened);
+        meters.add(Gauge.builder("console.kafka.bulkhead.active", bulkhead, ClusterBulkhead::active)
+                .description("Requests currently being processed for the cluster")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder("console.kafka.bulkhead.queued", bulkhead, ClusterBulkhead::queued)
+                .description("Requests waiting to be processed for the cluster")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder("console.kafka.circuit.state", bulkhead, b -> b.state().ordinal())
+                .description("State of the cluster's circuit: 0 (closed), 1 (half-open), or 2 (open)")
+                .tags(tags)
+                .register(registry));
+
+        return new Bulkhead(bulkhead, meters);
+    }
+
+    /**
+     * Remove the bulkheads and metrics of clusters that are no longer configured
+     */
+    void removeUnused() {
+        bulkheads.entrySet().removeIf(entry -> {
+            var bulkhead = entry.getValue();
+
+            if (contextManager.findByClusterKey(entry.getKey()).isEmpty() && bulkhead.bulkhead().idle()) {
+                bulkhead.bulkhead().close();
+                bulkhead.meters().forEach(registry::remove);
+                return true;
+            }
+
+            return false;
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.QuorumInfo;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.errors.BrokerNotAvailableException;
+import org.apache.kafka.common.errors.DisconnectException;
+import org.apache.kafka.common.errors.LeaderNotAvailableException;
+import org.apache.kafka.common.errors.NotControllerException;
+import org.apache.kafka.common.errors.NotCoordinatorException;
+import org.apache.kafka.common.errors.NotLeaderOrFollowerException;
+import org.apache.kafka.common.errors.StaleBrokerEpochException;
+import org.apache.kafka.common.errors.TimeoutException;
+
+/**
+ * Point-in-time view of the nodes of a Kafka cluster, as reported by
+ * {@linkplain Admin#describeCluster() describeCluster} and
+ * {@linkplain Admin#describeMetadataQuorum() describeMetadataQuorum}. A single
+ * snapshot is shared by all requests for a cluster (see
+ * {@linkplain KafkaContext#shared(Class, java.util.function.Function)}) since
+ * the membership of the cluster only changes when nodes join, leave, or fail
+ * over.
+ *
+ * @param clusterId  the cluster's ID
+ * @param nodes      broker nodes of the cluster
+ * @param controller the controller node, may be null when not known
+ * @param quorum     the metadata quorum with the voters and observers and their
+ *                   lag, or null when the cluster does not support describing the
+ *                   quorum
+ */
+public record ClusterSnapshot(
+        String clusterId,
+        Collection<Node> nodes,
+        Node controller,
+        QuorumInfo quorum) {
+
+    /**
+     * Errors from an Admin request that indicate the nodes of the cluster may
+     * have changed since the snapshot was taken.
+     */
+    private static final Set<Class<? extends Throwable>> NODE_ERRORS = Set.of(
+            BrokerNotAvailableException.class,
+            DisconnectException.class,
+            LeaderNotAvailableException.class,
+            NotControllerException.class,
+            NotCoordinatorException.class,
+            NotLeaderOrFollowerException.class,
+            StaleBrokerEpochException.class,
+            TimeoutException.class);
+
+    public ClusterSnapshot {
+        nodes = List.copyOf(nodes);
+    }
+
+    /**
+     * {@linkplain PeriodicSnapshot} that loads a new {@linkplain ClusterSnapshot}
+     * using the given admin client.
+     */
+    public static class Periodic extends PeriodicSnapshot<ClusterSnapshot> {
+        public Periodic(Admin admin, Duration interval, double jitter) {
+            super(() -> load(admin), interval, jitter);
+        }
+
+        /**
+         * Discard the current snapshot when the given error (typically the
+         * failure of an Admin request) indicates that a node of the cluster is
+         * unavailable or that leadership has moved, so that the next request
+         * observes the current state of the cluster rather than waiting for the
+         * snapshot to expire. A null error is ignored.
+         *
+         * @return true if the snapshot was invalidated
+         */
+        public boolean invalidateOn(Throwable error) {
+            if (isNodeError(error)) {
+                invalidate();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public static CompletionStage<ClusterSnapshot> load(Admin admin) {
+        var clusterResult = admin.describeCluster();
+        var quorumResult = MetadataQuorumSupport.quorumInfo(admin.describeMetadataQuorum());
+        var clusterId = clusterResult.clusterId().toCompletionStage().toCompletableFuture();
+        var nodes = clusterResult.nodes().toCompletionStage().toCompletableFuture();
+        var controller = clusterResult.controller().toCompletionStage().toCompletableFuture();
+
+        return CompletableFuture.allOf(clusterId, nodes, controller, quorumResult)
+                .thenApply(nothing -> new ClusterSnapshot(
+                        clusterId.join(),
+                        nodes.join(),
+                        controller.join(),
+                        quorumResult.join()));
+    }
+
+    static boolean isNodeError(Throwable error) {
+        while (error instanceof CompletionException || error instanceof ExecutionException) {
+            if (error.getCause() == null) {
+                break;
+            }
+            error = error.getCause();
+        }
+
+        Throwable cause = error;
+        return cause != null && NODE_ERRORS.stream().anyMatch(type -> type.isInstance(cause));
+    }
+}
@@ -1,7 +1,10 @@
 package com.github.streamshub.console.api.support;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -29,10 +32,84 @@ public class ContextualExecutorProvider {
         return task -> executor.execute(() -> context.execute(task));
     }
 
+    /**
+     * Provide an executor for the continuations of a single request's service
+     * pipeline. Like {@link #currentContextExecutor()}, tasks run using the
+     * server's thread pool with the context of the thread calling this method, but
+     * tasks are run one at a time and in submission order. A task submitted while
+     * another task of the same executor is running (e.g. the next
+     * {@code thenApplyAsync} stage of a chain) is run by the same pool thread once
+     * the current task completes, rather than being handed to the pool again.
+     * The context is applied once for each batch of tasks rather than for every
+     * task.
+     *
+     * <p>Tasks must not block, and must never wait for the result of another task
+     * of the same executor. Blocking work, or work intended to run in parallel
+     * (e.g. independent lanes of a batch), must use
+     * {@link #currentContextExecutor()} instead.
+     *
+     * @return a serial executor with propagation of the calling thread's context
+     */
+    public Executor pipelineExecutor() {
+        return new SerialExecutor(executor, threadContext.currentContextExecutor());
+    }
+
     /**
      * @see ThreadContext#contextualRunnable(Runnable)
      */
     public Runnable contextualRunnable(Runnable runnable) {
         return threadContext.contextualRunnable(runnable);
     }
+
+    static class SerialExecutor implements Executor {
+        private final Executor pool;
+        private final Executor context;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        SerialExecutor(Executor pool, Executor context) {
+            this.pool = pool;
+            this.context = context;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+
+            try {
+                schedule();
+            } catch (RuntimeException e) {
+                tasks.remove(task);
+                throw e;
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    pool.execute(() -> context.execute(this::drain));
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Runnable task;
+
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+            } finally {
+                scheduled.set(false);
+
+                // A task may have been added after the last poll, but before the flag was cleared
+                if (!tasks.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
 }
@@ -107,6 +107,13 @@ public abstract class ErrorCategory implements Payload {
         }
     }
 
+    @Singleton
+    public static class TooManyRequests extends ErrorCategory {
+        public TooManyRequests() {
+            super("4291", "Too many requests", Status.TOO_MANY_REQUESTS);
+        }
+    }
+
     @Singleton
     public static class ServerError extends ErrorCategory {
         public ServerError() {
@@ -121,6 +128,13 @@ public abstract class ErrorCategory implements Payload {
         }
     }
 
+    @Singleton
+    public static class BackendUnavailable extends ErrorCategory {
+        public BackendUnavailable() {
+            super("5031", "Backend service unavailable", Status.SERVICE_UNAVAILABLE);
+        }
+    }
+
     public enum Source {
         PARAMETER {
             @Override
@@ -1,8 +1,13 @@
 package com.github.streamshub.console.api.support;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
@@ -18,13 +23,19 @@ import com.github.streamshub.console.api.service.StrimziResourceService;
 import com.github.streamshub.console.config.ConsoleConfig;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.api.kafka.model.connect.KafkaConnect;
+import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicSpec;
+import io.strimzi.api.kafka.model.user.KafkaUser;
 
 @ApplicationScoped
 public class InformerFactory {
@@ -55,9 +66,66 @@ public class InformerFactory {
     // Keys: namespace -> cluster name -> topic name
     Map<String, Map<String, Map<String, KafkaTopic>>> topics = new ConcurrentHashMap<>();
 
+    @Produces
+    @ApplicationScoped
+    @Named("KafkaPods")
+    // Keys: namespace -> cluster name -> node ID
+    Map<String, Map<String, Map<String, Pod>>> kafkaPods = new ConcurrentHashMap<>();
+
+    @Produces
+    @ApplicationScoped
+    @Named("KafkaRebalances")
+    // Keys: namespace -> cluster name -> rebalance name
+    Map<String, Map<String, Map<String, KafkaRebalance>>> rebalances = new ConcurrentHashMap<>();
+
+    @Produces
+    @ApplicationScoped
+    @Named("KafkaUsers")
+    // Keys: namespace -> cluster name -> user name
+    Map<String, Map<String, Map<String, KafkaUser>>> users = new ConcurrentHashMap<>();
+
+    /*
+     * KafkaConnect and KafkaMirrorMaker2 resources do not belong to a Kafka
+     * cluster and are retrieved by namespace and name directly from the
+     * informers' stores. KafkaConnectors are retrieved in the same way.
+     */
+
+    @Produces
+    @ApplicationScoped
+    @Named("KafkaConnectInformer")
+    Holder<SharedIndexInformer<KafkaConnect>> kafkaConnectInformer = Holder.empty();
+
+    @Produces
+    @ApplicationScoped
+    @Named("KafkaConnectorInformer")
+    Holder<SharedIndexInformer<KafkaConnector>> kafkaConnectorInformer = Holder.empty();
+
+    @Produces
+    @ApplicationScoped
+    @Named("KafkaMirrorMaker2Informer")
+    Holder<SharedIndexInformer<KafkaMirrorMaker2>> kafkaMirrorMaker2Informer = Holder.empty();
+
     SharedIndexInformer<KafkaNodePool> kafkaNodePoolInformer;
+    SharedIndexInformer<Pod> kafkaPodInformer;
+    SharedIndexInformer<KafkaRebalance> rebalanceInformer;
+    SharedIndexInformer<KafkaUser> userInformer;
     SharedIndexInformer<? extends KafkaTopic> topicInformer;
 
+    // Keys: [namespace, cluster name, topic name]
+    final Map<List<String>, List<TopicCondition>> topicConditions = new ConcurrentHashMap<>();
+
+    record TopicCondition(Predicate<KafkaTopic> predicate, CompletableFuture<KafkaTopic> promise) {
+        void test(KafkaTopic topic) {
+            try {
+                if (predicate.test(topic)) {
+                    promise.complete(topic);
+                }
+            } catch (Exception e) {
+                promise.completeExceptionally(e);
+            }
+        }
+    }
+
     /**
      * Initialize CDI beans produced by this factory. Executed on application startup.
      *
@@ -78,17 +146,90 @@ public class InformerFactory {
                 LOGGER.warnf("Failed to create Strimzi KafkaNodePool informer: %s", e.getMessage());
             }
 
+            try {
+                kafkaPodInformer = strimziService.informKafkaPods();
+                kafkaPodInformer.addEventHandler(new KafkaPodEventHandler(kafkaPods));
+            } catch (KubernetesClientException e) {
+                LOGGER.warnf("Failed to create Kafka Pod informer: %s", e.getMessage());
+            }
+
             try {
                 topicInformer = strimziService.informKafkaTopics();
-                topicInformer.addEventHandler(new KafkaTopicEventHandler(topics));
+                topicInformer.addEventHandler(new KafkaTopicEventHandler(topics, this::topicChanged));
             } catch (KubernetesClientException e) {
                 LOGGER.warnf("Failed to create Strimzi KafkaTopic informer: %s", e.getMessage());
             }
+
+            rebalanceInformer = inform(KafkaRebalance.class, strimziService::informKafkaRebalances);
+            if (rebalanceInformer != null) {
+                rebalanceInformer.addEventHandler(new EventHandler<>(rebalances));
+            }
+
+            userInformer = inform(KafkaUser.class, strimziService::informKafkaUsers);
+            if (userInformer != null) {
+                userInformer.addEventHandler(new EventHandler<>(users));
+            }
+
+            kafkaConnectInformer = Holder.of(inform(KafkaConnect.class, strimziService::informKafkaConnects));
+            kafkaConnectorInformer = Holder.of(inform(KafkaConnector.class, strimziService::informKafkaConnectors));
+            kafkaMirrorMaker2Informer = Holder.of(inform(KafkaMirrorMaker2.class, strimziService::informKafkaMirrorMaker2s));
         } else {
             LOGGER.warn("Kubernetes client connection is disabled. Custom resource information will not be available.");
         }
     }
 
+    private static <T extends HasMetadata> SharedIndexInformer<T> inform(Class<T> type,
+            Supplier<SharedIndexInformer<T>> informer) {
+
+        try {
+            return informer.get();
+        } catch (KubernetesClientException e) {
+            LOGGER.warnf("Failed to create Strimzi %s informer: %s", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Obtain a promise that completes with the KafkaTopic for the named topic
+     * once the KafkaTopic (as seen by the topic informer) satisfies the given
+     * condition. The condition is evaluated immediately against the current state
+     * of the resource and again for each subsequent add/update event received for
+     * it. The caller is responsible for applying any timeout to the returned
+     * promise.
+     *
+     * @param namespace   namespace of the Kafka cluster and its topics
+     * @param clusterName name of the Kafka cluster the topic belongs to
+     * @param topicName   name of the topic, i.e. the KafkaTopic's
+     *                    {@code spec.topicName} or its name when not set
+     * @param condition   condition to be met by the KafkaTopic resource
+     * @return promise completed with the KafkaTopic that satisfied the condition
+     */
+    public CompletableFuture<KafkaTopic> awaitTopic(String namespace, String clusterName, String topicName,
+            Predicate<KafkaTopic> condition) {
+
+        List<String> key = List.of(namespace, clusterName, topicName);
+        TopicCondition pending = new TopicCondition(condition, new CompletableFuture<>());
+
+        topicConditions.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(pending);
+        pending.promise().whenComplete((topic, error) -> topicConditions.computeIfPresent(key, (k, conditions) -> {
+            conditions.remove(pending);
+            return conditions.isEmpty() ? null : conditions;
+        }));
+
+        // The condition may already be met, e.g. when the event was received before registration
+        Optional.ofNullable(topics.get(namespace))
+            .map(clusterTopics -> clusterTopics.get(clusterName))
+            .map(clusterTopics -> clusterTopics.get(topicName))
+            .ifPresent(pending::test);
+
+        return pending.promise();
+    }
+
+    private void topicChanged(String namespace, String clusterName, String topicName, KafkaTopic topic) {
+        Optional.ofNullable(topicConditions.get(List.of(namespace, clusterName, topicName)))
+            .ifPresent(conditions -> conditions.forEach(condition -> condition.test(topic)));
+    }
+
     void disposeKafkaInformer(@Disposes @Named("KafkaInformer") Holder<SharedIndexInformer<Kafka>> informer) {
         informer.ifPresent(SharedIndexInformer::close);
     }
@@ -104,6 +245,54 @@ public class InformerFactory {
         }
     }
 
+    /**
+     * Close the KafkaRebalance informer used to update the rebalance map being disposed.
+     *
+     * @param rebalances map of KafkaRebalances being disposed.
+     */
+    void disposeKafkaRebalances(@Disposes Map<String, Map<String, Map<String, KafkaRebalance>>> rebalances) {
+        if (rebalanceInformer != null) {
+            rebalanceInformer.close();
+        }
+    }
+
+    /**
+     * Close the KafkaUser informer used to update the user map being disposed.
+     *
+     * @param users map of KafkaUsers being disposed.
+     */
+    void disposeKafkaUsers(@Disposes Map<String, Map<String, Map<String, KafkaUser>>> users) {
+        if (userInformer != null) {
+            userInformer.close();
+        }
+    }
+
+    void disposeKafkaConnectInformer(@Disposes @Named("KafkaConnectInformer")
+            Holder<SharedIndexInformer<KafkaConnect>> informer) {
+        informer.ifPresent(SharedIndexInformer::close);
+    }
+
+    void disposeKafkaConnectorInformer(@Disposes @Named("KafkaConnectorInformer")
+            Holder<SharedIndexInformer<KafkaConnector>> informer) {
+        informer.ifPresent(SharedIndexInformer::close);
+    }
+
+    void disposeKafkaMirrorMaker2Informer(@Disposes @Named("KafkaMirrorMaker2Informer")
+            Holder<SharedIndexInformer<KafkaMirrorMaker2>> informer) {
+        informer.ifPresent(SharedIndexInformer::close);
+    }
+
+    /**
+     * Close the Pod informer used to update the Kafka pod map being disposed.
+     *
+     * @param kafkaPods map of Kafka node Pods being disposed.
+     */
+    void disposeKafkaPods(@Disposes Map<String, Map<String, Map<String, Pod>>> kafkaPods) {
+        if (kafkaPodInformer != null) {
+            kafkaPodInformer.close();
+        }
+    }
+
     /**
      * Close the KafkaTopic informer used to update the topics map being disposed.
      *
@@ -115,7 +304,7 @@ public class InformerFactory {
         }
     }
 
-    private abstract static class EventHandler<T extends HasMetadata> implements ResourceEventHandler<T> {
+    private static class EventHandler<T extends HasMetadata> implements ResourceEventHandler<T> {
         Map<String, Map<String, Map<String, T>>> items;
 
         EventHandler(Map<String, Map<String, Map<String, T>>> items) {
@@ -179,9 +368,44 @@ public class InformerFactory {
         }
     }
 
+    private static class KafkaPodEventHandler extends EventHandler<Pod> {
+        public KafkaPodEventHandler(Map<String, Map<String, Map<String, Pod>>> kafkaPods) {
+            super(kafkaPods);
+        }
+
+        /**
+         * Pods are keyed by the node ID, the suffix of the pod name following
+         * the last hyphen, e.g. {@code my-cluster-pool-a-3}.
+         */
+        @Override
+        protected String name(Pod pod) {
+            String podName = super.name(pod);
+            return podName.substring(podName.lastIndexOf('-') + 1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TopicListener {
+        void topicChanged(String namespace, String clusterName, String topicName, KafkaTopic topic);
+    }
+
     private static class KafkaTopicEventHandler extends EventHandler<KafkaTopic> {
-        public KafkaTopicEventHandler(Map<String, Map<String, Map<String, KafkaTopic>>> topics) {
+        private final TopicListener listener;
+
+        public KafkaTopicEventHandler(Map<String, Map<String, Map<String, KafkaTopic>>> topics, TopicListener listener) {
             super(topics);
+            this.listener = listener;
+        }
+
+        @Override
+        public void onAdd(KafkaTopic topic) {
+            super.onAdd(topic);
+
+            String clusterName = topic.getMetadata().getLabels().get(STRIMZI_CLUSTER);
+
+            if (clusterName != null) {
+                listener.topicChanged(topic.getMetadata().getNamespace(), clusterName, name(topic), topic);
+            }
         }
 
         @Override
@@ -2,13 +2,18 @@ package com.github.streamshub.console.api.support;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -46,29 +51,41 @@ public class KafkaContext implements Closeable {
 
     /**
      * Container type to manager Kafka contexts (cluster configurations and
-     * connections) created and used for API requests. This class synchronizes
-     * access to ensure connections are only closed when no longer used to service
-     * requests.
+     * connections) created and used for API requests. Each context carries its
+     * own count of the requests using it, so that connections are only closed
+     * when no longer used to service requests, without any lock shared by
+     * requests to different clusters (or the same cluster).
      */
     public static class Manager {
         private static final Logger LOGGER = Logger.getLogger(Manager.class);
         private final Map<String, KafkaContext> contexts = new ConcurrentHashMap<>();
+        private final Map<String, KafkaContext> contextsByKey = new ConcurrentHashMap<>();
 
         public Map<String, KafkaContext> contexts() {
             return Collections.unmodifiableMap(contexts);
         }
 
         /**
-         * Obtains a context by ID and marks it as "in use".
+         * Obtains a context by the key of its cluster configuration, i.e.
+         * {@code namespace/name} or {@code name}, without marking it as "in use".
          */
-        public synchronized KafkaContext acquire(String clusterId) {
-            KafkaContext ctx = contexts.get(clusterId);
+        public Optional<KafkaContext> findByClusterKey(String clusterKey) {
+            return Optional.ofNullable(contextsByKey.get(clusterKey));
+        }
 
-            if (ctx != null) {
-                ctx.users.incrementAndGet();
-            }
+        /**
+         * Obtains a context by ID and marks it as "in use". A context replaced
+         * concurrently is never returned, the lookup is retried and the
+         * replacement is returned instead.
+         */
+        public KafkaContext acquire(String clusterId) {
+            while (true) {
+                KafkaContext ctx = contexts.get(clusterId);
 
-            return ctx;
+                if (ctx == null || ctx.tryAcquire()) {
+                    return ctx;
+                }
+            }
         }
 
         /**
@@ -76,11 +93,12 @@ public class KafkaContext implements Closeable {
          * is not in use. Used contexts will be closed later when they are no longer
          * needed by a request and they are {@link #release(KafkaContext) released}.
          */
-        public synchronized void remove(String clusterId) {
+        public void remove(String clusterId) {
             KafkaContext previous = contexts.remove(clusterId);
 
-            if (previous != null && !previous.hasUsers()) {
-                previous.close();
+            if (previous != null) {
+                contextsByKey.remove(previous.clusterConfig().clusterKey(), previous);
+                previous.retire();
             }
         }
 
@@ -91,70 +109,113 @@ public class KafkaContext implements Closeable {
          * they are no longer needed by a request and they are
          * {@link #release(KafkaContext) released}.
          */
-        public synchronized void replace(String clusterId, String clusterKey, KafkaContext ctx) {
+        public void replace(String clusterId, String clusterKey, KafkaContext ctx) {
             KafkaContext previous = contexts.put(clusterId, ctx);
+            contextsByKey.put(clusterKey, ctx);
 
             if (previous == null) {
-                LOGGER.infof("Added KafkaContext for cluster %s, id=%s, global=%s", clusterKey, clusterId, ctx.admin != null);
-            } else {
-                var closed = false;
+                LOGGER.infof("Added KafkaContext for cluster %s, id=%s, global=%s", clusterKey, clusterId, ctx.globalConnection());
+            } else if (previous != ctx) {
                 var users = previous.userCount();
-
-                if (!previous.hasUsers()) {
-                    previous.close();
-                    closed = true;
-                }
+                var closed = previous.retire();
 
                 LOGGER.infof("Replaced KafkaContext for cluster %s, id=%s, global=%s, users=%d, closed=%s",
-                        clusterKey, clusterId, previous.admin() != null, users, closed);
+                        clusterKey, clusterId, previous.globalConnection(), users, closed);
             }
         }
 
         /**
-         * Release the provided context (decrement its user count) and close it if not
-         * in use by any other requests.
+         * Close the connections of lazily-connected contexts that are not in use
+         * and have not been used for at least the given length of time. The
+         * contexts remain available and will connect again when next used.
+         *
+         * @return the number of contexts with connections closed
          */
-        public synchronized void release(KafkaContext ctx) {
-            if (ctx.applicationScoped()) {
-                ctx.users.decrementAndGet();
+        public int closeIdle(Duration idleTimeout) {
+            int closed = 0;
+
+            for (KafkaContext ctx : contexts.values()) {
+                if (ctx.closeIfIdle(idleTimeout)) {
+                    closed++;
+                }
             }
 
-            if (!contexts.values().contains(ctx)) {
-                var clusterKey = ctx.clusterConfig().clusterKey();
+            if (closed > 0) {
+                LOGGER.infof("Closed connections of %d idle KafkaContexts", closed);
+            }
 
-                if (ctx.hasUsers()) {
-                    LOGGER.infof("Out-of-date KafkaContext still has %d users: %s", ctx.userCount(), clusterKey);
-                } else {
-                    if (ctx.applicationScoped()) {
-                        LOGGER.infof("Closing out-of-date KafkaContext: %s", clusterKey);
-                    } else {
-                        LOGGER.debugf("Closing request-scoped KafkaContext: %s", clusterKey);
-                    }
+            return closed;
+        }
 
-                    ctx.close();
+        /**
+         * Release the provided context (decrement its user count) and close it if
+         * it has been replaced or removed and is not in use by any other requests.
+         * Request-scoped contexts are always closed, releasing the
+         * application-scoped context they were created from.
+         */
+        public void release(KafkaContext ctx) {
+            if (ctx == EMPTY) {
+                return;
+            }
+
+            if (ctx.applicationScoped()) {
+                ctx.release();
+            } else {
+                LOGGER.debugf("Closing request-scoped KafkaContext: %s", ctx.clusterConfig().clusterKey());
+                ctx.close();
+
+                if (ctx.parent != null) {
+                    ctx.parent.release();
                 }
             }
         }
     }
 
+    /**
+     * Value of {@linkplain #users} while the connection of an idle context is
+     * being closed. Acquisitions wait for the (brief) eviction to complete.
+     */
+    private static final int EVICTING = Integer.MIN_VALUE;
+
     final AtomicInteger users = new AtomicInteger(0);
+    volatile boolean retired = false;
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    final KafkaContext parent;
     final KafkaClusterConfig clusterConfig;
-    final Kafka resource;
+    volatile Kafka resource;
     final Map<Class<?>, Map<String, Object>> configs;
-    final Admin admin;
+    final Supplier<Admin> adminFactory;
+    final AdminPool.Lease adminLease;
+    volatile Admin admin;
+    volatile long lastUsedNanos = System.nanoTime();
     boolean applicationScoped;
     final HttpAuthenticationMechanism formAuthentication;
     SchemaRegistryContext schemaRegistryContext;
     PrometheusAPI prometheus;
+    String fingerprint;
+    final Map<Class<?>, Object> shared = new ConcurrentHashMap<>();
 
     public KafkaContext(KafkaClusterConfig clusterConfig, Kafka resource, Map<Class<?>, Map<String, Object>> configs, Admin admin) {
+        this(clusterConfig, resource, configs, admin, null, null, null);
+    }
+
+    private KafkaContext(KafkaClusterConfig clusterConfig,
+            Kafka resource,
+            Map<Class<?>, Map<String, Object>> configs,
+            Admin admin,
+            Supplier<Admin> adminFactory,
+            AdminPool.Lease adminLease,
+            KafkaContext parent) {
         this.clusterConfig = clusterConfig;
         this.resource = resource;
         this.configs = Map.copyOf(configs);
         this.admin = admin;
+        this.adminFactory = adminFactory;
+        this.adminLease = adminLease;
+        this.parent = parent;
         this.applicationScoped = true;
 
-        if (clusterConfig != null && admin == null) {
+        if (clusterConfig != null && admin == null && adminFactory == null) {
             String id = clusterId(clusterConfig, Optional.ofNullable(resource));
             this.formAuthentication = ConsoleAuthenticationMechanism.form(id);
         } else {
@@ -163,24 +224,114 @@ public class KafkaContext implements Closeable {
     }
 
     public KafkaContext(KafkaContext other, Admin admin) {
-        this(other.clusterConfig, other.resource, other.configs, admin);
+        this(other, admin, null);
+    }
+
+    /**
+     * Create a request-scoped context using an admin client leased from an
+     * {@linkplain AdminPool}. The lease is released rather than the client being
+     * closed when the context is closed.
+     */
+    public KafkaContext(KafkaContext other, Admin admin, AdminPool.Lease adminLease) {
+        this(other.clusterConfig, other.resource, other.configs, admin, null, adminLease,
+                other.applicationScoped ? other : null);
         this.applicationScoped = false;
         this.schemaRegistryContext = other.schemaRegistryContext;
         this.prometheus = other.prometheus;
     }
 
+    /**
+     * Create an application-scoped context with a global connection that is
+     * opened when the {@linkplain #admin() admin client} is first used, rather
+     * than when the context is created, and that may be closed again once the
+     * context is idle (see {@linkplain Manager#closeIdle(Duration)}).
+     */
+    public static KafkaContext lazy(KafkaClusterConfig clusterConfig,
+            Kafka resource,
+            Map<Class<?>, Map<String, Object>> configs,
+            Supplier<Admin> adminFactory) {
+        return new KafkaContext(clusterConfig, resource, configs, null, Objects.requireNonNull(adminFactory), null, null);
+    }
+
     public static String clusterId(KafkaClusterConfig clusterConfig, Optional<Kafka> kafkaResource) {
         return Optional.ofNullable(clusterConfig.getId())
                 .or(() -> kafkaResource.map(Kafka::getStatus).map(KafkaStatus::getClusterId))
                 .orElseGet(clusterConfig::clusterKeyEncoded);
     }
 
+    /**
+     * Mark the context as in use, unless it has been replaced or removed from its
+     * {@linkplain Manager manager}.
+     *
+     * @return true if the context was acquired
+     */
+    boolean tryAcquire() {
+        int current;
+
+        do {
+            current = users.get();
+
+            if (current == EVICTING) {
+                Thread.onSpinWait();
+            }
+        } while (current == EVICTING || !users.compareAndSet(current, current + 1));
+
+        if (retired) {
+            // Replaced concurrently, the caller will obtain the replacement
+            release();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Release a use of the context, closing it if it has been replaced or removed
+     * and was the last use.
+     */
+    void release() {
+        release(true);
+    }
+
+    private void release(boolean used) {
+        if (used) {
+            lastUsedNanos = System.nanoTime();
+        }
+
+        if (users.decrementAndGet() == 0 && retired && !closed()) {
+            LOGGER.infof("Closing out-of-date KafkaContext: %s", clusterConfig.clusterKey());
+            close();
+        }
+    }
+
+    /**
+     * Mark the context as replaced or removed from its manager and close it if
+     * not in use. Otherwise, it is closed by the release of its last use.
+     *
+     * @return true if the context was closed
+     */
+    boolean retire() {
+        retired = true;
+
+        if (users.get() == 0) {
+            close();
+            return true;
+        }
+
+        LOGGER.infof("Out-of-date KafkaContext still has %d users: %s", userCount(), clusterConfig.clusterKey());
+        return false;
+    }
+
+    boolean closed() {
+        return closed.get();
+    }
+
     public boolean hasUsers() {
         return users.get() > 0;
     }
 
     public int userCount() {
-        return users.get();
+        return Math.max(users.get(), 0);
     }
 
     @Override
@@ -193,18 +344,38 @@ public class KafkaContext implements Closeable {
         return Objects.equals(clusterConfig, other.clusterConfig)
                 && Objects.equals(resource, other.resource)
                 && Objects.equals(configs, other.configs)
-                && Objects.equals(admin, other.admin);
+                && Objects.equals(connection(), other.connection());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(clusterConfig, resource, configs, admin);
+        return Objects.hash(clusterConfig, resource, configs, connection());
+    }
+
+    /**
+     * Identity of the context's connection. The factory is used for lazy
+     * contexts since the admin client itself is opened and closed over the
+     * lifetime of the context.
+     */
+    private Object connection() {
+        return adminFactory != null ? adminFactory : admin;
     }
 
     @Override
     public void close() {
-        if (admin != null) {
-            admin.close();
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        synchronized (this) {
+            if (adminLease != null) {
+                adminLease.close();
+            } else if (admin != null) {
+                admin.close();
+            }
+            if (adminFactory != null) {
+                admin = null;
+            }
         }
         /*
          * Do not close the registry context when the KafkaContext has client-provided
@@ -218,6 +389,22 @@ public class KafkaContext implements Closeable {
                 LOGGER.warnf("Exception closing schema registry context: %s", e.getMessage());
             }
         }
+
+        closeShared(List.copyOf(shared.values()));
+        shared.clear();
+    }
+
+    private void closeShared(Collection<Object> components) {
+        components.forEach(component -> {
+            if (component instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    LOGGER.warnf("Exception closing shared component %s: %s",
+                            component.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+        });
     }
 
     public String clusterId() {
@@ -232,6 +419,15 @@ public class KafkaContext implements Closeable {
         return resource;
     }
 
+    /**
+     * Replace the Kafka resource of a context that is kept following an update
+     * to the resource that does not change the client configurations (see
+     * {@linkplain ClientConfigFingerprint}).
+     */
+    public void resource(Kafka resource) {
+        this.resource = resource;
+    }
+
     public Map<Class<?>, Map<String, Object>> configs() {
         return configs;
     }
@@ -241,9 +437,94 @@ public class KafkaContext implements Closeable {
     }
 
     public Admin admin() {
+        Admin current = admin;
+
+        if (adminFactory != null) {
+            lastUsedNanos = System.nanoTime();
+
+            if (current == null) {
+                current = connect();
+            }
+        }
+
+        return current;
+    }
+
+    private synchronized Admin connect() {
+        if (closed.get()) {
+            throw new IllegalStateException("KafkaContext for cluster %s is closed".formatted(clusterConfig.clusterKey()));
+        }
+        if (admin == null) {
+            LOGGER.infof("Connecting KafkaContext for cluster %s", clusterConfig.clusterKey());
+            admin = adminFactory.get();
+        }
         return admin;
     }
 
+    /**
+     * The admin client, only if it is currently connected. Unlike
+     * {@linkplain #admin()}, a lazy context is not connected by this method.
+     */
+    public Optional<Admin> connectedAdmin() {
+        return Optional.ofNullable(admin);
+    }
+
+    /**
+     * Whether the context has a connection using the configured credentials,
+     * connected or not, shared by all requests. When false, requests must
+     * provide their own credentials.
+     */
+    public boolean globalConnection() {
+        return admin != null || adminFactory != null;
+    }
+
+    /**
+     * Close the admin client of a lazy context, along with the shared components
+     * using it, when the context is not in use and the client has not been used
+     * for the given length of time. The client is connected again when next used.
+     */
+    boolean closeIfIdle(Duration idleTimeout) {
+        if (adminFactory == null || admin == null || retired || !idleFor(idleTimeout)
+                || !users.compareAndSet(0, EVICTING)) {
+            return false;
+        }
+
+        Admin idleAdmin = null;
+        List<Object> components = List.of();
+
+        try {
+            // Check again, the context may have been used before the eviction began
+            if (idleFor(idleTimeout)) {
+                synchronized (this) {
+                    idleAdmin = admin;
+                    admin = null;
+                }
+                components = List.copyOf(shared.values());
+                shared.clear();
+            }
+        } finally {
+            users.set(0);
+
+            if (retired) {
+                // Retired during the eviction, no use remains to close the context
+                close();
+            }
+        }
+
+        if (idleAdmin == null) {
+            return false;
+        }
+
+        LOGGER.debugf("Disconnecting idle KafkaContext for cluster %s", clusterConfig.clusterKey());
+        closeShared(components);
+        idleAdmin.close();
+        return true;
+    }
+
+    private boolean idleFor(Duration idleTimeout) {
+        return System.nanoTime() - lastUsedNanos >= idleTimeout.toNanos();
+    }
+
     public boolean applicationScoped() {
         return applicationScoped;
     }
@@ -268,6 +549,65 @@ public class KafkaContext implements Closeable {
         return prometheus;
     }
 
+    public void fingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Fingerprint of the inputs to the context's client configurations, may be
+     * null when not known.
+     *
+     * @see ClientConfigFingerprint
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Obtain a component shared by all requests using this context, creating it
+     * on first use. Typical components are caches or snapshots of cluster
+     * metadata that would otherwise be fetched for every request. Components that
+     * are {@linkplain AutoCloseable} are closed together with the context.
+     *
+     * <p>Request-scoped contexts (using client-provided credentials) do not share
+     * components with the application-scoped context they were created from, so
+     * data fetched with one user's credentials is never visible to another.
+     *
+     * <p>The factory must not itself obtain other shared components from this
+     * context.
+     */
+    public <T> T shared(Class<T> type, Function<KafkaContext, T> factory) {
+        return type.cast(shared.computeIfAbsent(type, k -> factory.apply(this)));
+    }
+
+    /**
+     * Obtain a component shared by all requests using this context only if it
+     * has already been created, without creating it (or connecting the context).
+     */
+    public <T> Optional<T> sharedIfPresent(Class<T> type) {
+        return Optional.ofNullable(shared.get(type)).map(type::cast);
+    }
+
+    /**
+     * Obtain a component shared by all requests using this context, creating it
+     * on first use, only while the context is connected. The context is held
+     * while the component is obtained so that its connection is not closed as
+     * idle concurrently, but obtaining an existing component does not count as
+     * a use of the context. Intended for background tasks that must neither
+     * connect a context nor keep an idle context connected.
+     */
+    public <T> Optional<T> sharedIfConnected(Class<T> type, Function<KafkaContext, T> factory) {
+        if (!tryAcquire()) {
+            return Optional.empty();
+        }
+
+        try {
+            return connectedAdmin().map(connected -> shared(type, factory));
+        } finally {
+            release(false);
+        }
+    }
+
     public String saslMechanism(Class<?> clientType) {
         return configs(clientType).get(SaslConfigs.SASL_MECHANISM) instanceof String auth ? auth : "";
     }
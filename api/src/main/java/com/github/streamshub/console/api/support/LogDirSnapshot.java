@@ -0,0 +1,199 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeLogDirsOptions;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.ReplicaLocalStorage;
+
+/**
+ * Point-in-time view of the replicas hosted by each broker in a Kafka cluster,
+ * as reported by {@linkplain Admin#describeLogDirs(java.util.Collection)
+ * describeLogDirs}. A single snapshot is shared by all topic requests for a
+ * cluster (see {@linkplain KafkaContext#shared(Class, java.util.function.Function)})
+ * so that brokers are not asked to describe every replica they host for each
+ * topic that is listed or described.
+ */
+public class LogDirSnapshot {
+
+    private final Map<Integer, NodeReplicas> nodes;
+
+    LogDirSnapshot(Map<Integer, NodeReplicas> nodes) {
+        this.nodes = Map.copyOf(nodes);
+    }
+
+    /**
+     * {@linkplain PeriodicSnapshot} that loads a new {@linkplain LogDirSnapshot}
+     * for all brokers in the cluster using the given admin client.
+     */
+    public static class Periodic extends PeriodicSnapshot<LogDirSnapshot> {
+        public Periodic(Admin admin, Duration interval, double jitter) {
+            super(() -> load(admin), interval, jitter);
+        }
+    }
+
+    static CompletionStage<LogDirSnapshot> load(Admin admin) {
+        return admin.describeCluster()
+            .nodes()
+            .toCompletionStage()
+            .thenCompose(brokers -> describe(admin, brokers.stream().map(Node::id).toList()));
+    }
+
+    /**
+     * Describe the log dirs of only the given nodes, e.g. the leaders of the
+     * partitions needed by a single request.
+     */
+    public static CompletionStage<LogDirSnapshot> describe(Admin admin, Collection<Integer> nodeIds) {
+        Map<Integer, NodeReplicas> result = new ConcurrentHashMap<>(nodeIds.size());
+
+        var pending = admin.describeLogDirs(nodeIds, new DescribeLogDirsOptions()
+                .timeoutMs(5000))
+            .descriptions()
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getValue()
+                    .toCompletionStage()
+                    .<Void>handle((logDirs, error) -> {
+                        result.put(entry.getKey(), error != null
+                                ? new NodeReplicas(error)
+                                : NodeReplicas.of(logDirs));
+                        return null;
+                    })
+                    .toCompletableFuture())
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(pending)
+                .thenApply(nothing -> new LogDirSnapshot(result));
+    }
+
+    /**
+     * A snapshot with the nodes of the given (more recent) snapshot replacing
+     * those of this snapshot.
+     */
+    public LogDirSnapshot with(LogDirSnapshot newer) {
+        Map<Integer, NodeReplicas> merged = new HashMap<>(nodes);
+        merged.putAll(newer.nodes);
+        return new LogDirSnapshot(merged);
+    }
+
+    /**
+     * Whether the snapshot contains a result (possibly an error) for the node
+     */
+    public boolean includesNode(int nodeId) {
+        return nodes.containsKey(nodeId);
+    }
+
+    /**
+     * Local storage of the replica of the partition hosted by the given node. An
+     * empty result is returned when the node is not known to the snapshot or when
+     * it does not host a replica of the partition.
+     */
+    public Optional<Either<ReplicaLocalStorage, Throwable>> replica(int nodeId, TopicPartition partition) {
+        NodeReplicas node = nodes.get(nodeId);
+
+        if (node == null) {
+            return Optional.empty();
+        }
+        if (node.error != null) {
+            return Optional.of(Either.ofAlternate(node.error));
+        }
+
+        return node.get(partition.topic(), partition.partition()).map(Either::of);
+    }
+
+    /**
+     * Replicas hosted by a single node. Values are held in arrays of primitives,
+     * one array per topic indexed by partition number, to avoid retaining an
+     * object for each of the (possibly hundreds of thousands of) replicas in the
+     * cluster.
+     */
+    static class NodeReplicas {
+        private static final int STRIDE = 3;
+        private static final int SIZE = 0;
+        private static final int OFFSET_LAG = 1;
+        private static final int FUTURE = 2;
+        private static final long ABSENT = -1;
+
+        final Throwable error;
+        final Map<String, long[]> topics;
+
+        NodeReplicas(Throwable error) {
+            this.error = error;
+            this.topics = Map.of();
+        }
+
+        NodeReplicas(Map<String, long[]> topics) {
+            this.error = null;
+            this.topics = topics;
+        }
+
+        static NodeReplicas of(Map<String, LogDirDescription> logDirs) {
+            Map<String, long[]> topics = new HashMap<>();
+
+            for (var logDir : logDirs.values()) {
+                for (var replica : logDir.replicaInfos().entrySet()) {
+                    put(topics, replica.getKey(), replica.getValue());
+                }
+            }
+
+            return new NodeReplicas(topics);
+        }
+
+        private static void put(Map<String, long[]> topics, TopicPartition partition, ReplicaInfo info) {
+            int offset = partition.partition() * STRIDE;
+            long[] values = topics.get(partition.topic());
+
+            if (values == null || values.length < offset + STRIDE) {
+                int length = Math.max(offset + STRIDE, values != null ? values.length * 2 : 0);
+                long[] expanded = new long[length];
+                int copied = 0;
+
+                if (values != null) {
+                    System.arraycopy(values, 0, expanded, 0, values.length);
+                    copied = values.length;
+                }
+
+                Arrays.fill(expanded, copied, length, ABSENT);
+                values = expanded;
+                topics.put(partition.topic(), values);
+            }
+
+            if (values[offset + SIZE] != ABSENT && info.isFuture()) {
+                // Prefer the current log when the replica is also being moved between log dirs
+                return;
+            }
+
+            values[offset + SIZE] = info.size();
+            values[offset + OFFSET_LAG] = info.offsetLag();
+            values[offset + FUTURE] = info.isFuture() ? 1 : 0;
+        }
+
+        Optional<ReplicaLocalStorage> get(String topic, int partition) {
+            int offset = partition * STRIDE;
+            long[] values = topics.get(topic);
+
+            if (values == null || values.length < offset + STRIDE || values[offset + SIZE] == ABSENT) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new ReplicaLocalStorage(
+                    values[offset + SIZE],
+                    values[offset + OFFSET_LAG],
+                    values[offset + FUTURE] != 0));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A task run periodically in the background to maintain state derived from a
+ * Kafka cluster, e.g. an index or snapshot shared by all requests for the
+ * cluster. The next run is scheduled once the previous run completes, after
+ * the (jittered) interval.
+ *
+ * <p>Until a first run succeeds, {@link #ready()} fails for callers as soon as
+ * a run fails and the task is retried with a short, increasing delay (up to the
+ * interval) rather than waiting for the next regular run. Callers that arrive
+ * while a retry is in progress wait for the outcome of the retry.
+ *
+ * @param <T> type of the result of each run
+ */
+public class PeriodicRefresh<T> implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(PeriodicRefresh.class);
+    static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final String name;
+    private final Supplier<CompletionStage<T>> task;
+    private final ScheduledExecutorService scheduler;
+    private final Duration interval;
+    private final double jitter;
+
+    private volatile CompletableFuture<Void> ready = new CompletableFuture<>();
+    private volatile T latest;
+    private volatile boolean succeeded = false;
+    private volatile ScheduledFuture<?> nextRun;
+    private volatile boolean closed = false;
+    private Duration retryDelay = INITIAL_RETRY_DELAY;
+
+    /**
+     * @param name      description of the refreshed state, used for logging
+     * @param task      supplier of a stage that performs a single run
+     * @param scheduler executor used to schedule runs
+     * @param interval  the (nominal) delay between the end of a run and the start of the next
+     * @param jitter    fraction of the interval, between 0 and 1, by which the
+     *                  interval is randomly shortened or lengthened for each run
+     */
+    public PeriodicRefresh(String name, Supplier<CompletionStage<T>> task, ScheduledExecutorService scheduler,
+            Duration interval, double jitter) {
+        this.name = name;
+        this.task = task;
+        this.scheduler = scheduler;
+        this.interval = interval;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Run the task immediately and periodically thereafter.
+     */
+    public PeriodicRefresh<T> start() {
+        return start(Duration.ZERO);
+    }
+
+    /**
+     * Run the task after the given delay and periodically thereafter.
+     */
+    public PeriodicRefresh<T> start(Duration initialDelay) {
+        schedule(initialDelay);
+        return this;
+    }
+
+    /**
+     * Stage that completes once a run has succeeded for the first time, or
+     * exceptionally if the most recent run failed before any run succeeded.
+     */
+    public CompletionStage<Void> ready() {
+        return ready;
+    }
+
+    /**
+     * Result of the most recent successful run, if any.
+     */
+    public Optional<T> latest() {
+        return Optional.ofNullable(latest);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        var pending = nextRun;
+
+        if (pending != null) {
+            pending.cancel(false);
+        }
+
+        ready.completeExceptionally(new CancellationException(name + " closed"));
+    }
+
+    private void schedule(Duration delay) {
+        if (!closed) {
+            nextRun = scheduler.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void run() {
+        if (closed) {
+            return;
+        }
+
+        if (!succeeded && ready.isCompletedExceptionally()) {
+            // Callers arriving from now on wait for the outcome of this retry
+            ready = new CompletableFuture<>();
+        }
+
+        CompletionStage<T> pending;
+
+        try {
+            pending = task.get();
+        } catch (RuntimeException e) {
+            pending = CompletableFuture.failedStage(e);
+        }
+
+        pending.whenComplete((result, error) -> {
+            if (error != null) {
+                LOGGER.warnf("Failed to refresh %s: %s", name, error.getMessage());
+
+                if (!succeeded) {
+                    ready.completeExceptionally(error);
+                    schedule(nextRetryDelay());
+                    return;
+                }
+            } else {
+                latest = result;
+                succeeded = true;
+                ready.complete(null);
+            }
+
+            schedule(PeriodicSnapshot.jittered(interval, jitter));
+        });
+    }
+
+    private Duration nextRetryDelay() {
+        Duration delay = retryDelay;
+        retryDelay = delay.multipliedBy(2).compareTo(interval) < 0 ? delay.multipliedBy(2) : interval;
+        return delay.compareTo(interval) < 0 ? delay : interval;
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * A value loaded asynchronously from a Kafka cluster and shared by all requests
+ * until it becomes stale. The expiration of each loaded value is jittered by a
+ * fraction of the refresh interval so that snapshots held for different
+ * clusters (or by different console replicas) do not refresh in lock step.
+ *
+ * <p>Concurrent callers of {@link #get()} observing a stale (or missing) value
+ * share a single in-flight load. A failed load is not retained and the next
+ * call to {@link #get()} will trigger a new attempt.
+ *
+ * @param <T> type of the snapshot value
+ */
+public class PeriodicSnapshot<T> {
+
+    private final Supplier<CompletionStage<T>> loader;
+    private final long intervalNanos;
+    private final double jitter;
+    private volatile CompletableFuture<Loaded<T>> current;
+
+    record Loaded<T>(T value, Instant loadedAt, long expiresAtNanos) {
+        boolean expired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * @param loader   supplier of a stage that loads a new value
+     * @param interval the (nominal) length of time a loaded value is considered fresh
+     * @param jitter   fraction of the interval, between 0 and 1, by which the
+     *                 interval is randomly shortened or lengthened for each
+     *                 loaded value
+     */
+    public PeriodicSnapshot(Supplier<CompletionStage<T>> loader, Duration interval, double jitter) {
+        this.loader = loader;
+        this.intervalNanos = interval.toNanos();
+        this.jitter = Math.clamp(jitter, 0d, 1d);
+    }
+
+    /**
+     * Obtain the current value of the snapshot, loading a new value when the
+     * current value is expired or missing.
+     */
+    public CompletionStage<T> get() {
+        CompletableFuture<Loaded<T>> snapshot = current;
+
+        if (stale(snapshot)) {
+            snapshot = refresh(snapshot);
+        }
+
+        return snapshot.thenApply(Loaded::value);
+    }
+
+    /**
+     * Obtain the current value of the snapshot if it has been loaded and is not
+     * expired, without triggering a load.
+     */
+    public Optional<T> getIfFresh() {
+        return loaded().filter(loaded -> !loaded.expired()).map(Loaded::value);
+    }
+
+    /**
+     * Discard the current value (if any). The next call to {@link #get()} will
+     * load a new value.
+     */
+    public void invalidate() {
+        current = null;
+    }
+
+    /**
+     * Age of the current value, if any value has been loaded.
+     */
+    public Optional<Duration> age() {
+        return loadedAt().map(loadedAt -> Duration.between(loadedAt, Instant.now()));
+    }
+
+    /**
+     * Time the current value was loaded, if any value has been loaded.
+     */
+    public Optional<Instant> loadedAt() {
+        return loaded().map(Loaded::loadedAt);
+    }
+
+    /**
+     * Trigger a new load unconditionally, unless one is already in progress.
+     */
+    public CompletionStage<T> refresh() {
+        CompletableFuture<Loaded<T>> snapshot = current;
+
+        if (snapshot == null || snapshot.isDone()) {
+            snapshot = refresh(snapshot);
+        }
+
+        return snapshot.thenApply(Loaded::value);
+    }
+
+    /**
+     * Jittered refresh interval, suitable for scheduling background refreshes
+     * of the snapshot.
+     */
+    public Duration nextInterval() {
+        return Duration.ofNanos(jittered());
+    }
+
+    private Optional<Loaded<T>> loaded() {
+        CompletableFuture<Loaded<T>> snapshot = current;
+
+        if (snapshot != null && snapshot.isDone() && !snapshot.isCompletedExceptionally()) {
+            return Optional.of(snapshot.join());
+        }
+
+        return Optional.empty();
+    }
+
+    private boolean stale(CompletableFuture<Loaded<T>> snapshot) {
+        if (snapshot == null) {
+            return true;
+        }
+        if (!snapshot.isDone()) {
+            // Load in progress, the caller will wait for it
+            return false;
+        }
+
+        return snapshot.isCompletedExceptionally() || snapshot.join().expired();
+    }
+
+    private synchronized CompletableFuture<Loaded<T>> refresh(CompletableFuture<Loaded<T>> expected) {
+        if (current != expected) {
+            // Another thread triggered a load since the caller observed `expected`
+            return current != null ? current : refresh(null);
+        }
+
+        CompletableFuture<Loaded<T>> next = loader.get()
+            .thenApply(value -> new Loaded<>(value, Instant.now(), System.nanoTime() + jittered()))
+            .toCompletableFuture();
+
+        current = next;
+        return next;
+    }
+
+    private long jittered() {
+        return jittered(intervalNanos, jitter);
+    }
+
+    /**
+     * Randomly shorten or lengthen the interval by up to the given fraction
+     * (between 0 and 1) of its length.
+     */
+    public static Duration jittered(Duration interval, double jitter) {
+        return Duration.ofNanos(jittered(interval.toNanos(), Math.clamp(jitter, 0d, 1d)));
+    }
+
+    private static long jittered(long intervalNanos, double jitter) {
+        if (jitter == 0d) {
+            return intervalNanos;
+        }
+        double factor = 1d + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return (long) (intervalNanos * factor);
+    }
+}
@@ -0,0 +1,264 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the resources held by concurrent operations, where each operation
+ * declares a {@linkplain Weight weight} in terms of the number of partitions it
+ * reads and the number of bytes it may buffer. An operation proceeds when its
+ * weight fits within the remaining global budgets and its user has fewer than
+ * {@code maxPerUser} operations in progress. Otherwise the operation waits, for
+ * up to {@code queueTimeout}, in a queue of at most {@code maxQueued}
+ * operations. Waiting does not hold a thread: the admission of a queued
+ * operation completes when another operation's weight is returned.
+ *
+ * <p>Waiting operations are admitted in arrival order. An operation that does
+ * not fit within the remaining budgets holds back those queued after it, so
+ * that heavy operations are not starved by lighter ones. Operations of a user
+ * that has reached the per-user limit do not hold back the operations of other
+ * users. Operations without a user, e.g. those of anonymous requests that
+ * cannot be told apart, are limited only by the global budgets.
+ *
+ * <p>The weight of an operation larger than a global budget is reduced to the
+ * budget, i.e. such an operation is admitted once nothing else is in progress.
+ */
+public class WeightedAdmission {
+
+    public record Weight(int partitions, long bytes) {
+    }
+
+    public enum Rejection {
+        /**
+         * The queue of waiting operations was full
+         */
+        FULL,
+        /**
+         * The operation waited in the queue for longer than the queue timeout
+         */
+        TIMEOUT
+    }
+
+    public static class RejectedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Rejection reason;
+
+        RejectedException(Rejection reason) {
+            super(reason == Rejection.FULL
+                    ? "Too many operations are waiting to be processed"
+                    : "Timed out waiting for operation to be processed");
+            this.reason = reason;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        public Rejection reason() {
+            return reason;
+        }
+    }
+
+    /**
+     * Admission of a single operation, closed when the operation completes to
+     * return its weight to the budgets.
+     */
+    public final class Ticket implements AutoCloseable {
+        private final String user;
+        private final Weight weight;
+        private boolean released = false;
+
+        private Ticket(String user, Weight weight) {
+            this.user = user;
+            this.weight = weight;
+        }
+
+        @Override
+        public void close() {
+            release(this);
+        }
+    }
+
+    private static final class Waiter {
+        final String user;
+        final Weight weight;
+        final CompletableFuture<Ticket> admission = new CompletableFuture<>();
+
+        Waiter(String user, Weight weight) {
+            this.user = user;
+            this.weight = weight;
+        }
+    }
+
+    private final int maxPartitions;
+    private final long maxBytes;
+    private final int maxPerUser;
+    private final int maxQueued;
+    private final Duration queueTimeout;
+    private final ScheduledExecutorService scheduler;
+
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private final Map<String, Integer> activeByUser = new HashMap<>();
+    private int active = 0;
+    private int partitions = 0;
+    private long bytes = 0;
+
+    public WeightedAdmission(int maxPartitions, long maxBytes, int maxPerUser, int maxQueued, Duration queueTimeout,
+            ScheduledExecutorService scheduler) {
+        this.maxPartitions = maxPartitions;
+        this.maxBytes = maxBytes;
+        this.maxPerUser = maxPerUser;
+        this.maxQueued = maxQueued;
+        this.queueTimeout = queueTimeout;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Request the admission of an operation. The returned stage is already
+     * complete when the operation may proceed immediately, completes later when
+     * the operation was queued, and completes exceptionally with a
+     * {@link RejectedException} when the queue is full or the operation is not
+     * admitted within the queue timeout.
+     *
+     * @param user      the user performing the operation, or null when the
+     *                  operation is not subject to the per-user limit
+     * @param requested the weight of the operation
+     */
+    public CompletionStage<Ticket> acquire(String user, Weight requested) {
+        Weight weight = new Weight(
+                Math.min(requested.partitions(), maxPartitions),
+                Math.min(requested.bytes(), maxBytes));
+
+        Waiter waiter = new Waiter(user, weight);
+        List<Waiter> admitted;
+
+        synchronized (this) {
+            if (queue.size() >= maxQueued) {
+                return CompletableFuture.failedFuture(new RejectedException(Rejection.FULL));
+            }
+
+            queue.add(waiter);
+            admitted = admitWaiting();
+        }
+
+        admitted.forEach(this::grant);
+
+        if (!waiter.admission.isDone()) {
+            scheduler.schedule(() -> expire(waiter), queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return waiter.admission;
+    }
+
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    public synchronized int active() {
+        return active;
+    }
+
+    public synchronized int partitions() {
+        return partitions;
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    private void release(Ticket ticket) {
+        List<Waiter> admitted;
+
+        synchronized (this) {
+            if (ticket.released) {
+                return;
+            }
+
+            ticket.released = true;
+            restore(ticket.user, ticket.weight);
+            admitted = admitWaiting();
+        }
+
+        admitted.forEach(this::grant);
+    }
+
+    private void expire(Waiter waiter) {
+        List<Waiter> admitted;
+
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+
+            // Operations held back by this one may now be admitted
+            admitted = admitWaiting();
+        }
+
+        admitted.forEach(this::grant);
+        waiter.admission.completeExceptionally(new RejectedException(Rejection.TIMEOUT));
+    }
+
+    private void grant(Waiter waiter) {
+        Ticket ticket = new Ticket(waiter.user, waiter.weight);
+
+        if (!waiter.admission.complete(ticket)) {
+            // Cancelled by the caller, e.g. the client disconnected
+            ticket.close();
+        }
+    }
+
+    /**
+     * Remove the waiting operations that may now proceed from the queue and add
+     * their weight to the budgets. Their admission must be completed by the
+     * caller after leaving the monitor.
+     */
+    private List<Waiter> admitWaiting() {
+        List<Waiter> admitted = new ArrayList<>();
+        Iterator<Waiter> waiters = queue.iterator();
+
+        while (waiters.hasNext()) {
+            Waiter waiter = waiters.next();
+
+            if (waiter.user != null && activeByUser.getOrDefault(waiter.user, 0) >= maxPerUser) {
+                continue;
+            }
+
+            if (partitions + waiter.weight.partitions() > maxPartitions
+                    || bytes + waiter.weight.bytes() > maxBytes) {
+                break;
+            }
+
+            waiters.remove();
+            if (waiter.user != null) {
+                activeByUser.merge(waiter.user, 1, Integer::sum);
+            }
+            active++;
+            partitions += waiter.weight.partitions();
+            bytes += waiter.weight.bytes();
+            admitted.add(waiter);
+        }
+
+        return admitted;
+    }
+
+    private void restore(String user, Weight weight) {
+        if (user != null) {
+            activeByUser.computeIfPresent(user, (k, count) -> count > 1 ? count - 1 : null);
+        }
+        active--;
+        partitions -= weight.partitions();
+        bytes -= weight.bytes();
+    }
+}
@@ -568,6 +568,109 @@ class GroupsResourceIT {
         }
     }
 
+    @Test
+    void testListGroupMembersWithFilter() {
+        String topic1 = "t1-" + UUID.randomUUID().toString();
+        String group1 = "g1-" + UUID.randomUUID().toString();
+        String client1 = "c1-" + UUID.randomUUID().toString();
+
+        try (var consumer = groupUtils.consume(group1, topic1, client1, 2, false)) {
+            whenRequesting(req -> req
+                    .param("filter[clientId]", client1)
+                    .get("{groupId}/members", clusterId1, Identifiers.encode(group1)))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("meta.page.total", is(1))
+                .body("data.size()", is(1))
+                .body("data[0].type", is("groupMembers"))
+                .body("data[0].attributes.clientId", is(client1))
+                .body("data[0].attributes.assignments", hasSize(2))
+                .body("data[0].meta.page.cursor", is(notNullValue()));
+
+            whenRequesting(req -> req
+                    .param("filter[clientId]", "like," + UUID.randomUUID().toString() + "*")
+                    .get("{groupId}/members", clusterId1, Identifiers.encode(group1)))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("meta.page.total", is(0))
+                .body("data.size()", is(0));
+        }
+    }
+
+    @Test
+    void testListGroupMembersWithNoSuchGroup() {
+        whenRequesting(req -> req.get("{groupId}/members", clusterId1, Identifiers.encode(UUID.randomUUID().toString())))
+            .assertThat()
+            .statusCode(is(Status.NOT_FOUND.getStatusCode()))
+            .body("errors.size()", is(1))
+            .body("errors.status", contains("404"));
+    }
+
+    @Test
+    void testListGroupOffsetsWithPagination() {
+        String topic1 = "t1-" + UUID.randomUUID().toString();
+        String group1 = "g1-" + UUID.randomUUID().toString();
+
+        try (var consumer = groupUtils.request(ConsumerType.CONSUMER)
+                .groupId(group1)
+                .topic(topic1, 3)
+                .messagesPerTopic(9)
+                .consumeMessages(9)
+                .autoClose(false)
+                .consume()) {
+
+            String response1 = whenRequesting(req -> req
+                    .param("sort", "-partition")
+                    .param("page[size]", 2)
+                    .get("{groupId}/offsets", clusterId1, Identifiers.encode(group1)))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("meta.page.total", is(3))
+                .body("meta.page.pageNumber", is(1))
+                .body("links", allOf(
+                        hasEntry(is("prev"), nullValue()),
+                        hasEntry(is("next"), notNullValue())))
+                .body("data.size()", is(2))
+                .body("data.type", everyItem(is("groupOffsets")))
+                .body("data.attributes.topicName", everyItem(is(topic1)))
+                .body("data.attributes.partition", contains(2, 1))
+                .body("data.attributes", everyItem(allOf(
+                        hasKey("offset"),
+                        hasKey("logEndOffset"),
+                        hasKey("lag"))))
+                .extract()
+                .asString();
+
+            URI request2;
+
+            try (JsonReader reader = Json.createReader(new StringReader(response1))) {
+                request2 = URI.create(reader.readObject().getJsonObject("links").getString("next"));
+            }
+
+            whenRequesting(req -> req
+                    .urlEncodingEnabled(false)
+                    .get(request2))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("meta.page.total", is(3))
+                .body("meta.page.pageNumber", is(2))
+                .body("links.next", is(nullValue()))
+                .body("data.size()", is(1))
+                .body("data[0].attributes.partition", is(0));
+
+            whenRequesting(req -> req
+                    .param("sort", "-lag")
+                    .param("filter[lag]", "gte,0")
+                    .get("{groupId}/offsets", clusterId1, Identifiers.encode(group1)))
+                .assertThat()
+                .statusCode(is(Status.OK.getStatusCode()))
+                .body("meta.page.total", is(3))
+                .body("data.attributes.lag", everyItem(is(0)))
+                // All records consumed
+                .body("data.attributes.timeLagMs", everyItem(is(0)));
+        }
+    }
+
     @Test
     void testDescribeConsumerGroupWithFetchGroupOffsetsError() {
         Answer<ListConsumerGroupOffsetsResult> listConsumerGroupOffsetsFailed = args -> {
@@ -1017,6 +1120,66 @@ class GroupsResourceIT {
         });
     }
 
+    @Test
+    void testPatchConsumerGroupOffsetsReadBackAfterSnapshot() {
+        final int partitionCount = 2;
+        String topic1 = "t1-" + UUID.randomUUID().toString();
+        String topic1Id = topicUtils.createTopics(List.of(topic1), partitionCount).get(topic1);
+        String group1 = "g1-" + UUID.randomUUID().toString();
+        String group1Id = Identifiers.encode(group1);
+
+        groupUtils.request(ConsumerType.CLASSIC)
+                .groupId(group1)
+                .topic(topic1, partitionCount)
+                .createTopic(false)
+                .messagesPerTopic(10)
+                .consumeMessages(10)
+                .autoClose(true)
+                .consume();
+
+        // Wait for the offsets of the group to be served from the offsets snapshot
+        await().atMost(30, TimeUnit.SECONDS)
+            .until(() -> whenRequesting(req -> req.get("{groupId}/offsets", clusterId1, group1Id))
+                    .assertThat()
+                    .statusCode(is(Status.OK.getStatusCode()))
+                    .body("data.attributes.offset", everyItem(is(5)))
+                    .extract()
+                    .path("meta.offsetsTimestamp") != null);
+
+        whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(Json.createObjectBuilder()
+                        .add("data", Json.createObjectBuilder()
+                                .add("id", group1Id)
+                                .add("type", "groups")
+                                .add("attributes", Json.createObjectBuilder()
+                                        .add("offsets", Json.createArrayBuilder()
+                                                .add(Json.createObjectBuilder()
+                                                        .add("topicId", topic1Id)
+                                                        .add("offset", "earliest")))))
+                        .build()
+                        .toString())
+                .patch("{groupId}", clusterId1, group1Id))
+            .assertThat()
+            .statusCode(is(Status.NO_CONTENT.getStatusCode()));
+
+        // The reset offsets are visible immediately, not only after the next snapshot
+        whenRequesting(req -> req.get("{groupId}/offsets", clusterId1, group1Id))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("meta", not(hasKey("offsetsTimestamp")))
+            .body("data.size()", is(partitionCount))
+            .body("data.attributes.offset", everyItem(is(0)))
+            .body("data.attributes.lag", everyItem(is(5)));
+
+        whenRequesting(req -> req
+                .param("fields[groups]", "offsets")
+                .get("{groupId}", clusterId1, group1Id))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.attributes.offsets.offset", everyItem(is(0)));
+    }
+
     @ParameterizedTest
     @CsvSource({
         "false, 5, 'earliest'                 , 0",
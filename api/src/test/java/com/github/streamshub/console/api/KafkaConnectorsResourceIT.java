@@ -31,6 +31,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.streamshub.console.api.service.StrimziResourceService;
 import com.github.streamshub.console.api.support.KafkaConnectAPI;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.config.ConsoleConfig;
@@ -48,6 +49,7 @@ import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2Builder;
 
+import static com.github.streamshub.console.test.TestHelper.informed;
 import static com.github.streamshub.console.test.TestHelper.whenRequesting;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.contains;
@@ -73,6 +75,9 @@ class KafkaConnectorsResourceIT implements ClientRequestFilter {
     @Inject
     ConsoleConfig consoleConfig;
 
+    @Inject
+    StrimziResourceService strimziService;
+
     @Inject
     KafkaConnectAPI.Client connectClient;
 
@@ -131,7 +136,7 @@ class KafkaConnectorsResourceIT implements ClientRequestFilter {
 
         utils.apply(client, kafka1);
 
-        utils.apply(client, new KafkaConnectorBuilder()
+        var connect1 = utils.apply(client, new KafkaConnectorBuilder()
                 .withNewMetadata()
                     .withNamespace("default")
                     .withName("test-connect1")
@@ -142,7 +147,7 @@ class KafkaConnectorsResourceIT implements ClientRequestFilter {
                 .endStatus()
                 .build());
 
-        utils.apply(client, new KafkaMirrorMaker2Builder()
+        var connect2 = utils.apply(client, new KafkaMirrorMaker2Builder()
                 .withNewMetadata()
                     .withNamespace("default")
                     .withName("test-connect2")
@@ -156,6 +161,11 @@ class KafkaConnectorsResourceIT implements ClientRequestFilter {
                 .endStatus()
                 .build());
 
+        // Wait for the informers to observe the Connect resources
+        await().atMost(10, TimeUnit.SECONDS)
+            .until(() -> informed(strimziService.getKafkaConnector("default", connect1.getMetadata().getName()), connect1)
+                    && informed(strimziService.getKafkaMirrorMaker2("default", connect2.getMetadata().getName()), connect2));
+
         // Wait for the added cluster to be configured in the context map
         await().atMost(10, TimeUnit.SECONDS)
             .until(() -> configuredContexts.values()
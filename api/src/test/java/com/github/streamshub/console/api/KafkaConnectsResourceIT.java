@@ -32,6 +32,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.streamshub.console.api.service.StrimziResourceService;
 import com.github.streamshub.console.api.support.KafkaConnectAPI;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.config.ConsoleConfig;
@@ -49,6 +50,7 @@ import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2Builder;
 
+import static com.github.streamshub.console.test.TestHelper.informed;
 import static com.github.streamshub.console.test.TestHelper.whenRequesting;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.anyOf;
@@ -76,6 +78,9 @@ class KafkaConnectsResourceIT implements ClientRequestFilter {
     @Inject
     ConsoleConfig consoleConfig;
 
+    @Inject
+    StrimziResourceService strimziService;
+
     @Inject
     KafkaConnectAPI.Client connectClient;
 
@@ -136,7 +141,7 @@ class KafkaConnectsResourceIT implements ClientRequestFilter {
             return utils.apply(client, k);
         }).toList();
 
-        utils.apply(client, new KafkaConnectBuilder()
+        var connect1 = utils.apply(client, new KafkaConnectBuilder()
                 .withNewMetadata()
                     .withNamespace("default")
                     .withName("test-connect1")
@@ -148,7 +153,7 @@ class KafkaConnectsResourceIT implements ClientRequestFilter {
                 .endStatus()
                 .build());
 
-        utils.apply(client, new KafkaMirrorMaker2Builder()
+        var connect2 = utils.apply(client, new KafkaMirrorMaker2Builder()
                 .withNewMetadata()
                     .withNamespace("default")
                     .withName("test-connect2")
@@ -160,6 +165,11 @@ class KafkaConnectsResourceIT implements ClientRequestFilter {
                 .endStatus()
                 .build());
 
+        // Wait for the informers to observe the Connect resources
+        await().atMost(10, TimeUnit.SECONDS)
+            .until(() -> informed(strimziService.getKafkaConnect("default", connect1.getMetadata().getName()), connect1)
+                    && informed(strimziService.getKafkaMirrorMaker2("default", connect2.getMetadata().getName()), connect2));
+
         // Wait for the added clusters to be configured in the context map
         await().atMost(10, TimeUnit.SECONDS)
             .until(() -> kafkaClusters.stream()
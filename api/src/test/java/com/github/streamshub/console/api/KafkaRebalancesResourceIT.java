@@ -3,11 +3,15 @@ package com.github.streamshub.console.api;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.json.Json;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
@@ -64,6 +68,10 @@ class KafkaRebalancesResourceIT {
     @Inject
     ConsoleConfig consoleConfig;
 
+    @Inject
+    @Named("KafkaRebalances")
+    Map<String, Map<String, Map<String, KafkaRebalance>>> rebalances;
+
     TestHelper utils;
 
     String clusterId1;
@@ -141,23 +149,27 @@ class KafkaRebalancesResourceIT {
             .build());
 
         int r = 0;
+        List<KafkaRebalance> applied = new ArrayList<>();
 
         // No cluster name - MUST BE FIRST for "Not found" test
-        utils.apply(client, buildRebalance(r++, null, KafkaRebalanceMode.FULL, null, false));
+        applied.add(utils.apply(client, buildRebalance(r++, null, KafkaRebalanceMode.FULL, null, false)));
 
         for (String clusterName : Arrays.asList("test-kafka1", "test-kafka2", "test-kafka3")) {
             for (KafkaRebalanceMode mode : KafkaRebalanceMode.values()) {
                 // No status
-                utils.apply(client, buildRebalance(r++, clusterName, mode, null, false));
+                applied.add(utils.apply(client, buildRebalance(r++, clusterName, mode, null, false)));
                 // No status + template annotation
-                utils.apply(client, buildRebalance(r++, clusterName, mode, null, true));
+                applied.add(utils.apply(client, buildRebalance(r++, clusterName, mode, null, true)));
 
                 for (KafkaRebalanceState state : KafkaRebalanceState.values()) {
-                    utils.apply(client, buildRebalance(r++, clusterName, mode, state, false));
+                    applied.add(utils.apply(client, buildRebalance(r++, clusterName, mode, state, false)));
                 }
             }
         }
 
+        // Wait for the informer to observe the current version of every resource
+        TestHelper.awaitInformed(rebalances, applied);
+
         clusterId1 = consoleConfig.getKafka().getCluster("default/test-kafka1").get().getId();
         clusterId2 = consoleConfig.getKafka().getCluster("default/test-kafka2").get().getId();
     }
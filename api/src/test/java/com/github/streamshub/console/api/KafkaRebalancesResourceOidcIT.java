@@ -2,11 +2,14 @@ package com.github.streamshub.console.api;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.ws.rs.core.Response.Status;
 
 import org.apache.kafka.clients.CommonClientConfigs;
@@ -55,6 +58,10 @@ class KafkaRebalancesResourceOidcIT {
     @Inject
     ConsoleConfig consoleConfig;
 
+    @Inject
+    @Named("KafkaRebalances")
+    Map<String, Map<String, Map<String, KafkaRebalance>>> rebalances;
+
     TestHelper utils;
     TokenUtils tokens;
 
@@ -128,21 +135,25 @@ class KafkaRebalancesResourceOidcIT {
             .build());
 
         int r = 0;
+        List<KafkaRebalance> applied = new ArrayList<>();
 
         // No cluster name - MUST BE FIRST for "Not found" test
-        utils.apply(client, buildRebalance(r++, null, KafkaRebalanceMode.FULL, null));
+        applied.add(utils.apply(client, buildRebalance(r++, null, KafkaRebalanceMode.FULL, null)));
 
         for (String clusterName : Arrays.asList("test-kafka1", "test-kafka2", "test-kafka3")) {
             for (KafkaRebalanceMode mode : KafkaRebalanceMode.values()) {
                 // No status
-                utils.apply(client, buildRebalance(r++, clusterName, mode, null));
+                applied.add(utils.apply(client, buildRebalance(r++, clusterName, mode, null)));
 
                 for (KafkaRebalanceState state : KafkaRebalanceState.values()) {
-                    utils.apply(client, buildRebalance(r++, clusterName, mode, state));
+                    applied.add(utils.apply(client, buildRebalance(r++, clusterName, mode, state)));
                 }
             }
         }
 
+        // Wait for the informer to observe the current version of every resource
+        TestHelper.awaitInformed(rebalances, applied);
+
         clusterId1 = consoleConfig.getKafka().getCluster("default/test-kafka1").get().getId();
         clusterId2 = consoleConfig.getKafka().getCluster("default/test-kafka2").get().getId();
     }
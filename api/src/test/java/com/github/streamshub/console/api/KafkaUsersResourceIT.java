@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.ws.rs.core.Response.Status;
 
 import org.apache.kafka.clients.CommonClientConfigs;
@@ -73,6 +74,10 @@ class KafkaUsersResourceIT {
     @Inject
     ConsoleConfig consoleConfig;
 
+    @Inject
+    @Named("KafkaUsers")
+    Map<String, Map<String, Map<String, KafkaUser>>> users;
+
     TestHelper utils;
 
     String clusterId1;
@@ -232,9 +237,10 @@ class KafkaUsersResourceIT {
             .build());
 
         int r = 0;
+        List<KafkaUser> applied = new ArrayList<>();
 
         // No cluster name - MUST BE FIRST for "Not found" test
-        utils.apply(client, buildUser(r++, null, "", false));
+        applied.add(utils.apply(client, buildUser(r++, null, "", false)));
 
         clusterUserNames = new HashMap<>();
 
@@ -247,12 +253,17 @@ class KafkaUsersResourceIT {
                 // Not ready
                 ku = utils.apply(client, buildUser(r++, clusterName, authN, false));
                 clusterUserNames.get(clusterKey).add(ku.getMetadata().getName());
+                applied.add(ku);
                 // Ready
                 ku = utils.apply(client, buildUser(r++, clusterName, authN, true));
                 clusterUserNames.get(clusterKey).add(ku.getMetadata().getName());
+                applied.add(ku);
             }
         }
 
+        // Wait for the informer to observe the current version of every resource
+        TestHelper.awaitInformed(users, applied);
+
         clusterId1 = consoleConfig.getKafka().getCluster(NAMESPACE + "/test-kafka1").get().getId();
         clusterId2 = consoleConfig.getKafka().getCluster(NAMESPACE + "/test-kafka2").get().getId();
     }
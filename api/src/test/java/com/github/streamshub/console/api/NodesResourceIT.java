@@ -3,6 +3,7 @@ package com.github.streamshub.console.api;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.client.ClientRequestContext;
@@ -114,6 +116,10 @@ class NodesResourceIT implements ClientRequestFilter {
     @Inject
     Map<String, KafkaContext> configuredContexts;
 
+    @Inject
+    @Named("KafkaPods")
+    Map<String, Map<String, Map<String, Pod>>> kafkaPods;
+
     TestHelper utils;
 
     final String clusterName1 = "test-kafka1";
@@ -245,6 +251,8 @@ class NodesResourceIT implements ClientRequestFilter {
             );
         }).toList();
         when(clusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(nodes));
+        when(clusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture(clusterId));
+        when(clusterResult.controller()).thenReturn(KafkaFuture.completedFuture(nodes.get(0)));
 
         var now = OptionalLong.of(System.currentTimeMillis());
         var beforeTimeout = OptionalLong.of(System.currentTimeMillis() - 2000);
@@ -293,8 +301,10 @@ class NodesResourceIT implements ClientRequestFilter {
                 .endMetadata()
                 .build());
 
+        List<Pod> pods = new ArrayList<>();
+
         nodeProps.stream().forEach(n -> {
-            utils.apply(client, new PodBuilder()
+            var pod = utils.apply(client, new PodBuilder()
                     .withNewMetadata()
                         .withNamespace(clusterNamespace1)
                         .withName(clusterId + "-" + n.id())
@@ -318,8 +328,12 @@ class NodesResourceIT implements ClientRequestFilter {
                         .endCondition()
                     .endStatus()
                     .build());
+            pods.add(pod);
         });
 
+        // Pods are indexed by node ID, the suffix of the pod name
+        TestHelper.awaitInformed(kafkaPods, pods, pod -> pod.getMetadata().getName().substring(clusterId.length() + 1));
+
         utils.apply(client, new KafkaNodePoolBuilder()
                 .withNewMetadata()
                     .withNamespace(clusterNamespace1)
@@ -3,6 +3,7 @@ package com.github.streamshub.console.api;
 import java.net.URI;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -41,6 +42,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import com.github.streamshub.console.api.service.RecordAdmissionHelper;
+import com.github.streamshub.console.api.service.RecordService;
 import com.github.streamshub.console.api.support.KafkaContext;
 import com.github.streamshub.console.api.support.serdes.MultiformatDeserializer;
 import com.github.streamshub.console.api.support.serdes.RecordData;
@@ -100,6 +103,9 @@ class RecordsResourceIT {
     @Inject
     KubernetesClient client;
 
+    @Inject
+    RecordService recordService;
+
     TestHelper utils;
     TopicHelper topicUtils;
     RecordHelper recordUtils;
@@ -172,6 +178,29 @@ class RecordsResourceIT {
             .body("errors.code", contains("4041"));
     }
 
+    @Test
+    void testConsumeRecordsRejectedByAdmission() throws Exception {
+        final String topicName = UUID.randomUUID().toString();
+        var topicIds = topicUtils.createTopics(List.of(topicName), 2);
+        Duration queueTimeout = config.getOptionalValue("console.topics.records.admission.queue-timeout", Duration.class)
+                .orElse(Duration.ofSeconds(10));
+
+        try (var rejecting = RecordAdmissionHelper.rejectAll(recordService)) {
+            whenRequesting(req -> req.get("", clusterId1, topicIds.get(topicName)))
+                .assertThat()
+                .statusCode(is(Status.TOO_MANY_REQUESTS.getStatusCode()))
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(queueTimeout.toSeconds()))
+                .body("errors.size()", is(1))
+                .body("errors.status", contains("429"))
+                .body("errors.code", contains("4291"));
+        }
+
+        // Admitted again once the limit no longer applies
+        whenRequesting(req -> req.get("", clusterId1, topicIds.get(topicName)))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()));
+    }
+
     @Test
     void testConsumeRecordFromInvalidPartition() {
         final String topicName = UUID.randomUUID().toString();
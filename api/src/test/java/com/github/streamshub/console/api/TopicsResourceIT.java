@@ -2051,6 +2051,229 @@ class TopicsResourceIT {
         assertNull(client.resources(KafkaTopic.class).inNamespace("default").withName(topicName).get());
     }
 
+    @Test
+    void testTopicBatchCreateReportsEachTopic() {
+        String prefix = "b-" + UUID.randomUUID().toString();
+        String topic1 = prefix + "-1";
+        String topic2 = prefix + "-2";
+
+        whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(Json.createObjectBuilder()
+                        .add("data", Json.createObjectBuilder()
+                                .add("type", "topicBatches")
+                                .add("attributes", Json.createObjectBuilder()
+                                        .add("operation", "create")
+                                        .add("topics", Json.createArrayBuilder()
+                                                .add(Json.createObjectBuilder()
+                                                        .add("name", topic1)
+                                                        .add("numPartitions", 2)
+                                                        .add("replicationFactor", 1))
+                                                .add(Json.createObjectBuilder()
+                                                        .add("name", topic2)
+                                                        .add("replicasAssignments", Json.createObjectBuilder()
+                                                                .add("0", Json.createArrayBuilder().add(99)))))))
+                        .build()
+                        .toString())
+                .post("batch", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.attributes.operation", is("create"))
+            .body("data.attributes.results.name", contains(topic1, topic2))
+            .body("data.attributes.results.status", contains("succeeded", "failed"))
+            .body("data.attributes.results[0].topicId", notNullValue())
+            .body("data.attributes.results[1].error.detail", containsString("Replica ID must be a known Kafka broker ID"));
+    }
+
+    @Test
+    void testTopicBatchCreateWithStrimziManagementReportsEachTopic() {
+        client.resources(Kafka.class).inNamespace("default").withName(clusterName1).edit(k -> {
+            // Enable the topic entity operator for kafka1
+            return new KafkaBuilder(k)
+                .editSpec()
+                    .editOrNewEntityOperator()
+                        .editOrNewTopicOperator()
+                        .endTopicOperator()
+                    .endEntityOperator()
+                .endSpec()
+                .build();
+        });
+
+        // Wait for the modified cluster to be updated in the context map
+        await().atMost(10, TimeUnit.SECONDS)
+            .until(() -> Optional.of(configuredContexts.get(clusterId1))
+                    .map(KafkaContext::resource)
+                    .map(Kafka::getSpec)
+                    .map(KafkaSpec::getEntityOperator)
+                    .map(EntityOperatorSpec::getTopicOperator)
+                    .map(Objects::nonNull)
+                    .orElse(Boolean.FALSE));
+
+        String prefix = "b-" + UUID.randomUUID().toString();
+        String existingName = prefix + "-1";
+        String newName = prefix + "-2";
+
+        utils.apply(client, new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("default")
+                    .withName(existingName)
+                    .addToLabels(ResourceLabels.STRIMZI_CLUSTER_LABEL, clusterName1)
+                .endMetadata()
+                .withNewSpec()
+                    .withTopicName(existingName)
+                    .withPartitions(1)
+                .endSpec()
+                .build());
+
+        // Wait for the topic list to include the existing resource
+        await().atMost(10, TimeUnit.SECONDS)
+            .until(() -> Optional.ofNullable(managedTopics.get("default"))
+                    .map(clustersInNamespace -> clustersInNamespace.get(clusterName1))
+                    .map(topicsInCluster -> topicsInCluster.get(existingName))
+                    .isPresent());
+
+        var response = CompletableFuture.supplyAsync(() ->
+            whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(Json.createObjectBuilder()
+                        .add("data", Json.createObjectBuilder()
+                                .add("type", "topicBatches")
+                                .add("attributes", Json.createObjectBuilder()
+                                        .add("operation", "create")
+                                        .add("topics", Json.createArrayBuilder()
+                                                .add(Json.createObjectBuilder().add("name", existingName))
+                                                .add(Json.createObjectBuilder().add("name", newName)))))
+                        .build()
+                        .toString())
+                .post("batch", clusterId1)));
+
+        // Acting as Strimzi Topic Operator for the new topic only
+        var topicClient = client.resources(KafkaTopic.class).inNamespace("default").withName(newName);
+        await().atMost(TopicService.TOPIC_OPERATION_LIMIT, TimeUnit.SECONDS)
+            .until(() -> topicClient.get() != null);
+
+        String topicId = topicUtils.createTopics(List.of(newName), 1).get(newName);
+        topicClient.editStatus(t -> new KafkaTopicBuilder(t)
+                .withNewStatus()
+                    .withTopicId(topicId)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build());
+
+        response.join()
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.attributes.results.name", contains(existingName, newName))
+            .body("data.attributes.results.status", contains("failed", "succeeded"))
+            .body("data.attributes.results[0].error.detail", containsString("already exists"))
+            .body("data.attributes.results[1].topicId", is(topicId));
+    }
+
+    @Test
+    void testTopicBatchDeleteByPattern() {
+        String prefix = "b-" + UUID.randomUUID().toString();
+        List<String> names = IntStream.range(0, 5).mapToObj(i -> prefix + "-" + i).toList();
+        String otherName = UUID.randomUUID().toString();
+        topicUtils.createTopics(names, 1);
+        topicUtils.createTopics(List.of(otherName), 1);
+
+        whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(Json.createObjectBuilder()
+                        .add("data", Json.createObjectBuilder()
+                                .add("type", "topicBatches")
+                                .add("attributes", Json.createObjectBuilder()
+                                        .add("operation", "delete")
+                                        .add("pattern", prefix + "-*")))
+                        .build()
+                        .toString())
+                .post("batch", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.attributes.results.name", contains(names.toArray(String[]::new)))
+            .body("data.attributes.results.status", everyItem(is("succeeded")));
+
+        whenRequesting(req -> req.queryParam("filter[name]", "like," + prefix + "-*").get("", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.size()", is(0));
+
+        whenRequesting(req -> req.queryParam("filter[name]", otherName).get("", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.size()", is(1));
+    }
+
+    @Test
+    void testTopicBatchCreatePartitionsWithUnknownTopic() {
+        String topicName = UUID.randomUUID().toString();
+        String missingName = UUID.randomUUID().toString();
+        Map<String, String> topicIds = topicUtils.createTopics(List.of(topicName), 1);
+
+        whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(Json.createObjectBuilder()
+                        .add("data", Json.createObjectBuilder()
+                                .add("type", "topicBatches")
+                                .add("attributes", Json.createObjectBuilder()
+                                        .add("operation", "createPartitions")
+                                        .add("names", Json.createArrayBuilder().add(topicName).add(missingName))
+                                        .add("numPartitions", 3)))
+                        .build()
+                        .toString())
+                .post("batch", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.attributes.results.find { it.name == '%s' }.status".formatted(topicName), is("succeeded"))
+            .body("data.attributes.results.find { it.name == '%s' }.topicId".formatted(topicName), is(topicIds.get(topicName)))
+            .body("data.attributes.results.find { it.name == '%s' }.status".formatted(missingName), is("failed"));
+
+        whenRequesting(req -> req
+                .queryParam("fields[topics]", "numPartitions")
+                .get("{topicId}", clusterId1, topicIds.get(topicName)))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.attributes.numPartitions", is(3));
+    }
+
+    @Test
+    void testTopicBatchWithoutSelection() {
+        whenRequesting(req -> req
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body(Json.createObjectBuilder()
+                        .add("data", Json.createObjectBuilder()
+                                .add("type", "topicBatches")
+                                .add("attributes", Json.createObjectBuilder()
+                                        .add("operation", "delete")))
+                        .build()
+                        .toString())
+                .post("batch", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.BAD_REQUEST.getStatusCode()))
+            .body("errors.size()", is(1))
+            .body("errors.source.pointer", contains("/data/attributes/names"));
+    }
+
+    @Test
+    void testDescribePartitionHealth() {
+        String topicName = UUID.randomUUID().toString();
+        topicUtils.createTopics(List.of(topicName), 2);
+
+        whenRequesting(req -> req.get("partitionHealth", clusterId1))
+            .assertThat()
+            .statusCode(is(Status.OK.getStatusCode()))
+            .body("data.id", is(clusterId1))
+            .body("data.type", is("partitionHealth"))
+            .body("data.attributes.refreshedAt", is(notNullValue()))
+            .body("data.attributes.summary.totalPartitions", greaterThan(1))
+            .body("data.attributes.summary.offline", is(0))
+            .body("data.attributes.summary.underReplicated", is(0))
+            .body("data.attributes.partitions.findAll { it.topicName == '%s' }".formatted(topicName), hasSize(0));
+    }
+
     @Test
     void testPatchTopicWithAllOptions() {
         String topicName = UUID.randomUUID().toString();
@@ -0,0 +1,107 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.ConfigEntry;
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.support.AdminFanout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigCacheTest {
+
+    static final ConfigResource TOPIC_A = new ConfigResource(ConfigResource.Type.TOPIC, "a");
+    static final ConfigResource TOPIC_B = new ConfigResource(ConfigResource.Type.TOPIC, "b");
+
+    static class CountingConfigService extends ConfigService {
+        final AtomicInteger describedResources = new AtomicInteger();
+        CompletableFuture<Void> gate = CompletableFuture.completedFuture(null);
+
+        @Override
+        CompletionStage<Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>>> fetchConfigs(Admin adminClient, AdminFanout fanout,
+                List<ConfigResource> keys) {
+            describedResources.addAndGet(keys.size());
+            Map<ConfigResource, Either<Map<String, ConfigEntry>, Throwable>> result = new ConcurrentHashMap<>();
+            keys.forEach(key -> result.put(key, "missing".equals(key.name())
+                    ? Either.ofAlternate(new UnknownTopicOrPartitionException(key.name()))
+                    : Either.of(Map.of())));
+            return gate.thenApply(nothing -> result);
+        }
+    }
+
+    static ConfigCache cache(ConfigService configService) {
+        return new ConfigCache(null, null, configService, null, Duration.ofMinutes(5), 0, 100);
+    }
+
+    @Test
+    void testWarmCacheDescribesNothing() {
+        var configService = new CountingConfigService();
+        var target = cache(configService);
+
+        target.describeConfigs(List.of(TOPIC_A)).toCompletableFuture().join();
+        var result = target.describeConfigs(List.of(TOPIC_A, TOPIC_B)).toCompletableFuture().join();
+
+        assertEquals(2, result.size());
+        // Only topic `b` is described by the second request
+        assertEquals(2, configService.describedResources.get());
+
+        target.describeConfigs(List.of(TOPIC_A, TOPIC_B)).toCompletableFuture().join();
+        assertEquals(2, configService.describedResources.get());
+    }
+
+    @Test
+    void testInvalidatedResourceDescribedAgain() {
+        var configService = new CountingConfigService();
+        var target = cache(configService);
+
+        target.describeConfigs(List.of(TOPIC_A)).toCompletableFuture().join();
+        target.invalidate(List.of(TOPIC_A));
+        target.describeConfigs(List.of(TOPIC_A)).toCompletableFuture().join();
+        target.describeConfigs(List.of(TOPIC_A)).toCompletableFuture().join();
+
+        assertEquals(2, configService.describedResources.get());
+    }
+
+    @Test
+    void testLoadInProgressNotCachedAfterInvalidation() {
+        var configService = new CountingConfigService();
+        var target = cache(configService);
+        configService.gate = new CompletableFuture<>();
+
+        var pending = target.describeConfigs(List.of(TOPIC_A));
+        target.invalidate(List.of(TOPIC_A));
+        configService.gate.complete(null);
+        pending.toCompletableFuture().join();
+
+        configService.gate = CompletableFuture.completedFuture(null);
+        target.describeConfigs(List.of(TOPIC_A)).toCompletableFuture().join();
+
+        assertEquals(2, configService.describedResources.get());
+    }
+
+    @Test
+    void testFailuresNotCached() {
+        var configService = new CountingConfigService();
+        var target = cache(configService);
+        var missing = new ConfigResource(ConfigResource.Type.TOPIC, "missing");
+
+        var result = target.describeConfigs(List.of(missing)).toCompletableFuture().join();
+        target.describeConfigs(List.of(missing)).toCompletableFuture().join();
+
+        assertTrue(result.get(missing).isPrimaryEmpty());
+        assertEquals(2, configService.describedResources.get());
+        assertEquals(0, target.size());
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.OffsetAndMetadata;
+import com.github.streamshub.console.api.model.PartitionId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupLagExporterTest {
+
+    static final TopicPartition PARTITION = new TopicPartition("t1", 0);
+    static final String TOPIC_ID = "-3N6yIkQQRKvtFz9RjCHmA";
+
+    static OffsetAndMetadata committed(long offset) {
+        return committed(PARTITION, offset);
+    }
+
+    static OffsetAndMetadata committed(TopicPartition partition, long offset) {
+        return new OffsetAndMetadata(TOPIC_ID, partition,
+                new org.apache.kafka.clients.consumer.OffsetAndMetadata(offset));
+    }
+
+    static Either<ListOffsetsResultInfo, Throwable> endOffset(long offset) {
+        return Either.of(new ListOffsetsResultInfo(offset, -1, Optional.empty()));
+    }
+
+    @Test
+    void testGroupFilter() {
+        var all = GroupLagExporter.groupFilter(Optional.empty(), Optional.empty());
+        assertTrue(all.test("anything"));
+
+        var filter = GroupLagExporter.groupFilter(
+                Optional.of(List.of("orders-.*", "billing")),
+                Optional.of(List.of(".*-test")));
+
+        assertTrue(filter.test("orders-eu"));
+        assertTrue(filter.test("billing"));
+        assertFalse(filter.test("billing-2"));
+        assertFalse(filter.test("orders-test"));
+    }
+
+    @Test
+    void testLag() {
+        assertEquals(Optional.of(40L), GroupLagExporter.lag(committed(60), endOffset(100)));
+        // Committed offset ahead of a stale end offset
+        assertEquals(Optional.of(0L), GroupLagExporter.lag(committed(110), endOffset(100)));
+        assertEquals(Optional.empty(), GroupLagExporter.lag(committed(60), null));
+        assertEquals(Optional.empty(), GroupLagExporter.lag(committed(60),
+                Either.ofAlternate(new TimeoutException("timed out"))));
+    }
+
+    @Test
+    void testSeriesLimitedToWholeGroups() {
+        TopicPartition p0 = new TopicPartition("t1", 0);
+        TopicPartition p1 = new TopicPartition("t1", 1);
+        Map<PartitionId, OffsetAndMetadata> groupOffsets = Map.of(
+                new PartitionId(TOPIC_ID, "t1", 0), committed(p0, 10),
+                new PartitionId(TOPIC_ID, "t1", 1), committed(p1, 10));
+
+        var offsets = new GroupOffsetSnapshot.Offsets(Instant.now(),
+                Map.of("g1", Either.of(groupOffsets), "g2", Either.of(groupOffsets)),
+                Map.of(p0, endOffset(20), p1, endOffset(30)));
+
+        GroupLagExporter target = new GroupLagExporter();
+        target.groupFilter = GroupLagExporter.groupFilter(Optional.empty(), Optional.empty());
+        target.exportPartitions = true;
+        // Room for the 4 series of g1 and only part of g2
+        target.maxSeries = 6;
+
+        Map<List<String>, Long> values = new HashMap<>();
+        assertFalse(target.collect("c1", offsets, values));
+
+        assertEquals(4, values.size());
+        assertEquals(30L, values.get(List.of(GroupLagExporter.GROUP_LAG, "c1", "g1")));
+        assertEquals(20L, values.get(List.of(GroupLagExporter.GROUP_MAX_LAG, "c1", "g1")));
+        assertTrue(values.keySet().stream().noneMatch(key -> key.get(2).equals("g2")));
+
+        target.maxSeries = 8;
+        values.clear();
+        assertTrue(target.collect("c1", offsets, values));
+        assertEquals(8, values.size());
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.LagTrend;
+import com.github.streamshub.console.api.model.OffsetAndMetadata;
+import com.github.streamshub.console.api.model.PartitionId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupLagHistoryTest {
+
+    static final String TOPIC_ID = "-3N6yIkQQRKvtFz9RjCHmA";
+    static final Map<String, String> TOPIC_IDS = Map.of("t1", TOPIC_ID);
+    static final PartitionId PARTITION = new PartitionId(TOPIC_ID, "t1", 0);
+    static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    static GroupOffsetSnapshot.Offsets snapshot(long seconds, Map<String, long[]> groupOffsets) {
+        TopicPartition topicPartition = PARTITION.toKafkaModel();
+        Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> groups = new HashMap<>();
+        long endOffset = 0;
+
+        for (var entry : groupOffsets.entrySet()) {
+            long committed = entry.getValue()[0];
+            endOffset = entry.getValue()[1];
+            groups.put(entry.getKey(), Either.of(Map.of(PARTITION, new OffsetAndMetadata(TOPIC_ID, topicPartition,
+                    new org.apache.kafka.clients.consumer.OffsetAndMetadata(committed)))));
+        }
+
+        return new GroupOffsetSnapshot.Offsets(
+                START.plusSeconds(seconds),
+                groups,
+                Map.of(topicPartition, Either.of(new ListOffsetsResultInfo(endOffset, -1, Optional.empty()))));
+    }
+
+    @Test
+    void testGroupCatchingUp() {
+        var target = new GroupLagHistory(10, 1000, 5);
+
+        // Producing 10/s, consuming 30/s
+        for (int i = 0; i <= 10; i++) {
+            target.record(snapshot(i * 10L, Map.of("g1", new long[] { i * 300L, 2000 + i * 100L })));
+        }
+
+        List<LagTrend> trends = target.trends("g1", TOPIC_IDS);
+        assertEquals(1, trends.size());
+
+        LagTrend trend = trends.get(0);
+        // Ring buffer retains the most recent 5 samples
+        assertEquals(5, trend.samples());
+        assertEquals(40d, trend.windowSeconds());
+        assertEquals(10d, trend.produceRate());
+        assertEquals(30d, trend.consumeRate());
+        assertEquals(-20d, trend.lagTrend());
+        // lag = 3000 - 3000 at the newest sample
+        assertEquals(0L, trend.lag());
+        assertEquals(0L, trend.timeToCatchUpSeconds());
+    }
+
+    @Test
+    void testGroupFallingBehind() {
+        var target = new GroupLagHistory(10, 1000, 60);
+
+        target.record(snapshot(0, Map.of("g1", new long[] { 100, 200 })));
+        target.record(snapshot(10, Map.of("g1", new long[] { 150, 400 })));
+
+        LagTrend trend = target.trends("g1", TOPIC_IDS).get(0);
+        assertEquals(250L, trend.lag());
+        assertEquals(20d, trend.produceRate());
+        assertEquals(5d, trend.consumeRate());
+        assertEquals(15d, trend.lagTrend());
+        assertNull(trend.timeToCatchUpSeconds());
+    }
+
+    @Test
+    void testEstimatedTimeToCatchUp() {
+        var target = new GroupLagHistory(10, 1000, 60);
+
+        target.record(snapshot(0, Map.of("g1", new long[] { 0, 1000 })));
+        target.record(snapshot(10, Map.of("g1", new long[] { 200, 1100 })));
+
+        LagTrend trend = target.trends("g1", TOPIC_IDS).get(0);
+        // lag 900, closing at 10/s
+        assertEquals(900L, trend.lag());
+        assertEquals(90L, trend.timeToCatchUpSeconds());
+    }
+
+    @Test
+    void testOffsetResetRestartsHistory() {
+        var target = new GroupLagHistory(10, 1000, 60);
+
+        target.record(snapshot(0, Map.of("g1", new long[] { 500, 1000 })));
+        target.record(snapshot(10, Map.of("g1", new long[] { 600, 1000 })));
+        target.record(snapshot(20, Map.of("g1", new long[] { 0, 1000 })));
+
+        assertTrue(target.trends("g1", TOPIC_IDS).isEmpty());
+
+        target.record(snapshot(30, Map.of("g1", new long[] { 100, 1000 })));
+        assertEquals(2, target.trends("g1", TOPIC_IDS).get(0).samples());
+    }
+
+    @Test
+    void testGroupLimitAndRemoval() {
+        var target = new GroupLagHistory(1, 1000, 60);
+
+        target.record(snapshot(0, Map.of("g1", new long[] { 0, 10 }, "g2", new long[] { 0, 10 })));
+        assertEquals(1, target.groupCount());
+
+        // g1 and g2 no longer present, g3 tracked in their place
+        target.record(snapshot(10, Map.of("g3", new long[] { 0, 10 })));
+        assertEquals(1, target.groupCount());
+        assertTrue(target.trends("g1", TOPIC_IDS).isEmpty());
+        assertTrue(target.trends("g2", TOPIC_IDS).isEmpty());
+    }
+
+    @Test
+    void testPartitionLimit() {
+        var target = new GroupLagHistory(10, 2, 60);
+
+        for (long seconds : new long[] { 0, 10 }) {
+            Map<PartitionId, OffsetAndMetadata> offsets = new HashMap<>();
+            Map<TopicPartition, Either<ListOffsetsResultInfo, Throwable>> endOffsets = new HashMap<>();
+
+            for (int p = 0; p < 5; p++) {
+                PartitionId partition = new PartitionId(TOPIC_ID, "t1", p);
+                offsets.put(partition, new OffsetAndMetadata(TOPIC_ID, partition.toKafkaModel(),
+                        new org.apache.kafka.clients.consumer.OffsetAndMetadata(seconds)));
+                endOffsets.put(partition.toKafkaModel(),
+                        Either.of(new ListOffsetsResultInfo(100 + seconds, -1, Optional.empty())));
+            }
+
+            target.record(new GroupOffsetSnapshot.Offsets(START.plusSeconds(seconds),
+                    Map.of("g1", Either.of(offsets)), endOffsets));
+        }
+
+        // Only the first partitions sampled are tracked, all with complete history
+        List<LagTrend> trends = target.trends("g1", TOPIC_IDS);
+        assertEquals(2, trends.size());
+        assertTrue(trends.stream().allMatch(trend -> trend.samples() == 2));
+
+        // Partitions no longer consumed make room for others
+        target.record(snapshot(20, Map.of("g1", new long[] { 20, 120 })));
+        target.record(snapshot(30, Map.of("g1", new long[] { 30, 130 })));
+        assertEquals(List.of(0), target.trends("g1", TOPIC_IDS).stream().map(LagTrend::partition).toList());
+    }
+
+    @Test
+    void testFailedGroupRetainsHistory() {
+        var target = new GroupLagHistory(10, 1000, 60);
+
+        target.record(snapshot(0, Map.of("g1", new long[] { 0, 10 })));
+        target.record(snapshot(10, Map.of("g1", new long[] { 10, 20 })));
+        target.record(new GroupOffsetSnapshot.Offsets(START.plusSeconds(20),
+                Map.of("g1", Either.ofAlternate(new TimeoutException("timed out"))),
+                Map.of()));
+
+        assertEquals(2, target.trends("g1", TOPIC_IDS).get(0).samples());
+        // Topic not visible to the user
+        assertTrue(target.trends("g1", Map.of()).isEmpty());
+    }
+
+    @Test
+    void testProducedAtInterpolatesBetweenSamples() {
+        var target = new GroupLagHistory(10, 1000, 60);
+
+        target.record(snapshot(0, Map.of("g1", new long[] { 0, 100 })));
+        target.record(snapshot(10, Map.of("g1", new long[] { 0, 200 })));
+        target.record(snapshot(20, Map.of("g1", new long[] { 0, 200 })));
+
+        long start = START.toEpochMilli();
+        // Offsets 100-199 were produced between the first and second samples
+        assertEquals(OptionalLong.of(start), target.producedAt("g1", PARTITION, 100));
+        assertEquals(OptionalLong.of(start + 5000), target.producedAt("g1", PARTITION, 150));
+        // Produced before the first sample, or not yet produced
+        assertFalse(target.producedAt("g1", PARTITION, 99).isPresent());
+        assertFalse(target.producedAt("g1", PARTITION, 200).isPresent());
+        assertFalse(target.producedAt("g2", PARTITION, 150).isPresent());
+    }
+}
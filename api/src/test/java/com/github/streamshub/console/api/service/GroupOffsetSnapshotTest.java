@@ -0,0 +1,197 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.GroupListing;
+import org.apache.kafka.clients.admin.ListGroupsOptions;
+import org.apache.kafka.clients.admin.ListGroupsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.GroupState;
+import org.apache.kafka.common.GroupType;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.Group;
+import com.github.streamshub.console.api.model.OffsetAndMetadata;
+import com.github.streamshub.console.api.model.PartitionId;
+import com.github.streamshub.console.api.support.AdminFanout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupOffsetSnapshotTest {
+
+    static final Uuid TOPIC_ID = Uuid.randomUuid();
+    static final TopicPartition PARTITION = new TopicPartition("t1", 0);
+
+    Admin admin;
+    GroupService groupService;
+    ScheduledExecutorService scheduler;
+    List<Runnable> scheduled;
+    GroupLagHistory history;
+    AtomicInteger listOffsetsRequests;
+    GroupOffsetSnapshot target;
+
+    @BeforeEach
+    void setup() {
+        admin = mock(Admin.class);
+        groupService = mock(GroupService.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        scheduled = new ArrayList<>();
+        history = Mockito.spy(new GroupLagHistory(10, 1000, 5));
+        listOffsetsRequests = new AtomicInteger();
+
+        when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> {
+                scheduled.add(invocation.getArgument(0));
+                return null;
+            });
+
+        ListGroupsResult groups = mock(ListGroupsResult.class);
+        when(groups.valid()).thenReturn(KafkaFuture.completedFuture(List.of(
+                listing("g1"),
+                listing("g2"))));
+        when(admin.listGroups(any(ListGroupsOptions.class))).thenReturn(groups);
+
+        ListTopicsResult topics = mock(ListTopicsResult.class);
+        when(topics.listings()).thenReturn(KafkaFuture.completedFuture(List.of(
+                new TopicListing("t1", TOPIC_ID, false))));
+        when(admin.listTopics(any(ListTopicsOptions.class))).thenReturn(topics);
+
+        // Both groups committed an offset for the same partition
+        doAnswer(invocation -> {
+            List<Group> typeGroups = invocation.getArgument(3);
+            Map<String, Either<Map<PartitionId, OffsetAndMetadata>, Throwable>> offsets = invocation.getArgument(5);
+            typeGroups.forEach(group -> offsets.put(group.groupId(), Either.of(Map.of(
+                    new PartitionId(TOPIC_ID.toString(), "t1", 0),
+                    new OffsetAndMetadata(TOPIC_ID.toString(), PARTITION,
+                            new org.apache.kafka.clients.consumer.OffsetAndMetadata(10))))));
+            return CompletableFuture.completedFuture(null);
+        }).when(groupService).listGroupOffsets(any(), any(), anyString(), anyList(), anyMap(), anyMap());
+
+        doAnswer(invocation -> {
+            listOffsetsRequests.incrementAndGet();
+            Map<TopicPartition, OffsetSpec> request = invocation.getArgument(0);
+            Map<TopicPartition, KafkaFuture<ListOffsetsResultInfo>> futures = new HashMap<>();
+            request.keySet().forEach(partition -> futures.put(partition,
+                    KafkaFuture.completedFuture(new ListOffsetsResultInfo(25, -1, Optional.empty()))));
+            return new ListOffsetsResult(futures);
+        }).when(admin).listOffsets(anyMap());
+
+        target = new GroupOffsetSnapshot(admin, new AdminFanout(1000, 4, 1, Duration.ZERO), groupService,
+                scheduler, Duration.ofSeconds(15), 0, history);
+    }
+
+    static GroupListing listing(String groupId) {
+        return new GroupListing(groupId, Optional.of(GroupType.CONSUMER), "consumer", Optional.of(GroupState.STABLE));
+    }
+
+    void runNext() {
+        scheduled.remove(0).run();
+    }
+
+    @Test
+    void testSnapshotFetchesEachPartitionEndOffsetOnce() {
+        var offsets = target.takeSnapshot().toCompletableFuture().join();
+
+        assertEquals(2, offsets.groupOffsets().size());
+        assertTrue(offsets.groupOffsets().values().stream().allMatch(Either::isPrimaryPresent));
+        assertEquals(1, offsets.endOffsets().size());
+        assertEquals(25, offsets.endOffsets().get(PARTITION).getPrimary().offset());
+        // A single listing for the partition, regardless of the number of groups
+        assertEquals(1, listOffsetsRequests.get());
+    }
+
+    @Test
+    void testStartedSnapshotServesOffsetsAndRecordsHistory() {
+        var pending = target.start().offsets().toCompletableFuture();
+        assertTrue(target.latest().isEmpty());
+
+        runNext();
+        var offsets = pending.join();
+
+        assertEquals(offsets, target.latest().orElseThrow());
+        verify(history).record(offsets);
+        // Next snapshot scheduled
+        assertEquals(1, scheduled.size());
+
+        target.close();
+    }
+
+    @Test
+    void testFailedFirstSnapshotFailsWaiters() {
+        KafkaFutureImpl<Collection<GroupListing>> failed = new KafkaFutureImpl<>();
+        failed.completeExceptionally(new TimeoutException("timed out"));
+        ListGroupsResult groups = mock(ListGroupsResult.class);
+        when(groups.valid()).thenReturn(failed);
+        when(admin.listGroups(any(ListGroupsOptions.class))).thenReturn(groups);
+
+        var pending = target.start().offsets().toCompletableFuture();
+        runNext();
+
+        var error = assertThrows(CompletionException.class, pending::join);
+        assertInstanceOf(TimeoutException.class, error.getCause());
+        // Later callers do not wait for the retry to be scheduled
+        assertTrue(target.offsets().toCompletableFuture().isCompletedExceptionally());
+        assertTrue(target.latest().isEmpty());
+
+        target.close();
+    }
+
+    @Test
+    void testEvictedGroupOmittedUntilNextSnapshot() throws InterruptedException {
+        target.start();
+        runNext();
+        assertEquals(2, target.latest().orElseThrow().groupOffsets().size());
+
+        target.evict("g1");
+
+        assertEquals(Set.of("g2"), target.latest().orElseThrow().groupOffsets().keySet());
+        assertEquals(Set.of("g2"), target.offsets().toCompletableFuture().join().groupOffsets().keySet());
+
+        // Ensure the next snapshot is started strictly after the eviction
+        Thread.sleep(2);
+        runNext();
+
+        assertEquals(Set.of("g1", "g2"), target.latest().orElseThrow().groupOffsets().keySet());
+
+        target.close();
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.Optional;
+
+import org.apache.kafka.common.GroupType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GroupTypeCacheTest {
+
+    @Test
+    void testUnknownTypeNotCached() {
+        var target = new GroupTypeCache(10);
+
+        target.put("g1", GroupType.UNKNOWN);
+        target.put("g2", null);
+
+        assertEquals(0, target.size());
+        assertEquals(Optional.empty(), target.get("g1"));
+    }
+
+    @Test
+    void testClearedWhenFull() {
+        var target = new GroupTypeCache(2);
+
+        target.put("g1", GroupType.CONSUMER);
+        target.put("g2", GroupType.SHARE);
+        // Existing entry updated without clearing
+        target.put("g2", GroupType.STREAMS);
+        assertEquals(2, target.size());
+        assertEquals(Optional.of(GroupType.STREAMS), target.get("g2"));
+
+        target.put("g3", GroupType.CLASSIC);
+        assertEquals(1, target.size());
+        assertEquals(Optional.of(GroupType.CLASSIC), target.get("g3"));
+        assertEquals(Optional.empty(), target.get("g1"));
+
+        target.remove("g3");
+        assertEquals(0, target.size());
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.ConfigEntry;
+import com.github.streamshub.console.api.model.Either;
+import com.github.streamshub.console.api.model.NodeConfigs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NodeConfigSnapshotTest {
+
+    static ConfigEntry entry(String name, String value) {
+        ConfigEntry entry = new ConfigEntry();
+        entry.setName(name);
+        entry.setValue(value);
+        entry.setSource("STATIC_BROKER_CONFIG");
+        entry.setType("INT");
+        return entry;
+    }
+
+    static Either<Map<String, ConfigEntry>, Throwable> configs(int nodeId, String ioThreads, String retention) {
+        return Either.of(Map.of(
+                "node.id", entry("node.id", String.valueOf(nodeId)),
+                "num.io.threads", entry("num.io.threads", ioThreads),
+                "log.retention.hours", entry("log.retention.hours", retention)));
+    }
+
+    @Test
+    void testEqualEntriesInterned() {
+        var target = NodeConfigSnapshot.of(Instant.now(), Map.of(
+                0, configs(0, "8", "168"),
+                1, configs(1, "8", "168"),
+                2, configs(2, "8", "168")));
+
+        // One entry per node for node.id, shared entries for the others
+        assertEquals(5, target.distinctEntries());
+
+        var summary = target.summarize(Map.of(), id -> true);
+        assertEquals(List.of("log.retention.hours", "node.id", "num.io.threads"), List.copyOf(summary.keySet()));
+        assertFalse(summary.get("node.id").drifted());
+        assertEquals(3, summary.get("node.id").values().size());
+        assertEquals(List.of("0", "1", "2"), summary.get("num.io.threads").values().get(0).nodes());
+        assertTrue(NodeConfigs.drifted(summary).isEmpty());
+    }
+
+    @Test
+    void testDriftDetectedWithinNodePool() {
+        var target = NodeConfigSnapshot.of(Instant.now(), Map.of(
+                0, configs(0, "8", "168"),
+                1, configs(1, "8", "72"),
+                2, configs(2, "16", "168"),
+                3, configs(3, "16", "168")));
+
+        Map<Integer, String> nodePools = Map.of(0, "pool-a", 1, "pool-a", 2, "pool-b", 3, "pool-b");
+        var summary = target.summarize(nodePools, id -> true);
+
+        // Differs between pools, but consistent within each pool
+        assertFalse(summary.get("num.io.threads").drifted());
+        assertEquals(2, summary.get("num.io.threads").values().size());
+
+        var retention = summary.get("log.retention.hours");
+        assertTrue(retention.drifted());
+        assertEquals(List.of("pool-a"), retention.driftedNodePools());
+        assertEquals(List.of("log.retention.hours"), NodeConfigs.drifted(summary));
+    }
+
+    @Test
+    void testDriftDetectedWithoutNodePools() {
+        var target = NodeConfigSnapshot.of(Instant.now(), Map.of(
+                0, configs(0, "8", "168"),
+                1, configs(1, "16", "168")));
+
+        var summary = target.summarize(Map.of(), id -> true);
+        assertTrue(summary.get("num.io.threads").drifted());
+        assertTrue(summary.get("num.io.threads").driftedNodePools().isEmpty());
+
+        // Excluded nodes are not compared
+        assertFalse(target.summarize(Map.of(), id -> id == 0).get("num.io.threads").drifted());
+    }
+
+    @Test
+    void testNodeErrorsReported() {
+        Map<Integer, Either<Map<String, ConfigEntry>, Throwable>> configs = new HashMap<>();
+        configs.put(0, configs(0, "8", "168"));
+        configs.put(1, Either.ofAlternate(new TimeoutException("timed out")));
+
+        var target = NodeConfigSnapshot.of(Instant.now(), configs);
+        assertTrue(target.includesNode(1));
+        assertFalse(target.includesNode(2));
+
+        var statuses = target.nodeStatuses(Map.of(0, "pool-a"), id -> true);
+        assertEquals("pool-a", statuses.get("0").nodePool());
+        assertNull(statuses.get("0").error());
+        assertNotNull(statuses.get("1").error());
+        assertEquals(List.of("0"), target.summarize(Map.of(), id -> true).get("num.io.threads").values().get(0).nodes());
+    }
+}
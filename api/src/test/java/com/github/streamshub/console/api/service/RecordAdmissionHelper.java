@@ -0,0 +1,30 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+
+import com.github.streamshub.console.api.support.WeightedAdmission;
+
+import io.quarkus.arc.ClientProxy;
+
+/**
+ * Access to the record service's admission control for integration tests
+ * outside of the service package.
+ */
+public class RecordAdmissionHelper {
+
+    private RecordAdmissionHelper() {
+    }
+
+    /**
+     * Replace the admission control of the record service with one that allows
+     * no reads to wait in its queue, so that every read is rejected until the
+     * returned handle is closed.
+     */
+    public static AutoCloseable rejectAll(RecordService service) {
+        RecordService instance = ClientProxy.unwrap(service);
+        WeightedAdmission previous = instance.admission;
+        instance.admission = new WeightedAdmission(1, 1, 1, 0, Duration.ZERO, instance.scheduler);
+
+        return () -> instance.admission = previous;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.streamshub.console.api.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordTimestampSamplerTest {
+
+    static final TopicPartition PARTITION = new TopicPartition("t1", 0);
+    static final RecordTimestampSampler.OffsetKey KEY = new RecordTimestampSampler.OffsetKey(PARTITION, 5);
+
+    /**
+     * Consumer counting the number of times partitions are assigned, i.e. the
+     * number of reads.
+     */
+    static class CountingConsumer extends MockConsumer<byte[], byte[]> {
+        final AtomicInteger reads = new AtomicInteger();
+
+        CountingConsumer() {
+            super("earliest");
+        }
+
+        @Override
+        public synchronized void assign(Collection<TopicPartition> partitions) {
+            if (!partitions.isEmpty()) {
+                reads.incrementAndGet();
+            }
+            super.assign(partitions);
+        }
+    }
+
+    CountingConsumer consumer;
+    RecordTimestampSampler target;
+
+    @BeforeEach
+    void setup() {
+        consumer = new CountingConsumer();
+        // Longer than any of the tests is allowed to take
+        target = new RecordTimestampSampler(() -> consumer, 1, 100, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void teardown() {
+        target.close();
+    }
+
+    static ConsumerRecord<byte[], byte[]> record(long offset, long timestamp) {
+        return new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset, timestamp,
+                TimestampType.CREATE_TIME, 0, 0, null, null, new RecordHeaders(), Optional.empty());
+    }
+
+    @Test
+    void testFirstRecordAtOrAfterOffsetIsCached() {
+        consumer.schedulePollTask(() -> consumer.addRecord(record(7, 1000L)));
+
+        assertEquals(Map.of(KEY, 1000L), target.timestamps(Map.of(KEY, 10L)));
+        // Read again with a greater log end offset, served from the cache
+        assertEquals(Map.of(KEY, 1000L), target.timestamps(Map.of(KEY, 20L)));
+        assertEquals(1, consumer.reads.get());
+    }
+
+    @Test
+    void testOffsetFollowedOnlyByMarkersIsCachedMiss() {
+        // The position moves to the log end offset, past a transaction marker not returned by poll
+        consumer.schedulePollTask(() -> consumer.seek(PARTITION, 6));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertTrue(target.timestamps(Map.of(KEY, 6L)).isEmpty());
+            // Not read again while the log end offset is unchanged
+            assertTrue(target.timestamps(Map.of(KEY, 6L)).isEmpty());
+        });
+        assertEquals(1, consumer.reads.get());
+
+        // A record appended after the marker is read
+        consumer.schedulePollTask(() -> consumer.addRecord(record(6, 2000L)));
+        assertEquals(Map.of(KEY, 2000L), target.timestamps(Map.of(KEY, 7L)));
+        assertEquals(2, consumer.reads.get());
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.streamshub.console.api.service;
+
+import java.util.List;
+
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.Topic;
+import com.github.streamshub.console.api.support.KafkaOffsetSpec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicDescribePlanTest {
+
+    @Test
+    void testStatusOnlyRequiresDescribe() {
+        var plan = TopicDescribePlan.of(List.of(Topic.Fields.NAME, Topic.Fields.STATUS), KafkaOffsetSpec.LATEST);
+
+        assertTrue(plan.describeTopics());
+        assertTrue(plan.includePartitions());
+        assertTrue(plan.offsetSpecs().isEmpty());
+        assertFalse(plan.describeLogDirs());
+        assertFalse(plan.describeConfigs());
+        assertFalse(plan.fetchGroups());
+    }
+
+    @Test
+    void testNameOnlyRequiresNothing() {
+        var plan = TopicDescribePlan.of(List.of(Topic.Fields.NAME, Topic.Fields.VISIBILITY), KafkaOffsetSpec.LATEST);
+
+        assertFalse(plan.describeTopics());
+        assertFalse(plan.includePartitions());
+        assertTrue(plan.offsetSpecs().isEmpty());
+        assertFalse(plan.describeLogDirs());
+        assertFalse(plan.describeConfigs());
+        assertFalse(plan.fetchGroups());
+    }
+
+    @Test
+    void testSortByLogBytesRequiresLogDirs() {
+        var plan = TopicDescribePlan.of(
+                List.of(Topic.Fields.NAME),
+                List.of(Topic.Fields.TOTAL_LEADER_LOG_BYTES),
+                KafkaOffsetSpec.LATEST);
+
+        assertTrue(plan.describeTopics());
+        assertTrue(plan.describeLogDirs());
+        assertTrue(plan.offsetSpecs().isEmpty());
+    }
+
+    @Test
+    void testSortByConfigRequiresConfigs() {
+        var plan = TopicDescribePlan.of(
+                List.of(Topic.Fields.NAME),
+                List.of("configs.\"retention.ms\""),
+                KafkaOffsetSpec.LATEST);
+
+        assertTrue(plan.describeConfigs());
+        assertFalse(plan.describeTopics());
+    }
+
+    @Test
+    void testPartitionsWithTimestampOffsetSpec() {
+        var plan = TopicDescribePlan.of(List.of(Topic.Fields.PARTITIONS), "2024-01-01T00:00:00Z");
+
+        assertTrue(plan.describeLogDirs());
+        assertEquals(4, plan.offsetSpecs().size());
+        assertInstanceOf(OffsetSpec.TimestampSpec.class, plan.offsetSpecs().get(3));
+    }
+}
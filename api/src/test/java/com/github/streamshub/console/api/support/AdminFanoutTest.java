@@ -0,0 +1,226 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsOptions;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.TopicAuthorizationException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.api.model.Either;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AdminFanoutTest {
+
+    static final Logger LOGGER = Logger.getLogger(AdminFanoutTest.class);
+    static final int TOPIC_COUNT = 50_000;
+    static final Node BROKER = new Node(0, "localhost", 9092);
+
+    ScheduledExecutorService brokerThread;
+    AtomicInteger requests;
+    AtomicInteger inFlight;
+    AtomicInteger maxInFlight;
+    AtomicInteger pendingResults;
+    AtomicInteger maxPendingResults;
+
+    static class SyntheticDescribeTopicsResult extends DescribeTopicsResult {
+        SyntheticDescribeTopicsResult(Map<Uuid, KafkaFuture<TopicDescription>> topicIdFutures) {
+            super(topicIdFutures, null);
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        brokerThread = Executors.newSingleThreadScheduledExecutor();
+        requests = new AtomicInteger();
+        inFlight = new AtomicInteger();
+        maxInFlight = new AtomicInteger();
+        pendingResults = new AtomicInteger();
+        maxPendingResults = new AtomicInteger();
+    }
+
+    @AfterEach
+    void teardown() {
+        brokerThread.shutdownNow();
+    }
+
+    /**
+     * Admin client for a cluster with {@link #TOPIC_COUNT} topics. Each
+     * describeTopics request is answered after a short delay. The first request
+     * for the chunk containing {@code timeoutTopic} times out, and
+     * {@code forbiddenTopic} may never be described.
+     */
+    Admin syntheticAdmin(Uuid timeoutTopic, Uuid forbiddenTopic) {
+        Admin admin = mock(Admin.class);
+        Set<Uuid> timedOut = ConcurrentHashMap.newKeySet();
+
+        doAnswer(args -> {
+            Collection<Uuid> topicIds = args.getArgument(0, TopicCollection.TopicIdCollection.class).topicIds();
+            Map<Uuid, KafkaFuture<TopicDescription>> futures = new ConcurrentHashMap<>(topicIds.size());
+            boolean timeout = topicIds.contains(timeoutTopic) && timedOut.add(timeoutTopic);
+
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            maxPendingResults.accumulateAndGet(pendingResults.addAndGet(topicIds.size()), Math::max);
+            topicIds.forEach(id -> futures.put(id, new KafkaFutureImpl<>()));
+
+            brokerThread.schedule(() -> {
+                inFlight.decrementAndGet();
+                pendingResults.addAndGet(-topicIds.size());
+                futures.forEach((id, future) -> {
+                    var pending = (KafkaFutureImpl<TopicDescription>) future;
+
+                    if (timeout) {
+                        pending.completeExceptionally(new TimeoutException("Timed out waiting for a node assignment"));
+                    } else if (id.equals(forbiddenTopic)) {
+                        pending.completeExceptionally(new TopicAuthorizationException("Not authorized"));
+                    } else {
+                        pending.complete(new TopicDescription("t-" + id, false,
+                                List.of(new TopicPartitionInfo(0, BROKER, List.of(BROKER), List.of(BROKER))),
+                                Set.of(),
+                                id));
+                    }
+                });
+            }, 2, TimeUnit.MILLISECONDS);
+
+            return new SyntheticDescribeTopicsResult(futures);
+        }).when(admin).describeTopics(any(TopicCollection.class), any(DescribeTopicsOptions.class));
+
+        return admin;
+    }
+
+    @Test
+    void testDescribeLargeClusterInChunks() {
+        List<Uuid> topicIds = IntStream.range(0, TOPIC_COUNT).mapToObj(i -> Uuid.randomUuid()).toList();
+        Uuid timeoutTopic = topicIds.get(12_345);
+        Uuid forbiddenTopic = topicIds.get(40_000);
+        Admin admin = syntheticAdmin(timeoutTopic, forbiddenTopic);
+        AdminFanout target = new AdminFanout(1000, 4, 2, Duration.ofMillis(10));
+        DescribeTopicsOptions options = new DescribeTopicsOptions();
+
+        long start = System.nanoTime();
+
+        Map<Uuid, Either<TopicDescription, Throwable>> result = AdminFanout.settled(target.submit(topicIds,
+                    chunk -> admin.describeTopics(TopicCollection.ofTopicIds(chunk), options).topicIdValues()))
+                .toCompletableFuture()
+                .join();
+
+        Duration latency = Duration.ofNanos(System.nanoTime() - start);
+        LOGGER.infof("Described %d topics in %d requests: latency=%dms",
+                TOPIC_COUNT, requests.get(), latency.toMillis());
+
+        assertEquals(TOPIC_COUNT, result.size());
+        // 50 chunks plus a single retry of the chunk that timed out
+        assertEquals(51, requests.get());
+        assertTrue(maxInFlight.get() <= 4, () -> "max in-flight: " + maxInFlight.get());
+        // Results awaited from the cluster at once are bounded by the chunk size and concurrency, not the topic count
+        assertTrue(maxPendingResults.get() <= 4 * 1000, () -> "max pending results: " + maxPendingResults.get());
+
+        // Recovered by retry
+        assertTrue(result.get(timeoutTopic).isPrimaryPresent());
+        // Not retriable, reported for the single topic only
+        assertInstanceOf(TopicAuthorizationException.class, result.get(forbiddenTopic).getAlternate());
+        assertEquals(TOPIC_COUNT - 1, result.values().stream().filter(Either::isPrimaryPresent).count());
+    }
+
+    @Test
+    void testRetriesExhaustedReportedPerResource() {
+        AdminFanout target = new AdminFanout(2, 1, 2, Duration.ZERO);
+        AtomicInteger attempts = new AtomicInteger();
+
+        var result = AdminFanout.settled(target.<String, String>submit(List.of("a", "b", "c"), chunk -> {
+            attempts.incrementAndGet();
+            Map<String, KafkaFuture<String>> futures = new ConcurrentHashMap<>();
+            chunk.forEach(key -> futures.put(key, "b".equals(key)
+                    ? failed(new TimeoutException("timed out"))
+                    : KafkaFuture.completedFuture(key.toUpperCase())));
+            return futures;
+        })).toCompletableFuture().join();
+
+        // chunk [a, b], chunk [c], retry [b]
+        assertEquals(3, attempts.get());
+        assertEquals("A", result.get("a").getPrimary());
+        assertInstanceOf(TimeoutException.class, result.get("b").getAlternate());
+        assertEquals("C", result.get("c").getPrimary());
+    }
+
+    @Test
+    void testRequestFailureCompletesChunk() {
+        AdminFanout target = new AdminFanout(10, 1, 3, Duration.ZERO);
+
+        var result = AdminFanout.settled(target.<String, String>submit(List.of("a", "a", "b"), chunk -> {
+            throw new IllegalStateException("closed");
+        })).toCompletableFuture().join();
+
+        assertEquals(2, result.size());
+        assertInstanceOf(IllegalStateException.class, result.get("a").getAlternate());
+        assertEquals(0, target.inFlight());
+        assertEquals(0, target.queued());
+    }
+
+    @Test
+    void testPrincipalsTakeTurns() {
+        AdminFanout shared = new AdminFanout(1, 1, 1, Duration.ZERO);
+        List<String> started = new ArrayList<>();
+        List<KafkaFutureImpl<String>> pending = new ArrayList<>();
+
+        Function<Collection<String>, Map<String, KafkaFuture<String>>> request = chunk -> {
+            String key = chunk.iterator().next();
+            KafkaFutureImpl<String> future = new KafkaFutureImpl<>();
+            started.add(key);
+            pending.add(future);
+            return Map.of(key, future);
+        };
+
+        var alice = shared.forPrincipal("alice").submit(List.of("a1", "a2", "a3", "a4"), request);
+        var bob = shared.forPrincipal("bob").submit(List.of("b1"), request);
+        assertEquals(4, shared.queued());
+
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).complete("done");
+        }
+
+        // Bob's chunk is not held back until all of Alice's chunks are complete
+        assertEquals(List.of("a1", "a2", "b1", "a3", "a4"), started);
+        assertTrue(alice.values().stream().allMatch(f -> f.isDone() && !f.isCompletedExceptionally()));
+        assertTrue(bob.get("b1").isDone());
+        assertEquals(0, shared.inFlight());
+        assertEquals(0, shared.queued());
+    }
+
+    static <T> KafkaFuture<T> failed(Throwable error) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
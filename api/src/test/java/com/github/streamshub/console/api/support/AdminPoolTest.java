@@ -0,0 +1,142 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AdminPoolTest {
+
+    static class MutableClock extends Clock {
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+
+    MutableClock clock;
+    AdminPool pool;
+
+    @BeforeEach
+    void setup() {
+        clock = new MutableClock();
+        pool = new AdminPool("ns/c1", 3, 2, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+    }
+
+    AdminPool.Lease acquire(String user, String credential, Instant expiresAt) {
+        return pool.acquire(user, credential, expiresAt, () -> Mockito.mock(Admin.class));
+    }
+
+    @Test
+    void testClientReusedForSameCredential() {
+        var lease1 = acquire("alice", "secret-1", null);
+        lease1.close();
+        var lease2 = acquire("alice", "secret-1", null);
+        var lease3 = acquire("alice", "secret-2", null);
+
+        assertTrue(lease1.pooled());
+        assertSame(lease1.admin(), lease2.admin());
+        assertNotSame(lease1.admin(), lease3.admin());
+        assertEquals(2, pool.size());
+        verify(lease1.admin(), never()).close(any(Duration.class));
+    }
+
+    @Test
+    void testIdleClientClosed() {
+        var lease = acquire("alice", "secret-1", null);
+        clock.advance(Duration.ofMinutes(10));
+
+        pool.sweep();
+        // Leased clients are not idle
+        assertEquals(1, pool.size());
+
+        lease.close();
+        clock.advance(Duration.ofMinutes(5));
+        pool.sweep();
+        assertEquals(0, pool.size());
+        verify(lease.admin()).close(Duration.ZERO);
+    }
+
+    @Test
+    void testExpiredCredentialNotReused() {
+        var lease1 = acquire("alice", "token-1", clock.instant().plus(Duration.ofMinutes(1)));
+        lease1.close();
+        clock.advance(Duration.ofSeconds(45));
+
+        var lease2 = acquire("alice", "token-1", clock.instant().plusSeconds(15));
+
+        assertNotSame(lease1.admin(), lease2.admin());
+        assertFalse(lease2.pooled());
+        verify(lease1.admin()).close(Duration.ZERO);
+
+        lease2.close();
+        verify(lease2.admin()).close();
+    }
+
+    @Test
+    void testPerUserLimitEvictsLeastRecentlyUsed() {
+        var lease1 = acquire("alice", "secret-1", null);
+        lease1.close();
+        clock.advance(Duration.ofSeconds(1));
+        var lease2 = acquire("alice", "secret-2", null);
+        lease2.close();
+
+        var lease3 = acquire("alice", "secret-3", null);
+        assertTrue(lease3.pooled());
+        assertEquals(2, pool.size());
+        verify(lease1.admin()).close(Duration.ZERO);
+    }
+
+    @Test
+    void testUnpooledWhenFullyLeased() {
+        acquire("alice", "secret-1", null);
+        acquire("bob", "secret-2", null);
+        acquire("carol", "secret-3", null);
+
+        var lease = acquire("dave", "secret-4", null);
+        assertFalse(lease.pooled());
+        assertEquals(3, pool.size());
+    }
+
+    @Test
+    void testLeasedClientClosedOnRelease() {
+        var lease = acquire("alice", "secret-1", null);
+        pool.close();
+        verify(lease.admin(), never()).close(any(Duration.class));
+
+        lease.close();
+        verify(lease.admin()).close(Duration.ZERO);
+        assertEquals(0, pool.size());
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.streamshub.console.config.KafkaClusterConfig;
+
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ClientConfigFingerprintTest {
+
+    static KafkaClusterConfig clusterConfig() {
+        KafkaClusterConfig config = new KafkaClusterConfig();
+        config.setName("k1");
+        config.setNamespace("ns1");
+        config.setListener("listener0");
+        config.setProperties(Map.of("security.protocol", "SSL"));
+        return config;
+    }
+
+    static Kafka kafka(String bootstrap, String certificate, String condition) {
+        return new KafkaBuilder()
+            .withNewMetadata()
+                .withNamespace("ns1")
+                .withName("k1")
+            .endMetadata()
+            .withNewSpec()
+                .withNewKafka()
+                    .addNewListener()
+                        .withName("listener0")
+                        .withType(KafkaListenerType.INTERNAL)
+                        .withTls(true)
+                    .endListener()
+                .endKafka()
+            .endSpec()
+            .withNewStatus()
+                .withClusterId("cluster-1")
+                .addNewCondition()
+                    .withType(condition)
+                    .withStatus("True")
+                .endCondition()
+                .addNewListener()
+                    .withName("listener0")
+                    .withBootstrapServers(bootstrap)
+                    .withCertificates(List.of(certificate))
+                .endListener()
+            .endStatus()
+            .build();
+    }
+
+    static String fingerprint(KafkaClusterConfig config, Kafka kafka) {
+        return ClientConfigFingerprint.of(config, Optional.ofNullable(kafka), null).orElseThrow();
+    }
+
+    @Test
+    void testUnrelatedChangesIgnored() {
+        var config = clusterConfig();
+        String expected = fingerprint(config, kafka("k1:9093", "cert-1", "Ready"));
+
+        assertEquals(expected, fingerprint(clusterConfig(), kafka("k1:9093", "cert-1", "Ready")));
+        assertEquals(expected, fingerprint(config, kafka("k1:9093", "cert-1", "NotReady")));
+    }
+
+    @Test
+    void testClientConfigurationChangesDetected() {
+        var config = clusterConfig();
+        String expected = fingerprint(config, kafka("k1:9093", "cert-1", "Ready"));
+
+        assertNotEquals(expected, fingerprint(config, kafka("k1:9094", "cert-1", "Ready")));
+        assertNotEquals(expected, fingerprint(config, kafka("k1:9093", "cert-2", "Ready")));
+        assertNotEquals(expected, fingerprint(config, null));
+
+        config.setAdminProperties(Map.of("sasl.jaas.config", "changed"));
+        assertNotEquals(expected, fingerprint(config, kafka("k1:9093", "cert-1", "Ready")));
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.github.streamshub.console.api.model.jsonapi.JsonApiErrors;
+import com.github.streamshub.console.config.KafkaClusterConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClusterBulkheadFilterTest {
+
+    AdminPoolTest.MutableClock clock;
+    SimpleMeterRegistry registry;
+    ContainerRequestContext requestContext;
+    ClusterBulkheadFilter target;
+
+    @BeforeEach
+    void setup() {
+        clock = new AdminPoolTest.MutableClock();
+        registry = new SimpleMeterRegistry();
+
+        KafkaClusterConfig clusterConfig = new KafkaClusterConfig();
+        clusterConfig.setNamespace("ns");
+        clusterConfig.setName("c1");
+        KafkaContext ctx = mock(KafkaContext.class);
+        when(ctx.clusterConfig()).thenReturn(clusterConfig);
+
+        requestContext = mock(ContainerRequestContext.class, RETURNS_DEEP_STUBS);
+        when(requestContext.getUriInfo().getPathParameters().getFirst("clusterId")).thenReturn("c1-id");
+
+        target = new ClusterBulkheadFilter();
+        target.enabled = true;
+        target.maxConcurrent = 2;
+        target.maxQueued = 1;
+        target.queueTimeout = Duration.ofSeconds(10);
+        target.failureThreshold = 2;
+        target.openDuration = Duration.ofSeconds(30);
+        target.contexts = Map.of("c1-id", ctx);
+        target.scheduler = Mockito.mock(ScheduledExecutorService.class);
+        target.registry = registry;
+        target.clock = clock;
+    }
+
+    /**
+     * Send a request through the filter. When admitted, the request completes
+     * with the given response status.
+     *
+     * @return the response of a rejected request, or null when admitted
+     */
+    Response request(int status) {
+        RoutingContext routingContext = mock(RoutingContext.class, RETURNS_DEEP_STUBS);
+        when(routingContext.response().getStatusCode()).thenReturn(status);
+        List<Handler<AsyncResult<Void>>> endHandlers = new ArrayList<>();
+        when(routingContext.addEndHandler(any())).thenAnswer(invocation -> {
+            endHandlers.add(invocation.getArgument(0));
+            return endHandlers.size();
+        });
+
+        Response response = target.acquirePermit(requestContext, routingContext).await().indefinitely();
+        endHandlers.forEach(handler -> handler.handle(null));
+        return response;
+    }
+
+    double circuitState() {
+        return registry.get("console.kafka.circuit.state").tag("cluster", "ns/c1").gauge().value();
+    }
+
+    @Test
+    void testOutcomeOfResponseStatus() {
+        assertEquals(ClusterBulkhead.Outcome.FAILED, ClusterBulkheadFilter.outcome(502));
+        assertEquals(ClusterBulkhead.Outcome.FAILED, ClusterBulkheadFilter.outcome(504));
+        assertEquals(ClusterBulkhead.Outcome.SUCCEEDED, ClusterBulkheadFilter.outcome(200));
+        assertEquals(ClusterBulkhead.Outcome.SUCCEEDED, ClusterBulkheadFilter.outcome(204));
+        assertEquals(ClusterBulkhead.Outcome.UNRELATED, ClusterBulkheadFilter.outcome(404));
+        assertEquals(ClusterBulkhead.Outcome.UNRELATED, ClusterBulkheadFilter.outcome(500));
+    }
+
+    @Test
+    void testCircuitOpensAndRejectsWithRetryAfter() {
+        assertNull(request(504));
+        // Neither a failure nor a success, the count of failures is retained
+        assertNull(request(404));
+        assertNull(request(504));
+        assertEquals(ClusterBulkhead.State.OPEN.ordinal(), circuitState());
+
+        clock.advance(Duration.ofSeconds(10));
+        Response rejected = request(200);
+
+        assertNotNull(rejected);
+        assertEquals(Status.SERVICE_UNAVAILABLE.getStatusCode(), rejected.getStatus());
+        assertEquals("20", rejected.getHeaderString(HttpHeaders.RETRY_AFTER));
+        var errors = assertInstanceOf(JsonApiErrors.class, rejected.getEntity());
+        assertEquals("5031", errors.getErrors().get(0).getCode());
+        assertEquals(1, registry.get("console.kafka.bulkhead.rejected")
+                .tags("cluster", "ns/c1", "reason", "open")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void testHalfOpenTrialRecovers() {
+        assertNull(request(504));
+        assertNull(request(502));
+        assertEquals(ClusterBulkhead.State.OPEN.ordinal(), circuitState());
+
+        clock.advance(Duration.ofSeconds(30));
+        // Unrelated outcome of the trial leaves the circuit half-open for another trial
+        assertNull(request(404));
+        assertEquals(ClusterBulkhead.State.HALF_OPEN.ordinal(), circuitState());
+
+        assertNull(request(200));
+        assertEquals(ClusterBulkhead.State.CLOSED.ordinal(), circuitState());
+        assertNull(request(200));
+    }
+
+    @Test
+    void testFailedTrialReopensCircuit() {
+        assertNull(request(504));
+        assertNull(request(504));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertNull(request(504));
+        assertEquals(ClusterBulkhead.State.OPEN.ordinal(), circuitState());
+
+        Response rejected = request(200);
+        assertEquals(Status.SERVICE_UNAVAILABLE.getStatusCode(), rejected.getStatus());
+        assertEquals("30", rejected.getHeaderString(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,182 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.github.streamshub.console.api.support.ClusterBulkhead.Permit;
+import com.github.streamshub.console.api.support.ClusterBulkhead.Rejection;
+import com.github.streamshub.console.api.support.ClusterBulkhead.State;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+class ClusterBulkheadTest {
+
+    AdminPoolTest.MutableClock clock;
+    ScheduledExecutorService scheduler;
+    List<Runnable> scheduled;
+    List<Rejection> rejections;
+    ClusterBulkhead bulkhead;
+
+    @BeforeEach
+    void setup() {
+        clock = new AdminPoolTest.MutableClock();
+        scheduled = new ArrayList<>();
+        rejections = new ArrayList<>();
+        scheduler = Mockito.mock(ScheduledExecutorService.class);
+        Mockito.when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> {
+                scheduled.add(invocation.getArgument(0));
+                return null;
+            });
+
+        bulkhead = new ClusterBulkhead("ns/c1", 2, 1, Duration.ofSeconds(10), 2, Duration.ofSeconds(30),
+                scheduler, rejections::add, clock);
+    }
+
+    static Permit permit(CompletionStage<Permit> stage) {
+        var future = stage.toCompletableFuture();
+        assertTrue(future.isDone());
+        return future.join();
+    }
+
+    static Rejection rejection(CompletionStage<Permit> stage) {
+        CompletableFuture<Permit> future = stage.toCompletableFuture();
+        var error = assertThrows(CompletionException.class, future::join);
+        return assertInstanceOf(ClusterBulkhead.RejectedException.class, error.getCause()).reason();
+    }
+
+    @Test
+    void testConcurrentRequestsLimited() {
+        var permit1 = permit(bulkhead.acquire());
+        permit(bulkhead.acquire());
+        var queued = bulkhead.acquire().toCompletableFuture();
+
+        assertFalse(queued.isDone());
+        assertEquals(Rejection.FULL, rejection(bulkhead.acquire()));
+        assertEquals(1, bulkhead.queued());
+
+        permit1.release(false);
+        assertTrue(queued.isDone());
+        assertEquals(2, bulkhead.active());
+        assertEquals(0, bulkhead.queued());
+
+        // Expiration of a granted request has no effect
+        scheduled.forEach(Runnable::run);
+        assertEquals(List.of(Rejection.FULL), rejections);
+    }
+
+    @Test
+    void testQueuedRequestTimesOut() {
+        permit(bulkhead.acquire());
+        permit(bulkhead.acquire());
+        var queued = bulkhead.acquire();
+
+        scheduled.forEach(Runnable::run);
+        assertEquals(Rejection.TIMEOUT, rejection(queued));
+        assertEquals(0, bulkhead.queued());
+    }
+
+    @Test
+    void testCircuitOpensAfterConsecutiveFailures() {
+        permit(bulkhead.acquire()).release(true);
+        permit(bulkhead.acquire()).release(false);
+        permit(bulkhead.acquire()).release(true);
+        assertEquals(State.CLOSED, bulkhead.state());
+
+        var inFlight = permit(bulkhead.acquire());
+        permit(bulkhead.acquire()).release(true);
+        assertEquals(State.OPEN, bulkhead.state());
+
+        var rejected = bulkhead.acquire().toCompletableFuture();
+        assertEquals(Rejection.OPEN, rejection(rejected));
+        var error = (ClusterBulkhead.RejectedException) assertThrows(CompletionException.class, rejected::join).getCause();
+        assertEquals(Duration.ofSeconds(30), error.retryAfter());
+
+        // Requests admitted before the circuit opened do not close it
+        inFlight.release(false);
+        assertEquals(State.OPEN, bulkhead.state());
+    }
+
+    @Test
+    void testUnrelatedOutcomeRetainsFailures() {
+        permit(bulkhead.acquire()).release(true);
+        permit(bulkhead.acquire()).release(ClusterBulkhead.Outcome.UNRELATED);
+        assertEquals(State.CLOSED, bulkhead.state());
+
+        permit(bulkhead.acquire()).release(true);
+        assertEquals(State.OPEN, bulkhead.state());
+    }
+
+    @Test
+    void testClosedBulkheadRejectsRequests() {
+        permit(bulkhead.acquire());
+        permit(bulkhead.acquire());
+        var queued = bulkhead.acquire();
+
+        bulkhead.close();
+        // Requests already waiting proceed
+        permit(queued);
+        assertEquals(Rejection.CLOSED, rejection(bulkhead.acquire()));
+    }
+
+    @Test
+    void testOpenCircuitRejectsQueuedRequests() {
+        permit(bulkhead.acquire()).release(true);
+        var permit = permit(bulkhead.acquire());
+        permit(bulkhead.acquire());
+        var queued = bulkhead.acquire();
+
+        permit.release(true);
+        assertEquals(State.OPEN, bulkhead.state());
+        assertEquals(Rejection.OPEN, rejection(queued));
+    }
+
+    @Test
+    void testTrialRequestClosesCircuit() {
+        permit(bulkhead.acquire()).release(true);
+        permit(bulkhead.acquire()).release(true);
+        assertEquals(State.OPEN, bulkhead.state());
+
+        clock.advance(Duration.ofSeconds(30));
+        var trial = permit(bulkhead.acquire());
+        assertEquals(State.HALF_OPEN, bulkhead.state());
+        // Only a single trial request is permitted
+        assertEquals(Rejection.OPEN, rejection(bulkhead.acquire()));
+
+        trial.release(false);
+        assertEquals(State.CLOSED, bulkhead.state());
+        permit(bulkhead.acquire());
+    }
+
+    @Test
+    void testFailedTrialRequestReopensCircuit() {
+        permit(bulkhead.acquire()).release(true);
+        permit(bulkhead.acquire()).release(true);
+
+        clock.advance(Duration.ofSeconds(30));
+        permit(bulkhead.acquire()).release(true);
+        assertEquals(State.OPEN, bulkhead.state());
+        assertEquals(Rejection.OPEN, rejection(bulkhead.acquire()));
+
+        clock.advance(Duration.ofSeconds(30));
+        permit(bulkhead.acquire()).release(false);
+        assertEquals(State.CLOSED, bulkhead.state());
+    }
+}
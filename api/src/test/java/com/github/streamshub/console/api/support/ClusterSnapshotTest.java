@@ -0,0 +1,34 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.kafka.common.errors.NotControllerException;
+import org.apache.kafka.common.errors.NotLeaderOrFollowerException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.TopicAuthorizationException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClusterSnapshotTest {
+
+    @Test
+    void testNodeErrorsDetected() {
+        assertTrue(ClusterSnapshot.isNodeError(new TimeoutException("timed out")));
+        assertTrue(ClusterSnapshot.isNodeError(new NotControllerException("moved")));
+        assertTrue(ClusterSnapshot.isNodeError(new CompletionException(new NotLeaderOrFollowerException("moved"))));
+        assertTrue(ClusterSnapshot.isNodeError(new ExecutionException(new CompletionException(new TimeoutException()))));
+    }
+
+    @Test
+    void testOtherErrorsIgnored() {
+        assertFalse(ClusterSnapshot.isNodeError(null));
+        // Extends InvalidMetadataException, but does not indicate a change to the nodes
+        assertFalse(ClusterSnapshot.isNodeError(new UnknownTopicOrPartitionException("no such topic")));
+        assertFalse(ClusterSnapshot.isNodeError(new CompletionException(new TopicAuthorizationException("denied"))));
+        assertFalse(ClusterSnapshot.isNodeError(new CompletionException(null)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import com.github.streamshub.console.config.KafkaClusterConfig;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput of {@linkplain KafkaContext.Manager} acquire/release pairs (one
+ * pair per API request) with requests spread over many clusters, while
+ * contexts are periodically replaced as with informer updates.
+ *
+ * <p>Not run by default, run with
+ * {@code mvn test -Dtest=KafkaContextManagerBenchmark -Dconsole.benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "console.benchmark", matches = "true")
+class KafkaContextManagerBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(KafkaContextManagerBenchmark.class);
+    private static final int CLUSTERS = 200;
+    private static final long WARMUP_MS = 2_000;
+    private static final long MEASURE_MS = 5_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 8, 64 })
+    void benchmarkAcquireRelease(int threads) throws Exception {
+        var manager = new KafkaContext.Manager();
+        Admin admin = Mockito.mock(Admin.class);
+        List<String> clusterIds = new ArrayList<>(CLUSTERS);
+
+        for (int i = 0; i < CLUSTERS; i++) {
+            String id = "id-" + i;
+            clusterIds.add(id);
+            manager.replace(id, "c-" + i, context("c-" + i, admin));
+        }
+
+        var measuring = new AtomicBoolean(false);
+        var stop = new AtomicBoolean(false);
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        List<Future<Long>> workers = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    var random = ThreadLocalRandom.current();
+                    long operations = 0;
+                    start.await();
+
+                    while (!stop.get()) {
+                        var ctx = manager.acquire(clusterIds.get(random.nextInt(CLUSTERS)));
+                        manager.release(ctx);
+
+                        if (measuring.get()) {
+                            operations++;
+                        }
+                    }
+
+                    return operations;
+                }));
+            }
+
+            // Replace one context every 10ms
+            executor.submit(() -> {
+                start.await();
+                int i = 0;
+
+                while (!stop.get()) {
+                    int n = i++ % CLUSTERS;
+                    manager.replace("id-" + n, "c-" + n, context("c-" + n, admin));
+                    TimeUnit.MILLISECONDS.sleep(10);
+                }
+
+                return null;
+            });
+
+            start.countDown();
+            TimeUnit.MILLISECONDS.sleep(WARMUP_MS);
+            measuring.set(true);
+            TimeUnit.MILLISECONDS.sleep(MEASURE_MS);
+            measuring.set(false);
+            stop.set(true);
+
+            long total = 0;
+
+            for (var worker : workers) {
+                total += worker.get(10, TimeUnit.SECONDS);
+            }
+
+            double opsPerSecond = total * 1000.0 / MEASURE_MS;
+            LOGGER.infof("KafkaContext.Manager acquire/release: threads=%d, ops/s=%.0f, ops/s/thread=%.0f",
+                    threads, opsPerSecond, opsPerSecond / threads);
+            assertTrue(total > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static KafkaContext context(String name, Admin admin) {
+        KafkaClusterConfig config = new KafkaClusterConfig();
+        config.setName(name);
+        return new KafkaContext(config, null, Map.of(), admin);
+    }
+}
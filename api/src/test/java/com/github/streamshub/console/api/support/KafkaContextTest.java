@@ -0,0 +1,233 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.github.streamshub.console.config.KafkaClusterConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KafkaContextTest {
+
+    static KafkaClusterConfig clusterConfig(String name) {
+        KafkaClusterConfig config = new KafkaClusterConfig();
+        config.setName(name);
+        return config;
+    }
+
+    @Test
+    void testLazyContextConnectsOnFirstUse() {
+        AtomicInteger connects = new AtomicInteger();
+        var target = KafkaContext.lazy(clusterConfig("c1"), null, Map.of(), () -> {
+            connects.incrementAndGet();
+            return Mockito.mock(Admin.class);
+        });
+
+        assertTrue(target.globalConnection());
+        assertTrue(target.connectedAdmin().isEmpty());
+        assertEquals(0, connects.get());
+
+        Admin admin = target.admin();
+        assertSame(admin, target.admin());
+        assertSame(admin, target.connectedAdmin().orElseThrow());
+        assertEquals(1, connects.get());
+    }
+
+    @Test
+    void testIdleContextDisconnectedAndReconnected() {
+        var manager = new KafkaContext.Manager();
+        var target = KafkaContext.lazy(clusterConfig("c1"), null, Map.of(), () -> Mockito.mock(Admin.class));
+        manager.replace("id1", "c1", target);
+
+        var acquired = manager.acquire("id1");
+        Admin admin = acquired.admin();
+
+        // Contexts in use are never disconnected
+        assertEquals(0, manager.closeIdle(Duration.ZERO));
+        manager.release(acquired);
+
+        assertEquals(0, manager.closeIdle(Duration.ofHours(1)));
+        assertEquals(1, manager.closeIdle(Duration.ZERO));
+        Mockito.verify(admin).close();
+        assertTrue(target.connectedAdmin().isEmpty());
+        assertSame(target, manager.findByClusterKey("c1").orElseThrow());
+
+        assertNotSame(admin, target.admin());
+    }
+
+    @Test
+    void testSharedIfConnectedNeitherConnectsNorKeepsConnected() {
+        AtomicInteger connects = new AtomicInteger();
+        var manager = new KafkaContext.Manager();
+        var target = KafkaContext.lazy(clusterConfig("c1"), null, Map.of(), () -> {
+            connects.incrementAndGet();
+            return Mockito.mock(Admin.class);
+        });
+        manager.replace("id1", "c1", target);
+
+        assertTrue(target.sharedIfConnected(String.class, ctx -> "shared").isEmpty());
+        assertEquals(0, connects.get());
+
+        target.admin();
+        assertEquals("shared", target.sharedIfConnected(String.class, ctx -> "shared").orElseThrow());
+
+        // Obtaining the existing component does not count as a use
+        long lastUsed = target.lastUsedNanos;
+        assertEquals("shared", target.sharedIfConnected(String.class, ctx -> "other").orElseThrow());
+        assertEquals(lastUsed, target.lastUsedNanos);
+
+        assertEquals(1, manager.closeIdle(Duration.ZERO));
+        assertTrue(target.sharedIfConnected(String.class, ctx -> "shared").isEmpty());
+        assertTrue(target.connectedAdmin().isEmpty());
+        assertEquals(1, connects.get());
+    }
+
+    @Test
+    void testEagerContextNeverDisconnected() {
+        var manager = new KafkaContext.Manager();
+        Admin admin = Mockito.mock(Admin.class);
+        manager.replace("id1", "c1", new KafkaContext(clusterConfig("c1"), null, Map.of(), admin));
+
+        assertEquals(0, manager.closeIdle(Duration.ZERO));
+        Mockito.verify(admin, Mockito.never()).close();
+
+        manager.remove("id1");
+        assertFalse(manager.findByClusterKey("c1").isPresent());
+    }
+
+    @Test
+    void testReplacedContextClosedByLastRelease() {
+        var manager = new KafkaContext.Manager();
+        var first = new KafkaContext(clusterConfig("c1"), null, Map.of(), Mockito.mock(Admin.class));
+        manager.replace("id1", "c1", first);
+
+        var acquired = manager.acquire("id1");
+        manager.replace("id1", "c1", new KafkaContext(clusterConfig("c1"), null, Map.of(), Mockito.mock(Admin.class)));
+        assertFalse(first.closed());
+
+        manager.release(acquired);
+        assertTrue(first.closed());
+        Mockito.verify(first.admin()).close();
+    }
+
+    @Test
+    void testRequestContextReleasesParent() {
+        var manager = new KafkaContext.Manager();
+        var ctx = new KafkaContext(clusterConfig("c1"), null, Map.of(), Mockito.mock(Admin.class));
+        manager.replace("id1", "c1", ctx);
+
+        var requestContext = new KafkaContext(manager.acquire("id1"), Mockito.mock(Admin.class));
+        assertEquals(1, ctx.userCount());
+
+        manager.release(requestContext);
+        assertTrue(requestContext.closed());
+        assertEquals(0, ctx.userCount());
+        assertFalse(ctx.closed());
+    }
+
+    @Test
+    void testConcurrentAcquireReleaseAndReplace() throws Exception {
+        int threads = 16;
+        var manager = new KafkaContext.Manager();
+        var replaced = new ConcurrentLinkedQueue<KafkaContext>();
+        var stop = new AtomicBoolean(false);
+        var failures = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 2);
+        Admin admin = Mockito.mock(Admin.class);
+
+        manager.replace("id1", "c1", new KafkaContext(clusterConfig("c1"), null, Map.of(), admin));
+        manager.replace("id2", "c2", KafkaContext.lazy(clusterConfig("c2"), null, Map.of(), () -> Mockito.mock(Admin.class)));
+
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                String clusterId = t % 2 == 0 ? "id1" : "id2";
+
+                tasks.add(executor.submit(() -> {
+                    start.await();
+
+                    while (!stop.get()) {
+                        var ctx = manager.acquire(clusterId);
+                        assertNotNull(ctx);
+
+                        if (ctx.adminFactory != null) {
+                            // Lazy context, connect again following any idle eviction
+                            assertNotNull(ctx.admin());
+                        }
+                        if (ctx.closed() || ctx.userCount() == 0) {
+                            failures.incrementAndGet();
+                        }
+
+                        manager.release(ctx);
+                    }
+                    return null;
+                }));
+            }
+
+            tasks.add(executor.submit(() -> {
+                start.await();
+
+                for (int i = 0; i < 2000; i++) {
+                    var ctx = new KafkaContext(clusterConfig("c1"), null, Map.of(), admin);
+                    replaced.add(manager.contexts().get("id1"));
+                    manager.replace("id1", "c1", ctx);
+                }
+                return null;
+            }));
+
+            tasks.add(executor.submit(() -> {
+                start.await();
+
+                while (!stop.get()) {
+                    manager.closeIdle(Duration.ZERO);
+                }
+                return null;
+            }));
+
+            start.countDown();
+            tasks.get(threads).get(30, TimeUnit.SECONDS);
+            stop.set(true);
+
+            for (var task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, failures.get());
+        assertEquals(2000, replaced.size());
+
+        for (var ctx : replaced) {
+            // Every replaced context is closed once all of its uses are released
+            assertTrue(ctx.closed());
+            assertEquals(0, ctx.userCount());
+        }
+
+        for (var ctx : manager.contexts().values()) {
+            assertFalse(ctx.closed());
+            assertEquals(0, ctx.userCount());
+        }
+    }
+}
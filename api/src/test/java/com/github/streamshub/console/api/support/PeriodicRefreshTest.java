@@ -0,0 +1,125 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+class PeriodicRefreshTest {
+
+    ScheduledExecutorService scheduler;
+    List<Runnable> scheduled;
+    List<Long> delays;
+    List<CompletableFuture<String>> runs;
+    PeriodicRefresh<String> refresh;
+
+    @BeforeEach
+    void setup() {
+        scheduled = new ArrayList<>();
+        delays = new ArrayList<>();
+        runs = new ArrayList<>();
+        scheduler = Mockito.mock(ScheduledExecutorService.class);
+        Mockito.when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> {
+                scheduled.add(invocation.getArgument(0));
+                delays.add(invocation.getArgument(1));
+                return null;
+            });
+
+        refresh = new PeriodicRefresh<>("test", () -> {
+            var run = new CompletableFuture<String>();
+            runs.add(run);
+            return run;
+        }, scheduler, Duration.ofSeconds(30), 0);
+    }
+
+    void runNext() {
+        scheduled.remove(0).run();
+    }
+
+    CompletableFuture<String> lastRun() {
+        return runs.get(runs.size() - 1);
+    }
+
+    @Test
+    void testReadyAfterFirstSuccess() {
+        refresh.start();
+        runNext();
+        var waiting = refresh.ready().toCompletableFuture();
+        assertFalse(waiting.isDone());
+
+        lastRun().complete("one");
+        assertTrue(waiting.isDone());
+        assertEquals("one", refresh.latest().orElseThrow());
+        assertEquals(List.of(0L, 30_000L), delays);
+    }
+
+    @Test
+    void testFailuresBeforeFirstSuccessCompleteWaitersAndRetry() {
+        refresh.start();
+        runNext();
+        var waiting = refresh.ready().toCompletableFuture();
+
+        lastRun().completeExceptionally(new IllegalStateException("boom"));
+        assertThrows(CompletionException.class, waiting::join);
+
+        // Callers arriving after the failure do not wait for the next attempt
+        var late = refresh.ready().toCompletableFuture();
+        assertTrue(late.isCompletedExceptionally());
+        assertEquals(1_000L, delays.get(1));
+
+        runNext();
+        var retrying = refresh.ready().toCompletableFuture();
+        assertFalse(retrying.isDone());
+        lastRun().completeExceptionally(new IllegalStateException("boom"));
+        assertTrue(retrying.isCompletedExceptionally());
+        assertEquals(2_000L, delays.get(2));
+
+        runNext();
+        lastRun().complete("one");
+        assertTrue(refresh.ready().toCompletableFuture().isDone());
+        assertFalse(refresh.ready().toCompletableFuture().isCompletedExceptionally());
+        assertEquals(30_000L, delays.get(3));
+    }
+
+    @Test
+    void testFailureAfterSuccessRetainsLatest() {
+        refresh.start();
+        runNext();
+        lastRun().complete("one");
+
+        runNext();
+        lastRun().completeExceptionally(new IllegalStateException("boom"));
+        assertFalse(refresh.ready().toCompletableFuture().isCompletedExceptionally());
+        assertEquals("one", refresh.latest().orElseThrow());
+        assertEquals(30_000L, delays.get(2));
+    }
+
+    @Test
+    void testCloseCompletesWaiters() {
+        refresh.start();
+        var waiting = refresh.ready().toCompletableFuture();
+
+        refresh.close();
+        assertThrows(CancellationException.class, waiting::join);
+
+        runNext();
+        assertTrue(runs.isEmpty());
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PeriodicSnapshotTest {
+
+    @Test
+    void testFreshValueSharedWithoutReload() {
+        AtomicInteger loads = new AtomicInteger();
+        PeriodicSnapshot<Integer> target = new PeriodicSnapshot<>(
+                () -> CompletableFuture.completedStage(loads.incrementAndGet()),
+                Duration.ofMinutes(1),
+                0.2);
+
+        assertEquals(1, target.get().toCompletableFuture().join());
+        assertEquals(1, target.get().toCompletableFuture().join());
+        assertEquals(1, loads.get());
+        assertTrue(target.getIfFresh().isPresent());
+        assertTrue(target.age().isPresent());
+    }
+
+    @Test
+    void testExpiredValueReloaded() {
+        AtomicInteger loads = new AtomicInteger();
+        PeriodicSnapshot<Integer> target = new PeriodicSnapshot<>(
+                () -> CompletableFuture.completedStage(loads.incrementAndGet()),
+                Duration.ZERO,
+                0);
+
+        assertEquals(1, target.get().toCompletableFuture().join());
+        assertEquals(2, target.get().toCompletableFuture().join());
+        assertTrue(target.getIfFresh().isEmpty());
+    }
+
+    @Test
+    void testConcurrentCallersShareInFlightLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        PeriodicSnapshot<Integer> target = new PeriodicSnapshot<>(
+                () -> {
+                    loads.incrementAndGet();
+                    return pending;
+                },
+                Duration.ofMinutes(1),
+                0);
+
+        var first = target.get().toCompletableFuture();
+        var second = target.get().toCompletableFuture();
+        pending.complete(42);
+
+        assertEquals(42, first.join());
+        assertEquals(42, second.join());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testFailedLoadRetried() {
+        AtomicInteger loads = new AtomicInteger();
+        PeriodicSnapshot<Integer> target = new PeriodicSnapshot<>(
+                () -> loads.incrementAndGet() == 1
+                    ? CompletableFuture.failedStage(new IllegalStateException("first"))
+                    : CompletableFuture.completedStage(loads.get()),
+                Duration.ofMinutes(1),
+                0);
+
+        assertTrue(target.get().toCompletableFuture().isCompletedExceptionally());
+        assertEquals(2, target.get().toCompletableFuture().join());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        AtomicInteger loads = new AtomicInteger();
+        PeriodicSnapshot<Integer> target = new PeriodicSnapshot<>(
+                () -> CompletableFuture.completedStage(loads.incrementAndGet()),
+                Duration.ofMinutes(1),
+                0);
+
+        assertEquals(1, target.get().toCompletableFuture().join());
+        target.invalidate();
+        assertTrue(target.age().isEmpty());
+        assertEquals(2, target.get().toCompletableFuture().join());
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.streamshub.console.api.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Latency and allocation of a chain of asynchronous stages, as used by the
+ * service pipelines following a response from the Admin client, when each stage
+ * is handed to the pool separately ({@link ContextualExecutorProvider#currentContextExecutor()})
+ * versus batched on a serial executor ({@link ContextualExecutorProvider#pipelineExecutor()}).
+ * Context propagation is represented by setting and restoring a thread local for
+ * each contextual task.
+ *
+ * <p>Not run by default, run with
+ * {@code mvn test -Dtest=PipelineExecutorBenchmark -Dconsole.benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "console.benchmark", matches = "true")
+class PipelineExecutorBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(PipelineExecutorBenchmark.class);
+    private static final int POOL_THREADS = 8;
+    private static final int STAGES = 4;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int REQUESTS = 50_000;
+    private static final ThreadLocal<Object> REQUEST_CONTEXT = new ThreadLocal<>();
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 16 })
+    void benchmarkChainedStages(int clients) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(POOL_THREADS);
+        ExecutorService driver = Executors.newFixedThreadPool(clients);
+
+        try {
+            Function<Object, Executor> perTask = context -> {
+                var contextExecutor = contextExecutor(context);
+                return task -> pool.execute(() -> contextExecutor.execute(task));
+            };
+            Function<Object, Executor> pipeline = context ->
+                new ContextualExecutorProvider.SerialExecutor(pool, contextExecutor(context));
+
+            run(driver, clients, WARMUP_REQUESTS, perTask);
+            run(driver, clients, WARMUP_REQUESTS, pipeline);
+
+            report("currentContextExecutor", clients, () -> run(driver, clients, REQUESTS, perTask));
+            report("pipelineExecutor", clients, () -> run(driver, clients, REQUESTS, pipeline));
+        } finally {
+            driver.shutdownNow();
+            pool.shutdownNow();
+        }
+    }
+
+    private static void report(String name, int clients, Supplier<long[]> measurement) {
+        long allocatedBefore = allocatedBytes();
+        long[] latencies = measurement.get();
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        Arrays.sort(latencies);
+        LOGGER.infof("%s: clients=%d, stages=%d, p50=%.1fus, p99=%.1fus, allocated/request=%d bytes",
+                name, clients, STAGES,
+                latencies[latencies.length / 2] / 1000.0,
+                latencies[(int) (latencies.length * 0.99)] / 1000.0,
+                allocated / latencies.length);
+    }
+
+    private static long[] run(ExecutorService driver, int clients, int requests, Function<Object, Executor> executors) {
+        int perClient = requests / clients;
+        List<Future<long[]>> results = new ArrayList<>(clients);
+
+        for (int c = 0; c < clients; c++) {
+            results.add(driver.submit(() -> {
+                long[] latencies = new long[perClient];
+
+                for (int r = 0; r < perClient; r++) {
+                    long start = System.nanoTime();
+                    assertEquals(STAGES, request(executors.apply(new Object())).get(10, TimeUnit.SECONDS));
+                    latencies[r] = System.nanoTime() - start;
+                }
+
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[perClient * clients];
+        int offset = 0;
+
+        for (var result : results) {
+            try {
+                long[] latencies = result.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return all;
+    }
+
+    private static CompletableFuture<Integer> request(Executor executor) {
+        // Response from the Admin client, completed on its network thread
+        CompletableFuture<Integer> response = new CompletableFuture<>();
+        CompletableFuture<Integer> pending = response;
+
+        for (int s = 0; s < STAGES; s++) {
+            pending = pending.thenApplyAsync(PipelineExecutorBenchmark::stage, executor);
+        }
+
+        response.complete(0);
+        return pending;
+    }
+
+    private static Integer stage(Integer value) {
+        if (REQUEST_CONTEXT.get() == null) {
+            throw new IllegalStateException("Context not propagated");
+        }
+        return value + 1;
+    }
+
+    private static Executor contextExecutor(Object context) {
+        return task -> {
+            Object previous = REQUEST_CONTEXT.get();
+            REQUEST_CONTEXT.set(context);
+            try {
+                task.run();
+            } finally {
+                REQUEST_CONTEXT.set(previous);
+            }
+        };
+    }
+
+    private static long allocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.streamshub.console.api.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerialExecutorTest {
+
+    ExecutorService pool;
+    AtomicInteger submissions;
+    AtomicInteger contextActivations;
+    ContextualExecutorProvider.SerialExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        pool = Executors.newFixedThreadPool(4);
+        submissions = new AtomicInteger();
+        contextActivations = new AtomicInteger();
+        executor = new ContextualExecutorProvider.SerialExecutor(
+                task -> {
+                    submissions.incrementAndGet();
+                    pool.execute(task);
+                },
+                task -> {
+                    contextActivations.incrementAndGet();
+                    task.run();
+                });
+    }
+
+    @AfterEach
+    void teardown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testChainedStagesRunInSingleSubmission() {
+        // e.g. a response from the Admin client, completed on its network thread
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        var pending = response
+                .thenApplyAsync(s -> s + "b", executor)
+                .thenComposeAsync(s -> CompletableFuture.completedFuture(s + "c"), executor)
+                .thenApplyAsync(s -> s + "d", executor);
+
+        response.complete("a");
+
+        assertEquals("abcd", pending.join());
+        assertEquals(1, submissions.get());
+        assertEquals(1, contextActivations.get());
+    }
+
+    @Test
+    void testConcurrentSubmissionsRunSeriallyInOrder() throws Exception {
+        int tasks = 10_000;
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>(tasks));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            int n = i;
+            executor.execute(() -> {
+                if (running.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                order.add(n);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+
+        for (int i = 0; i < tasks; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.github.streamshub.console.api.support;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.github.streamshub.console.api.support.WeightedAdmission.Rejection;
+import com.github.streamshub.console.api.support.WeightedAdmission.Ticket;
+import com.github.streamshub.console.api.support.WeightedAdmission.Weight;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightedAdmissionTest {
+
+    ScheduledExecutorService scheduler;
+    WeightedAdmission admission;
+
+    @BeforeEach
+    void setup() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        admission = new WeightedAdmission(10, 1000, 2, 3, Duration.ofSeconds(10), scheduler);
+    }
+
+    @AfterEach
+    void teardown() {
+        scheduler.shutdownNow();
+    }
+
+    CompletableFuture<Ticket> acquire(String user, int partitions, long bytes) {
+        return admission.acquire(user, new Weight(partitions, bytes)).toCompletableFuture();
+    }
+
+    /**
+     * Acquire a ticket that must be admitted without waiting.
+     */
+    Ticket admitted(String user, int partitions, long bytes) {
+        var pending = acquire(user, partitions, bytes);
+        assertTrue(pending.isDone());
+        return pending.join();
+    }
+
+    static Ticket await(CompletableFuture<Ticket> pending) throws Exception {
+        return pending.get(5, TimeUnit.SECONDS);
+    }
+
+    static Rejection rejection(CompletableFuture<Ticket> pending) {
+        var error = assertThrows(CompletionException.class, pending::join);
+        return assertInstanceOf(WeightedAdmission.RejectedException.class, error.getCause()).reason();
+    }
+
+    @Test
+    void testWeightLimitsConcurrentOperations() throws Exception {
+        var first = admitted("alice", 6, 100);
+        var second = acquire("bob", 6, 100);
+
+        assertFalse(second.isDone());
+        assertEquals(1, admission.queued());
+
+        first.close();
+        await(second).close();
+        assertEquals(0, admission.active());
+        assertEquals(0, admission.partitions());
+        assertEquals(0, admission.bytes());
+    }
+
+    @Test
+    void testByteBudgetLimitsConcurrentOperations() throws Exception {
+        var first = admitted("alice", 1, 800);
+        var second = acquire("bob", 1, 800);
+
+        assertFalse(second.isDone());
+        first.close();
+        await(second).close();
+    }
+
+    @Test
+    void testOversizedOperationAdmittedAlone() throws Exception {
+        var oversized = admitted("alice", 50, 5000);
+        assertEquals(10, admission.partitions());
+        assertEquals(1000, admission.bytes());
+
+        var next = acquire("bob", 1, 1);
+        assertFalse(next.isDone());
+
+        oversized.close();
+        await(next).close();
+    }
+
+    @Test
+    void testUserLimitDoesNotBlockOtherUsers() throws Exception {
+        admitted("alice", 1, 1);
+        admitted("alice", 1, 1);
+
+        var third = acquire("alice", 1, 1);
+        var other = acquire("bob", 1, 1);
+
+        await(other);
+        assertFalse(third.isDone());
+        assertEquals(1, admission.queued());
+    }
+
+    @Test
+    void testOperationsWithoutUserNotLimitedPerUser() {
+        admitted(null, 1, 1);
+        admitted(null, 1, 1);
+        admitted(null, 1, 1);
+
+        assertEquals(3, admission.active());
+        assertEquals(0, admission.queued());
+
+        // Still subject to the global budgets
+        var large = acquire(null, 8, 1);
+        assertFalse(large.isDone());
+    }
+
+    @Test
+    void testQueuedOperationsAdmittedInOrder() throws Exception {
+        var first = admitted("alice", 8, 1);
+        var large = acquire("bob", 5, 1);
+        // Would fit, but must not overtake the large operation queued before it
+        var small = acquire("carol", 1, 1);
+
+        assertFalse(large.isDone());
+        assertFalse(small.isDone());
+
+        first.close();
+        await(large);
+        await(small);
+    }
+
+    @Test
+    void testFullQueueRejected() {
+        admitted("alice", 10, 1);
+        acquire("bob", 1, 1);
+        acquire("carol", 1, 1);
+        acquire("dave", 1, 1);
+
+        assertEquals(Rejection.FULL, rejection(acquire("erin", 1, 1)));
+    }
+
+    @Test
+    void testQueueTimeout() throws Exception {
+        admission = new WeightedAdmission(10, 1000, 2, 3, Duration.ofMillis(50), scheduler);
+        var held = admitted("alice", 10, 1);
+        var waiting = acquire("bob", 1, 1);
+
+        assertEquals(Rejection.TIMEOUT, rejection(waiting));
+        assertEquals(0, admission.queued());
+
+        held.close();
+        admitted("bob", 1, 1).close();
+    }
+
+    @Test
+    void testCancelledOperationReturnsWeight() {
+        var held = admitted("alice", 10, 1);
+        var cancelled = acquire("bob", 1, 1);
+        cancelled.cancel(false);
+
+        held.close();
+
+        // Admitted after the cancellation, the weight is returned immediately
+        assertEquals(0, admission.active());
+        assertEquals(0, admission.partitions());
+    }
+
+    /**
+     * Reads waiting for admission hold a permit of the cluster's bulkhead, but
+     * not a thread. Completing a read admits the next one, and the permit of a
+     * read rejected by admission is returned without counting as a failure of
+     * the cluster.
+     */
+    @Test
+    void testQueuedReadsHoldBulkheadPermitsWithoutThreads() throws Exception {
+        var bulkhead = new ClusterBulkhead("ns/c1", 2, 0, Duration.ofSeconds(10), 1, Duration.ofSeconds(30),
+                Mockito.mock(ScheduledExecutorService.class), reason -> { });
+        admission = new WeightedAdmission(10, 1000, 1, 3, Duration.ofMillis(50), scheduler);
+
+        var firstPermit = bulkhead.acquire().toCompletableFuture().join();
+        var firstRead = admitted("alice", 1, 1);
+
+        var secondPermit = bulkhead.acquire().toCompletableFuture().join();
+        // Waits for the first read of the same user, on no thread of the caller
+        var secondRead = acquire("alice", 1, 1);
+        assertFalse(secondRead.isDone());
+
+        // The bulkhead is full while the second read waits
+        assertTrue(bulkhead.acquire().toCompletableFuture().isCompletedExceptionally());
+
+        firstRead.close();
+        firstPermit.release(ClusterBulkheadFilter.outcome(200));
+        await(secondRead).close();
+        secondPermit.release(ClusterBulkheadFilter.outcome(200));
+
+        // A read that times out waiting for admission is rejected with a 429 response
+        var heldPermit = bulkhead.acquire().toCompletableFuture().join();
+        var held = admitted("alice", 1, 1);
+        var thirdPermit = bulkhead.acquire().toCompletableFuture().join();
+        assertEquals(Rejection.TIMEOUT, rejection(acquire("alice", 1, 1)));
+        thirdPermit.release(ClusterBulkheadFilter.outcome(429));
+        held.close();
+        heldPermit.release(ClusterBulkheadFilter.outcome(200));
+
+        assertEquals(ClusterBulkhead.State.CLOSED, bulkhead.state());
+        assertEquals(0, bulkhead.active());
+        assertEquals(0, admission.active());
+    }
+}
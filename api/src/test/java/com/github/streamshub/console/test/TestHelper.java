@@ -2,12 +2,14 @@ package com.github.streamshub.console.test;
 
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -39,12 +41,14 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
+import io.strimzi.api.ResourceLabels;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
 import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerAuthentication;
 import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
 
 import static io.restassured.RestAssured.given;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -142,6 +146,44 @@ public class TestHelper {
         return resource;
     }
 
+    /**
+     * Wait for the resources to be present at their current versions in an
+     * informer-maintained map keyed by namespace, cluster name, and resource name.
+     * Resources without a cluster label are not expected to be present.
+     */
+    public static <T extends HasMetadata> void awaitInformed(Map<String, Map<String, Map<String, T>>> index,
+            Collection<? extends T> resources) {
+        awaitInformed(index, resources, r -> r.getMetadata().getName());
+    }
+
+    /**
+     * Wait for the resources to be present at their current versions in an
+     * informer-maintained map keyed by namespace, cluster name, and the given
+     * key of each resource (e.g. the node ID of a Kafka pod).
+     */
+    public static <T extends HasMetadata> void awaitInformed(Map<String, Map<String, Map<String, T>>> index,
+            Collection<? extends T> resources, Function<? super T, String> key) {
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> resources.stream()
+                .filter(r -> r.getMetadata().getLabels().containsKey(ResourceLabels.STRIMZI_CLUSTER_LABEL))
+                .allMatch(r -> Optional.ofNullable(index.get(r.getMetadata().getNamespace()))
+                        .map(clusters -> clusters.get(r.getMetadata().getLabels().get(ResourceLabels.STRIMZI_CLUSTER_LABEL)))
+                        .map(items -> items.get(key.apply(r)))
+                        .map(item -> Objects.equals(item.getMetadata().getResourceVersion(), r.getMetadata().getResourceVersion()))
+                        .orElse(false)));
+    }
+
+    /**
+     * Whether the resource found by a lookup against an informer-maintained
+     * cache is present at the version of the expected resource.
+     */
+    public static boolean informed(CompletionStage<? extends Optional<? extends HasMetadata>> lookup, HasMetadata expected) {
+        return lookup.toCompletableFuture()
+                .join()
+                .map(r -> Objects.equals(r.getMetadata().getResourceVersion(), expected.getMetadata().getResourceVersion()))
+                .orElse(false);
+    }
+
     private static boolean hasStatus(Object resource) {
         try {
             Method getStatus = resource.getClass().getMethod("getStatus");